@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate;
+
+/**
+ * Writes large numbers of rows on behalf of a {@link StatelessSession}, through several connections in parallel.
+ * <p/>
+ * The entities are partitioned by entity type into chunks of {@link #commitInterval(int) commitInterval} entities.
+ * Each chunk is written, using JDBC batching, in a transaction of its own by one of
+ * {@link #parallelism(int) parallelism} workers, each of them using its own stateless session, and thus its own
+ * connection obtained from the {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}.  As the
+ * transactions of the chunks are independent, the chunks committed before a failure stay committed.
+ * <p/>
+ * When inserting, the chunks of an entity type are only written once the chunks of the entity types it may reference
+ * have been committed, and the chunks of self-referencing entity types are written one at a time.  As with
+ * {@link StatelessSession#insert(Object)}, referenced entities have to be inserted first.  When updating, all chunks
+ * are written in parallel, so an entity should not be updated twice.
+ * <p/>
+ * The number of rows written, and the time it took, are reported through the
+ * {@link org.hibernate.stat.Statistics statistics}.
+ */
+public interface BulkWriter {
+	/**
+	 * Set the number of workers writing in parallel.  Defaults to 4.
+	 *
+	 * @param parallelism The number of workers, hence of connections
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public BulkWriter parallelism(int parallelism);
+
+	/**
+	 * Set the number of entities written per transaction.  Defaults to 10,000.
+	 *
+	 * @param commitInterval The number of entities per transaction
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public BulkWriter commitInterval(int commitInterval);
+
+	/**
+	 * Insert rows.  The identifiers of the entities are set as they are inserted.
+	 *
+	 * @param entities New transient instances, consumed as they are written
+	 *
+	 * @return The number of entities inserted
+	 */
+	public long insert(Iterable<?> entities);
+
+	/**
+	 * Update rows.
+	 *
+	 * @param entities Detached entity instances, consumed as they are written
+	 *
+	 * @return The number of entities updated
+	 */
+	public long update(Iterable<?> entities);
+}
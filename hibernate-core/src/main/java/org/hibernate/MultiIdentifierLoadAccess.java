@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Loads multiple entities at once by identifiers.
+ * <p/>
+ * By default the persistence context and the second-level cache are consulted first; only the entities not
+ * found there are read from the database, using as few SQL statements as the batch size (see
+ * {@link #withBatchSize}) allows.
+ */
+public interface MultiIdentifierLoadAccess<T> {
+	/**
+	 * Specify the {@link LockOptions} to use when retrieving the entity.
+	 *
+	 * @param lockOptions The lock options to use.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public MultiIdentifierLoadAccess<T> with(LockOptions lockOptions);
+
+	/**
+	 * Specify a batch size, that is, how many entities should be fetched in each database query.  By default
+	 * the limit imposed by the Dialect on the number of elements of an IN list is used, if any; otherwise all
+	 * the entities are fetched in one query.
+	 *
+	 * @param batchSize The batch size
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public MultiIdentifierLoadAccess<T> withBatchSize(int batchSize);
+
+	/**
+	 * Should the persistence context be checked for entities matching the given identifiers before they are
+	 * loaded from the second-level cache or the database?  Enabled by default.
+	 *
+	 * @param enabled {@code true} (the default) enables the check; {@code false} disables it.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public MultiIdentifierLoadAccess<T> enableSessionCheck(boolean enabled);
+
+	/**
+	 * Is checking of the persistence context (Session) enabled?
+	 *
+	 * @return {@code true} if checking is enabled
+	 *
+	 * @see #enableSessionCheck
+	 */
+	public boolean isSessionCheckingEnabled();
+
+	/**
+	 * Should the second-level cache be checked for entities matching the given identifiers before they are
+	 * loaded from the database?  Enabled by default; the cache is only used if the entity is cacheable and the
+	 * cache mode and lock mode allow it.
+	 *
+	 * @param enabled {@code true} (the default) enables the check; {@code false} disables it.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public MultiIdentifierLoadAccess<T> enableSecondLevelCacheCheck(boolean enabled);
+
+	/**
+	 * Is checking of the second-level cache enabled?
+	 *
+	 * @return {@code true} if checking is enabled
+	 *
+	 * @see #enableSecondLevelCacheCheck
+	 */
+	public boolean isSecondLevelCacheCheckingEnabled();
+
+	/**
+	 * Should the returned list contain entities which are found in the persistence context but are scheduled for
+	 * removal?  Disabled by default, in which case {@code null} is returned for them (if the return is ordered)
+	 * or they are left out.  Only has an effect if the session check is enabled.
+	 *
+	 * @param enabled {@code true} enables returning the deleted entities; {@code false} (the default) disables it.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public MultiIdentifierLoadAccess<T> enableReturnOfDeletedEntities(boolean enabled);
+
+	/**
+	 * Is returning of entities scheduled for removal enabled?
+	 *
+	 * @return {@code true} if entities scheduled for removal are returned
+	 *
+	 * @see #enableReturnOfDeletedEntities
+	 */
+	public boolean isReturnOfDeletedEntitiesEnabled();
+
+	/**
+	 * Should the returned list be ordered according to the given identifiers?  Enabled by default, in which case
+	 * the returned list has the same size as the identifiers, with {@code null} in the positions of identifiers
+	 * not matching any entity.  If disabled, the returned list only contains the entities found, in no
+	 * particular order.
+	 *
+	 * @param enabled {@code true} (the default) enables ordering; {@code false} disables it.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public MultiIdentifierLoadAccess<T> enableOrderedReturn(boolean enabled);
+
+	/**
+	 * Is ordering of the returned list enabled?
+	 *
+	 * @return {@code true} if the returned list is ordered according to the identifiers
+	 *
+	 * @see #enableOrderedReturn
+	 */
+	public boolean isOrderedReturnEnabled();
+
+	/**
+	 * Perform a load of multiple entities by identifiers.  See {@link #enableOrderedReturn} and
+	 * {@link #enableReturnOfDeletedEntities} for options which affect the size and "shape" of the return list.
+	 *
+	 * @param ids The ids to load
+	 * @param <K> The identifier type
+	 *
+	 * @return List of matching entities.
+	 */
+	public <K extends Serializable> List<T> multiLoad(K... ids);
+
+	/**
+	 * Perform a load of multiple entities by identifiers.  See {@link #enableOrderedReturn} and
+	 * {@link #enableReturnOfDeletedEntities} for options which affect the size and "shape" of the return list.
+	 *
+	 * @param ids The ids to load
+	 * @param <K> The identifier type
+	 *
+	 * @return List of matching entities.
+	 */
+	public <K extends Serializable> List<T> multiLoad(List<K> ids);
+}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate;
+
+import java.util.List;
+
+/**
+ * Loads multiple entities at once by natural ids.
+ * <p/>
+ * The natural ids are first resolved against the persistence context and the natural-id second-level
+ * cache; the natural ids not found there are resolved to identifiers using as few SQL statements as the
+ * batch size (see {@link #withBatchSize}) allows.  The entities are then loaded as with
+ * {@link Session#byMultipleIds}.
+ * <p/>
+ * Each natural id is given either as a {@link java.util.Map} of natural-id attribute names to values, or,
+ * for an entity defining a simple (single attribute) natural id, as the value of that attribute.
+ */
+public interface MultiNaturalIdLoadAccess<T> {
+	/**
+	 * Specify the {@link LockOptions} to use when retrieving the entities.
+	 *
+	 * @param lockOptions The lock options to use.
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public MultiNaturalIdLoadAccess<T> with(LockOptions lockOptions);
+
+	/**
+	 * Specify a batch size, that is, how many natural ids should be resolved (and how many entities should be
+	 * fetched) in each database query.  By default the limit imposed by the Dialect on the number of elements
+	 * of an IN list is used, if any; otherwise everything is resolved in one query.
+	 *
+	 * @param batchSize The batch size
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public MultiNaturalIdLoadAccess<T> withBatchSize(int batchSize);
+
+	/**
+	 * For entities with mutable natural ids, should Hibernate perform "synchronization" prior to performing
+	 * lookups?  The default is to perform "synchronization" (for correctness).
+	 *
+	 * @param enabled Should synchronization be performed?  {@code true} indicates synchronization will be performed;
+	 * {@code false} indicates it will be circumvented.
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see NaturalIdLoadAccess#setSynchronizationEnabled
+	 */
+	public MultiNaturalIdLoadAccess<T> setSynchronizationEnabled(boolean enabled);
+
+	/**
+	 * Perform a load of multiple entities by natural id.
+	 *
+	 * @param naturalIds The natural ids to load
+	 *
+	 * @return List of the matching entities, in the order of the given natural ids; the list contains
+	 * {@code null} for natural ids which do not match an existing entity
+	 */
+	public List<T> multiLoad(Object... naturalIds);
+
+	/**
+	 * Perform a load of multiple entities by natural id.
+	 *
+	 * @param naturalIds The natural ids to load
+	 *
+	 * @return List of the matching entities, in the order of the given natural ids; the list contains
+	 * {@code null} for natural ids which do not match an existing entity
+	 */
+	public List<T> multiLoad(List<?> naturalIds);
+}
@@ -120,6 +120,34 @@ public interface Query extends BasicQueryContract {
 	@Override
 	public Query setCacheRegion(String cacheRegion);
 
+	/**
+	 * Obtain the query cache partition declared by this query.
+	 *
+	 * @return The partition, or {@code null} if none was declared
+	 *
+	 * @see #setCachePartition
+	 */
+	public Serializable getCachePartition();
+
+	/**
+	 * Declare that the results of this query only depend on the rows of the given partition of its tables, as defined
+	 * by the {@link org.hibernate.annotations.QueryCachePartition} property of the entities.  When
+	 * {@value org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITIONING} is enabled, the cached results of the
+	 * query are then only invalidated by the changes of the rows of that partition.  For an update or delete query,
+	 * declares that the query only changes rows of the given partition.
+	 * <p/>
+	 * Typically the partition is the value bound to a parameter of the query restricting its results to a tenant, or
+	 * to the children of a parent entity, in which case the partition is the identifier of the parent.
+	 *
+	 * @param partition The partition value, of the type of the partition property (or of the identifier of the
+	 * entity it associates), or convertible to it (an {@code Integer} for a {@code Long} property for example); a
+	 * partition which is not is rejected with a {@link QueryException} when the query is executed.  {@code null}
+	 * declares no partition
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public Query setCachePartition(Serializable partition);
+
 	@Override
 	public Query setTimeout(int timeout);
 
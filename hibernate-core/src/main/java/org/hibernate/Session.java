@@ -794,6 +794,56 @@ public interface Session extends SharedSessionContract, java.io.Closeable {
 	 */
 	<T> IdentifierLoadAccess<T> byId(Class<T> entityClass);
 
+	/**
+	 * Create a {@link MultiIdentifierLoadAccess} instance to retrieve multiple entities at once
+	 * as specified by primary key values.
+	 *
+	 * @param entityClass The entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by primary key values
+	 *
+	 * @throws HibernateException If the specified Class cannot be resolved as a mapped entity
+	 */
+	<T> MultiIdentifierLoadAccess<T> byMultipleIds(Class<T> entityClass);
+
+	/**
+	 * Create a {@link MultiIdentifierLoadAccess} instance to retrieve multiple entities at once
+	 * as specified by primary key values.
+	 *
+	 * @param entityName The entity name of the entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by primary key values
+	 *
+	 * @throws HibernateException If the specified entity name cannot be resolved as an entity name
+	 */
+	MultiIdentifierLoadAccess byMultipleIds(String entityName);
+
+	/**
+	 * Create a {@link MultiNaturalIdLoadAccess} instance to retrieve multiple entities at once
+	 * as specified by natural id values.
+	 *
+	 * @param entityClass The entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by natural id values
+	 *
+	 * @throws HibernateException If the specified Class cannot be resolved as a mapped entity, or if the
+	 * entity does not define a natural-id
+	 */
+	<T> MultiNaturalIdLoadAccess<T> byMultipleNaturalIds(Class<T> entityClass);
+
+	/**
+	 * Create a {@link MultiNaturalIdLoadAccess} instance to retrieve multiple entities at once
+	 * as specified by natural id values.
+	 *
+	 * @param entityName The entity name of the entity type to be retrieved
+	 *
+	 * @return load delegate for loading the specified entity type by natural id values
+	 *
+	 * @throws HibernateException If the specified entity name cannot be resolved as an entity name, or if the
+	 * entity does not define a natural-id
+	 */
+	MultiNaturalIdLoadAccess byMultipleNaturalIds(String entityName);
+
 	/**
 	 * Create an {@link NaturalIdLoadAccess} instance to retrieve the specified entity by
 	 * its natural id.
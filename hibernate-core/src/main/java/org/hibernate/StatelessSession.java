@@ -154,6 +154,14 @@ public interface StatelessSession extends SharedSessionContract, java.io.Closeab
 	 */
 	public void refresh(String entityName, Object entity, LockMode lockMode);
 
+	/**
+	 * Obtain a writer for inserting or updating large numbers of rows, through several connections in parallel.
+	 * The rows are written in transactions of their own, independently of any transaction of this stateless session.
+	 *
+	 * @return The bulk writer
+	 */
+	public BulkWriter bulkWriter();
+
 	/**
 	 * Returns the current JDBC connection associated with this
 	 * instance.<br>
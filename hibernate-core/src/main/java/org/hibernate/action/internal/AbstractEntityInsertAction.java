@@ -73,6 +73,11 @@ public abstract class AbstractEntityInsertAction extends EntityAction {
 		return state;
 	}
 
+	@Override
+	public Serializable[] getQueryCachePartitions() {
+		return determineQueryCachePartitions( state );
+	}
+
 	/**
 	 * Does this insert action need to be executed as soon as possible
 	 * (e.g., to generate an ID)?
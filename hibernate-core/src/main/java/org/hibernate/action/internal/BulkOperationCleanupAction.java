@@ -16,6 +16,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
+import org.hibernate.cache.spi.QuerySpacePartition;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
@@ -40,6 +41,7 @@ import org.hibernate.persister.entity.Queryable;
  */
 public class BulkOperationCleanupAction implements Executable, Serializable {
 	private final Serializable[] affectedTableSpaces;
+	private final Serializable queryCachePartition;
 
 	private final Set<EntityCleanup> entityCleanups = new HashSet<EntityCleanup>();
 	private final Set<CollectionCleanup> collectionCleanups = new HashSet<CollectionCleanup>();
@@ -56,6 +58,25 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 	 * @param affectedQueryables The affected entity persisters.
 	 */
 	public BulkOperationCleanupAction(SessionImplementor session, Queryable... affectedQueryables) {
+		this( session, affectedQueryables, null );
+	}
+
+	/**
+	 * Constructs an action to cleanup "affected cache regions" based on the
+	 * affected entity persisters, for a query which only affects the rows of
+	 * the given partition of their tables.
+	 *
+	 * @param session The session to which this request is tied.
+	 * @param affectedQueryables The affected entity persisters.
+	 * @param queryCachePartition The partition of the affected rows, or
+	 * {@code null} if it is unknown
+	 *
+	 * @see org.hibernate.Query#setCachePartition
+	 */
+	public BulkOperationCleanupAction(
+			SessionImplementor session,
+			Queryable[] affectedQueryables,
+			Serializable queryCachePartition) {
 		final SessionFactoryImplementor factory = session.getFactory();
 		final LinkedHashSet<String> spacesList = new LinkedHashSet<String>();
 		for ( Queryable persister : affectedQueryables ) {
@@ -80,6 +101,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		}
 
 		this.affectedTableSpaces = spacesList.toArray( new String[ spacesList.size() ] );
+		this.queryCachePartition = QuerySpacePartition.normalize( queryCachePartition, spacesList, factory );
 	}
 
 	/**
@@ -94,8 +116,24 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 	 * @param session The session to which this request is tied.
 	 * @param tableSpaces The table spaces.
 	 */
-	@SuppressWarnings({ "unchecked" })
 	public BulkOperationCleanupAction(SessionImplementor session, Set tableSpaces) {
+		this( session, tableSpaces, null );
+	}
+
+	/**
+	 * Constructs an action to cleanup "affected cache regions" based on a
+	 * set of affected table spaces, for a query which only affects the rows
+	 * of the given partition of those tables.
+	 *
+	 * @param session The session to which this request is tied.
+	 * @param tableSpaces The table spaces.
+	 * @param queryCachePartition The partition of the affected rows, or
+	 * {@code null} if it is unknown
+	 *
+	 * @see org.hibernate.Query#setCachePartition
+	 */
+	@SuppressWarnings({ "unchecked" })
+	public BulkOperationCleanupAction(SessionImplementor session, Set tableSpaces, Serializable queryCachePartition) {
 		final LinkedHashSet<String> spacesList = new LinkedHashSet<String>();
 		spacesList.addAll( tableSpaces );
 
@@ -128,6 +166,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		}
 
 		this.affectedTableSpaces = spacesList.toArray( new String[ spacesList.size() ] );
+		this.queryCachePartition = QuerySpacePartition.normalize( queryCachePartition, spacesList, factory );
 	}
 
 
@@ -161,6 +200,16 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 		return affectedTableSpaces;
 	}
 
+	/**
+	 * The partitions of the rows affected by the query, for the invalidation of the query cache.
+	 *
+	 * @return The partitions, or {@code null} if they are unknown and all the rows of the property spaces should be
+	 * considered changed
+	 */
+	public Serializable[] getQueryCachePartitions() {
+		return queryCachePartition == null ? null : new Serializable[] { queryCachePartition };
+	}
+
 	@Override
 	public BeforeTransactionCompletionProcess getBeforeTransactionCompletionProcess() {
 		return null;
@@ -7,6 +7,7 @@
 package org.hibernate.action.internal;
 
 import java.io.Serializable;
+import java.util.Arrays;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
@@ -20,6 +21,8 @@ import org.hibernate.event.spi.EventType;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.tuple.entity.EntityMetamodel;
 
 /**
  * Base class for actions relating to insert/update/delete of an entity
@@ -131,6 +134,68 @@ public abstract class EntityAction
 		return persister.getPropertySpaces();
 	}
 
+	/**
+	 * The partitions of the rows changed by this action, for the invalidation of the query cache.
+	 *
+	 * @return The partitions, or {@code null} if they are unknown and all the rows of the property spaces should be
+	 * considered changed
+	 *
+	 * @see org.hibernate.annotations.QueryCachePartition
+	 */
+	public Serializable[] getQueryCachePartitions() {
+		return null;
+	}
+
+	/**
+	 * Determine the distinct values of the query cache partition property of the entity in the given states.
+	 *
+	 * @param states The entity states
+	 *
+	 * @return The partitions, or {@code null} if the query cache is not partitioned, if the entity has no partition
+	 * property, or if the partition of any of the states is unknown
+	 */
+	protected final Serializable[] determineQueryCachePartitions(Object[]... states) {
+		if ( !session.getFactory().getSessionFactoryOptions().isQueryCachePartitioningEnabled() ) {
+			return null;
+		}
+		final int index = persister.getEntityMetamodel().getQueryCachePartitionPropertyIndex();
+		if ( index == EntityMetamodel.NO_QUERY_CACHE_PARTITION_INDX ) {
+			return null;
+		}
+		final boolean association = persister.getPropertyTypes()[index].isEntityType();
+		final Serializable[] partitions = new Serializable[states.length];
+		int count = 0;
+		for ( Object[] state : states ) {
+			if ( state == null ) {
+				return null;
+			}
+			final Serializable partition = association
+					? getAssociatedIdentifier( state[index] )
+					: state[index] instanceof Serializable ? (Serializable) state[index] : null;
+			if ( partition == null ) {
+				return null;
+			}
+			boolean found = false;
+			for ( int i = 0; i < count && !found; i++ ) {
+				found = partition.equals( partitions[i] );
+			}
+			if ( !found ) {
+				partitions[count++] = partition;
+			}
+		}
+		return count == partitions.length ? partitions : Arrays.copyOf( partitions, count );
+	}
+
+	private Serializable getAssociatedIdentifier(Object associated) {
+		if ( associated == null ) {
+			return null;
+		}
+		if ( associated instanceof HibernateProxy ) {
+			return ( (HibernateProxy) associated ).getHibernateLazyInitializer().getIdentifier();
+		}
+		return session.getContextEntityIdentifier( associated );
+	}
+
 	@Override
 	public void beforeExecutions() {
 		throw new AssertionFailure( "beforeExecutions() called for non-collection action" );
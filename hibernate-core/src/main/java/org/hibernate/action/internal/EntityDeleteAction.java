@@ -31,6 +31,7 @@ public class EntityDeleteAction extends EntityAction {
 	private final Object version;
 	private final boolean isCascadeDeleteEnabled;
 	private final Object[] state;
+	private final Serializable[] queryCachePartitions;
 
 	private SoftLock lock;
 	private Object[] naturalIdValues;
@@ -59,6 +60,14 @@ public class EntityDeleteAction extends EntityAction {
 		this.isCascadeDeleteEnabled = isCascadeDeleteEnabled;
 		this.state = state;
 
+		// the partition of the deleted row is the one it was loaded from, which the partition property of the
+		// instance may no longer hold; determined now, as the associated entities may be deleted by the same flush
+		final EntityEntry entry = session.getPersistenceContext().getEntry( instance );
+		this.queryCachePartitions = determineQueryCachePartitions(
+				state,
+				entry == null ? state : entry.getLoadedState()
+		);
+
 		// before remove we need to remove the local (transactional) natural id cross-reference
 		naturalIdValues = session.getPersistenceContext().getNaturalIdHelper().removeLocalNaturalIdCrossReference(
 				getPersister(),
@@ -67,6 +76,11 @@ public class EntityDeleteAction extends EntityAction {
 		);
 	}
 
+	@Override
+	public Serializable[] getQueryCachePartitions() {
+		return queryCachePartitions;
+	}
+
 	@Override
 	public void execute() throws HibernateException {
 		final Serializable id = getId();
@@ -7,6 +7,8 @@
 package org.hibernate.action.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -19,6 +21,7 @@ import org.hibernate.event.spi.PostInsertEvent;
 import org.hibernate.event.spi.PostInsertEventListener;
 import org.hibernate.event.spi.PreInsertEvent;
 import org.hibernate.event.spi.PreInsertEventListener;
+import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 
 /**
@@ -68,26 +71,13 @@ public final class EntityIdentityInsertAction extends AbstractEntityInsertAction
 	public void execute() throws HibernateException {
 		nullifyTransientReferencesIfNotAlready();
 
-		final EntityPersister persister = getPersister();
-		final SessionImplementor session = getSession();
-		final Object instance = getInstance();
-
 		final boolean veto = preInsert();
 
 		// Don't need to lock the cache here, since if someone
 		// else inserted the same pk first, the insert would fail
 
 		if ( !veto ) {
-			generatedId = persister.insert( getState(), instance, session );
-			if ( persister.hasInsertGeneratedProperties() ) {
-				persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
-			}
-			//need to do that here rather than in the save event listener to let
-			//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
-			persister.setIdentifier( instance, generatedId, session );
-			session.getPersistenceContext().registerInsertedKey( getPersister(), generatedId );
-			entityKey = session.generateEntityKey( generatedId, persister );
-			session.getPersistenceContext().checkUniqueness( entityKey, getInstance() );
+			inserted( getPersister().insert( getState(), getInstance(), getSession() ) );
 		}
 
 
@@ -99,8 +89,75 @@ public final class EntityIdentityInsertAction extends AbstractEntityInsertAction
 			persister.getCache().insert(generatedId, cacheEntry);
 		}*/
 
+		completeInsert( veto );
+	}
+
+	/**
+	 * Executes delayed insertions of entities of the same type as a single JDBC batch.  The persister has to
+	 * {@link PostInsertIdentityPersister#isIdentityInsertBatchable() support} batching identity inserts, and the
+	 * state of none of the entities may reference another one of them.
+	 *
+	 * @param actions The insertions to execute
+	 *
+	 * @throws HibernateException Indicates a problem performing the insertions
+	 */
+	public static void executeBatch(List<EntityIdentityInsertAction> actions) throws HibernateException {
+		final int size = actions.size();
+		final boolean[] vetoes = new boolean[size];
+		final List<EntityIdentityInsertAction> inserts = new ArrayList<EntityIdentityInsertAction>( size );
+		for ( int i = 0; i < size; i++ ) {
+			final EntityIdentityInsertAction action = actions.get( i );
+			action.nullifyTransientReferencesIfNotAlready();
+			vetoes[i] = action.preInsert();
+			if ( !vetoes[i] ) {
+				inserts.add( action );
+			}
+		}
+
+		if ( !inserts.isEmpty() ) {
+			final EntityIdentityInsertAction first = inserts.get( 0 );
+			final Object[][] states = new Object[inserts.size()][];
+			final Object[] instances = new Object[inserts.size()];
+			for ( int i = 0; i < states.length; i++ ) {
+				states[i] = inserts.get( i ).getState();
+				instances[i] = inserts.get( i ).getInstance();
+			}
+			final Serializable[] generatedIds = ( (PostInsertIdentityPersister) first.getPersister() ).insert(
+					states,
+					instances,
+					first.getSession()
+			);
+			for ( int i = 0; i < states.length; i++ ) {
+				inserts.get( i ).inserted( generatedIds[i] );
+			}
+		}
+
+		for ( int i = 0; i < size; i++ ) {
+			actions.get( i ).completeInsert( vetoes[i] );
+		}
+	}
+
+	private void inserted(Serializable generatedId) {
+		final EntityPersister persister = getPersister();
+		final SessionImplementor session = getSession();
+		final Object instance = getInstance();
+
+		this.generatedId = generatedId;
+		if ( persister.hasInsertGeneratedProperties() ) {
+			persister.processInsertGeneratedProperties( generatedId, instance, getState(), session );
+		}
+		//need to do that here rather than in the save event listener to let
+		//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
+		persister.setIdentifier( instance, generatedId, session );
+		session.getPersistenceContext().registerInsertedKey( getPersister(), generatedId );
+		entityKey = session.generateEntityKey( generatedId, persister );
+		session.getPersistenceContext().checkUniqueness( entityKey, getInstance() );
+	}
+
+	private void completeInsert(boolean veto) {
 		postInsert();
 
+		final SessionImplementor session = getSession();
 		if ( session.getFactory().getStatistics().isStatisticsEnabled() && !veto ) {
 			session.getFactory().getStatisticsImplementor().insertEntity( getPersister().getEntityName() );
 		}
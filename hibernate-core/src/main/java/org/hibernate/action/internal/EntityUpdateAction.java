@@ -108,6 +108,12 @@ public final class EntityUpdateAction extends EntityAction {
 		return session.getPersistenceContext().getNaturalIdSnapshot( id, persister );
 	}
 
+	@Override
+	public Serializable[] getQueryCachePartitions() {
+		// the row may move from its previous partition to another one
+		return determineQueryCachePartitions( state, previousState );
+	}
+
 	@Override
 	public void execute() throws HibernateException {
 		final Serializable id = getId();
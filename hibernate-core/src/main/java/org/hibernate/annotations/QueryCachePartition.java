@@ -0,0 +1,28 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * This specifies that a property partitions the rows of the entity for the invalidation of the query cache, as a
+ * tenant identifier or the foreign key to a parent entity would.  The property is either basic, or a to-one
+ * association, in which case the partition of a row is the identifier of the associated entity.
+ * <p/>
+ * When {@value org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITIONING} is enabled, the insertion, update or
+ * deletion of an entity only invalidates the cached results of the queries which declared the partition of the
+ * entity (see {@link org.hibernate.Query#setCachePartition}), or declared none.
+ */
+@Target( { METHOD, FIELD } )
+@Retention( RUNTIME )
+public @interface QueryCachePartition {
+}
@@ -299,6 +299,17 @@ public interface SessionFactoryBuilder {
 	 */
 	public SessionFactoryBuilder applyMaximumFetchDepth(int depth);
 
+	/**
+	 * Apply the number of rows after which the entities read so far from a result set are initialized.
+	 *
+	 * @param size The number of rows per chunk; {@code 0} initializes the entities once all rows have been read.
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ENTITY_INITIALIZATION_CHUNK_SIZE
+	 */
+	public SessionFactoryBuilder applyEntityInitializationChunkSize(int size);
+
 	/**
 	 * Apply a null precedence (NULLS FIRST, NULLS LAST) to be applied order-by clauses rendered into
 	 * SQL queries.
@@ -337,6 +348,32 @@ public interface SessionFactoryBuilder {
 	 */
 	public SessionFactoryBuilder applyOrderingOfUpdates(boolean enabled);
 
+	/**
+	 * Apply whether the session should track which of the entities it manages were modified, so that flushing
+	 * only needs to visit those, along with the entities whose changes cannot be intercepted (including all the
+	 * entities with collections).  Enhanced entities which report their own changes then do not keep a snapshot of
+	 * their loaded state, unless an interceptor or update event listeners are registered.
+	 *
+	 * @param enabled {@code true} indicates that tracking should be enabled; {@code false} indicates not
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#TRACK_MODIFIED_ENTITIES
+	 */
+	public SessionFactoryBuilder applyModifiedEntityTracking(boolean enabled);
+
+	/**
+	 * Apply whether auto-flushes should only dirty check the entities which map to the tables queried.
+	 *
+	 * @param enabled {@code true} indicates that auto-flushes should be restricted to the query spaces;
+	 * {@code false} indicates that they flush everything
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PARTIAL_AUTO_FLUSH
+	 */
+	public SessionFactoryBuilder applyPartialAutoFlush(boolean enabled);
+
 	/**
 	 * Apply the form of multi-tenancy used by the application
 	 *
@@ -416,6 +453,21 @@ public interface SessionFactoryBuilder {
 	 */
 	public SessionFactoryBuilder applyStrictJpaQueryLanguageCompliance(boolean enabled);
 
+	/**
+	 * Should dotted paths in queries be resolved as Java constants only when they follow the Java naming
+	 * conventions ({@code com.acme.Type.CONSTANT})?
+	 * <p/>
+	 * Setting this to {@code false} looks up a class for the qualifier of every dotted path, which is costly
+	 * as most of these lookups fail.
+	 *
+	 * @param enabled {@code true} indicates that only conventional names should be resolved as Java constants
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CONVENTIONAL_JAVA_CONSTANTS
+	 */
+	public SessionFactoryBuilder applyConventionalJavaConstants(boolean enabled);
+
 	/**
 	 * Should named queries be checked on startup?
 	 *
@@ -451,6 +503,19 @@ public interface SessionFactoryBuilder {
 	 */
 	public SessionFactoryBuilder applyQueryCacheSupport(boolean enabled);
 
+	/**
+	 * Should the query cache be invalidated by partition, rather than by table?
+	 *
+	 * @param enabled {@code true} indicates the cached results of the queries declaring a partition should only be
+	 * invalidated by the changes of the rows of that partition; {@code false} indicates any change of a table should
+	 * invalidate all the cached results of the queries over that table.
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITIONING
+	 */
+	public SessionFactoryBuilder applyQueryCachePartitioning(boolean enabled);
+
 	/**
 	 * Specifies a QueryCacheFactory to use for building query cache handlers.
 	 *
@@ -507,6 +572,20 @@ public interface SessionFactoryBuilder {
 	 */
 	public SessionFactoryBuilder applyStructuredCacheEntries(boolean enabled);
 
+	/**
+	 * Should entities be stored in the second-level cache in a compact, binary form?  The compact form
+	 * is much smaller than the native entry structure, and cheaper to replicate, at the cost of encoding
+	 * the entry on put and decoding it on hit.  Takes precedence over structured cache entries.
+	 *
+	 * @param enabled {@code true} indicates that compact cache entries should be used;
+	 * {@code false} indicates that the native (or structured) entry structure should be used.
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE_ENTRIES
+	 */
+	public SessionFactoryBuilder applyCompactCacheEntries(boolean enabled);
+
 	/**
 	 * Generally, Hibernate will extract the information from an entity and put that
 	 * extracted information into the second-level cache.  This is by far the safest way to
@@ -558,7 +637,7 @@ public interface SessionFactoryBuilder {
 	/**
 	 * This setting controls whether versioned entities will be included in JDBC batching.  The reason
 	 * being that some JDBC drivers have a problems returning "accurate" update counts from batch statements.
-	 * This is setting is {@code false} by default.
+	 * This is setting defaults to whether the Dialect reports such drivers do return accurate update counts.
 	 *
 	 * @param enabled The batch size to use.
 	 *
@@ -568,6 +647,18 @@ public interface SessionFactoryBuilder {
 	 */
 	public SessionFactoryBuilder applyJdbcBatchingForVersionedEntities(boolean enabled);
 
+	/**
+	 * This setting controls whether the inserts of entities with IDENTITY based identifiers will be included in
+	 * JDBC batching, when the identifier is not needed right away.  This setting is {@code false} by default.
+	 *
+	 * @param enabled {@code true} indicates that IDENTITY inserts may be delayed and batched
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	public SessionFactoryBuilder applyJdbcBatchingForIdentityInserts(boolean enabled);
+
 	/**
 	 * Should scrollable results be supported in queries?  We ask the JDBC driver whether it
 	 * supports scrollable result sets as the default for this setting, but some drivers do not
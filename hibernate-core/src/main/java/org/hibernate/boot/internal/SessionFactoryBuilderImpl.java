@@ -59,13 +59,16 @@ import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_IDENTITY_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
+import static org.hibernate.cfg.AvailableSettings.CONVENTIONAL_JAVA_CONSTANTS;
 import static org.hibernate.cfg.AvailableSettings.CUSTOM_ENTITY_DIRTINESS_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_BATCH_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.DEFAULT_ENTITY_MODE;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
+import static org.hibernate.cfg.AvailableSettings.ENTITY_INITIALIZATION_CHUNK_SIZE;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.HQL_BULK_ID_STRATEGY;
@@ -77,6 +80,7 @@ import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PARTIAL_AUTO_FLUSH;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
@@ -87,10 +91,13 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.TRACK_MODIFIED_ENTITIES;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
 import static org.hibernate.cfg.AvailableSettings.USE_MINIMAL_PUTS;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_PARTITIONING;
 import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SCROLLABLE_RESULTSET;
 import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
@@ -278,6 +285,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return this;
 	}
 
+	@Override
+	public SessionFactoryBuilder applyEntityInitializationChunkSize(int size) {
+		this.options.entityInitializationChunkSize = size;
+		return this;
+	}
+
 	@Override
 	public SessionFactoryBuilder applyDefaultNullPrecedence(NullPrecedence nullPrecedence) {
 		this.options.defaultNullPrecedence = nullPrecedence;
@@ -296,6 +309,18 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return this;
 	}
 
+	@Override
+	public SessionFactoryBuilder applyModifiedEntityTracking(boolean enabled) {
+		this.options.modifiedEntityTrackingEnabled = enabled;
+		return this;
+	}
+
+	@Override
+	public SessionFactoryBuilder applyPartialAutoFlush(boolean enabled) {
+		this.options.partialAutoFlushEnabled = enabled;
+		return this;
+	}
+
 	@Override
 	public SessionFactoryBuilder applyMultiTenancyStrategy(MultiTenancyStrategy strategy) {
 		this.options.multiTenancyStrategy = strategy;
@@ -321,6 +346,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return this;
 	}
 
+	@Override
+	public SessionFactoryBuilder applyConventionalJavaConstants(boolean enabled) {
+		this.options.conventionalJavaConstants = enabled;
+		return this;
+	}
+
 	@Override
 	public SessionFactoryBuilder applyNamedQueryCheckingOnStartup(boolean enabled) {
 		this.options.namedQueryStartupCheckingEnabled = enabled;
@@ -339,6 +370,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return this;
 	}
 
+	@Override
+	public SessionFactoryBuilder applyQueryCachePartitioning(boolean enabled) {
+		this.options.queryCachePartitioningEnabled = enabled;
+		return this;
+	}
+
 	@Override
 	public SessionFactoryBuilder applyQueryCacheFactory(QueryCacheFactory factory) {
 		this.options.queryCacheFactory = factory;
@@ -363,6 +400,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return this;
 	}
 
+	@Override
+	public SessionFactoryBuilder applyCompactCacheEntries(boolean enabled) {
+		this.options.compactCacheEntriesEnabled = enabled;
+		return this;
+	}
+
 	@Override
 	public SessionFactoryBuilder applyDirectReferenceCaching(boolean enabled) {
 		this.options.directReferenceCacheEntriesEnabled = enabled;
@@ -387,6 +430,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return this;
 	}
 
+	@Override
+	public SessionFactoryBuilder applyJdbcBatchingForIdentityInserts(boolean enabled) {
+		this.options.jdbcBatchIdentityInserts = enabled;
+		return this;
+	}
+
 	@Override
 	public SessionFactoryBuilder applyScrollableResultsSupport(boolean enabled) {
 		this.options.scrollableResultSetsEnabled = enabled;
@@ -493,9 +542,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		private BatchFetchStyle batchFetchStyle;
 		private int defaultBatchFetchSize;
 		private Integer maximumFetchDepth;
+		private int entityInitializationChunkSize;
 		private NullPrecedence defaultNullPrecedence;
 		private boolean orderUpdatesEnabled;
 		private boolean orderInsertsEnabled;
+		private boolean modifiedEntityTrackingEnabled;
+		private boolean partialAutoFlushEnabled;
 
 		// multi-tenancy
 		private MultiTenancyStrategy multiTenancyStrategy;
@@ -504,15 +556,18 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		// Queries
 		private Map querySubstitutions;
 		private boolean strictJpaQueryLanguageCompliance;
+		private boolean conventionalJavaConstants;
 		private boolean namedQueryStartupCheckingEnabled;
 
 		// Caching
 		private boolean secondLevelCacheEnabled;
 		private boolean queryCacheEnabled;
+		private boolean queryCachePartitioningEnabled;
 		private QueryCacheFactory queryCacheFactory;
 		private String cacheRegionPrefix;
 		private boolean minimalPutsEnabled;
 		private boolean structuredCacheEntriesEnabled;
+		private boolean compactCacheEntriesEnabled;
 		private boolean directReferenceCacheEntriesEnabled;
 		private boolean autoEvictCollectionCache;
 
@@ -523,6 +578,7 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		private boolean getGeneratedKeysEnabled;
 		private int jdbcBatchSize;
 		private boolean jdbcBatchVersionedData;
+		private boolean jdbcBatchIdentityInserts;
 		private Integer jdbcFetchSize;
 		private boolean scrollableResultSetsEnabled;
 		private boolean commentsEnabled;
@@ -608,21 +664,30 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 			this.defaultBatchFetchSize = ConfigurationHelper.getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 			this.maximumFetchDepth = ConfigurationHelper.getInteger( MAX_FETCH_DEPTH, configurationSettings );
+			this.entityInitializationChunkSize = ConfigurationHelper.getInt(
+					ENTITY_INITIALIZATION_CHUNK_SIZE,
+					configurationSettings,
+					0
+			);
 			final String defaultNullPrecedence = ConfigurationHelper.getString(
 					AvailableSettings.DEFAULT_NULL_ORDERING, configurationSettings, "none", "first", "last"
 			);
 			this.defaultNullPrecedence = NullPrecedence.parse( defaultNullPrecedence );
 			this.orderUpdatesEnabled = ConfigurationHelper.getBoolean( ORDER_UPDATES, configurationSettings );
 			this.orderInsertsEnabled = ConfigurationHelper.getBoolean( ORDER_INSERTS, configurationSettings );
+			this.modifiedEntityTrackingEnabled = cfgService.getSetting( TRACK_MODIFIED_ENTITIES, BOOLEAN, false );
+			this.partialAutoFlushEnabled = cfgService.getSetting( PARTIAL_AUTO_FLUSH, BOOLEAN, false );
 
 			this.jtaTrackByThread = cfgService.getSetting( JTA_TRACK_BY_THREAD, BOOLEAN, true );
 
 			this.querySubstitutions = ConfigurationHelper.toMap( QUERY_SUBSTITUTIONS, " ,=;:\n\t\r\f", configurationSettings );
 			this.strictJpaQueryLanguageCompliance = cfgService.getSetting( JPAQL_STRICT_COMPLIANCE, BOOLEAN, false );
+			this.conventionalJavaConstants = cfgService.getSetting( CONVENTIONAL_JAVA_CONSTANTS, BOOLEAN, true );
 			this.namedQueryStartupCheckingEnabled = cfgService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
 
 			this.secondLevelCacheEnabled = cfgService.getSetting( USE_SECOND_LEVEL_CACHE, BOOLEAN, true );
 			this.queryCacheEnabled = cfgService.getSetting( USE_QUERY_CACHE, BOOLEAN, false );
+			this.queryCachePartitioningEnabled = cfgService.getSetting( QUERY_CACHE_PARTITIONING, BOOLEAN, false );
 			this.queryCacheFactory = strategySelector.resolveDefaultableStrategy(
 					QueryCacheFactory.class,
 					configurationSettings.get( QUERY_CACHE_FACTORY ),
@@ -638,6 +703,7 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 					serviceRegistry.getService( RegionFactory.class ).isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = cfgService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.compactCacheEntriesEnabled = cfgService.getSetting( USE_COMPACT_CACHE_ENTRIES, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = cfgService.getSetting( USE_DIRECT_REFERENCE_CACHE_ENTRIES,BOOLEAN, false );
 			this.autoEvictCollectionCache = cfgService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
 
@@ -666,7 +732,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 				this.jdbcBatchSize = 0;
 			}
 
-			this.jdbcBatchVersionedData = ConfigurationHelper.getBoolean( BATCH_VERSIONED_DATA, configurationSettings, false );
+			this.jdbcBatchVersionedData = ConfigurationHelper.getBoolean(
+					BATCH_VERSIONED_DATA,
+					configurationSettings,
+					jdbcServices.getJdbcEnvironment().getDialect().supportsBatchUpdateRowCounts()
+			);
+			this.jdbcBatchIdentityInserts = ConfigurationHelper.getBoolean( BATCH_IDENTITY_INSERTS, configurationSettings, false );
 			this.scrollableResultSetsEnabled = ConfigurationHelper.getBoolean(
 					USE_SCROLLABLE_RESULTSET,
 					configurationSettings,
@@ -808,6 +879,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			return maximumFetchDepth;
 		}
 
+		@Override
+		public int getEntityInitializationChunkSize() {
+			return entityInitializationChunkSize;
+		}
+
 		@Override
 		public NullPrecedence getDefaultNullPrecedence() {
 			return defaultNullPrecedence;
@@ -823,6 +899,16 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			return orderInsertsEnabled;
 		}
 
+		@Override
+		public boolean isModifiedEntityTrackingEnabled() {
+			return modifiedEntityTrackingEnabled;
+		}
+
+		@Override
+		public boolean isPartialAutoFlushEnabled() {
+			return partialAutoFlushEnabled;
+		}
+
 		@Override
 		public MultiTenancyStrategy getMultiTenancyStrategy() {
 			return multiTenancyStrategy;
@@ -848,6 +934,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			return strictJpaQueryLanguageCompliance;
 		}
 
+		@Override
+		public boolean isConventionalJavaConstants() {
+			return conventionalJavaConstants;
+		}
+
 		@Override
 		public boolean isNamedQueryStartupCheckingEnabled() {
 			return namedQueryStartupCheckingEnabled;
@@ -863,6 +954,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			return queryCacheEnabled;
 		}
 
+		@Override
+		public boolean isQueryCachePartitioningEnabled() {
+			return queryCachePartitioningEnabled;
+		}
+
 		@Override
 		public QueryCacheFactory getQueryCacheFactory() {
 			return queryCacheFactory;
@@ -883,6 +979,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			return structuredCacheEntriesEnabled;
 		}
 
+		@Override
+		public boolean isCompactCacheEntriesEnabled() {
+			return compactCacheEntriesEnabled;
+		}
+
 		@Override
 		public boolean isDirectReferenceCacheEntriesEnabled() {
 			return directReferenceCacheEntriesEnabled;
@@ -908,6 +1009,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			return jdbcBatchVersionedData;
 		}
 
+		@Override
+		public boolean isJdbcBatchIdentityInserts() {
+			return jdbcBatchIdentityInserts;
+		}
+
 		@Override
 		public boolean isScrollableResultSetsEnabled() {
 			return scrollableResultSetsEnabled;
@@ -1074,6 +1180,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return options.getMaximumFetchDepth();
 	}
 
+	@Override
+	public int getEntityInitializationChunkSize() {
+		return options.getEntityInitializationChunkSize();
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return options.getDefaultNullPrecedence();
@@ -1089,6 +1200,16 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return options.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public boolean isModifiedEntityTrackingEnabled() {
+		return options.isModifiedEntityTrackingEnabled();
+	}
+
+	@Override
+	public boolean isPartialAutoFlushEnabled() {
+		return options.isPartialAutoFlushEnabled();
+	}
+
 	@Override
 	public MultiTenancyStrategy getMultiTenancyStrategy() {
 		return options.getMultiTenancyStrategy();
@@ -1114,6 +1235,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return options.isStrictJpaQueryLanguageCompliance();
 	}
 
+	@Override
+	public boolean isConventionalJavaConstants() {
+		return options.isConventionalJavaConstants();
+	}
+
 	@Override
 	public boolean isNamedQueryStartupCheckingEnabled() {
 		return options.isNamedQueryStartupCheckingEnabled();
@@ -1129,6 +1255,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return options.isQueryCacheEnabled();
 	}
 
+	@Override
+	public boolean isQueryCachePartitioningEnabled() {
+		return options.isQueryCachePartitioningEnabled();
+	}
+
 	@Override
 	public QueryCacheFactory getQueryCacheFactory() {
 		return options.getQueryCacheFactory();
@@ -1149,6 +1280,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return options.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return options.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return options.isDirectReferenceCacheEntriesEnabled();
@@ -1174,6 +1310,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return options.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isJdbcBatchIdentityInserts() {
+		return options.isJdbcBatchIdentityInserts();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return options.isScrollableResultSetsEnabled();
@@ -75,9 +75,12 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 	private final BatchFetchStyle batchFetchStyle;
 	private final int defaultBatchFetchSize;
 	private final Integer maximumFetchDepth;
+	private final int entityInitializationChunkSize;
 	private final NullPrecedence defaultNullPrecedence;
 	private final boolean orderUpdatesEnabled;
 	private final boolean orderInsertsEnabled;
+	private final boolean modifiedEntityTrackingEnabled;
+	private final boolean partialAutoFlushEnabled;
 
 	// multi-tenancy
 	private final MultiTenancyStrategy multiTenancyStrategy;
@@ -86,15 +89,18 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 	// Queries
 	private final Map querySubstitutions;
 	private final boolean strictJpaQueryLanguageCompliance;
+	private final boolean conventionalJavaConstants;
 	private final boolean namedQueryStartupCheckingEnabled;
 
 	// Caching
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
+	private final boolean queryCachePartitioningEnabled;
 	private final QueryCacheFactory queryCacheFactory;
 	private final String cacheRegionPrefix;
 	private final boolean minimalPutsEnabled;
 	private final boolean structuredCacheEntriesEnabled;
+	private final boolean compactCacheEntriesEnabled;
 	private final boolean directReferenceCacheEntriesEnabled;
 	private final boolean autoEvictCollectionCache;
 
@@ -105,6 +111,7 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 	private final boolean getGeneratedKeysEnabled;
 	private final int jdbcBatchSize;
 	private final boolean jdbcBatchVersionedData;
+	private final boolean jdbcBatchIdentityInserts;
 	private final Integer jdbcFetchSize;
 	private final boolean scrollableResultSetsEnabled;
 	private final boolean commentsEnabled;
@@ -147,23 +154,29 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		this.batchFetchStyle = state.getBatchFetchStyle();
 		this.defaultBatchFetchSize = state.getDefaultBatchFetchSize();
 		this.maximumFetchDepth = state.getMaximumFetchDepth();
+		this.entityInitializationChunkSize = state.getEntityInitializationChunkSize();
 		this.defaultNullPrecedence = state.getDefaultNullPrecedence();
 		this.orderUpdatesEnabled = state.isOrderUpdatesEnabled();
 		this.orderInsertsEnabled = state.isOrderInsertsEnabled();
+		this.modifiedEntityTrackingEnabled = state.isModifiedEntityTrackingEnabled();
+		this.partialAutoFlushEnabled = state.isPartialAutoFlushEnabled();
 
 		this.multiTenancyStrategy = state.getMultiTenancyStrategy();
 		this.currentTenantIdentifierResolver = state.getCurrentTenantIdentifierResolver();
 
 		this.querySubstitutions = state.getQuerySubstitutions();
 		this.strictJpaQueryLanguageCompliance = state.isStrictJpaQueryLanguageCompliance();
+		this.conventionalJavaConstants = state.isConventionalJavaConstants();
 		this.namedQueryStartupCheckingEnabled = state.isNamedQueryStartupCheckingEnabled();
 
 		this.secondLevelCacheEnabled = state.isSecondLevelCacheEnabled();
 		this.queryCacheEnabled = state.isQueryCacheEnabled();
+		this.queryCachePartitioningEnabled = state.isQueryCachePartitioningEnabled();
 		this.queryCacheFactory = state.getQueryCacheFactory();
 		this.cacheRegionPrefix = state.getCacheRegionPrefix();
 		this.minimalPutsEnabled = state.isMinimalPutsEnabled();
 		this.structuredCacheEntriesEnabled = state.isStructuredCacheEntriesEnabled();
+		this.compactCacheEntriesEnabled = state.isCompactCacheEntriesEnabled();
 		this.directReferenceCacheEntriesEnabled = state.isDirectReferenceCacheEntriesEnabled();
 		this.autoEvictCollectionCache = state.isAutoEvictCollectionCache();
 
@@ -173,6 +186,7 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		this.getGeneratedKeysEnabled = state.isGetGeneratedKeysEnabled();
 		this.jdbcBatchSize = state.getJdbcBatchSize();
 		this.jdbcBatchVersionedData = state.isJdbcBatchVersionedData();
+		this.jdbcBatchIdentityInserts = state.isJdbcBatchIdentityInserts();
 		this.jdbcFetchSize = state.getJdbcFetchSize();
 		this.scrollableResultSetsEnabled = state.isScrollableResultSetsEnabled();
 		this.wrapResultSetsEnabled = state.isWrapResultSetsEnabled();
@@ -290,6 +304,11 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		return maximumFetchDepth;
 	}
 
+	@Override
+	public int getEntityInitializationChunkSize() {
+		return entityInitializationChunkSize;
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return defaultNullPrecedence;
@@ -305,6 +324,16 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public boolean isModifiedEntityTrackingEnabled() {
+		return modifiedEntityTrackingEnabled;
+	}
+
+	@Override
+	public boolean isPartialAutoFlushEnabled() {
+		return partialAutoFlushEnabled;
+	}
+
 	@Override
 	public MultiTenancyStrategy getMultiTenancyStrategy() {
 		return multiTenancyStrategy;
@@ -330,6 +359,11 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		return strictJpaQueryLanguageCompliance;
 	}
 
+	@Override
+	public boolean isConventionalJavaConstants() {
+		return conventionalJavaConstants;
+	}
+
 	@Override
 	public boolean isNamedQueryStartupCheckingEnabled() {
 		return namedQueryStartupCheckingEnabled;
@@ -345,6 +379,11 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		return queryCacheEnabled;
 	}
 
+	@Override
+	public boolean isQueryCachePartitioningEnabled() {
+		return queryCachePartitioningEnabled;
+	}
+
 	@Override
 	public QueryCacheFactory getQueryCacheFactory() {
 		return queryCacheFactory;
@@ -365,6 +404,11 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -389,6 +433,11 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		return jdbcBatchVersionedData;
 	}
 
+	@Override
+	public boolean isJdbcBatchIdentityInserts() {
+		return jdbcBatchIdentityInserts;
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return scrollableResultSetsEnabled;
@@ -79,12 +79,18 @@ public interface SessionFactoryOptionsState {
 
 	public Integer getMaximumFetchDepth();
 
+	public int getEntityInitializationChunkSize();
+
 	public NullPrecedence getDefaultNullPrecedence();
 
 	public boolean isOrderUpdatesEnabled();
 
 	public boolean isOrderInsertsEnabled();
 
+	public boolean isModifiedEntityTrackingEnabled();
+
+	public boolean isPartialAutoFlushEnabled();
+
 	public MultiTenancyStrategy getMultiTenancyStrategy();
 
 	public CurrentTenantIdentifierResolver getCurrentTenantIdentifierResolver();
@@ -95,12 +101,16 @@ public interface SessionFactoryOptionsState {
 
 	public boolean isStrictJpaQueryLanguageCompliance();
 
+	public boolean isConventionalJavaConstants();
+
 	public boolean isNamedQueryStartupCheckingEnabled();
 
 	public boolean isSecondLevelCacheEnabled();
 
 	public boolean isQueryCacheEnabled();
 
+	public boolean isQueryCachePartitioningEnabled();
+
 	public QueryCacheFactory getQueryCacheFactory();
 
 	public String getCacheRegionPrefix();
@@ -109,6 +119,8 @@ public interface SessionFactoryOptionsState {
 
 	public boolean isStructuredCacheEntriesEnabled();
 
+	public boolean isCompactCacheEntriesEnabled();
+
 	public boolean isDirectReferenceCacheEntriesEnabled();
 
 	public boolean isAutoEvictCollectionCache();
@@ -119,6 +131,8 @@ public interface SessionFactoryOptionsState {
 
 	public boolean isJdbcBatchVersionedData();
 
+	public boolean isJdbcBatchIdentityInserts();
+
 	public boolean isScrollableResultSetsEnabled();
 
 	public boolean isWrapResultSetsEnabled();
@@ -197,6 +197,12 @@ public abstract class AbstractDelegatingSessionFactoryBuilder<T extends Abstract
 		return getThis();
 	}
 
+	@Override
+	public T applyEntityInitializationChunkSize(int size) {
+		delegate.applyEntityInitializationChunkSize( size );
+		return getThis();
+	}
+
 	@Override
 	public T applyDefaultNullPrecedence(NullPrecedence nullPrecedence) {
 		delegate.applyDefaultNullPrecedence( nullPrecedence );
@@ -215,6 +221,18 @@ public abstract class AbstractDelegatingSessionFactoryBuilder<T extends Abstract
 		return getThis();
 	}
 
+	@Override
+	public T applyModifiedEntityTracking(boolean enabled) {
+		delegate.applyModifiedEntityTracking( enabled );
+		return getThis();
+	}
+
+	@Override
+	public T applyPartialAutoFlush(boolean enabled) {
+		delegate.applyPartialAutoFlush( enabled );
+		return getThis();
+	}
+
 	@Override
 	public T applyMultiTenancyStrategy(MultiTenancyStrategy strategy) {
 		delegate.applyMultiTenancyStrategy( strategy );
@@ -252,6 +270,12 @@ public abstract class AbstractDelegatingSessionFactoryBuilder<T extends Abstract
 		return getThis();
 	}
 
+	@Override
+	public T applyConventionalJavaConstants(boolean enabled) {
+		delegate.applyConventionalJavaConstants( enabled );
+		return getThis();
+	}
+
 	@Override
 	public T applyNamedQueryCheckingOnStartup(boolean enabled) {
 		delegate.applyNamedQueryCheckingOnStartup( enabled );
@@ -270,6 +294,12 @@ public abstract class AbstractDelegatingSessionFactoryBuilder<T extends Abstract
 		return getThis();
 	}
 
+	@Override
+	public T applyQueryCachePartitioning(boolean enabled) {
+		delegate.applyQueryCachePartitioning( enabled );
+		return getThis();
+	}
+
 	@Override
 	public T applyQueryCacheFactory(QueryCacheFactory factory) {
 		delegate.applyQueryCacheFactory( factory );
@@ -294,6 +324,12 @@ public abstract class AbstractDelegatingSessionFactoryBuilder<T extends Abstract
 		return getThis();
 	}
 
+	@Override
+	public T applyCompactCacheEntries(boolean enabled) {
+		delegate.applyCompactCacheEntries( enabled );
+		return getThis();
+	}
+
 	@Override
 	public T applyDirectReferenceCaching(boolean enabled) {
 		delegate.applyDirectReferenceCaching( enabled );
@@ -318,6 +354,12 @@ public abstract class AbstractDelegatingSessionFactoryBuilder<T extends Abstract
 		return getThis();
 	}
 
+	@Override
+	public T applyJdbcBatchingForIdentityInserts(boolean enabled) {
+		delegate.applyJdbcBatchingForIdentityInserts( enabled );
+		return getThis();
+	}
+
 	@Override
 	public T applyScrollableResultsSupport(boolean enabled) {
 		delegate.applyScrollableResultsSupport( enabled );
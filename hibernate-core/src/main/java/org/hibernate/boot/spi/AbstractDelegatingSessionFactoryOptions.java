@@ -151,6 +151,11 @@ public abstract class AbstractDelegatingSessionFactoryOptions implements Session
 		return delegate.getMaximumFetchDepth();
 	}
 
+	@Override
+	public int getEntityInitializationChunkSize() {
+		return delegate.getEntityInitializationChunkSize();
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return delegate.getDefaultNullPrecedence();
@@ -166,6 +171,16 @@ public abstract class AbstractDelegatingSessionFactoryOptions implements Session
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public boolean isModifiedEntityTrackingEnabled() {
+		return delegate.isModifiedEntityTrackingEnabled();
+	}
+
+	@Override
+	public boolean isPartialAutoFlushEnabled() {
+		return delegate.isPartialAutoFlushEnabled();
+	}
+
 	@Override
 	public MultiTenancyStrategy getMultiTenancyStrategy() {
 		return delegate.getMultiTenancyStrategy();
@@ -191,6 +206,11 @@ public abstract class AbstractDelegatingSessionFactoryOptions implements Session
 		return delegate.isStrictJpaQueryLanguageCompliance();
 	}
 
+	@Override
+	public boolean isConventionalJavaConstants() {
+		return delegate.isConventionalJavaConstants();
+	}
+
 	@Override
 	public boolean isNamedQueryStartupCheckingEnabled() {
 		return delegate.isNamedQueryStartupCheckingEnabled();
@@ -206,6 +226,11 @@ public abstract class AbstractDelegatingSessionFactoryOptions implements Session
 		return delegate.isQueryCacheEnabled();
 	}
 
+	@Override
+	public boolean isQueryCachePartitioningEnabled() {
+		return delegate.isQueryCachePartitioningEnabled();
+	}
+
 	@Override
 	public QueryCacheFactory getQueryCacheFactory() {
 		return delegate.getQueryCacheFactory();
@@ -226,6 +251,11 @@ public abstract class AbstractDelegatingSessionFactoryOptions implements Session
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -251,6 +281,11 @@ public abstract class AbstractDelegatingSessionFactoryOptions implements Session
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isJdbcBatchIdentityInserts() {
+		return delegate.isJdbcBatchIdentityInserts();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
@@ -103,12 +103,18 @@ public interface SessionFactoryOptions {
 
 	public Integer getMaximumFetchDepth();
 
+	public int getEntityInitializationChunkSize();
+
 	public NullPrecedence getDefaultNullPrecedence();
 
 	public boolean isOrderUpdatesEnabled();
 
 	public boolean isOrderInsertsEnabled();
 
+	public boolean isModifiedEntityTrackingEnabled();
+
+	public boolean isPartialAutoFlushEnabled();
+
 	public MultiTenancyStrategy getMultiTenancyStrategy();
 
 	public CurrentTenantIdentifierResolver getCurrentTenantIdentifierResolver();
@@ -119,12 +125,16 @@ public interface SessionFactoryOptions {
 
 	public boolean isStrictJpaQueryLanguageCompliance();
 
+	public boolean isConventionalJavaConstants();
+
 	public boolean isNamedQueryStartupCheckingEnabled();
 
 	public boolean isSecondLevelCacheEnabled();
 
 	public boolean isQueryCacheEnabled();
 
+	public boolean isQueryCachePartitioningEnabled();
+
 	public QueryCacheFactory getQueryCacheFactory();
 
 	public String getCacheRegionPrefix();
@@ -133,6 +143,8 @@ public interface SessionFactoryOptions {
 
 	public boolean isStructuredCacheEntriesEnabled();
 
+	public boolean isCompactCacheEntriesEnabled();
+
 	public boolean isDirectReferenceCacheEntriesEnabled();
 
 	public boolean isAutoEvictCollectionCache();
@@ -143,6 +155,8 @@ public interface SessionFactoryOptions {
 
 	public boolean isJdbcBatchVersionedData();
 
+	public boolean isJdbcBatchIdentityInserts();
+
 	public boolean isScrollableResultSetsEnabled();
 
 	public boolean isWrapResultSetsEnabled();
@@ -23,6 +23,7 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.EnhancementException;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
+import org.hibernate.engine.spi.ModificationReportingEntity;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 
 /**
@@ -106,6 +107,8 @@ public class EntityEnhancer extends Enhancer {
 	private void addInLineDirtyHandling(CtClass managedCtClass) {
 		try {
 			managedCtClass.addInterface( classPool.get( SelfDirtinessTracker.class.getName() ) );
+			// the changes are reported to the EntityEntry, so that flushing can skip the entities which were not modified
+			managedCtClass.addInterface( classPool.get( ModificationReportingEntity.class.getName() ) );
 
 			FieldWriter.addField( managedCtClass, classPool.get( TRACKER_IMPL ), EnhancerConstants.TRACKER_FIELD_NAME );
 			FieldWriter.addField(
@@ -128,10 +131,12 @@ public class EntityEnhancer extends Enhancer {
 							"public void %1$s(String name) {%n" +
 							"  if (%2$s == null) { %2$s = new %3$s(); }%n" +
 							"  %2$s.add(name);%n" +
+							"  if (%4$s != null) { %4$s.entityModified(this); }%n" +
 							"}",
 					EnhancerConstants.TRACKER_CHANGER_NAME,
 					EnhancerConstants.TRACKER_FIELD_NAME,
-					TRACKER_IMPL
+					TRACKER_IMPL,
+					EnhancerConstants.ENTITY_ENTRY_FIELD_NAME
 			);
 
 			createCollectionDirtyCheckMethod( managedCtClass );
@@ -82,55 +82,55 @@ final class FieldInterceptorImpl extends AbstractFieldInterceptor implements Fie
 	}
 	@Override
 	public boolean writeBoolean(Object target, String name, boolean oldValue, boolean newValue) {
-		dirty();
+		dirty( target );
 		intercept( target, name, oldValue );
 		return newValue;
 	}
 	@Override
 	public byte writeByte(Object target, String name, byte oldValue, byte newValue) {
-		dirty();
+		dirty( target );
 		intercept( target, name, oldValue );
 		return newValue;
 	}
 	@Override
 	public char writeChar(Object target, String name, char oldValue, char newValue) {
-		dirty();
+		dirty( target );
 		intercept( target, name, oldValue );
 		return newValue;
 	}
 	@Override
 	public double writeDouble(Object target, String name, double oldValue, double newValue) {
-		dirty();
+		dirty( target );
 		intercept( target, name, oldValue );
 		return newValue;
 	}
 	@Override
 	public float writeFloat(Object target, String name, float oldValue, float newValue) {
-		dirty();
+		dirty( target );
 		intercept( target, name, oldValue );
 		return newValue;
 	}
 	@Override
 	public int writeInt(Object target, String name, int oldValue, int newValue) {
-		dirty();
+		dirty( target );
 		intercept( target, name, oldValue );
 		return newValue;
 	}
 	@Override
 	public long writeLong(Object target, String name, long oldValue, long newValue) {
-		dirty();
+		dirty( target );
 		intercept( target, name, oldValue );
 		return newValue;
 	}
 	@Override
 	public short writeShort(Object target, String name, short oldValue, short newValue) {
-		dirty();
+		dirty( target );
 		intercept( target, name, oldValue );
 		return newValue;
 	}
 	@Override
 	public Object writeObject(Object target, String name, Object oldValue, Object newValue) {
-		dirty();
+		dirty( target );
 		intercept( target, name, oldValue );
 		return newValue;
 	}
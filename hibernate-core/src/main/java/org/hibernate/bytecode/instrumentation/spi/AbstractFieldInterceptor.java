@@ -54,6 +54,21 @@ public abstract class AbstractFieldInterceptor implements FieldInterceptor, Seri
 		dirty = true;
 	}
 
+	/**
+	 * Mark the intercepted entity dirty following a field write, and report it as modified to the persistence
+	 * context of the associated session, if any.
+	 *
+	 * @param target The intercepted entity
+	 */
+	protected final void dirty(Object target) {
+		dirty = true;
+		if ( session != null
+				&& !session.isClosed()
+				&& session.getFactory().getSessionFactoryOptions().isModifiedEntityTrackingEnabled() ) {
+			session.getPersistenceContext().registerModifiedEntity( target );
+		}
+	}
+
 	@Override
 	public final boolean isDirty() {
 		return dirty;
@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The cached form of the results of a query: the timestamp they were cached at, and their disassembled values packed
+ * by column rather than by row.  Columns of {@code Long} or {@code Integer} values, such as the identifiers of the
+ * entities returned by most queries, are packed in primitive arrays.
+ */
+final class CompactQueryResults implements Serializable {
+	private final long timestamp;
+	private final int size;
+	// each column is a long[], an int[] or a Serializable[]
+	private final Object[] columns;
+
+	/**
+	 * Constructs a CompactQueryResults
+	 *
+	 * @param timestamp The timestamp of the results
+	 * @param columns The disassembled values, by column
+	 * @param size The number of rows
+	 */
+	CompactQueryResults(long timestamp, Serializable[][] columns, int size) {
+		this.timestamp = timestamp;
+		this.size = size;
+		this.columns = new Object[columns.length];
+		for ( int i = 0; i < columns.length; i++ ) {
+			this.columns[i] = pack( columns[i] );
+		}
+	}
+
+	/**
+	 * Convert the results cached as a list of rows, preceded by their timestamp.
+	 *
+	 * @param cacheable The timestamp, then the disassembled rows
+	 * @param columnCount The number of columns; the rows of single column results are not wrapped in arrays
+	 *
+	 * @return The packed results
+	 */
+	static CompactQueryResults fromList(List cacheable, int columnCount) {
+		final int size = cacheable.size() - 1;
+		final Serializable[][] columns = new Serializable[columnCount][size];
+		for ( int row = 0; row < size; row++ ) {
+			final Object cached = cacheable.get( row + 1 );
+			if ( columnCount == 1 ) {
+				columns[0][row] = (Serializable) cached;
+			}
+			else {
+				final Serializable[] values = (Serializable[]) cached;
+				for ( int column = 0; column < columnCount; column++ ) {
+					columns[column][row] = values[column];
+				}
+			}
+		}
+		return new CompactQueryResults( (Long) cacheable.get( 0 ), columns, size );
+	}
+
+	private static Object pack(Serializable[] column) {
+		if ( column.length == 0 ) {
+			return column;
+		}
+		boolean longs = true;
+		boolean ints = true;
+		for ( Serializable value : column ) {
+			longs = longs && value instanceof Long;
+			ints = ints && value instanceof Integer;
+			if ( !longs && !ints ) {
+				return column;
+			}
+		}
+		if ( longs ) {
+			final long[] packed = new long[column.length];
+			for ( int i = 0; i < column.length; i++ ) {
+				packed[i] = (Long) column[i];
+			}
+			return packed;
+		}
+		final int[] packed = new int[column.length];
+		for ( int i = 0; i < column.length; i++ ) {
+			packed[i] = (Integer) column[i];
+		}
+		return packed;
+	}
+
+	long getTimestamp() {
+		return timestamp;
+	}
+
+	int size() {
+		return size;
+	}
+
+	int getColumnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * Get the disassembled values of a column.
+	 *
+	 * @param column The column index
+	 *
+	 * @return The values, as many as rows
+	 */
+	Serializable[] getColumn(int column) {
+		final Object packed = columns[column];
+		if ( packed instanceof long[] ) {
+			final long[] longs = (long[]) packed;
+			final Serializable[] values = new Serializable[longs.length];
+			for ( int i = 0; i < longs.length; i++ ) {
+				values[i] = longs[i];
+			}
+			return values;
+		}
+		else if ( packed instanceof int[] ) {
+			final int[] ints = (int[]) packed;
+			final Serializable[] values = new Serializable[ints.length];
+			for ( int i = 0; i < ints.length; i++ ) {
+				values[i] = ints[i];
+			}
+			return values;
+		}
+		else {
+			return (Serializable[]) packed;
+		}
+	}
+}
@@ -8,7 +8,9 @@ package org.hibernate.cache.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import javax.persistence.EntityNotFoundException;
@@ -16,6 +18,7 @@ import javax.persistence.EntityNotFoundException;
 import org.hibernate.HibernateException;
 import org.hibernate.UnresolvableObjectException;
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.bytecode.instrumentation.spi.LazyPropertyInitializer;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.QueryCache;
 import org.hibernate.cache.spi.QueryKey;
@@ -24,6 +27,7 @@ import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.UpdateTimestampsCache;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
@@ -117,18 +121,31 @@ public class StandardQueryCache implements QueryCache {
 			LOG.debugf( "Caching query results in region: %s; timestamp=%s", cacheRegion.getName(), ts );
 		}
 
-		final List cacheable = new ArrayList( result.size() + 1 );
-		logCachedResultDetails( key, null, returnTypes, cacheable );
-		cacheable.add( ts );
+		logCachedResultDetails( key, null, returnTypes, result );
 
 		final boolean isSingleResult = returnTypes.length == 1;
+		final Serializable[][] columns = new Serializable[returnTypes.length][result.size()];
+		int row = 0;
 		for ( Object aResult : result ) {
-			final Serializable cacheItem = isSingleResult
-					? returnTypes[0].disassemble( aResult, session, null )
-					: TypeHelper.disassemble( (Object[]) aResult, returnTypes, null, session, null );
-			cacheable.add( cacheItem );
+			if ( isSingleResult ) {
+				columns[0][row] = returnTypes[0].disassemble( aResult, session, null );
+			}
+			else {
+				final Serializable[] cacheItem = TypeHelper.disassemble(
+						(Object[]) aResult,
+						returnTypes,
+						null,
+						session,
+						null
+				);
+				for ( int i = 0; i < cacheItem.length; i++ ) {
+					columns[i][row] = cacheItem[i];
+				}
+			}
 			logCachedResultRowDetails( returnTypes, aResult );
+			row++;
 		}
+		final CompactQueryResults cacheable = new CompactQueryResults( ts, columns, row );
 
 		try {
 			session.getEventListenerManager().cachePutStart();
@@ -153,8 +170,8 @@ public class StandardQueryCache implements QueryCache {
 			LOG.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
 		}
 
-		final List cacheable = getCachedResults( key, session );
-		logCachedResultDetails( key, spaces, returnTypes, cacheable );
+		final CompactQueryResults cacheable = getCachedResults( key, returnTypes, session );
+		logCachedResultDetails( key, spaces, returnTypes, null );
 
 		if ( cacheable == null ) {
 			if ( DEBUGGING ) {
@@ -163,8 +180,7 @@ public class StandardQueryCache implements QueryCache {
 			return null;
 		}
 
-		final Long timestamp = (Long) cacheable.get( 0 );
-		if ( !isNaturalKeyLookup && !isUpToDate( spaces, timestamp, session ) ) {
+		if ( !isNaturalKeyLookup && !isUpToDate( spaces, key.getCachePartition(), cacheable.getTimestamp(), session ) ) {
 			if ( DEBUGGING ) {
 				LOG.debug( "Cached query results were not up-to-date" );
 			}
@@ -174,67 +190,127 @@ public class StandardQueryCache implements QueryCache {
 		if ( DEBUGGING ) {
 			LOG.debug( "Returning cached query results" );
 		}
+		final Object[][] columns;
+		try {
+			columns = assemble( cacheable, returnTypes, session );
+		}
+		catch ( RuntimeException ex ) {
+			if ( isNaturalKeyLookup ) {
+				// potentially perform special handling for natural-id look ups.
+				if ( UnresolvableObjectException.class.isInstance( ex )
+						|| EntityNotFoundException.class.isInstance( ex ) ) {
+					if ( DEBUGGING ) {
+						LOG.debug( "Unable to reassemble cached natural-id query result" );
+					}
+					cacheRegion.evict( key );
+
+					// EARLY EXIT !!!!!
+					return null;
+				}
+			}
+			throw ex;
+		}
+
 		final boolean singleResult = returnTypes.length == 1;
-		for ( int i = 1; i < cacheable.size(); i++ ) {
+		final List result = new ArrayList( cacheable.size() );
+		for ( int i = 0; i < cacheable.size(); i++ ) {
 			if ( singleResult ) {
-				returnTypes[0].beforeAssemble( (Serializable) cacheable.get( i ), session );
+				result.add( columns[0][i] );
 			}
 			else {
-				TypeHelper.beforeAssemble( (Serializable[]) cacheable.get( i ), returnTypes, session );
+				final Object[] tuple = new Object[columns.length];
+				for ( int j = 0; j < columns.length; j++ ) {
+					tuple[j] = columns[j][i];
+				}
+				result.add( tuple );
 			}
+			logCachedResultRowDetails( returnTypes, result.get( i ) );
 		}
+		return result;
+	}
 
-		final List result = new ArrayList( cacheable.size() - 1 );
-		for ( int i = 1; i < cacheable.size(); i++ ) {
-			try {
-				if ( singleResult ) {
-					result.add( returnTypes[0].assemble( (Serializable) cacheable.get( i ), session, null ) );
+	/**
+	 * Assemble the cached values column by column.  All the values are passed to {@link Type#beforeAssemble} first,
+	 * so that the entities missing from the session can all be batch loaded together, and the rows referencing the
+	 * same entity only resolve it once.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object[][] assemble(CompactQueryResults cacheable, Type[] returnTypes, SessionImplementor session) {
+		final Serializable[][] values = new Serializable[returnTypes.length][];
+		final Map<Serializable, Object>[] resolvedEntities = new Map[returnTypes.length];
+		for ( int j = 0; j < returnTypes.length; j++ ) {
+			values[j] = cacheable.getColumn( j );
+			if ( returnTypes[j].isEntityType() ) {
+				resolvedEntities[j] = new LinkedHashMap<Serializable, Object>();
+			}
+			for ( Serializable value : values[j] ) {
+				if ( isAssemblable( value )
+						&& ( resolvedEntities[j] == null || !resolvedEntities[j].containsKey( value ) ) ) {
+					returnTypes[j].beforeAssemble( value, session );
+					if ( resolvedEntities[j] != null ) {
+						resolvedEntities[j].put( value, null );
+					}
 				}
-				else {
-					result.add(
-							TypeHelper.assemble( (Serializable[]) cacheable.get( i ), returnTypes, session, null )
-					);
+			}
+		}
+
+		final Object[][] columns = new Object[returnTypes.length][cacheable.size()];
+		for ( int j = 0; j < returnTypes.length; j++ ) {
+			final Map<Serializable, Object> resolved = resolvedEntities[j];
+			if ( resolved != null ) {
+				for ( Map.Entry<Serializable, Object> entry : resolved.entrySet() ) {
+					entry.setValue( returnTypes[j].assemble( entry.getKey(), session, null ) );
 				}
-				logCachedResultRowDetails( returnTypes, result.get( i - 1 ) );
 			}
-			catch ( RuntimeException ex ) {
-				if ( isNaturalKeyLookup ) {
-					// potentially perform special handling for natural-id look ups.
-					if ( UnresolvableObjectException.class.isInstance( ex )
-							|| EntityNotFoundException.class.isInstance( ex ) ) {
-						if ( DEBUGGING ) {
-							LOG.debug( "Unable to reassemble cached natural-id query result" );
-						}
-						cacheRegion.evict( key );
-
-						// EARLY EXIT !!!!!
-						return null;
-					}
+			for ( int i = 0; i < columns[j].length; i++ ) {
+				final Serializable value = values[j][i];
+				if ( !isAssemblable( value ) ) {
+					columns[j][i] = value;
+				}
+				else if ( resolved != null ) {
+					columns[j][i] = resolved.get( value );
+				}
+				else {
+					columns[j][i] = returnTypes[j].assemble( value, session, null );
 				}
-				throw ex;
 			}
 		}
-		return result;
+		return columns;
+	}
+
+	private static boolean isAssemblable(Serializable value) {
+		return value != LazyPropertyInitializer.UNFETCHED_PROPERTY && value != PropertyAccessStrategyBackRefImpl.UNKNOWN;
 	}
 
-	private List getCachedResults(QueryKey key, SessionImplementor session) {
-		List cacheable = null;
+	private CompactQueryResults getCachedResults(QueryKey key, Type[] returnTypes, SessionImplementor session) {
+		Object cacheable = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
-			cacheable = (List) cacheRegion.get( key );
+			cacheable = cacheRegion.get( key );
 		}
 		finally {
 			session.getEventListenerManager().cacheGetEnd( cacheable != null );
 		}
-		return cacheable;
+		if ( cacheable instanceof List ) {
+			// cached as a list of rows, by a former version
+			return CompactQueryResults.fromList( (List) cacheable, returnTypes.length );
+		}
+		return (CompactQueryResults) cacheable;
 	}
 
-
 	protected boolean isUpToDate(Set<Serializable> spaces, Long timestamp, SessionImplementor session) {
+		return isUpToDate( spaces, null, timestamp, session );
+	}
+
+	protected boolean isUpToDate(
+			Set<Serializable> spaces,
+			Serializable partition,
+			Long timestamp,
+			SessionImplementor session) {
 		if ( DEBUGGING ) {
-			LOG.debugf( "Checking query spaces are up-to-date: %s", spaces );
+			LOG.debugf( "Checking query spaces are up-to-date: %s, partition: %s", spaces, partition );
 		}
-		return updateTimestampsCache.isUpToDate( spaces, timestamp, session );
+		return updateTimestampsCache.isUpToDate( spaces, partition, timestamp, session );
 	}
 
 	@Override
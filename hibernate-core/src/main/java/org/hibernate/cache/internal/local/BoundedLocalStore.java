@@ -0,0 +1,149 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.local;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.spi.local.LocalStore;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+/**
+ * The store of the {@link LocalRegionFactory}: the values are kept, as they are, in a map bounded to a maximum number
+ * of entries by a {@link BoundedConcurrentHashMap}, and optionally expire some time after they were put.
+ * <p/>
+ * Expired entries are removed as they are read, so they count in the {@link #size()} of the store until then.
+ */
+public class BoundedLocalStore implements LocalStore {
+	private final ConcurrentMap<Object, Entry> entries;
+	private final long timeToLive;
+	private final AtomicLong evictionCount = new AtomicLong();
+	private final AtomicLong expirationCount = new AtomicLong();
+
+	/**
+	 * Constructs a BoundedLocalStore
+	 *
+	 * @param maxEntries The maximum number of entries; {@code 0} for an unbounded store
+	 * @param concurrencyLevel The estimated number of concurrently updating threads
+	 * @param eviction The algorithm choosing the entries evicted from a full store
+	 * @param timeToLive The number of milliseconds after which an entry expires; {@code 0} for entries which never
+	 * expire
+	 */
+	public BoundedLocalStore(int maxEntries, int concurrencyLevel, BoundedConcurrentHashMap.Eviction eviction, long timeToLive) {
+		if ( maxEntries < 0 ) {
+			throw new IllegalArgumentException( "The maximum number of entries of a store cannot be negative: " + maxEntries );
+		}
+		if ( timeToLive < 0 ) {
+			throw new IllegalArgumentException( "The time to live of the entries of a store cannot be negative: " + timeToLive );
+		}
+		if ( maxEntries == 0 ) {
+			this.entries = new ConcurrentHashMap<Object, Entry>( 16, 0.75f, concurrencyLevel );
+		}
+		else {
+			this.entries = new BoundedConcurrentHashMap<Object, Entry>(
+					maxEntries,
+					concurrencyLevel,
+					eviction,
+					new BoundedConcurrentHashMap.EvictionListener<Object, Entry>() {
+						@Override
+						public void onEntryEviction(Map<Object, Entry> evicted) {
+							evictionCount.addAndGet( evicted.size() );
+						}
+
+						@Override
+						public void onEntryChosenForEviction(Entry entry) {
+						}
+					}
+			);
+		}
+		this.timeToLive = timeToLive;
+	}
+
+	@Override
+	public Object get(Object key) {
+		final Entry entry = entries.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		if ( entry.expiresAt != Long.MAX_VALUE && entry.expiresAt <= System.currentTimeMillis() ) {
+			if ( entries.remove( key, entry ) ) {
+				expirationCount.incrementAndGet();
+			}
+			return null;
+		}
+		return entry.value;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get( key ) != null;
+	}
+
+	@Override
+	public boolean put(Object key, Object value, boolean expires) {
+		final long expiresAt = expires && timeToLive > 0
+				? System.currentTimeMillis() + timeToLive
+				: Long.MAX_VALUE;
+		entries.put( key, new Entry( value, expiresAt ) );
+		return true;
+	}
+
+	@Override
+	public void remove(Object key) {
+		entries.remove( key );
+	}
+
+	@Override
+	public void clear() {
+		entries.clear();
+	}
+
+	@Override
+	public List<Object> keys() {
+		return new ArrayList<Object>( entries.keySet() );
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p/>
+	 * Includes the expired mappings not read since they expired.
+	 */
+	@Override
+	public long size() {
+		return entries.size();
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		// unknown, the values being kept as they are
+		return -1;
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	@Override
+	public long getExpirationCount() {
+		return expirationCount.get();
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private final long expiresAt;
+
+		private Entry(Object value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.local;
+
+import java.util.Properties;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.local.AbstractLocalRegionFactory;
+import org.hibernate.cache.spi.local.LocalStore;
+import org.hibernate.cache.spi.local.Timestamper;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * A second-level cache local to the JVM, for single-node deployments which need no external cache provider.  Each
+ * region keeps its values in a {@link BoundedConcurrentHashMap} bounded to {@link #MAX_ENTRIES}, and may expire them
+ * after {@link #TIME_TO_LIVE}.  The read-only, nonstrict-read-write and read-write access types are supported.
+ * <p/>
+ * The timestamps region is never bounded nor expired, as losing the last update timestamp of a table would let the
+ * query cache return stale results.
+ */
+public class LocalRegionFactory extends AbstractLocalRegionFactory {
+	/**
+	 * The short name of this region factory, for the {@value org.hibernate.cfg.AvailableSettings#CACHE_REGION_FACTORY}
+	 * setting.
+	 */
+	public static final String SHORT_NAME = "local";
+
+	/**
+	 * The maximum number of entries of each region; {@code 10000} by default, {@code 0} for unbounded regions.  The
+	 * maximum number of entries of a specific region is set by appending its name to the setting name, as in
+	 * {@code hibernate.cache.local.max_entries.org.hibernate.test.Item}.
+	 */
+	public static final String MAX_ENTRIES = "hibernate.cache.local.max_entries";
+
+	/**
+	 * The number of milliseconds after which the entries of each region expire; {@code 0}, for never, by default.
+	 * The time to live of the entries of a specific region is set by appending its name to the setting name.
+	 */
+	public static final String TIME_TO_LIVE = "hibernate.cache.local.time_to_live";
+
+	/**
+	 * The algorithm choosing the entries evicted from a full region, {@code LIRS} (the default) or {@code LRU}.
+	 */
+	public static final String EVICTION = "hibernate.cache.local.eviction";
+
+	/**
+	 * The estimated number of threads concurrently updating each region; {@code 16} by default.
+	 */
+	public static final String CONCURRENCY_LEVEL = "hibernate.cache.local.concurrency_level";
+
+	/**
+	 * The timeout of the soft locks of the read-write access type, in milliseconds; {@code 60000} by default.
+	 */
+	public static final String LOCK_TIMEOUT = "hibernate.cache.local.lock_timeout";
+
+	private static final int DEFAULT_MAX_ENTRIES = 10000;
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+	private static final int DEFAULT_LOCK_TIMEOUT = 60000;
+
+	@Override
+	protected LocalStore buildStore(String regionName, Properties properties) throws CacheException {
+		final String eviction = ConfigurationHelper.getString(
+				EVICTION,
+				properties,
+				BoundedConcurrentHashMap.Eviction.LIRS.name()
+		);
+		try {
+			return new BoundedLocalStore(
+					(int) getRegionSetting( MAX_ENTRIES, regionName, properties, DEFAULT_MAX_ENTRIES ),
+					ConfigurationHelper.getInt( CONCURRENCY_LEVEL, properties, DEFAULT_CONCURRENCY_LEVEL ),
+					BoundedConcurrentHashMap.Eviction.valueOf( eviction.trim().toUpperCase() ),
+					getRegionSetting( TIME_TO_LIVE, regionName, properties, 0 )
+			);
+		}
+		catch (IllegalArgumentException e) {
+			throw new CacheException( "Invalid local cache settings for region [" + regionName + "]", e );
+		}
+	}
+
+	@Override
+	protected LocalStore buildTimestampsStore(String regionName, Properties properties) throws CacheException {
+		return new BoundedLocalStore(
+				0,
+				ConfigurationHelper.getInt( CONCURRENCY_LEVEL, properties, DEFAULT_CONCURRENCY_LEVEL ),
+				BoundedConcurrentHashMap.Eviction.NONE,
+				0
+		);
+	}
+
+	@Override
+	protected int getTimeout(Properties properties) {
+		return Timestamper.ONE_MS * ConfigurationHelper.getInt( LOCK_TIMEOUT, properties, DEFAULT_LOCK_TIMEOUT );
+	}
+}
@@ -37,6 +37,7 @@ public class QueryKey implements Serializable {
 	private final Integer maxRows;
 	private final String tenantIdentifier;
 	private final Set filterKeys;
+	private final Serializable cachePartition;
 
 	// the explicit user-provided result transformer, not the one used with "select new". Here to avoid mangling
 	// transformed/non-transformed results.
@@ -118,7 +119,8 @@ public class QueryKey implements Serializable {
 				maxRows,
 				filterKeys,
 				session.getTenantIdentifier(),
-				customTransformer
+				customTransformer,
+				queryParameters.getCachePartition()
 		);
 	}
 
@@ -145,6 +147,45 @@ public class QueryKey implements Serializable {
 			Set filterKeys,
 			String tenantIdentifier,
 			CacheableResultTransformer customTransformer) {
+		this(
+				sqlQueryString,
+				positionalParameterTypes,
+				positionalParameterValues,
+				namedParameters,
+				firstRow,
+				maxRows,
+				filterKeys,
+				tenantIdentifier,
+				customTransformer,
+				null
+		);
+	}
+
+	/**
+	 * Package-protected constructor.
+	 *
+	 * @param sqlQueryString The sql query string.
+	 * @param positionalParameterTypes Positional parameter types.
+	 * @param positionalParameterValues Positional parameter values.
+	 * @param namedParameters Named parameters.
+	 * @param firstRow First row selection, if any.
+	 * @param maxRows Max-rows selection, if any.
+	 * @param filterKeys Enabled filter keys, if any.
+	 * @param customTransformer Custom result transformer, if one.
+	 * @param tenantIdentifier The tenant identifier in effect for this query, or {@code null}
+	 * @param cachePartition The query cache partition declared by the query, or {@code null}
+	 */
+	QueryKey(
+			String sqlQueryString,
+			Type[] positionalParameterTypes,
+			Object[] positionalParameterValues,
+			Map namedParameters,
+			Integer firstRow,
+			Integer maxRows,
+			Set filterKeys,
+			String tenantIdentifier,
+			CacheableResultTransformer customTransformer,
+			Serializable cachePartition) {
 		this.sqlQueryString = sqlQueryString;
 		this.positionalParameterTypes = positionalParameterTypes;
 		this.positionalParameterValues = positionalParameterValues;
@@ -154,6 +195,7 @@ public class QueryKey implements Serializable {
 		this.tenantIdentifier = tenantIdentifier;
 		this.filterKeys = filterKeys;
 		this.customTransformer = customTransformer;
+		this.cachePartition = cachePartition;
 		this.hashCode = generateHashCode();
 	}
 
@@ -166,6 +208,17 @@ public class QueryKey implements Serializable {
 		return customTransformer;
 	}
 
+	/**
+	 * The partition declared by the query, against which the cached results are checked for invalidation.
+	 *
+	 * @return The partition, or {@code null} if the query declared none
+	 *
+	 * @see org.hibernate.Query#setCachePartition
+	 */
+	public Serializable getCachePartition() {
+		return cachePartition;
+	}
+
 	/**
 	 * Provide (unmodifiable) access to the named parameters that are part of this query.
 	 *
@@ -200,6 +253,7 @@ public class QueryKey implements Serializable {
 		result = 37 * result + ( filterKeys ==null ? 0 : filterKeys.hashCode() );
 		result = 37 * result + ( customTransformer==null ? 0 : customTransformer.hashCode() );
 		result = 37 * result + ( tenantIdentifier==null ? 0 : tenantIdentifier.hashCode() );
+		result = 37 * result + ( cachePartition==null ? 0 : cachePartition.hashCode() );
 		result = 37 * result + sqlQueryString.hashCode();
 		return result;
 	}
@@ -244,7 +298,8 @@ public class QueryKey implements Serializable {
 
 		return EqualsHelper.equals( filterKeys, that.filterKeys )
 				&& EqualsHelper.equals( namedParameters, that.namedParameters )
-				&& EqualsHelper.equals( tenantIdentifier, that.tenantIdentifier );
+				&& EqualsHelper.equals( tenantIdentifier, that.tenantIdentifier )
+				&& EqualsHelper.equals( cachePartition, that.cachePartition );
 	}
 
 	@Override
@@ -276,6 +331,9 @@ public class QueryKey implements Serializable {
 		if ( customTransformer != null ) {
 			buffer.append( "; transformer: " ).append( customTransformer );
 		}
+		if ( cachePartition != null ) {
+			buffer.append( "; cache partition: " ).append( cachePartition );
+		}
 		return buffer.toString();
 	}
 
@@ -0,0 +1,201 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.MappingException;
+import org.hibernate.QueryException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tuple.entity.EntityMetamodel;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * A partition of a query space, the key of its last update timestamp in the {@link UpdateTimestampsCache} when
+ * {@value org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITIONING} is enabled.
+ * <p/>
+ * A change of the rows of partition {@code p} of a query space updates the timestamps of both that partition and of
+ * {@link #anyPartition any partition} of the query space, while a change of rows of unknown partitions updates the
+ * timestamp of the query space itself.  The results of a query declaring partition {@code p} are then checked against
+ * the timestamps of its query spaces and of their partition {@code p}, and those of a query declaring no partition
+ * against the timestamps of its query spaces and of any of their partitions.
+ */
+public final class QuerySpacePartition implements Serializable {
+	private final Serializable querySpace;
+	private final Serializable partition;
+	private final int hashCode;
+
+	/**
+	 * Constructs a QuerySpacePartition
+	 *
+	 * @param querySpace The query space
+	 * @param partition The partition value, or {@code null} for any partition of the query space
+	 */
+	public QuerySpacePartition(Serializable querySpace, Serializable partition) {
+		this.querySpace = querySpace;
+		this.partition = partition;
+		this.hashCode = 37 * querySpace.hashCode() + ( partition == null ? 0 : partition.hashCode() );
+	}
+
+	/**
+	 * The key of the timestamp of the last change of any partition of the given query space.
+	 *
+	 * @param querySpace The query space
+	 *
+	 * @return The key
+	 */
+	public static QuerySpacePartition anyPartition(Serializable querySpace) {
+		return new QuerySpacePartition( querySpace, null );
+	}
+
+	/**
+	 * Builds the types of the partitions of the query spaces, that is the types of the partition properties of the
+	 * entities stored in them (or of the identifiers of the entities they associate).
+	 *
+	 * @param persisters The persisters of all the entities
+	 * @param factory The session factory
+	 *
+	 * @return The partition types, keyed by query space
+	 *
+	 * @throws MappingException If entities sharing a query space have partition properties of different types
+	 */
+	public static Map<Serializable, Type> buildPartitionTypes(
+			Collection<EntityPersister> persisters,
+			SessionFactoryImplementor factory) {
+		final Map<Serializable, Type> partitionTypes = new HashMap<Serializable, Type>();
+		for ( EntityPersister persister : persisters ) {
+			final int index = persister.getEntityMetamodel().getQueryCachePartitionPropertyIndex();
+			if ( index == EntityMetamodel.NO_QUERY_CACHE_PARTITION_INDX ) {
+				continue;
+			}
+			Type type = persister.getPropertyTypes()[index];
+			if ( type.isEntityType() ) {
+				type = factory.getIdentifierType( ( (EntityType) type ).getAssociatedEntityName() );
+			}
+			for ( Serializable querySpace : persister.getQuerySpaces() ) {
+				final Type existing = partitionTypes.put( querySpace, type );
+				if ( existing != null && existing.getReturnedClass() != type.getReturnedClass() ) {
+					throw new MappingException(
+							"Entity " + persister.getEntityName() + " has a query cache partition of type "
+									+ type.getReturnedClass().getName() + ", other entities of query space "
+									+ querySpace + " having partitions of type " + existing.getReturnedClass().getName()
+					);
+				}
+			}
+		}
+		return Collections.unmodifiableMap( partitionTypes );
+	}
+
+	/**
+	 * Converts the partition declared by a query to the {@link SessionFactoryImplementor#getQueryCachePartitionType
+	 * partition type} of the given query spaces, so that it equals the partition values of the changed entities: a
+	 * query declaring {@code 5} on a {@code Long} partition property would otherwise never be invalidated.
+	 *
+	 * @param partition The declared partition, or {@code null}
+	 * @param querySpaces The query spaces of the query
+	 * @param factory The session factory
+	 *
+	 * @return The partition, of the type of the partition property
+	 *
+	 * @throws QueryException If the partition cannot be converted to the partition type, or if the query spaces
+	 * have partitions of different types
+	 *
+	 * @see org.hibernate.Query#setCachePartition
+	 */
+	public static Serializable normalize(
+			Serializable partition,
+			Collection<? extends Serializable> querySpaces,
+			SessionFactoryImplementor factory) {
+		if ( partition == null || !factory.getSessionFactoryOptions().isQueryCachePartitioningEnabled() ) {
+			return partition;
+		}
+		Serializable normalized = null;
+		for ( Serializable querySpace : querySpaces ) {
+			final Type type = factory.getQueryCachePartitionType( querySpace );
+			if ( type == null ) {
+				continue;
+			}
+			final Serializable converted = convert( partition, type, querySpace );
+			if ( normalized == null ) {
+				normalized = converted;
+			}
+			else if ( !normalized.equals( converted ) ) {
+				throw new QueryException(
+						"Query cache partition [" + partition + "] is ambiguous, the query spaces " + querySpaces
+								+ " having partitions of different types"
+				);
+			}
+		}
+		return normalized == null ? partition : normalized;
+	}
+
+	private static Serializable convert(Serializable partition, Type type, Serializable querySpace) {
+		final Class javaType = type.getReturnedClass();
+		if ( javaType.isInstance( partition ) ) {
+			return partition;
+		}
+		if ( type instanceof AbstractStandardBasicType ) {
+			try {
+				final Object wrapped = ( (AbstractStandardBasicType) type ).getJavaTypeDescriptor().wrap( partition, null );
+				if ( javaType.isInstance( wrapped ) ) {
+					return (Serializable) wrapped;
+				}
+			}
+			catch (RuntimeException ignore) {
+				// reported below
+			}
+		}
+		throw new QueryException(
+				"Query cache partition [" + partition + "] of type " + partition.getClass().getName()
+						+ " does not match the partition type " + javaType.getName() + " of query space " + querySpace
+		);
+	}
+
+	public Serializable getQuerySpace() {
+		return querySpace;
+	}
+
+	/**
+	 * The partition value.
+	 *
+	 * @return The partition value, or {@code null} for any partition
+	 */
+	public Serializable getPartition() {
+		return partition;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if ( this == other ) {
+			return true;
+		}
+		if ( !( other instanceof QuerySpacePartition ) ) {
+			return false;
+		}
+		final QuerySpacePartition that = (QuerySpacePartition) other;
+		return hashCode == that.hashCode
+				&& querySpace.equals( that.querySpace )
+				&& ( partition == null ? that.partition == null : partition.equals( that.partition ) );
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return querySpace + "[" + ( partition == null ? "*" : partition ) + ']';
+	}
+}
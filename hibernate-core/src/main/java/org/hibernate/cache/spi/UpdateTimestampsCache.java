@@ -24,6 +24,9 @@ import org.jboss.logging.Logger;
  * to a higher value than the timeouts of any of the query caches. In fact, we
  * recommend that the the underlying cache not be configured for expiry at all.
  * Note, in particular, that an LRU cache expiry policy is never appropriate.
+ * <p/>
+ * When {@value org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITIONING} is enabled, the timestamps of the
+ * {@link QuerySpacePartition partitions} of the tables are tracked as well.
  *
  * @author Gavin King
  * @author Mikheil Kapanadze
@@ -39,6 +42,7 @@ public class UpdateTimestampsCache {
 
 	private final SessionFactoryImplementor factory;
 	private final TimestampsRegion region;
+	private final boolean partitioned;
 
 	/**
 	 * Constructs an UpdateTimestampsCache.
@@ -55,6 +59,7 @@ public class UpdateTimestampsCache {
 		LOG.startingUpdateTimestampsCache( regionName );
 
 		this.region = settings.getServiceRegistry().getService( RegionFactory.class ).buildTimestampsRegion( regionName, props );
+		this.partitioned = settings.isQueryCachePartitioningEnabled();
 	}
 
 	/**
@@ -153,38 +158,62 @@ public class UpdateTimestampsCache {
 	 * @throws CacheException Indicated problem delegating to underlying region.
 	 */
 	public boolean isUpToDate(Set<Serializable> spaces, Long timestamp, SessionImplementor session) throws CacheException {
+		return isUpToDate( spaces, null, timestamp, session );
+	}
+
+	/**
+	 * Perform an up-to-date check for the given set of query spaces, restricted to the given partition if the
+	 * timestamps of the partitions are tracked.
+	 *
+	 * @param spaces The spaces to check
+	 * @param partition The partition declared by the query, or {@code null} if it declared none
+	 * @param timestamp The timestamp against which to check.
+	 * @param session The session
+	 *
+	 * @return Whether all those spaces are up-to-date
+	 *
+	 * @throws CacheException Indicated problem delegating to underlying region.
+	 */
+	public boolean isUpToDate(Set<Serializable> spaces, Serializable partition, Long timestamp, SessionImplementor session)
+			throws CacheException {
 		final boolean stats = factory != null && factory.getStatistics().isStatisticsEnabled();
 
 		for ( Serializable space : spaces ) {
-			final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
-			if ( lastUpdate == null ) {
-				if ( stats ) {
-					factory.getStatisticsImplementor().updateTimestampsCacheMiss();
-				}
-				//the last update timestamp was lost from the cache
-				//(or there were no updates since startup!)
-				//updateTimestamps.put( space, new Long( updateTimestamps.nextTimestamp() ) );
-				//result = false; // safer
+			if ( !isUpToDate( space, timestamp, session, stats ) ) {
+				return false;
 			}
-			else {
-				if ( DEBUG_ENABLED ) {
-					LOG.debugf(
-							"[%s] last update timestamp: %s",
-							space,
-							lastUpdate + ", result set timestamp: " + timestamp
-					);
-				}
-				if ( stats ) {
-					factory.getStatisticsImplementor().updateTimestampsCacheHit();
-				}
-				if ( lastUpdate >= timestamp ) {
-					return false;
-				}
+			if ( partitioned && !isUpToDate( new QuerySpacePartition( space, partition ), timestamp, session, stats ) ) {
+				return false;
 			}
 		}
 		return true;
 	}
 
+	private boolean isUpToDate(Serializable space, Long timestamp, SessionImplementor session, boolean stats) {
+		final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
+		if ( lastUpdate == null ) {
+			if ( stats ) {
+				factory.getStatisticsImplementor().updateTimestampsCacheMiss();
+			}
+			//the last update timestamp was lost from the cache
+			//(or there were no updates since startup!)
+			//updateTimestamps.put( space, new Long( updateTimestamps.nextTimestamp() ) );
+			//result = false; // safer
+			return true;
+		}
+		if ( DEBUG_ENABLED ) {
+			LOG.debugf(
+					"[%s] last update timestamp: %s",
+					space,
+					lastUpdate + ", result set timestamp: " + timestamp
+			);
+		}
+		if ( stats ) {
+			factory.getStatisticsImplementor().updateTimestampsCacheHit();
+		}
+		return lastUpdate < timestamp;
+	}
+
 	private Long getLastUpdateTimestampForSpace(Serializable space, SessionImplementor session) {
 		Long ts = null;
 		try {
@@ -0,0 +1,437 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.bytecode.instrumentation.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * Structured CacheEntry format for entities, encoding the disassembled state into a compact {@code byte[]}.  The
+ * property values are written in the order of the persister's properties, each one behind a one byte tag: integral
+ * numbers as variable length integers, strings once per entry (later occurrences refer back to the first one), and
+ * enums as their ordinal within the enum class known from the property {@link Type}.  No class descriptor is ever
+ * written, except for values of other classes, which fall back to Java serialization.
+ * <p/>
+ * The entry is only decoded on a cache hit, and its encoded form is what gets replicated by clustered caches.
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte NULL = 0;
+	private static final byte UNFETCHED = 1;
+	private static final byte UNKNOWN = 2;
+	private static final byte TRUE = 3;
+	private static final byte FALSE = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte SHORT = 7;
+	private static final byte BYTE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte FLOAT = 10;
+	private static final byte DOUBLE = 11;
+	private static final byte STRING = 12;
+	private static final byte STRING_REFERENCE = 13;
+	private static final byte BIG_DECIMAL = 14;
+	private static final byte BIG_INTEGER = 15;
+	private static final byte DATE = 16;
+	private static final byte TIMESTAMP = 17;
+	private static final byte SQL_DATE = 18;
+	private static final byte TIME = 19;
+	private static final byte BYTES = 20;
+	private static final byte ARRAY = 21;
+	private static final byte ENUM = 22;
+	private static final byte SERIALIZED = 23;
+
+	private static final Charset UTF_8 = Charset.forName( "UTF-8" );
+
+	private final EntityPersister persister;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Serializable[] state = entry.getDisassembledState();
+		final Type[] types = persister.getPropertyTypes();
+
+		final Encoder encoder = new Encoder( 16 + state.length * 8 );
+		encoder.writeByte( FORMAT_VERSION );
+		encoder.writeByte( entry.areLazyPropertiesUnfetched() ? 1 : 0 );
+		encoder.writeString( entry.getSubclass() );
+		encoder.writeValue( entry.getVersion(), persister.getVersionType() );
+		encoder.writeVarInt( state.length );
+		for ( int i = 0; i < state.length; i++ ) {
+			encoder.writeValue( state[i], types[i] );
+		}
+		return encoder.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		final Decoder decoder = new Decoder( (byte[]) structured );
+		final byte formatVersion = decoder.readByte();
+		if ( formatVersion != FORMAT_VERSION ) {
+			throw new HibernateException( "Unsupported compact cache entry format: " + formatVersion );
+		}
+		final boolean lazyPropertiesUnfetched = decoder.readByte() != 0;
+		final String subclass = decoder.readString();
+		final EntityPersister subclassPersister = factory.getEntityPersister( subclass );
+		final Object version = decoder.readValue( subclassPersister.getVersionType() );
+		final Type[] types = subclassPersister.getPropertyTypes();
+		final Serializable[] state = new Serializable[decoder.readVarInt()];
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = (Serializable) decoder.readValue( types[i] );
+		}
+		return new StandardCacheEntryImpl( state, subclass, lazyPropertiesUnfetched, version );
+	}
+
+	/**
+	 * The property types of the elements of a disassembled component, if they are known.
+	 */
+	private static Type[] getElementTypes(Type type, int length) {
+		if ( type instanceof CompositeType ) {
+			final Type[] subtypes = ( (CompositeType) type ).getSubtypes();
+			if ( subtypes.length == length ) {
+				return subtypes;
+			}
+		}
+		return null;
+	}
+
+	private static class Encoder {
+		private byte[] buffer;
+		private int position;
+		private Map<String, Integer> strings;
+
+		private Encoder(int initialSize) {
+			this.buffer = new byte[initialSize];
+		}
+
+		private void ensureCapacity(int length) {
+			if ( position + length > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, position + length ) );
+			}
+		}
+
+		private void writeByte(int value) {
+			ensureCapacity( 1 );
+			buffer[position++] = (byte) value;
+		}
+
+		private void writeBytes(byte[] bytes) {
+			writeVarInt( bytes.length );
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, position, bytes.length );
+			position += bytes.length;
+		}
+
+		private void writeVarInt(int value) {
+			writeVarLong( value & 0xFFFFFFFFL );
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				buffer[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		private void writeSignedVarLong(long value) {
+			// zig-zag encoding, so that small negative numbers stay short
+			writeVarLong( ( value << 1 ) ^ ( value >> 63 ) );
+		}
+
+		private void writeFixedLong(long value) {
+			ensureCapacity( 8 );
+			for ( int i = 0; i < 8; i++ ) {
+				buffer[position++] = (byte) ( value >>> ( i * 8 ) );
+			}
+		}
+
+		private void writeString(String value) {
+			if ( strings == null ) {
+				strings = new HashMap<String, Integer>();
+			}
+			final Integer index = strings.get( value );
+			if ( index != null ) {
+				writeByte( STRING_REFERENCE );
+				writeVarInt( index );
+			}
+			else {
+				strings.put( value, strings.size() );
+				writeByte( STRING );
+				writeBytes( value.getBytes( UTF_8 ) );
+			}
+		}
+
+		private void writeValue(Object value, Type type) {
+			if ( value == null ) {
+				writeByte( NULL );
+			}
+			else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				writeByte( UNFETCHED );
+			}
+			else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+				writeByte( UNKNOWN );
+			}
+			else {
+				final Class valueClass = value.getClass();
+				if ( valueClass == String.class ) {
+					writeString( (String) value );
+				}
+				else if ( valueClass == Integer.class ) {
+					writeByte( INTEGER );
+					writeSignedVarLong( (Integer) value );
+				}
+				else if ( valueClass == Long.class ) {
+					writeByte( LONG );
+					writeSignedVarLong( (Long) value );
+				}
+				else if ( valueClass == Boolean.class ) {
+					writeByte( (Boolean) value ? TRUE : FALSE );
+				}
+				else if ( valueClass == Short.class ) {
+					writeByte( SHORT );
+					writeSignedVarLong( (Short) value );
+				}
+				else if ( valueClass == Byte.class ) {
+					writeByte( BYTE );
+					writeByte( (Byte) value );
+				}
+				else if ( valueClass == Character.class ) {
+					writeByte( CHARACTER );
+					writeVarInt( (Character) value );
+				}
+				else if ( valueClass == Float.class ) {
+					writeByte( FLOAT );
+					writeVarInt( Float.floatToIntBits( (Float) value ) );
+				}
+				else if ( valueClass == Double.class ) {
+					writeByte( DOUBLE );
+					writeFixedLong( Double.doubleToLongBits( (Double) value ) );
+				}
+				else if ( valueClass == BigDecimal.class ) {
+					final BigDecimal decimal = (BigDecimal) value;
+					writeByte( BIG_DECIMAL );
+					writeSignedVarLong( decimal.scale() );
+					writeBytes( decimal.unscaledValue().toByteArray() );
+				}
+				else if ( valueClass == BigInteger.class ) {
+					writeByte( BIG_INTEGER );
+					writeBytes( ( (BigInteger) value ).toByteArray() );
+				}
+				else if ( valueClass == Date.class ) {
+					writeByte( DATE );
+					writeSignedVarLong( ( (Date) value ).getTime() );
+				}
+				else if ( valueClass == Timestamp.class ) {
+					final Timestamp timestamp = (Timestamp) value;
+					writeByte( TIMESTAMP );
+					writeSignedVarLong( timestamp.getTime() );
+					writeVarInt( timestamp.getNanos() );
+				}
+				else if ( valueClass == java.sql.Date.class ) {
+					writeByte( SQL_DATE );
+					writeSignedVarLong( ( (Date) value ).getTime() );
+				}
+				else if ( valueClass == Time.class ) {
+					writeByte( TIME );
+					writeSignedVarLong( ( (Date) value ).getTime() );
+				}
+				else if ( valueClass == byte[].class ) {
+					writeByte( BYTES );
+					writeBytes( (byte[]) value );
+				}
+				else if ( valueClass == Object[].class ) {
+					// the disassembled state of a component
+					final Object[] elements = (Object[]) value;
+					final Type[] elementTypes = getElementTypes( type, elements.length );
+					writeByte( ARRAY );
+					writeVarInt( elements.length );
+					for ( int i = 0; i < elements.length; i++ ) {
+						writeValue( elements[i], elementTypes == null ? null : elementTypes[i] );
+					}
+				}
+				else if ( value instanceof Enum && type != null
+						&& type.getReturnedClass() == ( (Enum) value ).getDeclaringClass() ) {
+					writeByte( ENUM );
+					writeVarInt( ( (Enum) value ).ordinal() );
+				}
+				else {
+					writeByte( SERIALIZED );
+					writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+				}
+			}
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf( buffer, position );
+		}
+	}
+
+	private static class Decoder {
+		private final byte[] buffer;
+		private int position;
+		private List<String> strings;
+
+		private Decoder(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		private byte readByte() {
+			return buffer[position++];
+		}
+
+		private byte[] readBytes() {
+			final int length = readVarInt();
+			final byte[] bytes = Arrays.copyOfRange( buffer, position, position + length );
+			position += length;
+			return bytes;
+		}
+
+		private int readVarInt() {
+			return (int) readVarLong();
+		}
+
+		private long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = buffer[position++];
+				value |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			} while ( b < 0 );
+			return value;
+		}
+
+		private long readSignedVarLong() {
+			final long value = readVarLong();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		private long readFixedLong() {
+			long value = 0;
+			for ( int i = 0; i < 8; i++ ) {
+				value |= (long) ( buffer[position++] & 0xFF ) << ( i * 8 );
+			}
+			return value;
+		}
+
+		private String readString() {
+			final byte tag = readByte();
+			if ( tag != STRING && tag != STRING_REFERENCE ) {
+				throw new HibernateException( "Malformed compact cache entry: expecting a string, but found tag " + tag );
+			}
+			return (String) readValue( tag, null );
+		}
+
+		private Object readValue(Type type) {
+			return readValue( readByte(), type );
+		}
+
+		private Object readValue(byte tag, Type type) {
+			switch ( tag ) {
+				case NULL:
+					return null;
+				case UNFETCHED:
+					return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+				case UNKNOWN:
+					return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+				case TRUE:
+					return Boolean.TRUE;
+				case FALSE:
+					return Boolean.FALSE;
+				case INTEGER:
+					return (int) readSignedVarLong();
+				case LONG:
+					return readSignedVarLong();
+				case SHORT:
+					return (short) readSignedVarLong();
+				case BYTE:
+					return readByte();
+				case CHARACTER:
+					return (char) readVarInt();
+				case FLOAT:
+					return Float.intBitsToFloat( readVarInt() );
+				case DOUBLE:
+					return Double.longBitsToDouble( readFixedLong() );
+				case STRING: {
+					final String value = new String( readBytes(), UTF_8 );
+					if ( strings == null ) {
+						strings = new ArrayList<String>();
+					}
+					strings.add( value );
+					return value;
+				}
+				case STRING_REFERENCE:
+					return strings.get( readVarInt() );
+				case BIG_DECIMAL: {
+					final int scale = (int) readSignedVarLong();
+					return new BigDecimal( new BigInteger( readBytes() ), scale );
+				}
+				case BIG_INTEGER:
+					return new BigInteger( readBytes() );
+				case DATE:
+					return new Date( readSignedVarLong() );
+				case TIMESTAMP: {
+					final Timestamp timestamp = new Timestamp( readSignedVarLong() );
+					timestamp.setNanos( readVarInt() );
+					return timestamp;
+				}
+				case SQL_DATE:
+					return new java.sql.Date( readSignedVarLong() );
+				case TIME:
+					return new Time( readSignedVarLong() );
+				case BYTES:
+					return readBytes();
+				case ARRAY: {
+					final Object[] elements = new Object[readVarInt()];
+					final Type[] elementTypes = getElementTypes( type, elements.length );
+					for ( int i = 0; i < elements.length; i++ ) {
+						elements[i] = readValue( elementTypes == null ? null : elementTypes[i] );
+					}
+					return elements;
+				}
+				case ENUM:
+					return type.getReturnedClass().getEnumConstants()[readVarInt()];
+				case SERIALIZED:
+					return SerializationHelper.deserialize( readBytes() );
+				default:
+					throw new HibernateException( "Malformed compact cache entry: unknown tag " + tag );
+			}
+		}
+	}
+}
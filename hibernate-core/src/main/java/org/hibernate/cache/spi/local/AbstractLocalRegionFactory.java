@@ -0,0 +1,190 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.local;
+
+import java.util.Properties;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.local.BoundedLocalStore;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.CollectionRegion;
+import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.local.regions.LocalCollectionRegion;
+import org.hibernate.cache.spi.local.regions.LocalEntityRegion;
+import org.hibernate.cache.spi.local.regions.LocalNaturalIdRegion;
+import org.hibernate.cache.spi.local.regions.LocalQueryResultsRegion;
+import org.hibernate.cache.spi.local.regions.LocalTimestampsRegion;
+import org.hibernate.cache.spi.local.strategy.LocalAccessStrategyFactory;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * Base support for second-level caches local to the JVM.  The regions and the read-only, nonstrict-read-write and
+ * read-write access strategies are provided, over the {@link LocalStore} each concrete region factory supplies
+ * through {@link #buildStore}.
+ * <p/>
+ * The timestamps region keeps its values on the heap, never bounded nor expired, as losing the last update timestamp
+ * of a table would let the query cache return stale results.
+ */
+public abstract class AbstractLocalRegionFactory implements RegionFactory {
+	private static final int DEFAULT_TIMESTAMPS_CONCURRENCY_LEVEL = 16;
+
+	private final LocalAccessStrategyFactory accessStrategyFactory = new LocalAccessStrategyFactory();
+	private SessionFactoryOptions settings;
+
+	@Override
+	public void start(SessionFactoryOptions settings, Properties properties) throws CacheException {
+		this.settings = settings;
+	}
+
+	@Override
+	public void stop() {
+	}
+
+	@Override
+	public boolean isMinimalPutsEnabledByDefault() {
+		return false;
+	}
+
+	@Override
+	public AccessType getDefaultAccessType() {
+		return AccessType.READ_WRITE;
+	}
+
+	@Override
+	public long nextTimestamp() {
+		return Timestamper.next();
+	}
+
+	@Override
+	public EntityRegion buildEntityRegion(String regionName, Properties properties, CacheDataDescription metadata)
+			throws CacheException {
+		return new LocalEntityRegion(
+				regionName,
+				buildStore( regionName, properties ),
+				getTimeout( properties ),
+				accessStrategyFactory,
+				settings,
+				metadata
+		);
+	}
+
+	@Override
+	public NaturalIdRegion buildNaturalIdRegion(String regionName, Properties properties, CacheDataDescription metadata)
+			throws CacheException {
+		return new LocalNaturalIdRegion(
+				regionName,
+				buildStore( regionName, properties ),
+				getTimeout( properties ),
+				accessStrategyFactory,
+				settings,
+				metadata
+		);
+	}
+
+	@Override
+	public CollectionRegion buildCollectionRegion(
+			String regionName,
+			Properties properties,
+			CacheDataDescription metadata) throws CacheException {
+		return new LocalCollectionRegion(
+				regionName,
+				buildStore( regionName, properties ),
+				getTimeout( properties ),
+				accessStrategyFactory,
+				settings,
+				metadata
+		);
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, Properties properties) throws CacheException {
+		return new LocalQueryResultsRegion( regionName, buildStore( regionName, properties ), getTimeout( properties ) );
+	}
+
+	@Override
+	public TimestampsRegion buildTimestampsRegion(String regionName, Properties properties) throws CacheException {
+		return new LocalTimestampsRegion(
+				regionName,
+				buildTimestampsStore( regionName, properties ),
+				getTimeout( properties )
+		);
+	}
+
+	/**
+	 * Build the store of the values of the given entity, natural-id, collection or query results region.
+	 *
+	 * @param regionName The region name
+	 * @param properties The configuration settings
+	 *
+	 * @return The store
+	 *
+	 * @throws CacheException Indicates invalid settings
+	 */
+	protected abstract LocalStore buildStore(String regionName, Properties properties) throws CacheException;
+
+	/**
+	 * Build the store of the timestamps region, an unbounded on-heap store by default.
+	 *
+	 * @param regionName The region name
+	 * @param properties The configuration settings
+	 *
+	 * @return The store, which must never evict nor expire its values
+	 *
+	 * @throws CacheException Indicates invalid settings
+	 */
+	protected LocalStore buildTimestampsStore(String regionName, Properties properties) throws CacheException {
+		return new BoundedLocalStore(
+				0,
+				DEFAULT_TIMESTAMPS_CONCURRENCY_LEVEL,
+				BoundedConcurrentHashMap.Eviction.NONE,
+				0
+		);
+	}
+
+	/**
+	 * Get the timeout of the soft locks of the read-write access type, in {@link Timestamper} units.
+	 *
+	 * @param properties The configuration settings
+	 *
+	 * @return The timeout
+	 */
+	protected abstract int getTimeout(Properties properties);
+
+	/**
+	 * Get the value of the given setting for the given region: the value of the setting suffixed by the region name,
+	 * or else of the setting itself.
+	 *
+	 * @param name The setting name
+	 * @param regionName The region name
+	 * @param properties The configuration settings
+	 * @param defaultValue The value if neither setting is set
+	 *
+	 * @return The value
+	 *
+	 * @throws CacheException Indicates an invalid value
+	 */
+	protected static long getRegionSetting(String name, String regionName, Properties properties, int defaultValue)
+			throws CacheException {
+		final String value = properties.getProperty( name + '.' + regionName );
+		if ( value == null ) {
+			return ConfigurationHelper.getLong( name, properties, defaultValue );
+		}
+		try {
+			return Long.parseLong( value.trim() );
+		}
+		catch (NumberFormatException e) {
+			throw new CacheException( "Unable to parse setting [" + name + "] of region [" + regionName + "]: " + value, e );
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.local;
+
+import java.util.List;
+
+import org.hibernate.cache.CacheException;
+
+/**
+ * The map of the values of a local region, on which its regions and access strategies are built.  Each
+ * {@link AbstractLocalRegionFactory} supplies the store of its regions: the
+ * {@link org.hibernate.cache.internal.local.LocalRegionFactory} keeps the values on the heap, in a
+ * {@link org.hibernate.cache.internal.local.BoundedLocalStore}.
+ */
+public interface LocalStore {
+	/**
+	 * Get the value mapped to the given key.
+	 *
+	 * @param key The key
+	 *
+	 * @return The value, or {@code null} if there is no mapping for the key, or if it expired
+	 *
+	 * @throws CacheException Indicates a problem reading the value
+	 */
+	public Object get(Object key) throws CacheException;
+
+	/**
+	 * Does the store contain an unexpired mapping for the given key?
+	 *
+	 * @param key The key
+	 *
+	 * @return {@code true} if it does
+	 */
+	public boolean containsKey(Object key);
+
+	/**
+	 * Map the given value to the given key, evicting other mappings if the store is full.
+	 *
+	 * @param key The key
+	 * @param value The value
+	 * @param expires Whether the mapping expires after the time to live of the store, if it has one
+	 *
+	 * @return {@code false} if the value could not be stored, being larger than the store allows
+	 *
+	 * @throws CacheException Indicates a problem writing the value
+	 */
+	public boolean put(Object key, Object value, boolean expires) throws CacheException;
+
+	/**
+	 * Remove the mapping for the given key.
+	 *
+	 * @param key The key
+	 */
+	public void remove(Object key);
+
+	/**
+	 * Remove all the mappings.
+	 */
+	public void clear();
+
+	/**
+	 * The keys of all the mappings, at the time of the call.
+	 *
+	 * @return The keys
+	 */
+	public List<Object> keys();
+
+	/**
+	 * The number of mappings.
+	 *
+	 * @return The number of mappings
+	 */
+	public long size();
+
+	/**
+	 * The number of bytes of memory occupied by the values.
+	 *
+	 * @return The number of bytes, or {@code -1} if unknown
+	 */
+	public long getSizeInMemory();
+
+	/**
+	 * The number of mappings evicted to make room for others.
+	 *
+	 * @return The number of evictions
+	 */
+	public long getEvictionCount();
+
+	/**
+	 * The number of mappings removed because they expired.
+	 *
+	 * @return The number of expirations
+	 */
+	public long getExpirationCount();
+}
@@ -0,0 +1,45 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.local;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates increasing timestamps (in a single VM only), with {@link #ONE_MS} values per millisecond.
+ */
+public final class Timestamper {
+	private static final int BIN_DIGITS = 12;
+
+	/**
+	 * The number of timestamp values in one millisecond.
+	 */
+	public static final short ONE_MS = 1 << BIN_DIGITS;
+
+	private static final AtomicLong VALUE = new AtomicLong();
+
+	/**
+	 * Generate the next timestamp.
+	 *
+	 * @return The timestamp
+	 */
+	public static long next() {
+		while ( true ) {
+			final long base = System.currentTimeMillis() << BIN_DIGITS;
+			final long maxValue = base + ONE_MS - 1;
+
+			for ( long current = VALUE.get(), update = Math.max( base, current + 1 ); update < maxValue;
+					current = VALUE.get(), update = Math.max( base, current + 1 ) ) {
+				if ( VALUE.compareAndSet( current, update ) ) {
+					return update;
+				}
+			}
+		}
+	}
+
+	private Timestamper() {
+	}
+}
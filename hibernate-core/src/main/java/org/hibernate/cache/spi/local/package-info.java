@@ -0,0 +1,12 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * Defines the support for second-level caches local to the JVM: the regions and access strategies of such caches,
+ * built over the {@link org.hibernate.cache.spi.local.LocalStore} supplied by a region factory.
+ */
+package org.hibernate.cache.spi.local;
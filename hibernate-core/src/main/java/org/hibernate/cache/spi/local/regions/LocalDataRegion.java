@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.local.regions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.local.LocalStore;
+import org.hibernate.cache.spi.local.Timestamper;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A local data region: the values are kept in a {@link LocalStore}, as they are or in the form the store chooses.
+ */
+public abstract class LocalDataRegion implements Region {
+	private static final Logger LOG = Logger.getLogger( LocalDataRegion.class );
+
+	private final String name;
+	private final LocalStore store;
+	private final int timeout;
+
+	LocalDataRegion(String name, LocalStore store, int timeout) {
+		this.name = name;
+		this.store = store;
+		this.timeout = timeout;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the value mapped to the given key.
+	 *
+	 * @param key The key
+	 *
+	 * @return The value, or {@code null} if the key is not mapped
+	 *
+	 * @throws CacheException Indicates a problem reading the value from the store
+	 */
+	public Object get(Object key) throws CacheException {
+		if ( key == null ) {
+			return null;
+		}
+		return store.get( key );
+	}
+
+	/**
+	 * Map the given value to the given key.  Values which do not fit in the store are not cached.  Soft locks never
+	 * expire with the other values: they are released, or time out, as the read-write strategy decides.
+	 *
+	 * @param key The key
+	 * @param value The value
+	 *
+	 * @throws CacheException Indicates a problem writing the value to the store
+	 */
+	public void put(Object key, Object value) throws CacheException {
+		if ( key == null || value == null ) {
+			return;
+		}
+		if ( !store.put( key, value, !( value instanceof SoftLock ) ) ) {
+			LOG.debugf( "Value of key [%s] is too large for region [%s]", key, name );
+		}
+	}
+
+	/**
+	 * Remove the mapping of the given key.
+	 *
+	 * @param key The key
+	 */
+	public void remove(Object key) {
+		if ( key != null ) {
+			store.remove( key );
+		}
+	}
+
+	/**
+	 * Remove all the mappings of this region.
+	 */
+	public void clear() {
+		store.clear();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return key != null && store.containsKey( key );
+	}
+
+	@Override
+	public void destroy() throws CacheException {
+		store.clear();
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return store.getSizeInMemory();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return store.size();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	/**
+	 * The number of mappings evicted to make room for others.
+	 *
+	 * @return The number of evictions
+	 */
+	public long getEvictionCount() {
+		return store.getEvictionCount();
+	}
+
+	/**
+	 * The number of mappings removed because they outlived the time to live of the region.
+	 *
+	 * @return The number of expirations
+	 */
+	public long getExpirationCount() {
+		return store.getExpirationCount();
+	}
+
+	@Override
+	public Map toMap() {
+		final Map<Object, Object> map = new HashMap<Object, Object>();
+		for ( Object key : store.keys() ) {
+			final Object value = store.get( key );
+			if ( value != null ) {
+				map.put( key, value );
+			}
+		}
+		return map;
+	}
+
+	@Override
+	public long nextTimestamp() {
+		return Timestamper.next();
+	}
+
+	@Override
+	public int getTimeout() {
+		return timeout;
+	}
+
+	@Override
+	public String toString() {
+		return "LocalRegion(" + name + ')';
+	}
+}
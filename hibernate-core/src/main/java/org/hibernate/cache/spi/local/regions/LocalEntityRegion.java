@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.local.regions;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cache.spi.local.LocalStore;
+import org.hibernate.cache.spi.local.strategy.LocalAccessStrategyFactory;
+
+/**
+ * A local region of entity data.
+ */
+public class LocalEntityRegion extends LocalTransactionalDataRegion implements EntityRegion {
+	/**
+	 * Constructs a LocalEntityRegion
+	 *
+	 * @param name The region name
+	 * @param store The store of the region values
+	 * @param timeout The soft lock timeout
+	 * @param accessStrategyFactory The factory of the access strategies
+	 * @param settings The Hibernate settings
+	 * @param metadata Metadata about the data to be cached in this region
+	 */
+	public LocalEntityRegion(
+			String name,
+			LocalStore store,
+			int timeout,
+			LocalAccessStrategyFactory accessStrategyFactory,
+			SessionFactoryOptions settings,
+			CacheDataDescription metadata) {
+		super( name, store, timeout, accessStrategyFactory, settings, metadata );
+	}
+
+	@Override
+	public EntityRegionAccessStrategy buildAccessStrategy(AccessType accessType) throws CacheException {
+		return getAccessStrategyFactory().createEntityRegionAccessStrategy( this, accessType );
+	}
+}
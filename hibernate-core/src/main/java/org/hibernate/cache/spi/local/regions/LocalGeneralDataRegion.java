@@ -0,0 +1,30 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.local.regions;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.GeneralDataRegion;
+import org.hibernate.cache.spi.local.LocalStore;
+
+/**
+ * A local region accessed directly, without access strategy: the query results and timestamps regions.
+ */
+abstract class LocalGeneralDataRegion extends LocalDataRegion implements GeneralDataRegion {
+	LocalGeneralDataRegion(String name, LocalStore store, int timeout) {
+		super( name, store, timeout );
+	}
+
+	@Override
+	public void evict(Object key) throws CacheException {
+		remove( key );
+	}
+
+	@Override
+	public void evictAll() throws CacheException {
+		clear();
+	}
+}
@@ -0,0 +1,26 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.local.regions;
+
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.local.LocalStore;
+
+/**
+ * A local region of the last update timestamps of the tables.
+ */
+public class LocalTimestampsRegion extends LocalGeneralDataRegion implements TimestampsRegion {
+	/**
+	 * Constructs a LocalTimestampsRegion
+	 *
+	 * @param name The region name
+	 * @param store The store of the region values
+	 * @param timeout The soft lock timeout
+	 */
+	public LocalTimestampsRegion(String name, LocalStore store, int timeout) {
+		super( name, store, timeout );
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.local.regions;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.TransactionalDataRegion;
+import org.hibernate.cache.spi.local.LocalStore;
+import org.hibernate.cache.spi.local.strategy.LocalAccessStrategyFactory;
+
+/**
+ * A local region accessed through an access strategy: the entity, collection and natural-id regions.  Writers
+ * of the read-write strategy exclude each other through locks striped by key.
+ */
+public abstract class LocalTransactionalDataRegion extends LocalDataRegion implements TransactionalDataRegion {
+	private static final int LOCK_STRIPES = 128;
+
+	private final LocalAccessStrategyFactory accessStrategyFactory;
+	private final SessionFactoryOptions settings;
+	private final CacheDataDescription metadata;
+	private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+	LocalTransactionalDataRegion(
+			String name,
+			LocalStore store,
+			int timeout,
+			LocalAccessStrategyFactory accessStrategyFactory,
+			SessionFactoryOptions settings,
+			CacheDataDescription metadata) {
+		super( name, store, timeout );
+		this.accessStrategyFactory = accessStrategyFactory;
+		this.settings = settings;
+		this.metadata = metadata;
+		for ( int i = 0; i < LOCK_STRIPES; i++ ) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	protected LocalAccessStrategyFactory getAccessStrategyFactory() {
+		return accessStrategyFactory;
+	}
+
+	public SessionFactoryOptions getSettings() {
+		return settings;
+	}
+
+	@Override
+	public CacheDataDescription getCacheDataDescription() {
+		return metadata;
+	}
+
+	@Override
+	public boolean isTransactionAware() {
+		return false;
+	}
+
+	private ReentrantLock lockFor(Object key) {
+		final int hash = key.hashCode();
+		return locks[( hash ^ ( hash >>> 16 ) ) & ( LOCK_STRIPES - 1 )];
+	}
+
+	/**
+	 * Exclude the other writers of the given key.
+	 *
+	 * @param key The key
+	 */
+	public void writeLock(Object key) {
+		lockFor( key ).lock();
+	}
+
+	/**
+	 * Release the lock taken by {@link #writeLock}.
+	 *
+	 * @param key The key
+	 */
+	public void writeUnlock(Object key) {
+		lockFor( key ).unlock();
+	}
+}
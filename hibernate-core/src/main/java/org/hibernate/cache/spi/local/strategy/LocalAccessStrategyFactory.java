@@ -0,0 +1,133 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.local.strategy;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
+import org.hibernate.cache.spi.local.regions.LocalCollectionRegion;
+import org.hibernate.cache.spi.local.regions.LocalEntityRegion;
+import org.hibernate.cache.spi.local.regions.LocalNaturalIdRegion;
+import org.hibernate.cache.spi.local.regions.LocalTransactionalDataRegion;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Builds the access strategies of the local regions.  The read-only, nonstrict-read-write and read-write access
+ * types are supported; the local regions are not transactional.
+ */
+public class LocalAccessStrategyFactory {
+	private static final Logger LOG = Logger.getLogger( LocalAccessStrategyFactory.class );
+
+	/**
+	 * Create the access strategy of an entity region.
+	 *
+	 * @param entityRegion The region
+	 * @param accessType The access type
+	 *
+	 * @return The access strategy
+	 */
+	public EntityRegionAccessStrategy createEntityRegionAccessStrategy(
+			LocalEntityRegion entityRegion,
+			AccessType accessType) {
+		switch ( accessType ) {
+			case READ_ONLY:
+				checkReadOnly( entityRegion );
+				return new ReadOnlyLocalEntityRegionAccessStrategy( entityRegion, entityRegion.getSettings() );
+			case READ_WRITE:
+				return new ReadWriteLocalEntityRegionAccessStrategy( entityRegion, entityRegion.getSettings() );
+			case NONSTRICT_READ_WRITE:
+				return new NonStrictReadWriteLocalEntityRegionAccessStrategy(
+						entityRegion,
+						entityRegion.getSettings()
+				);
+			default:
+				throw unsupported( entityRegion, accessType );
+		}
+	}
+
+	/**
+	 * Create the access strategy of a collection region.
+	 *
+	 * @param collectionRegion The region
+	 * @param accessType The access type
+	 *
+	 * @return The access strategy
+	 */
+	public CollectionRegionAccessStrategy createCollectionRegionAccessStrategy(
+			LocalCollectionRegion collectionRegion,
+			AccessType accessType) {
+		switch ( accessType ) {
+			case READ_ONLY:
+				checkReadOnly( collectionRegion );
+				return new ReadOnlyLocalCollectionRegionAccessStrategy(
+						collectionRegion,
+						collectionRegion.getSettings()
+				);
+			case READ_WRITE:
+				return new ReadWriteLocalCollectionRegionAccessStrategy(
+						collectionRegion,
+						collectionRegion.getSettings()
+				);
+			case NONSTRICT_READ_WRITE:
+				return new NonStrictReadWriteLocalCollectionRegionAccessStrategy(
+						collectionRegion,
+						collectionRegion.getSettings()
+				);
+			default:
+				throw unsupported( collectionRegion, accessType );
+		}
+	}
+
+	/**
+	 * Create the access strategy of a natural-id region.
+	 *
+	 * @param naturalIdRegion The region
+	 * @param accessType The access type
+	 *
+	 * @return The access strategy
+	 */
+	public NaturalIdRegionAccessStrategy createNaturalIdRegionAccessStrategy(
+			LocalNaturalIdRegion naturalIdRegion,
+			AccessType accessType) {
+		switch ( accessType ) {
+			case READ_ONLY:
+				checkReadOnly( naturalIdRegion );
+				return new ReadOnlyLocalNaturalIdRegionAccessStrategy(
+						naturalIdRegion,
+						naturalIdRegion.getSettings()
+				);
+			case READ_WRITE:
+				return new ReadWriteLocalNaturalIdRegionAccessStrategy(
+						naturalIdRegion,
+						naturalIdRegion.getSettings()
+				);
+			case NONSTRICT_READ_WRITE:
+				return new NonStrictReadWriteLocalNaturalIdRegionAccessStrategy(
+						naturalIdRegion,
+						naturalIdRegion.getSettings()
+				);
+			default:
+				throw unsupported( naturalIdRegion, accessType );
+		}
+	}
+
+	private static void checkReadOnly(LocalTransactionalDataRegion region) {
+		if ( region.getCacheDataDescription().isMutable() ) {
+			LOG.warnf( "read-only cache configured for mutable entity [%s]", region.getName() );
+		}
+	}
+
+	private static CacheException unsupported(LocalTransactionalDataRegion region, AccessType accessType) {
+		return new CacheException(
+				"Access type [" + accessType.getExternalName() + "] of region [" + region.getName()
+						+ "] is not supported by the local cache"
+		);
+	}
+}
@@ -0,0 +1,11 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * Defines {@link org.hibernate.cache.spi.access.RegionAccessStrategy} support for the local second-level cache
+ */
+package org.hibernate.cache.spi.local.strategy;
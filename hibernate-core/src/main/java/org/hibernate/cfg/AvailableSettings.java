@@ -158,6 +158,15 @@ public interface AvailableSettings {
 	 * Maximum depth of outer join fetching
 	 */
 	String MAX_FETCH_DEPTH = "hibernate.max_fetch_depth";
+	/**
+	 * When loading entities through a load plan, initialize the entities read from the result set in chunks of
+	 * this many rows as the rows are read, rather than all of them once the whole result set has been read.  This
+	 * lowers the memory held while processing large results.  Results which fetch collections, or whose collections
+	 * are subselect fetched, are always initialized at the end.
+	 * <p/>
+	 * This setting is {@code 0}, meaning no chunking, by default.
+	 */
+	String ENTITY_INITIALIZATION_CHUNK_SIZE = "hibernate.entity_initialization_chunk_size";
 	/**
 	 * The default batch size for batch fetching
 	 */
@@ -191,9 +200,22 @@ public interface AvailableSettings {
 	 */
 	String BATCH_STRATEGY = "hibernate.jdbc.factory_class";
 	/**
-	 * Should versioned data be included in batching?
+	 * Should versioned data be included in batching?  Optimistic lock failures are then detected from the
+	 * update count of each statement of the batch.  Defaults to whether the
+	 * {@link org.hibernate.dialect.Dialect#supportsBatchUpdateRowCounts() dialect} reports reliable update counts
+	 * for batches.
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
+	/**
+	 * Should the inserts of entities whose identifier is generated by an IDENTITY column be included in batching?
+	 * When enabled, the inserts of entities made persistent without requiring immediate access to their
+	 * identifier (through {@code persist()}) are delayed until flush time, and the identifiers are read back from
+	 * {@link java.sql.PreparedStatement#getGeneratedKeys()} once the batch is executed.  Only applies when
+	 * {@link #USE_GET_GENERATED_KEYS} is enabled and the
+	 * {@link org.hibernate.dialect.Dialect#supportsGetGeneratedKeysForBatch() dialect} supports it.  Default is
+	 * {@code false}.
+	 */
+	String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
 	/**
 	 * An XSLT resource used to generate "custom" XML
 	 */
@@ -321,6 +343,13 @@ public interface AvailableSettings {
 	 * Enable the query cache (disabled by default)
 	 */
 	String USE_QUERY_CACHE = "hibernate.cache.use_query_cache";
+	/**
+	 * Enable the invalidation of the query cache by partition (disabled by default): the cached results of a query
+	 * declaring a partition (see {@link org.hibernate.Query#setCachePartition}) are only invalidated by the changes of
+	 * the rows of that partition, as identified by the {@link org.hibernate.annotations.QueryCachePartition} property
+	 * of the entities.
+	 */
+	String QUERY_CACHE_PARTITIONING = "hibernate.cache.query_cache_partitioning";
 	/**
 	 * The <tt>QueryCacheFactory</tt> implementation class.
 	 */
@@ -341,6 +370,11 @@ public interface AvailableSettings {
 	 * Enable use of structured second-level cache entries
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
+	/**
+	 * Enable use of compact, binary second-level cache entries for entities.  Takes precedence over
+	 * {@link #USE_STRUCTURED_CACHE}.  Default is {@code false}.
+	 */
+	String USE_COMPACT_CACHE_ENTRIES = "hibernate.cache.use_compact_entries";
 	/**
 	 * Enables the automatic eviction of a bi-directional association's collection cache when an element in the
 	 * ManyToOne collection is added/updated/removed without properly managing the change on the OneToMany side.
@@ -376,6 +410,12 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * The number of threads compiling the named queries when they are checked during startup.  The default, 1, checks
+	 * them in the thread building the SessionFactory; larger values check them in parallel.
+	 */
+	String QUERY_STARTUP_CHECKING_PARALLELISM = "hibernate.query.startup_check_parallelism";
+
 	/**
 	 * Auto export/update schema using hbm2ddl tool. Valid values are <tt>update</tt>,
 	 * <tt>create</tt>, <tt>create-drop</tt> and <tt>validate</tt>.
@@ -426,6 +466,24 @@ public interface AvailableSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Enable tracking, per session, of the entities which were modified, so that flushing and auto-flushing only
+	 * visit those entities (and entities whose changes cannot be intercepted).  Changes are intercepted for bytecode
+	 * enhanced entities which report their own changes and for instrumented entities without mutable properties,
+	 * provided they have no collections; entities with collections are always flushed as usual.  Unless an
+	 * interceptor or update event listeners are registered, enhanced entities which report their own changes then
+	 * no longer keep a snapshot of their loaded state.  Default is {@code false}.
+	 */
+	String TRACK_MODIFIED_ENTITIES = "hibernate.flush.track_modified_entities";
+
+	/**
+	 * Enable restricting auto-flushes to the entities (and their collections) which map to the tables a query
+	 * reads from.  Cascades are still processed for all the entities; only the dirty checking, and thus the
+	 * scheduling of updates, is limited.  The changes to other entities are flushed later on.  Default is
+	 * {@code false}.
+	 */
+	String PARTIAL_AUTO_FLUSH = "hibernate.flush.partial_auto_flush";
+
 	/**
 	 * Default precedence of null values in {@code ORDER BY} clause.  Supported options: {@code none} (default),
 	 * {@code first}, {@code last}.
@@ -455,6 +513,14 @@ public interface AvailableSettings {
 
 	String JPAQL_STRICT_COMPLIANCE= "hibernate.query.jpaql_strict_compliance";
 
+	/**
+	 * Should dotted paths in queries be resolved as Java constants only when they follow the Java naming conventions,
+	 * that is when they are made of a package, a class name starting with an upper case letter and a field name
+	 * ({@code com.acme.Type.CONSTANT})?  Otherwise a class is looked up for the qualifier of every dotted path, alias
+	 * references included.  Default is {@code true}.
+	 */
+	String CONVENTIONAL_JAVA_CONSTANTS = "hibernate.query.conventional_java_constants";
+
 	/**
 	 * When using pooled {@link org.hibernate.id.enhanced.Optimizer optimizers}, prefer interpreting the
 	 * database value as the lower (lo) boundary.  The default is to interpret it as the high boundary.
@@ -487,6 +553,20 @@ public interface AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The maximum number of entries up to which {@link org.hibernate.engine.query.spi.QueryPlanCache} grows, doubling
+	 * from {@link #QUERY_PLAN_CACHE_MAX_SIZE}, while more than a tenth of the plan lookups cause an eviction.  Default
+	 * is {@link #QUERY_PLAN_CACHE_MAX_SIZE}, which disables this adaptive sizing.
+	 */
+	String QUERY_PLAN_CACHE_ADAPTIVE_MAX_SIZE = "hibernate.query.plan_cache_adaptive_max_size";
+
+	/**
+	 * A file to which {@link org.hibernate.engine.query.spi.QueryPlanCache} saves the HQL queries of its plans when the
+	 * SessionFactory is closed, and whose queries are compiled in parallel when the next SessionFactory is built.
+	 * Plans depending on enabled filters are not saved.  No file is used by default.
+	 */
+	String QUERY_PLAN_CACHE_WARM_UP_FILE = "hibernate.query.plan_cache_warm_up_file";
+
 	/**
 	 * The maximum number of {@link org.hibernate.engine.query.spi.ParameterMetadata} maintained 
 	 * by {@link org.hibernate.engine.query.spi.QueryPlanCache}. Default is 128.
@@ -80,6 +80,7 @@ public final class Settings {
 			LOG.debugf( "Using BatchFetchStyle : " + sessionFactoryOptions.getBatchFetchStyle().name() );
 			LOG.debugf( "Default batch fetch size: %s", sessionFactoryOptions.getDefaultBatchFetchSize() );
 			LOG.debugf( "Maximum outer join fetch depth: %s", sessionFactoryOptions.getMaximumFetchDepth() );
+			LOG.debugf( "Entity initialization chunk size: %s", sessionFactoryOptions.getEntityInitializationChunkSize() );
 			LOG.debugf( "Default null ordering: %s", sessionFactoryOptions.getDefaultNullPrecedence() );
 			LOG.debugf( "Order SQL updates by primary key: %s", enabledDisabled( sessionFactoryOptions.isOrderUpdatesEnabled() ) );
 			LOG.debugf( "Order SQL inserts for batching: %s", enabledDisabled( sessionFactoryOptions.isOrderInsertsEnabled() ) );
@@ -90,19 +91,23 @@ public final class Settings {
 
 			LOG.debugf( "Query language substitutions: %s", sessionFactoryOptions.getQuerySubstitutions() );
 			LOG.debugf( "JPA query language strict compliance: %s", enabledDisabled( sessionFactoryOptions.isStrictJpaQueryLanguageCompliance() ) );
+			LOG.debugf( "Conventional Java constants in queries: %s", enabledDisabled( sessionFactoryOptions.isConventionalJavaConstants() ) );
 			LOG.debugf( "Named query checking : %s", enabledDisabled( sessionFactoryOptions.isNamedQueryStartupCheckingEnabled() ) );
 
 			LOG.debugf( "Second-level cache: %s", enabledDisabled( sessionFactoryOptions.isSecondLevelCacheEnabled() ) );
 			LOG.debugf( "Second-level query cache: %s", enabledDisabled( sessionFactoryOptions.isQueryCacheEnabled() ) );
+			LOG.debugf( "Second-level query cache partitioning: %s", enabledDisabled( sessionFactoryOptions.isQueryCachePartitioningEnabled() ) );
 			LOG.debugf( "Second-level query cache factory: %s", sessionFactoryOptions.getQueryCacheFactory() );
 			LOG.debugf( "Second-level cache region prefix: %s", sessionFactoryOptions.getCacheRegionPrefix() );
 			LOG.debugf( "Optimize second-level cache for minimal puts: %s", enabledDisabled( sessionFactoryOptions.isMinimalPutsEnabled() ) );
 			LOG.debugf( "Structured second-level cache entries: %s", enabledDisabled( sessionFactoryOptions.isStructuredCacheEntriesEnabled() ) );
+			LOG.debugf( "Compact second-level cache entries: %s", enabledDisabled( sessionFactoryOptions.isCompactCacheEntriesEnabled() ) );
 			LOG.debugf( "Second-level cache direct-reference entries: %s", enabledDisabled( sessionFactoryOptions.isDirectReferenceCacheEntriesEnabled() ) );
 			LOG.debugf( "Automatic eviction of collection cache: %s", enabledDisabled( sessionFactoryOptions.isAutoEvictCollectionCache() ) );
 
 			LOG.debugf( "JDBC batch size: %s", sessionFactoryOptions.getJdbcBatchSize() );
 			LOG.debugf( "JDBC batch updates for versioned data: %s", enabledDisabled( sessionFactoryOptions.isJdbcBatchVersionedData() ) );
+			LOG.debugf( "JDBC batch inserts for identity data: %s", enabledDisabled( sessionFactoryOptions.isJdbcBatchIdentityInserts() ) );
 			LOG.debugf( "Scrollable result sets: %s", enabledDisabled( sessionFactoryOptions.isScrollableResultSetsEnabled() ) );
 			LOG.debugf( "Wrap result sets: %s", enabledDisabled( sessionFactoryOptions.isWrapResultSetsEnabled() ) );
 			LOG.debugf( "JDBC3 getGeneratedKeys(): %s", enabledDisabled( sessionFactoryOptions.isGetGeneratedKeysEnabled() ) );
@@ -184,6 +189,10 @@ public final class Settings {
 		return sessionFactoryOptions.getMaximumFetchDepth();
 	}
 
+	public int getEntityInitializationChunkSize() {
+		return sessionFactoryOptions.getEntityInitializationChunkSize();
+	}
+
 	public NullPrecedence getDefaultNullPrecedence() {
 		return sessionFactoryOptions.getDefaultNullPrecedence();
 	}
@@ -211,6 +220,10 @@ public final class Settings {
 		return sessionFactoryOptions.isStrictJpaQueryLanguageCompliance();
 	}
 
+	public boolean isConventionalJavaConstants() {
+		return sessionFactoryOptions.isConventionalJavaConstants();
+	}
+
 	public boolean isNamedQueryStartupCheckingEnabled() {
 		return sessionFactoryOptions.isNamedQueryStartupCheckingEnabled();
 	}
@@ -223,6 +236,10 @@ public final class Settings {
 		return sessionFactoryOptions.isQueryCacheEnabled();
 	}
 
+	public boolean isQueryCachePartitioningEnabled() {
+		return sessionFactoryOptions.isQueryCachePartitioningEnabled();
+	}
+
 	public QueryCacheFactory getQueryCacheFactory() {
 		return sessionFactoryOptions.getQueryCacheFactory();
 	}
@@ -239,6 +256,10 @@ public final class Settings {
 		return sessionFactoryOptions.isStructuredCacheEntriesEnabled();
 	}
 
+	public boolean isCompactCacheEntriesEnabled() {
+		return sessionFactoryOptions.isCompactCacheEntriesEnabled();
+	}
+
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return sessionFactoryOptions.isDirectReferenceCacheEntriesEnabled();
 	}
@@ -272,6 +293,10 @@ public final class Settings {
 		return sessionFactoryOptions.isJdbcBatchVersionedData();
 	}
 
+	public boolean isJdbcBatchIdentityInserts() {
+		return sessionFactoryOptions.isJdbcBatchIdentityInserts();
+	}
+
 	public Integer getJdbcFetchSize() {
 		return sessionFactoryOptions.getJdbcFetchSize();
 	}
@@ -18,6 +18,7 @@ import org.hibernate.annotations.Generated;
 import org.hibernate.annotations.Immutable;
 import org.hibernate.annotations.NaturalId;
 import org.hibernate.annotations.OptimisticLock;
+import org.hibernate.annotations.QueryCachePartition;
 import org.hibernate.annotations.ValueGenerationType;
 import org.hibernate.annotations.common.AssertionFailure;
 import org.hibernate.annotations.common.reflection.XClass;
@@ -281,6 +282,13 @@ public class PropertyBinder {
 			prop.setNaturalIdentifier( true );
 		}
 
+		if ( property != null && property.isAnnotationPresent( QueryCachePartition.class ) ) {
+			if ( holder != null && holder.isComponent() ) {
+				throw new AnnotationException( "@QueryCachePartition is not valid on the properties of embeddables: " + name );
+			}
+			prop.setQueryCachePartition( true );
+		}
+
 		// HHH-4635 -- needed for dialect-specific property ordering
 		Lob lob = property != null ? property.getAnnotation( Lob.class ) : null;
 		prop.setLob( lob != null );
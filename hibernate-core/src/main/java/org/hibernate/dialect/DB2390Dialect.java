@@ -55,6 +55,12 @@ public class DB2390Dialect extends DB2Dialect {
 		return "select identity_val_local() from sysibm.sysdummy1";
 	}
 
+	@Override
+	public boolean supportsValuesListForInsert() {
+		// multi-row inserts need the "for n rows" syntax instead
+		return false;
+	}
+
 	@Override
 	public boolean supportsLimit() {
 		return true;
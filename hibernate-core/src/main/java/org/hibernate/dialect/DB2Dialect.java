@@ -483,6 +483,11 @@ public class DB2Dialect extends Dialect {
 		return false;
 	}
 
+	@Override
+	public boolean supportsValuesListForInsert() {
+		return true;
+	}
+
 	@Override
 	protected SqlTypeDescriptor getSqlTypeDescriptorOverride(int sqlCode) {
 		return sqlCode == Types.BOOLEAN ? SmallIntTypeDescriptor.INSTANCE : super.getSqlTypeDescriptorOverride( sqlCode );
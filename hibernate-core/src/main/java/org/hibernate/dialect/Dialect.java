@@ -855,6 +855,17 @@ public abstract class Dialect implements ConversionContext {
 		return null;
 	}
 
+	/**
+	 * Does the JDBC driver return the identity values generated by each statement of a batch from
+	 * {@link java.sql.PreparedStatement#getGeneratedKeys()}, once the batch is executed?
+	 *
+	 * @return True if the keys generated by batched inserts can be read back; false otherwise.
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	public boolean supportsGetGeneratedKeysForBatch() {
+		return false;
+	}
+
 
 	// SEQUENCE support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -2363,6 +2374,44 @@ public abstract class Dialect implements ConversionContext {
 		return false;
 	}
 
+	/**
+	 * Does this dialect support inserting several rows with a single statement
+	 * through a values list?
+	 * <p/>
+	 * For example, "insert into PERSON (FIRST_NAME, LAST_NAME) values (?, ?), (?, ?)".
+	 *
+	 * @return True if this SQL dialect is known to support values lists in
+	 * insert statements; false otherwise.
+	 * @see org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatchBuilder
+	 */
+	public boolean supportsValuesListForInsert() {
+		return false;
+	}
+
+	/**
+	 * Return the limit that the database or its JDBC driver places on the number of parameters bound to a single
+	 * statement.  Multi-row inserts are split so that no statement binds more.  The default, {@code 2000}, stays
+	 * below the limits of all the supported databases (the lowest being the 2100 of SQL Server).
+	 *
+	 * @return The limit
+	 * @see org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatchBuilder
+	 */
+	public int getBindParameterCountLimit() {
+		return 2000;
+	}
+
+	/**
+	 * Does the JDBC driver report the update count of each statement of a batch from
+	 * {@link java.sql.Statement#executeBatch()}?  If so, optimistic lock failures can be detected from the
+	 * update counts, and versioned data is batched by default.
+	 *
+	 * @return True if batches report accurate update counts; false otherwise.
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_VERSIONED_DATA
+	 */
+	public boolean supportsBatchUpdateRowCounts() {
+		return false;
+	}
+
 	/**
 	 * Should LOBs (both BLOB and CLOB) be bound using stream operations (i.e.
 	 * {@link java.sql.PreparedStatement#setBinaryStream}).
@@ -446,6 +446,16 @@ public class H2Dialect extends Dialect {
 	public boolean supportsTuplesInSubqueries() {
 		return false;
 	}
+
+	@Override
+	public boolean supportsValuesListForInsert() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsBatchUpdateRowCounts() {
+		return true;
+	}
 	
 	@Override
 	public boolean dropConstraints() {
@@ -672,4 +672,9 @@ public class HSQLDialect extends Dialect {
 	public boolean supportsTupleDistinctCounts() {
 		return false;
 	}
+
+	@Override
+	public boolean supportsBatchUpdateRowCounts() {
+		return true;
+	}
 }
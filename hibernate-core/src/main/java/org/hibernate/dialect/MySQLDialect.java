@@ -374,6 +374,27 @@ public class MySQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsValuesListForInsert() {
+		return true;
+	}
+
+	@Override
+	public int getBindParameterCountLimit() {
+		// the parameter count of a prepared statement is sent as two bytes
+		return 65535;
+	}
+
+	@Override
+	public boolean supportsBatchUpdateRowCounts() {
+		return true;
+	}
+
+	@Override
+	public boolean supportsGetGeneratedKeysForBatch() {
+		return true;
+	}
+
 	@Override
 	public String renderOrderByElement(String expression, String collation, String order, NullPrecedence nulls) {
 		final StringBuilder orderByElement = new StringBuilder();
@@ -41,6 +41,12 @@ public class Oracle12cDialect extends Oracle10gDialect {
 		return "generated as identity";
 	}
 
+	@Override
+	public boolean supportsBatchUpdateRowCounts() {
+		// earlier drivers report Statement.SUCCESS_NO_INFO for each statement of a batch
+		return true;
+	}
+
 	@Override
 	public LimitHandler getLimitHandler() {
 		return SQL2008StandardLimitHandler.INSTANCE;
@@ -528,6 +528,11 @@ public class PostgreSQL81Dialect extends Dialect {
 	public boolean supportsRowValueConstructorSyntax() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsBatchUpdateRowCounts() {
+		return true;
+	}
 	
 	@Override
 	public String getForUpdateNowaitString() {
@@ -21,6 +21,22 @@ public class PostgreSQL82Dialect extends PostgreSQL81Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsValuesListForInsert() {
+		return true;
+	}
+
+	@Override
+	public int getBindParameterCountLimit() {
+		// the JDBC driver sends the parameter count as a signed two-byte integer
+		return Short.MAX_VALUE;
+	}
+
+	@Override
+	public boolean supportsGetGeneratedKeysForBatch() {
+		return true;
+	}
+
 	@Override
 	public void contributeTypes(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
 		super.contributeTypes( typeContributions, serviceRegistry );
@@ -180,6 +180,11 @@ public class SQLServerDialect extends AbstractTransactSQLDialect {
 		return false;
 	}
 
+	@Override
+	public boolean supportsBatchUpdateRowCounts() {
+		return true;
+	}
+
 	@Override
 	public boolean doesReadCommittedCauseWritersToBlockReaders() {
 		// here assume SQLServer2005 using snapshot isolation, which does not have this problem
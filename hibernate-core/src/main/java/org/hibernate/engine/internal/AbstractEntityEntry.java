@@ -186,6 +186,10 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 			//memory optimization
 			loadedState = null;
 		}
+		else if ( status == Status.MANAGED && isLoadedStateDiscardable() ) {
+			//the entity tracks its own changes
+			loadedState = null;
+		}
 
 		final Status currentStatus = this.getStatus();
 
@@ -271,7 +275,7 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 
 	@Override
 	public void postUpdate(Object entity, Object[] updatedState, Object nextVersion) {
-		this.loadedState = updatedState;
+		this.loadedState = isLoadedStateDiscardable() ? null : updatedState;
 		setLockMode( LockMode.WRITE );
 
 		if ( getPersister().isVersioned() ) {
@@ -341,8 +345,8 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 	@SuppressWarnings( {"SimplifiableIfStatement"})
 	private boolean isUnequivocallyNonDirty(Object entity) {
 
-		if(entity instanceof SelfDirtinessTracker) {
-			return ((SelfDirtinessTracker) entity).$$_hibernate_hasDirtyAttributes();
+		if ( entity instanceof SelfDirtinessTracker ) {
+			return !getPersister().hasCollections() && !( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
 		}
 
 		final CustomEntityDirtinessStrategy customEntityDirtinessStrategy =
@@ -375,7 +379,9 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 	@Override
 	public void forceLocked(Object entity, Object nextVersion) {
 		version = nextVersion;
-		loadedState[ persister.getVersionProperty() ] = version;
+		if ( loadedState != null ) {
+			loadedState[ persister.getVersionProperty() ] = version;
+		}
 		// TODO:  use LockMode.PESSIMISTIC_FORCE_INCREMENT
 		//noinspection deprecation
 		setLockMode( LockMode.FORCE );
@@ -414,9 +420,22 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 					null,
 					CachedNaturalIdValueSource.LOAD
 			);
+			if ( entity instanceof SelfDirtinessTracker ) {
+				// changes made while read-only are not to be flushed, just like with the loaded state snapshot
+				( (SelfDirtinessTracker) entity ).$$_hibernate_clearDirtyAttributes();
+			}
+			if ( isLoadedStateDiscardable() ) {
+				loadedState = null;
+			}
 		}
 	}
 
+	private boolean isLoadedStateDiscardable() {
+		return persistenceContext != null
+				&& persister != null
+				&& ModifiedEntityTracker.isLoadedStateDiscardable( persister, persistenceContext.getSession() );
+	}
+
 	@Override
 	public String toString() {
 		return "EntityEntry" +
@@ -470,6 +489,13 @@ public abstract class AbstractEntityEntry implements Serializable, EntityEntry {
 		}
 	}
 
+	@Override
+	public void entityModified(Object entity) {
+		if ( persistenceContext != null ) {
+			persistenceContext.registerModifiedEntity( entity );
+		}
+	}
+
 	public PersistenceContext getPersistenceContext(){
 		return persistenceContext;
 	}
@@ -0,0 +1,411 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityKey;
+
+/**
+ * Index of the entity instances and database snapshots held by a {@link StatefulPersistenceContext},
+ * by {@link EntityKey}.
+ * <p/>
+ * Rather than keeping one {@link java.util.HashMap} per kind of value, the entity and the snapshot associated
+ * with a key share a single slot of an open-addressing table made of parallel arrays.  Each key is therefore
+ * stored once, and associating a value with a key does not allocate any entry object.  Collisions are resolved
+ * by linear probing and removals shift the following entries back, so that no tombstones are needed.
+ * <p/>
+ * Not thread safe, like the persistence context itself.
+ */
+public final class EntityKeyIndex {
+	private static final int MINIMUM_CAPACITY = 16;
+
+	private EntityKey[] keys;
+	private Object[] entities;
+	private Object[] snapshots;
+
+	// number of occupied slots, number of non-null entities and snapshots respectively
+	private int size;
+	private int entityCount;
+	private int snapshotCount;
+
+	private int resizeThreshold;
+	private int modCount;
+
+	private transient Map<EntityKey, Object> entitiesByKey;
+	private transient Map<EntityKey, Object> snapshotsByKey;
+
+	/**
+	 * Constructs an EntityKeyIndex
+	 *
+	 * @param expectedSize The number of keys expected to be held
+	 */
+	public EntityKeyIndex(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor at or below 2/3
+		int capacity = MINIMUM_CAPACITY;
+		while ( capacity * 2 < expectedSize * 3 ) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private void allocate(int capacity) {
+		keys = new EntityKey[capacity];
+		entities = new Object[capacity];
+		snapshots = new Object[capacity];
+		resizeThreshold = capacity * 2 / 3;
+	}
+
+	/**
+	 * Get the entity associated with the given key.
+	 *
+	 * @param key The entity key
+	 *
+	 * @return The entity, or {@code null}
+	 */
+	public Object getEntity(EntityKey key) {
+		final int slot = findSlot( key );
+		return slot < 0 ? null : entities[slot];
+	}
+
+	/**
+	 * Is there an entity associated with the given key?
+	 *
+	 * @param key The entity key
+	 *
+	 * @return {@code true} if an entity is associated with the key
+	 */
+	public boolean containsEntity(EntityKey key) {
+		return getEntity( key ) != null;
+	}
+
+	/**
+	 * Associate the given entity with the given key.
+	 *
+	 * @param key The entity key
+	 * @param entity The entity
+	 *
+	 * @return The entity previously associated with the key, or {@code null}
+	 */
+	public Object putEntity(EntityKey key, Object entity) {
+		final int slot = findOrCreateSlot( key );
+		final Object previous = entities[slot];
+		entities[slot] = entity;
+		if ( previous == null ) {
+			entityCount++;
+		}
+		return previous;
+	}
+
+	/**
+	 * Remove the entity associated with the given key, keeping any snapshot.
+	 *
+	 * @param key The entity key
+	 *
+	 * @return The removed entity, or {@code null}
+	 */
+	public Object removeEntity(EntityKey key) {
+		final int slot = findSlot( key );
+		if ( slot < 0 ) {
+			return null;
+		}
+		final Object previous = entities[slot];
+		if ( previous != null ) {
+			entityCount--;
+			entities[slot] = null;
+			if ( snapshots[slot] == null ) {
+				removeSlot( slot );
+			}
+		}
+		return previous;
+	}
+
+	/**
+	 * Get the database snapshot associated with the given key.
+	 *
+	 * @param key The entity key
+	 *
+	 * @return The snapshot, or {@code null}
+	 */
+	public Object getSnapshot(EntityKey key) {
+		final int slot = findSlot( key );
+		return slot < 0 ? null : snapshots[slot];
+	}
+
+	/**
+	 * Associate the given database snapshot with the given key.
+	 *
+	 * @param key The entity key
+	 * @param snapshot The snapshot
+	 */
+	public void putSnapshot(EntityKey key, Object snapshot) {
+		final int slot = findOrCreateSlot( key );
+		if ( snapshots[slot] == null ) {
+			snapshotCount++;
+		}
+		snapshots[slot] = snapshot;
+	}
+
+	/**
+	 * Remove both the entity and the database snapshot associated with the given key.
+	 *
+	 * @param key The entity key
+	 *
+	 * @return The removed entity, or {@code null}
+	 */
+	public Object remove(EntityKey key) {
+		final int slot = findSlot( key );
+		if ( slot < 0 ) {
+			return null;
+		}
+		final Object previous = entities[slot];
+		if ( previous != null ) {
+			entityCount--;
+		}
+		if ( snapshots[slot] != null ) {
+			snapshotCount--;
+		}
+		removeSlot( slot );
+		return previous;
+	}
+
+	/**
+	 * Remove all the entries.
+	 */
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( keys, null );
+			Arrays.fill( entities, null );
+			Arrays.fill( snapshots, null );
+			size = 0;
+			entityCount = 0;
+			snapshotCount = 0;
+			modCount++;
+		}
+	}
+
+	/**
+	 * A live, read-only view of the entities, by key.
+	 *
+	 * @return The entities view
+	 */
+	public Map<EntityKey, Object> getEntitiesByKey() {
+		if ( entitiesByKey == null ) {
+			entitiesByKey = new ValuesView( true );
+		}
+		return entitiesByKey;
+	}
+
+	/**
+	 * A live, read-only view of the database snapshots, by key.
+	 *
+	 * @return The snapshots view
+	 */
+	public Map<EntityKey, Object> getSnapshotsByKey() {
+		if ( snapshotsByKey == null ) {
+			snapshotsByKey = new ValuesView( false );
+		}
+		return snapshotsByKey;
+	}
+
+	private int indexFor(int hashCode) {
+		// spread the bits, EntityKey hash codes of sequential identifiers are themselves sequential
+		final int h = hashCode * 0x9E3779B9;
+		return ( h ^ ( h >>> 16 ) ) & ( keys.length - 1 );
+	}
+
+	private int findSlot(EntityKey key) {
+		final int mask = keys.length - 1;
+		int slot = indexFor( key.hashCode() );
+		while ( true ) {
+			final EntityKey candidate = keys[slot];
+			if ( candidate == null ) {
+				return -1;
+			}
+			if ( candidate == key || ( candidate.hashCode() == key.hashCode() && candidate.equals( key ) ) ) {
+				return slot;
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+	}
+
+	private int findOrCreateSlot(EntityKey key) {
+		int slot = findSlot( key );
+		if ( slot >= 0 ) {
+			return slot;
+		}
+		if ( size >= resizeThreshold ) {
+			resize();
+		}
+		final int mask = keys.length - 1;
+		slot = indexFor( key.hashCode() );
+		while ( keys[slot] != null ) {
+			slot = ( slot + 1 ) & mask;
+		}
+		keys[slot] = key;
+		size++;
+		modCount++;
+		return slot;
+	}
+
+	private void resize() {
+		final EntityKey[] oldKeys = keys;
+		final Object[] oldEntities = entities;
+		final Object[] oldSnapshots = snapshots;
+		allocate( oldKeys.length << 1 );
+
+		final int mask = keys.length - 1;
+		for ( int i = 0; i < oldKeys.length; i++ ) {
+			if ( oldKeys[i] != null ) {
+				int slot = indexFor( oldKeys[i].hashCode() );
+				while ( keys[slot] != null ) {
+					slot = ( slot + 1 ) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				entities[slot] = oldEntities[i];
+				snapshots[slot] = oldSnapshots[i];
+			}
+		}
+	}
+
+	private void removeSlot(int slot) {
+		final int mask = keys.length - 1;
+		int gap = slot;
+		int next = slot;
+		while ( true ) {
+			next = ( next + 1 ) & mask;
+			final EntityKey key = keys[next];
+			if ( key == null ) {
+				break;
+			}
+			// the entry can fill the gap unless its ideal slot lies (cyclically) after the gap
+			final int ideal = indexFor( key.hashCode() );
+			final boolean movable = next > gap
+					? ideal <= gap || ideal > next
+					: ideal <= gap && ideal > next;
+			if ( movable ) {
+				keys[gap] = key;
+				entities[gap] = entities[next];
+				snapshots[gap] = snapshots[next];
+				gap = next;
+			}
+		}
+		keys[gap] = null;
+		entities[gap] = null;
+		snapshots[gap] = null;
+		size--;
+		modCount++;
+	}
+
+	/**
+	 * Read-only Map view over either the entities or the snapshots.
+	 */
+	private final class ValuesView extends AbstractMap<EntityKey, Object> {
+		private final boolean entityValues;
+		private Set<Map.Entry<EntityKey, Object>> entrySet;
+
+		private ValuesView(boolean entityValues) {
+			this.entityValues = entityValues;
+		}
+
+		private Object[] valueArray() {
+			return entityValues ? entities : snapshots;
+		}
+
+		@Override
+		public int size() {
+			return entityValues ? entityCount : snapshotCount;
+		}
+
+		@Override
+		public Object get(Object key) {
+			if ( !( key instanceof EntityKey ) ) {
+				return null;
+			}
+			final int slot = findSlot( (EntityKey) key );
+			return slot < 0 ? null : valueArray()[slot];
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return get( key ) != null;
+		}
+
+		@Override
+		public Set<Map.Entry<EntityKey, Object>> entrySet() {
+			if ( entrySet == null ) {
+				entrySet = new AbstractSet<Map.Entry<EntityKey, Object>>() {
+					@Override
+					public Iterator<Map.Entry<EntityKey, Object>> iterator() {
+						return new EntryIterator( valueArray() );
+					}
+
+					@Override
+					public int size() {
+						return ValuesView.this.size();
+					}
+				};
+			}
+			return entrySet;
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Map.Entry<EntityKey, Object>> {
+		private final EntityKey[] iteratedKeys = keys;
+		private final Object[] iteratedValues;
+		private final int expectedModCount = modCount;
+		private int next = -1;
+
+		private EntryIterator(Object[] iteratedValues) {
+			this.iteratedValues = iteratedValues;
+			advance();
+		}
+
+		private void advance() {
+			do {
+				next++;
+			} while ( next < iteratedKeys.length && iteratedValues[next] == null );
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < iteratedKeys.length;
+		}
+
+		@Override
+		public Map.Entry<EntityKey, Object> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			final Map.Entry<EntityKey, Object> entry = new AbstractMap.SimpleImmutableEntry<EntityKey, Object>(
+					iteratedKeys[next],
+					iteratedValues[next]
+			);
+			advance();
+			return entry;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException( "EntityKeyIndex views are read-only" );
+		}
+	}
+}
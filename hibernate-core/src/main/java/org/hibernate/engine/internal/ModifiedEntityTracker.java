@@ -0,0 +1,267 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.bytecode.instrumentation.spi.FieldInterceptor;
+import org.hibernate.engine.OptimisticLockStyle;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.hibernate.engine.spi.ModificationReportingEntity;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Keeps track of the entities of a {@link StatefulPersistenceContext} which flushing needs to visit, when
+ * {@link org.hibernate.cfg.AvailableSettings#TRACK_MODIFIED_ENTITIES} is enabled.
+ * <p/>
+ * Entities without collections whose modifications are intercepted are said to be <i>tracked</i>: bytecode
+ * enhanced entities which report their own changes (see {@link ModificationReportingEntity}) are reported as
+ * modified by their enhanced setters (through {@link EntityEntry#entityModified}), and instrumented entities
+ * without mutable properties by their {@link org.hibernate.bytecode.instrumentation.spi.FieldInterceptor}.
+ * <p/>
+ * Entities with collection attributes are out of scope, and always flushed as usual: flushing an entity also
+ * marks its collections as reached, and the collections which are not reached are handled as dereferenced.
+ * Skipping such an entity would thus require visiting its collections anyway.
+ * <p/>
+ * A tracked entity which was not
+ * reported since the last flush is known to be clean and flushing, including auto-flushing before a query, does
+ * not need to look at it.  The other entities are flushed as usual: as long as the persistence
+ * context holds any of those, all the entries are iterated and only the clean tracked entities are skipped;
+ * otherwise only the reported entities are visited.
+ * <p/>
+ * Not thread safe, like the persistence context itself.
+ */
+public final class ModifiedEntityTracker {
+	private static final int INIT_COLL_SIZE = 8;
+
+	private final PersistenceContext persistenceContext;
+
+	// the tracked entities which were reported as modified, or which changed status, in the order of the reports
+	private final IdentityMap<Object, Object> modifiedEntities = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
+	// the number of entities held by the persistence context which are not tracked
+	private int untrackedEntityCount;
+
+	/**
+	 * Constructs a ModifiedEntityTracker
+	 *
+	 * @param persistenceContext The persistence context whose entities are tracked
+	 */
+	public ModifiedEntityTracker(PersistenceContext persistenceContext) {
+		this.persistenceContext = persistenceContext;
+	}
+
+	/**
+	 * Are the entities of the given persister tracked, that is, do they report their own modifications?
+	 *
+	 * @param persister The entity persister
+	 *
+	 * @return {@code true} if the entities are tracked
+	 */
+	public static boolean isTracked(EntityPersister persister) {
+		if ( persister.hasCollections() ) {
+			return false;
+		}
+		// like dirty checking, do not trust the field interceptor for in-place changes of mutable values
+		return isSelfTracking( persister )
+				|| ( persister.getInstrumentationMetadata().isInstrumented() && !persister.hasMutableProperties() );
+	}
+
+	private static boolean isSelfTracking(EntityPersister persister) {
+		// entities enhanced without the modification reports (or tracking their changes by hand) are not trusted
+		final Class mappedClass = persister.getMappedClass();
+		return mappedClass != null
+				&& ModificationReportingEntity.class.isAssignableFrom( mappedClass )
+				&& ManagedEntity.class.isAssignableFrom( mappedClass );
+	}
+
+	/**
+	 * Can the snapshot of the loaded state of the entities of the given persister be dropped, once they are
+	 * managed?  That is the case when modified entities are tracked and the entities are tracked and track their
+	 * own changes, unless some feature of the mapping needs the loaded state: natural ids, lazy properties,
+	 * optimistic locking on all or dirty columns and orphan removal.  The loaded state is also kept whenever an
+	 * interceptor or update event listeners are registered, since they are given the previous state.
+	 *
+	 * @param persister The entity persister
+	 * @param session The session
+	 *
+	 * @return {@code true} if the loaded state does not need to be kept
+	 */
+	public static boolean isLoadedStateDiscardable(EntityPersister persister, SessionImplementor session) {
+		if ( !session.getFactory().getSessionFactoryOptions().isModifiedEntityTrackingEnabled()
+				|| !isTracked( persister )
+				|| !isSelfTracking( persister )
+				|| persister.hasNaturalIdentifier()
+				|| persister.hasLazyProperties()
+				|| session.getInterceptor() != EmptyInterceptor.INSTANCE
+				|| hasUpdateListeners( session ) ) {
+			return false;
+		}
+		final OptimisticLockStyle optimisticLockStyle = persister.getEntityMetamodel().getOptimisticLockStyle();
+		if ( optimisticLockStyle == OptimisticLockStyle.ALL || optimisticLockStyle == OptimisticLockStyle.DIRTY ) {
+			return false;
+		}
+		for ( CascadeStyle cascadeStyle : persister.getPropertyCascadeStyles() ) {
+			if ( cascadeStyle.hasOrphanDelete() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasUpdateListeners(SessionImplementor session) {
+		final EventListenerRegistry eventListenerRegistry = session.getFactory().getServiceRegistry()
+				.getService( EventListenerRegistry.class );
+		return !eventListenerRegistry.getEventListenerGroup( EventType.PRE_UPDATE ).isEmpty()
+				|| !eventListenerRegistry.getEventListenerGroup( EventType.POST_UPDATE ).isEmpty()
+				|| !eventListenerRegistry.getEventListenerGroup( EventType.POST_COMMIT_UPDATE ).isEmpty();
+	}
+
+	/**
+	 * Notification that an entity was associated with the persistence context.
+	 *
+	 * @param entity The entity
+	 * @param entry The associated entry
+	 * @param alreadyAssociated Whether the entity was already associated with the persistence context
+	 */
+	public void entryAdded(Object entity, EntityEntry entry, boolean alreadyAssociated) {
+		if ( !isTracked( entry.getPersister() ) ) {
+			if ( !alreadyAssociated ) {
+				untrackedEntityCount++;
+			}
+		}
+		else if ( entry.getStatus() != Status.LOADING ) {
+			modifiedEntities.put( entity, null );
+		}
+	}
+
+	/**
+	 * Notification that an entity was disassociated from the persistence context.
+	 *
+	 * @param entity The entity
+	 * @param entry The entry which was associated with the entity
+	 */
+	public void entryRemoved(Object entity, EntityEntry entry) {
+		if ( !isTracked( entry.getPersister() ) ) {
+			if ( untrackedEntityCount > 0 ) {
+				untrackedEntityCount--;
+			}
+		}
+		else {
+			modifiedEntities.remove( entity );
+		}
+	}
+
+	/**
+	 * Notification that a tracked entity was modified, or changed status, and thus needs to be visited by the
+	 * next flush.
+	 *
+	 * @param entity The entity
+	 */
+	public void entityModified(Object entity) {
+		modifiedEntities.put( entity, null );
+	}
+
+	/**
+	 * Builds the entity/EntityEntry combos which flushing needs to visit, safe from reentrant access.
+	 * <p/>
+	 * Tracked entities which are known to be clean are left out, and forgotten until reported again.
+	 *
+	 * @return The entity/EntityEntry combos to flush
+	 */
+	@SuppressWarnings("unchecked")
+	public Map.Entry<Object, EntityEntry>[] flushableEntityEntries() {
+		final List<Map.Entry<Object, EntityEntry>> flushable;
+		if ( untrackedEntityCount > 0 ) {
+			final Map.Entry<Object, EntityEntry>[] allEntries = persistenceContext.reentrantSafeEntityEntries();
+			flushable = new ArrayList<Map.Entry<Object, EntityEntry>>( allEntries.length );
+			modifiedEntities.clear();
+			for ( Map.Entry<Object, EntityEntry> entry : allEntries ) {
+				if ( !isTracked( entry.getValue().getPersister() ) ) {
+					flushable.add( entry );
+				}
+				else if ( needsFlush( entry.getKey(), entry.getValue() ) ) {
+					flushable.add( entry );
+					modifiedEntities.put( entry.getKey(), null );
+				}
+			}
+		}
+		else {
+			flushable = new ArrayList<Map.Entry<Object, EntityEntry>>( modifiedEntities.size() );
+			final Iterator<Object> entities = modifiedEntities.keyIterator();
+			while ( entities.hasNext() ) {
+				final Object entity = entities.next();
+				final EntityEntry entry = persistenceContext.getEntry( entity );
+				if ( entry != null && needsFlush( entity, entry ) ) {
+					flushable.add( new AbstractMap.SimpleImmutableEntry<Object, EntityEntry>( entity, entry ) );
+				}
+			}
+			// only the entities which still need flushing are remembered
+			modifiedEntities.clear();
+			for ( Map.Entry<Object, EntityEntry> entry : flushable ) {
+				modifiedEntities.put( entry.getKey(), null );
+			}
+		}
+		return flushable.toArray( new Map.Entry[flushable.size()] );
+	}
+
+	private static boolean needsFlush(Object entity, EntityEntry entry) {
+		final Status status = entry.getStatus();
+		if ( status == Status.LOADING || status == Status.GONE ) {
+			return false;
+		}
+		if ( status == Status.MANAGED || status == Status.READ_ONLY ) {
+			return entry.isModifiableEntity() && isDirty( entity, entry.getPersister() );
+		}
+		return true;
+	}
+
+	private static boolean isDirty(Object entity, EntityPersister persister) {
+		if ( entity instanceof SelfDirtinessTracker ) {
+			return ( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+		}
+		final FieldInterceptor interceptor = persister.getInstrumentationMetadata().extractInterceptor( entity );
+		return interceptor == null || interceptor.isDirty();
+	}
+
+	/**
+	 * Starts over from the entities currently held by the persistence context, for example after
+	 * deserialization; all the tracked entities are considered modified.
+	 */
+	public void reset() {
+		clear();
+		for ( Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries() ) {
+			if ( isTracked( entry.getValue().getPersister() ) ) {
+				modifiedEntities.put( entry.getKey(), null );
+			}
+			else {
+				untrackedEntityCount++;
+			}
+		}
+	}
+
+	/**
+	 * Forget about all the entities.
+	 */
+	public void clear() {
+		modifiedEntities.clear();
+		untrackedEntityCount = 0;
+	}
+}
@@ -84,8 +84,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private SessionImplementor session;
 
-	// Loaded entity instances, by EntityKey
-	private Map<EntityKey, Object> entitiesByKey;
+	// Loaded entity instances, and snapshots of current database state
+	// for entities that have *not* been loaded, by EntityKey
+	private EntityKeyIndex entityKeyIndex;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private Map<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -96,10 +97,6 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	// Entity proxies, by EntityKey
 	private ConcurrentMap<EntityKey, Object> proxiesByKey;
 
-	// Snapshots of current database state for entities
-	// that have *not* been loaded
-	private Map<EntityKey, Object> entitySnapshotsByKey;
-
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private Map<Object, PersistentCollection> arrayHolders;
 
@@ -138,6 +135,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
 
+	// the entities flushing needs to visit, only when enabled
+	private ModifiedEntityTracker modifiedEntityTracker;
+
 
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
@@ -147,11 +147,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SessionImplementor session) {
 		this.session = session;
 
-		entitiesByKey = new HashMap<EntityKey, Object>( INIT_COLL_SIZE );
+		entityKeyIndex = new EntityKeyIndex( INIT_COLL_SIZE );
 		entitiesByUniqueKey = new HashMap<EntityUniqueKey, Object>( INIT_COLL_SIZE );
 		//noinspection unchecked
 		proxiesByKey = new ConcurrentReferenceHashMap<EntityKey, Object>( INIT_COLL_SIZE, .75f, 1, ConcurrentReferenceHashMap.ReferenceType.STRONG, ConcurrentReferenceHashMap.ReferenceType.WEAK, null );
-		entitySnapshotsByKey = new HashMap<EntityKey, Object>( INIT_COLL_SIZE );
 
 		entityEntryContext = new EntityEntryContext();
 //		entityEntries = IdentityMap.instantiateSequenced( INIT_COLL_SIZE );
@@ -163,6 +162,10 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		nullifiableEntityKeys = new HashSet<EntityKey>();
 
+		if ( session.getFactory().getSessionFactoryOptions().isModifiedEntityTrackingEnabled() ) {
+			modifiedEntityTracker = new ModifiedEntityTracker( this );
+		}
+
 		initTransientState();
 	}
 
@@ -223,12 +226,14 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			aCollectionEntryArray.getKey().unsetSession( getSession() );
 		}
 		arrayHolders.clear();
-		entitiesByKey.clear();
+		entityKeyIndex.clear();
 		entitiesByUniqueKey.clear();
 		entityEntryContext.clear();
 //		entityEntries.clear();
+		if ( modifiedEntityTracker != null ) {
+			modifiedEntityTracker.clear();
+		}
 		parentsByChild.clear();
-		entitySnapshotsByKey.clear();
 		collectionsByKey.clear();
 		collectionEntries.clear();
 		if ( unownedCollections != null ) {
@@ -266,6 +271,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public void setEntryStatus(EntityEntry entry, Status status) {
 		entry.setStatus( status );
 		setHasNonReadOnlyEnties( status );
+		if ( modifiedEntityTracker != null && status == Status.DELETED ) {
+			final Object entity = getEntity( entry.getEntityKey() );
+			if ( entity != null ) {
+				modifiedEntityTracker.entityModified( entity );
+			}
+		}
 	}
 
 	private void setHasNonReadOnlyEnties(Status status) {
@@ -293,13 +304,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public Object[] getDatabaseSnapshot(Serializable id, EntityPersister persister) throws HibernateException {
 		final EntityKey key = session.generateEntityKey( id, persister );
-		final Object cached = entitySnapshotsByKey.get( key );
+		final Object cached = entityKeyIndex.getSnapshot( key );
 		if ( cached != null ) {
 			return cached == NO_ROW ? null : (Object[]) cached;
 		}
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
-			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
+			entityKeyIndex.putSnapshot( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
 		}
 	}
@@ -357,7 +368,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Object[] getCachedDatabaseSnapshot(EntityKey key) {
-		final Object snapshot = entitySnapshotsByKey.get( key );
+		final Object snapshot = entityKeyIndex.getSnapshot( key );
 		if ( snapshot == NO_ROW ) {
 			throw new IllegalStateException(
 					"persistence context reported no row snapshot for "
@@ -369,23 +380,24 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
-		entitiesByKey.put( key, entity );
+		entityKeyIndex.putEntity( key, entity );
 		getBatchFetchQueue().removeBatchLoadableEntityKey( key );
 	}
 
 	@Override
 	public Object getEntity(EntityKey key) {
-		return entitiesByKey.get( key );
+		return entityKeyIndex.getEntity( key );
 	}
 
 	@Override
 	public boolean containsEntity(EntityKey key) {
-		return entitiesByKey.containsKey( key );
+		return entityKeyIndex.containsEntity( key );
 	}
 
 	@Override
 	public Object removeEntity(EntityKey key) {
-		final Object entity = entitiesByKey.remove( key );
+		// drops the snapshot as well
+		final Object entity = entityKeyIndex.remove( key );
 		final Iterator itr = entitiesByUniqueKey.values().iterator();
 		while ( itr.hasNext() ) {
 			if ( itr.next() == entity ) {
@@ -394,7 +406,6 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 		// Clear all parent cache
 		parentsByChild.clear();
-		entitySnapshotsByKey.remove( key );
 		nullifiableEntityKeys.remove( key );
 		getBatchFetchQueue().removeBatchLoadableEntityKey( key );
 		getBatchFetchQueue().removeSubselect( key );
@@ -418,7 +429,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public EntityEntry removeEntry(Object entity) {
-		return entityEntryContext.removeEntityEntry( entity );
+		final EntityEntry entry = entityEntryContext.removeEntityEntry( entity );
+		if ( modifiedEntityTracker != null && entry != null ) {
+			modifiedEntityTracker.entryRemoved( entity, entry );
+		}
+		return entry;
 	}
 
 	@Override
@@ -496,7 +511,14 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			);
 		}
 
-		entityEntryContext.addEntityEntry( entity, e );
+		if ( modifiedEntityTracker != null ) {
+			final boolean alreadyAssociated = entityEntryContext.hasEntityEntry( entity );
+			entityEntryContext.addEntityEntry( entity, e );
+			modifiedEntityTracker.entryAdded( entity, e, alreadyAssociated );
+		}
+		else {
+			entityEntryContext.addEntityEntry( entity, e );
+		}
 //		entityEntries.put(entity, e);
 
 		setHasNonReadOnlyEnties( status );
@@ -967,7 +989,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Map getEntitiesByKey() {
-		return entitiesByKey;
+		return entityKeyIndex.getEntitiesByKey();
 	}
 
 	public Map getProxiesByKey() {
@@ -1082,7 +1104,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public String toString() {
-		return "PersistenceContext[entityKeys=" + entitiesByKey.keySet()
+		return "PersistenceContext[entityKeys=" + entityKeyIndex.getEntitiesByKey().keySet()
 				+ ",collectionKeys=" + collectionsByKey.keySet() + "]";
 	}
 
@@ -1091,6 +1113,23 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entityEntryContext.reentrantSafeEntityEntries();
 	}
 
+	@Override
+	public Entry<Object,EntityEntry>[] reentrantSafeFlushableEntityEntries() {
+		return modifiedEntityTracker == null
+				? reentrantSafeEntityEntries()
+				: modifiedEntityTracker.flushableEntityEntries();
+	}
+
+	@Override
+	public void registerModifiedEntity(Object entity) {
+		if ( modifiedEntityTracker != null ) {
+			final EntityEntry entry = getEntry( entity );
+			if ( entry != null && entry.getStatus() != Status.LOADING ) {
+				modifiedEntityTracker.entityModified( entity );
+			}
+		}
+	}
+
 	@Override
 	public Serializable getOwnerId(String entityName, String propertyName, Object childEntity, Map mergeMap) {
 		final String collectionRole = entityName + '.' + propertyName;
@@ -1368,8 +1407,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public void replaceDelayedEntityIdentityInsertKeys(EntityKey oldKey, Serializable generatedId) {
-		final Object entity = entitiesByKey.remove( oldKey );
-		final EntityEntry oldEntry = entityEntryContext.removeEntityEntry( entity );
+		final Object entity = entityKeyIndex.removeEntity( oldKey );
+		final EntityEntry oldEntry = removeEntry( entity );
 		parentsByChild.clear();
 
 		final EntityKey newKey = session.generateEntityKey( generatedId, oldEntry.getPersister() );
@@ -1405,6 +1444,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		oos.writeBoolean( defaultReadOnly );
 		oos.writeBoolean( hasNonReadOnlyEntities );
 
+		final Map<EntityKey,Object> entitiesByKey = entityKeyIndex.getEntitiesByKey();
 		oos.writeInt( entitiesByKey.size() );
 		if ( tracing ) {
 			LOG.trace( "Starting serialization of [" + entitiesByKey.size() + "] entitiesByKey entries" );
@@ -1432,6 +1472,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			oos.writeObject( entry.getValue() );
 		}
 
+		final Map<EntityKey,Object> entitySnapshotsByKey = entityKeyIndex.getSnapshotsByKey();
 		oos.writeInt( entitySnapshotsByKey.size() );
 		if ( tracing ) {
 			LOG.trace( "Starting serialization of [" + entitySnapshotsByKey.size() + "] entitySnapshotsByKey entries" );
@@ -1514,9 +1555,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( tracing ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = new HashMap<EntityKey,Object>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entityKeyIndex = new EntityKeyIndex( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
-				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
+				rtn.entityKeyIndex.putEntity( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
 
 			count = ois.readInt();
@@ -1560,12 +1601,14 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( tracing ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = new HashMap<EntityKey,Object>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
-				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
+				rtn.entityKeyIndex.putSnapshot( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
 
 			rtn.entityEntryContext = EntityEntryContext.deserialize( ois, rtn );
+			if ( rtn.modifiedEntityTracker != null ) {
+				rtn.modifiedEntityTracker.reset();
+			}
 
 			count = ois.readInt();
 			if ( tracing ) {
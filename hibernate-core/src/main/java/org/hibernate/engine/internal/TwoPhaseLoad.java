@@ -249,6 +249,12 @@ public final class TwoPhaseLoad {
 			//mutable property values
 			persistenceContext.setEntryStatus( entityEntry, Status.READ_ONLY );
 		}
+		else if ( ModifiedEntityTracker.isLoadedStateDiscardable( persister, session ) ) {
+			//no need to take a snapshot - the entity
+			//tracks its own changes, and the loaded
+			//state is dropped once the entity is managed
+			persistenceContext.setEntryStatus( entityEntry, Status.MANAGED );
+		}
 		else {
 			//take a snapshot
 			TypeHelper.deepCopy(
@@ -7,11 +7,18 @@
 package org.hibernate.engine.jdbc;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Cache of column-name -> column-index resolutions
+ * Cache of column-name -> column-index resolutions.
+ * <p/>
+ * On the first miss all the column labels of the result set are resolved at once from its metadata, so that
+ * {@link ResultSet#findColumn} is only called for names the metadata does not expose.
  *
  * @author Steve Ebersole
  */
@@ -19,6 +26,8 @@ public final class ColumnNameCache {
 	private static final float LOAD_FACTOR = .75f;
 
 	private final ConcurrentHashMap<String, Integer> columnNameToIndexCache;
+	// upper-cased column label -> index, as findColumn is case insensitive; built once
+	private volatile Map<String, Integer> columnLabelToIndex;
 
 	/**
 	 * Constructs a ColumnNameCache
@@ -49,9 +58,33 @@ public final class ColumnNameCache {
 			return cached;
 		}
 		else {
-			final Integer index = Integer.valueOf( rs.findColumn( columnName ) );
-			columnNameToIndexCache.put( columnName, index);
+			Integer index = resolveColumnLabels( rs ).get( columnName.toUpperCase( Locale.ROOT ) );
+			if ( index == null ) {
+				index = Integer.valueOf( rs.findColumn( columnName ) );
+			}
+			columnNameToIndexCache.put( columnName, index );
 			return index;
 		}
 	}
+
+	private Map<String, Integer> resolveColumnLabels(ResultSet rs) throws SQLException {
+		Map<String, Integer> labels = columnLabelToIndex;
+		if ( labels == null ) {
+			final ResultSetMetaData metaData = rs.getMetaData();
+			final int columnCount = metaData.getColumnCount();
+			labels = new HashMap<String, Integer>( columnCount + (int) ( columnCount * LOAD_FACTOR ) + 1, LOAD_FACTOR );
+			for ( int i = 1; i <= columnCount; i++ ) {
+				final String label = metaData.getColumnLabel( i );
+				if ( label != null ) {
+					final String key = label.toUpperCase( Locale.ROOT );
+					// like findColumn, the first of several columns with the same label wins
+					if ( !labels.containsKey( key ) ) {
+						labels.put( key, i );
+					}
+				}
+			}
+			columnLabelToIndex = labels;
+		}
+		return labels;
+	}
 }
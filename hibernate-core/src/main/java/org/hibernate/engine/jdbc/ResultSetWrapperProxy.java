@@ -11,6 +11,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
@@ -31,6 +32,9 @@ public class ResultSetWrapperProxy implements InvocationHandler {
 
 	private static final SqlExceptionHelper SQL_EXCEPTION_HELPER = new SqlExceptionHelper();
 
+	// column name method -> corresponding column index method, shared by all the proxies
+	private static final ConcurrentHashMap<Method, Method> COLUMN_INDEX_METHODS = new ConcurrentHashMap<Method, Method>();
+
 	private final ResultSet rs;
 	private final ColumnNameCache columnNameCache;
 
@@ -125,6 +129,15 @@ public class ResultSetWrapperProxy implements InvocationHandler {
 	 * @throws NoSuchMethodException Should never happen, but...
 	 */
 	private Method locateCorrespondingColumnIndexMethod(Method columnNameMethod) throws NoSuchMethodException {
+		Method columnIndexMethod = COLUMN_INDEX_METHODS.get( columnNameMethod );
+		if ( columnIndexMethod == null ) {
+			columnIndexMethod = resolveCorrespondingColumnIndexMethod( columnNameMethod );
+			COLUMN_INDEX_METHODS.put( columnNameMethod, columnIndexMethod );
+		}
+		return columnIndexMethod;
+	}
+
+	private Method resolveCorrespondingColumnIndexMethod(Method columnNameMethod) throws NoSuchMethodException {
 		final Class[] actualParameterTypes = new Class[columnNameMethod.getParameterTypes().length];
 		actualParameterTypes[0] = int.class;
 		System.arraycopy(
@@ -132,7 +132,15 @@ public abstract class AbstractBatchImpl implements Batch {
 		return statement;
 	}
 
-	private PreparedStatement buildBatchStatement(String sql, boolean callable) {
+	/**
+	 * Builds the statement to which the operations for the given SQL are added.
+	 *
+	 * @param sql The SQL statement
+	 * @param callable Whether the SQL is a callable statement
+	 *
+	 * @return The statement
+	 */
+	protected PreparedStatement buildBatchStatement(String sql, boolean callable) {
 		return jdbcCoordinator.getStatementPreparer().prepareStatement( sql, callable );
 	}
 
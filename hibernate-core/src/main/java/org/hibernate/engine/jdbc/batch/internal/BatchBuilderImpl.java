@@ -52,6 +52,10 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable {
 		size = ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, size );
 	}
 
+	public int getJdbcBatchSize() {
+		return size;
+	}
+
 	@SuppressWarnings("UnusedDeclaration")
 	public void setJdbcBatchSize(int size) {
 		this.size = size;
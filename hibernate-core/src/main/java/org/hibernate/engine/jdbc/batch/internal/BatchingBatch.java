@@ -13,6 +13,7 @@ import java.util.Map;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 
 import org.jboss.logging.Logger;
@@ -113,6 +114,7 @@ public class BatchingBatch extends AbstractBatchImpl {
 						getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
 					}
 					checkRowCounts( rowCounts, statement );
+					batchExecuted();
 				}
 				catch ( SQLException e ) {
 					abortBatch();
@@ -129,6 +131,15 @@ public class BatchingBatch extends AbstractBatchImpl {
 		}
 	}
 
+	private void batchExecuted() {
+		final SessionFactoryImplementor factory = getJdbcCoordinator().getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getSessionFactory();
+		if ( factory != null && factory.getStatistics().isStatisticsEnabled() ) {
+			factory.getStatisticsImplementor().executeBatch( batchPosition );
+		}
+	}
+
 	private void checkRowCounts(int[] rowCounts, PreparedStatement ps) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( numberOfRowCounts != batchPosition ) {
@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.Insert;
+
+/**
+ * BatchKey for batched insert statements which also knows the {@link Insert} builder the (generated) insert SQL
+ * was rendered from, so that {@link MultiRowInsertBatch} can render the multi-row statement from the builder
+ * rather than reparsing the SQL.
+ */
+public class InsertBatchKey extends BasicBatchKey {
+	private final String sql;
+	private final Insert insert;
+
+	/**
+	 * Constructs a InsertBatchKey
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 * @param sql The generated insert SQL, or {@code null} for custom SQL
+	 * @param insert The builder which rendered {@code sql}, or {@code null} for custom SQL
+	 */
+	public InsertBatchKey(String comparison, Expectation expectation, String sql, Insert insert) {
+		super( comparison, expectation );
+		this.sql = sql;
+		this.insert = insert;
+	}
+
+	/**
+	 * Locate the builder which rendered the given SQL.
+	 *
+	 * @param sql The SQL of a statement of the batch
+	 *
+	 * @return The builder, or {@code null} if the SQL was not rendered by a known builder (custom SQL,
+	 * dynamic inserts...)
+	 */
+	public Insert locateInsert(String sql) {
+		return insert != null && this.sql.equals( sql ) ? insert : null;
+	}
+}
@@ -0,0 +1,276 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.sql.Insert;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link BatchingBatch} which executes batched insert statements as a single multi-row insert statement, of the
+ * form {@code insert into ... values (...), (...), ...}, rather than relying on JDBC batching: many drivers still
+ * send one statement per row for a JDBC batch.
+ * <p/>
+ * The parameters bound for each row are recorded, and bound to the multi-row statement when the batch is executed.
+ * The multi-row statement is rendered by the {@link Insert} builder the SQL was generated from, as known by the
+ * {@link InsertBatchKey}; custom SQL, dynamic inserts and callable statements are batched through JDBC as usual.
+ * Rows which would make a statement bind more than the
+ * {@link org.hibernate.dialect.Dialect#getBindParameterCountLimit() limit} of the dialect are split into further
+ * statements.
+ * <p/>
+ * Statements of a batch are never prepared for returning generated keys: inserts relying on generated keys
+ * (identity columns) are not executed through batches, and the recorded statements refuse
+ * {@link PreparedStatement#getGeneratedKeys()}.
+ * <p/>
+ * Should only be used with dialects which {@link org.hibernate.dialect.Dialect#supportsValuesListForInsert() support}
+ * values lists in insert statements.
+ */
+public class MultiRowInsertBatch extends BatchingBatch {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			MultiRowInsertBatch.class.getName()
+	);
+
+	private final int bindParameterCountLimit;
+	private final Map<String, MultiRowInsert> inserts = new HashMap<String, MultiRowInsert>();
+
+	/**
+	 * Constructs a MultiRowInsertBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The batch size, that is the maximum number of rows per statement.
+	 */
+	public MultiRowInsertBatch(BatchKey key, JdbcCoordinator jdbcCoordinator, int batchSize) {
+		super( key, jdbcCoordinator, batchSize );
+		this.bindParameterCountLimit = jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getDialect()
+				.getBindParameterCountLimit();
+	}
+
+	@Override
+	protected PreparedStatement buildBatchStatement(String sql, boolean callable) {
+		final Insert insert = callable ? null : locateInsert( sql );
+		if ( insert == null || !insert.isMultiRowCapable() ) {
+			return super.buildBatchStatement( sql, callable );
+		}
+		LOG.tracef( "Recording rows of insert statement for multi-row insert: %s", sql );
+		final MultiRowInsert multiRowInsert = new MultiRowInsert( sql, insert );
+		inserts.put( sql, multiRowInsert );
+		return getJdbcCoordinator().getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( ClassLoaderService.class )
+				.generateProxy( multiRowInsert, PreparedStatement.class );
+	}
+
+	private Insert locateInsert(String sql) {
+		return getKey() instanceof InsertBatchKey
+				? ( (InsertBatchKey) getKey() ).locateInsert( sql )
+				: null;
+	}
+
+	@Override
+	protected void releaseStatements() {
+		// the recorded inserts do not hold any JDBC resources
+		for ( Map.Entry<String, MultiRowInsert> entry : inserts.entrySet() ) {
+			getStatements().remove( entry.getKey() );
+			entry.getValue().clearRows();
+			getJdbcCoordinator().afterStatementExecution();
+		}
+		inserts.clear();
+		super.releaseStatements();
+	}
+
+	/**
+	 * Stands for the statement of a batched insert: records the parameters bound for each row, and executes all
+	 * the rows as a single statement when the batch is executed.
+	 */
+	private class MultiRowInsert implements InvocationHandler {
+		private final String sql;
+		private final Insert insert;
+		private final int parameterCount;
+		private final int maxRowsPerStatement;
+
+		private final List<List<ParameterBinding>> rows = new ArrayList<List<ParameterBinding>>();
+		private List<ParameterBinding> currentRow = new ArrayList<ParameterBinding>();
+
+		private int lastRowCount;
+		private String lastSql;
+
+		private MultiRowInsert(String sql, Insert insert) {
+			this.sql = sql;
+			this.insert = insert;
+			this.parameterCount = insert.getParameterCount();
+			this.maxRowsPerStatement = bindParameterCountLimit > 0 && parameterCount > 0
+					? Math.max( 1, bindParameterCountLimit / parameterCount )
+					: Integer.MAX_VALUE;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final String methodName = method.getName();
+			if ( methodName.startsWith( "set" ) && args != null && args.length >= 2 && args[0] instanceof Integer ) {
+				final int index = (Integer) args[0];
+				if ( index < 1 || index > parameterCount ) {
+					throw new SQLException( "Parameter index out of range: " + index );
+				}
+				currentRow.add( new ParameterBinding( method, args ) );
+				return null;
+			}
+			if ( "addBatch".equals( methodName ) && args == null ) {
+				rows.add( currentRow );
+				currentRow = new ArrayList<ParameterBinding>( currentRow.size() );
+				return null;
+			}
+			if ( "clearParameters".equals( methodName ) ) {
+				currentRow.clear();
+				return null;
+			}
+			if ( "clearBatch".equals( methodName ) ) {
+				clearRows();
+				return null;
+			}
+			if ( "executeBatch".equals( methodName ) ) {
+				return executeRows();
+			}
+			if ( "getConnection".equals( methodName ) ) {
+				return getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+			}
+			if ( "close".equals( methodName ) ) {
+				return null;
+			}
+			if ( "getGeneratedKeys".equals( methodName ) ) {
+				throw new SQLFeatureNotSupportedException( "Multi-row insert batches do not return generated keys" );
+			}
+			if ( "isClosed".equals( methodName ) ) {
+				return false;
+			}
+			if ( "toString".equals( methodName ) ) {
+				return "MultiRowInsert(" + sql + ")";
+			}
+			if ( "hashCode".equals( methodName ) ) {
+				return System.identityHashCode( proxy );
+			}
+			if ( "equals".equals( methodName ) ) {
+				return proxy == args[0];
+			}
+			throw new SQLFeatureNotSupportedException(
+					"PreparedStatement#" + methodName + " is not supported by multi-row insert batching"
+			);
+		}
+
+		private void clearRows() {
+			rows.clear();
+			currentRow.clear();
+		}
+
+		private int[] executeRows() throws SQLException {
+			final int rowCount = rows.size();
+			final int[] rowCounts = new int[rowCount];
+			try {
+				// this batch is being executed: do not have it executed again, even partially
+				for ( int start = 0; start < rowCount; start += maxRowsPerStatement ) {
+					final int end = Math.min( rowCount, start + maxRowsPerStatement );
+					System.arraycopy( executeRows( start, end ), 0, rowCounts, start, end - start );
+				}
+			}
+			finally {
+				rows.clear();
+			}
+			return rowCounts;
+		}
+
+		private int[] executeRows(int start, int end) throws SQLException {
+			final PreparedStatement statement = getJdbcCoordinator().getStatementPreparer()
+					.prepareStatement( multiRowSql( end - start ) );
+			final int updateCount;
+			try {
+				for ( int row = start; row < end; row++ ) {
+					final int offset = ( row - start ) * parameterCount;
+					for ( ParameterBinding binding : rows.get( row ) ) {
+						binding.bind( statement, offset );
+					}
+				}
+				updateCount = statement.executeUpdate();
+			}
+			finally {
+				getJdbcCoordinator().getResourceRegistry().release( statement );
+			}
+			return rowCounts( updateCount, end - start );
+		}
+
+		private String multiRowSql(int rowCount) {
+			if ( rowCount != lastRowCount ) {
+				lastSql = insert.toMultiRowStatementString( rowCount );
+				lastRowCount = rowCount;
+			}
+			return lastSql;
+		}
+	}
+
+	/**
+	 * Attributes the update count of a multi-row insert to its rows, in order: the rows which cannot be accounted
+	 * for did not insert anything, and any excess is attributed to the last row.
+	 */
+	private static int[] rowCounts(int updateCount, int rowCount) {
+		final int[] rowCounts = new int[rowCount];
+		for ( int i = 0; i < rowCount; i++ ) {
+			rowCounts[i] = i < updateCount ? 1 : 0;
+		}
+		if ( updateCount > rowCount ) {
+			rowCounts[rowCount - 1] += updateCount - rowCount;
+		}
+		return rowCounts;
+	}
+
+	private static class ParameterBinding {
+		private final Method method;
+		private final Object[] args;
+
+		private ParameterBinding(Method method, Object[] args) {
+			this.method = method;
+			this.args = args;
+		}
+
+		private void bind(PreparedStatement statement, int offset) throws SQLException {
+			final Object[] shiftedArgs = args.clone();
+			shiftedArgs[0] = (Integer) args[0] + offset;
+			try {
+				method.invoke( statement, shiftedArgs );
+			}
+			catch (InvocationTargetException e) {
+				if ( e.getCause() instanceof SQLException ) {
+					throw (SQLException) e.getCause();
+				}
+				throw new SQLException( "Unable to bind parameter of multi-row insert", e.getCause() );
+			}
+			catch (IllegalAccessException e) {
+				throw new SQLException( "Unable to bind parameter of multi-row insert", e );
+			}
+		}
+	}
+}
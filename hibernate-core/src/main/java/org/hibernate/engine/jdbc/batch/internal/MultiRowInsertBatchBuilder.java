@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+
+/**
+ * A builder for {@link Batch} instances which execute batched inserts as multi-row insert statements, when the
+ * dialect {@link org.hibernate.dialect.Dialect#supportsValuesListForInsert() supports} it and the batch is keyed by
+ * an {@link InsertBatchKey}.  Otherwise behaves like {@link BatchBuilderImpl}.
+ * <p/>
+ * Selected by naming this class as the {@value BatchBuilderInitiator#BUILDER} setting.
+ *
+ * @see MultiRowInsertBatch
+ */
+public class MultiRowInsertBatchBuilder extends BatchBuilderImpl {
+	/**
+	 * Constructs a MultiRowInsertBatchBuilder
+	 */
+	public MultiRowInsertBatchBuilder() {
+	}
+
+	/**
+	 * Constructs a MultiRowInsertBatchBuilder
+	 *
+	 * @param size The batch size to use.
+	 */
+	public MultiRowInsertBatchBuilder(int size) {
+		super( size );
+	}
+
+	@Override
+	public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
+		final int size = getJdbcBatchSize();
+		// only batches of generated inserts know how to render a multi-row statement
+		if ( size > 1 && key instanceof InsertBatchKey && supportsValuesListForInsert( jdbcCoordinator ) ) {
+			return new MultiRowInsertBatch( key, jdbcCoordinator, size );
+		}
+		return super.buildBatch( key, jdbcCoordinator );
+	}
+
+	private static boolean supportsValuesListForInsert(JdbcCoordinator jdbcCoordinator) {
+		return jdbcCoordinator.getJdbcSessionOwner()
+				.getJdbcSessionContext()
+				.getServiceRegistry()
+				.getService( JdbcServices.class )
+				.getDialect()
+				.supportsValuesListForInsert();
+	}
+}
@@ -149,7 +149,15 @@ public class NativeSQLQueryPlan implements Serializable {
 	}
 
 	protected void coordinateSharedCacheCleanup(SessionImplementor session) {
-		final BulkOperationCleanupAction action = new BulkOperationCleanupAction( session, getCustomQuery().getQuerySpaces() );
+		coordinateSharedCacheCleanup( session, null );
+	}
+
+	protected void coordinateSharedCacheCleanup(SessionImplementor session, Serializable queryCachePartition) {
+		final BulkOperationCleanupAction action = new BulkOperationCleanupAction(
+				session,
+				getCustomQuery().getQuerySpaces(),
+				queryCachePartition
+		);
 
 		if ( session.isEventSource() ) {
 			( (EventSource) session ).getActionQueue().addAction( action );
@@ -173,7 +181,7 @@ public class NativeSQLQueryPlan implements Serializable {
 			QueryParameters queryParameters,
 			SessionImplementor session) throws HibernateException {
 
-		coordinateSharedCacheCleanup( session );
+		coordinateSharedCacheCleanup( session, queryParameters.getCachePartition() );
 
 		if ( queryParameters.isCallable() ) {
 			throw new IllegalArgumentException("callable not yet supported for native queries");
@@ -6,13 +6,28 @@
  */
 package org.hibernate.engine.query.spi;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.Filter;
 import org.hibernate.MappingException;
@@ -26,12 +41,15 @@ import org.hibernate.internal.FilterImpl;
 import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Acts as a cache for compiled query plans, as well as query-parameter metadata.
  *
  * @see Environment#QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE
  * @see Environment#QUERY_PLAN_CACHE_MAX_SIZE
+ * @see Environment#QUERY_PLAN_CACHE_ADAPTIVE_MAX_SIZE
+ * @see Environment#QUERY_PLAN_CACHE_WARM_UP_FILE
  *
  * @author Steve Ebersole
  */
@@ -47,12 +65,29 @@ public class QueryPlanCache implements Serializable {
 	 */
 	public static final int DEFAULT_QUERY_PLAN_MAX_COUNT = 2048;
 
+	/**
+	 * The percentage of the plan lookups causing an eviction above which an adaptive cache grows.
+	 */
+	private static final int ADAPTIVE_EVICTION_THRESHOLD_PERCENT = 10;
+
+	/**
+	 * Identifies the format of the warm-up file.
+	 */
+	private static final int WARM_UP_FILE_VERSION = 1;
+
 	private final SessionFactoryImplementor factory;
 
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap queryPlanCache;
+	private volatile BoundedConcurrentHashMap queryPlanCache;
+	private volatile int queryPlanCacheMaxSize;
+	private final int queryPlanCacheAdaptiveMaxSize;
+	private final BoundedConcurrentHashMap.EvictionListener queryPlanEvictionListener;
+
+	// plan lookups and evictions since the last adaptive sizing decision
+	private final AtomicLong windowLookupCount = new AtomicLong();
+	private final AtomicLong windowEvictionCount = new AtomicLong();
 
 	/**
 	 * simple cache of param metadata based on query string.  Ideally, the original "user-supplied query"
@@ -67,6 +102,8 @@ public class QueryPlanCache implements Serializable {
 
 	private NativeQueryInterpreter nativeQueryInterpreterService;
 
+	private final File warmUpFile;
+
 	/**
 	 * Constructs the QueryPlanCache to be used by the given SessionFactory
 	 *
@@ -99,7 +136,19 @@ public class QueryPlanCache implements Serializable {
 			);
 		}
 
-		queryPlanCache = new BoundedConcurrentHashMap( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		queryPlanCacheMaxSize = maxQueryPlanCount;
+		queryPlanCacheAdaptiveMaxSize = ConfigurationHelper.getInt(
+				Environment.QUERY_PLAN_CACHE_ADAPTIVE_MAX_SIZE,
+				factory.getProperties(),
+				maxQueryPlanCount
+		);
+		queryPlanEvictionListener = new QueryPlanEvictionListener();
+		queryPlanCache = new BoundedConcurrentHashMap(
+				maxQueryPlanCount,
+				20,
+				BoundedConcurrentHashMap.Eviction.LIRS,
+				queryPlanEvictionListener
+		);
 		parameterMetadataCache = new BoundedConcurrentHashMap<String, ParameterMetadata>(
 				maxParameterMetadataCount,
 				20,
@@ -107,6 +156,12 @@ public class QueryPlanCache implements Serializable {
 		);
 
 		nativeQueryInterpreterService = factory.getServiceRegistry().getService( NativeQueryInterpreter.class );
+
+		final String warmUpFileName = ConfigurationHelper.getString(
+				Environment.QUERY_PLAN_CACHE_WARM_UP_FILE,
+				factory.getProperties()
+		);
+		warmUpFile = warmUpFileName == null ? null : new File( warmUpFileName );
 	}
 
 	/**
@@ -147,11 +202,14 @@ public class QueryPlanCache implements Serializable {
 		HQLQueryPlan value = (HQLQueryPlan) queryPlanCache.get( key );
 		if ( value == null ) {
 			LOG.tracev( "Unable to locate HQL query plan in cache; generating ({0})", queryString );
+			final long start = System.nanoTime();
 			value = new HQLQueryPlan( queryString, shallow, enabledFilters, factory );
+			queryPlanCompiled( start );
 			queryPlanCache.putIfAbsent( key, value );
 		}
 		else {
 			LOG.tracev( "Located HQL query plan in cache ({0})", queryString );
+			queryPlanCacheHit();
 		}
 		return value;
 	}
@@ -183,11 +241,14 @@ public class QueryPlanCache implements Serializable {
 					collectionRole,
 					filterString
 			);
+			final long start = System.nanoTime();
 			value = new FilterQueryPlan( filterString, collectionRole, shallow, enabledFilters,factory );
+			queryPlanCompiled( start );
 			queryPlanCache.putIfAbsent( key, value );
 		}
 		else {
 			LOG.tracev( "Located collection-filter query plan in cache ({0} : {1})", collectionRole, filterString );
+			queryPlanCacheHit();
 		}
 		return value;
 	}
@@ -207,24 +268,252 @@ public class QueryPlanCache implements Serializable {
 		NativeSQLQueryPlan value = (NativeSQLQueryPlan) queryPlanCache.get( spec );
 		if ( value == null ) {
 			LOG.tracev( "Unable to locate native-sql query plan in cache; generating ({0})", spec.getQueryString() );
+			final long start = System.nanoTime();
 			value = nativeQueryInterpreterService.createQueryPlan( spec, factory );
+			queryPlanCompiled( start );
 			queryPlanCache.putIfAbsent( spec, value );
 		}
 		else {
 			LOG.tracev( "Located native-sql query plan in cache ({0})", spec.getQueryString() );
+			queryPlanCacheHit();
 		}
 		return value;
 	}
 
+	private void queryPlanCacheHit() {
+		final StatisticsImplementor statistics = factory.getStatisticsImplementor();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheHit();
+		}
+		planLookedUp();
+	}
+
+	private void queryPlanCompiled(long start) {
+		final StatisticsImplementor statistics = factory.getStatisticsImplementor();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheMiss( System.nanoTime() - start );
+		}
+		planLookedUp();
+	}
+
+	/**
+	 * Grows an adaptive cache once the plans looked up since the last decision, as many as the cache can hold,
+	 * caused too many evictions: the cache is then too small for the working set of queries.
+	 */
+	private void planLookedUp() {
+		if ( queryPlanCacheMaxSize >= queryPlanCacheAdaptiveMaxSize ) {
+			return;
+		}
+		if ( windowLookupCount.incrementAndGet() < queryPlanCacheMaxSize ) {
+			return;
+		}
+		synchronized ( this ) {
+			final long lookupCount = windowLookupCount.get();
+			if ( lookupCount < queryPlanCacheMaxSize ) {
+				// decided by another thread already
+				return;
+			}
+			final long evictionCount = windowEvictionCount.getAndSet( 0 );
+			windowLookupCount.set( 0 );
+			if ( evictionCount * 100 > lookupCount * ADAPTIVE_EVICTION_THRESHOLD_PERCENT ) {
+				growQueryPlanCache();
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void growQueryPlanCache() {
+		final int maxSize = (int) Math.min( queryPlanCacheMaxSize * 2L, queryPlanCacheAdaptiveMaxSize );
+		LOG.debugf( "Growing query plan cache from %s to %s entries", queryPlanCacheMaxSize, maxSize );
+		final BoundedConcurrentHashMap grown = new BoundedConcurrentHashMap(
+				maxSize,
+				20,
+				BoundedConcurrentHashMap.Eviction.LIRS,
+				queryPlanEvictionListener
+		);
+		// plans cached concurrently into the previous map are simply compiled again later
+		grown.putAll( queryPlanCache );
+		queryPlanCache = grown;
+		queryPlanCacheMaxSize = maxSize;
+	}
+
+	/**
+	 * The maximum number of plans the cache currently holds, which an adaptive cache grows up to
+	 * {@link Environment#QUERY_PLAN_CACHE_ADAPTIVE_MAX_SIZE}.
+	 *
+	 * @return The maximum number of cached plans
+	 */
+	public int getQueryPlanCacheMaxSize() {
+		return queryPlanCacheMaxSize;
+	}
+
+	private class QueryPlanEvictionListener implements BoundedConcurrentHashMap.EvictionListener, Serializable {
+		@Override
+		public void onEntryEviction(Map evicted) {
+			windowEvictionCount.addAndGet( evicted.size() );
+			final StatisticsImplementor statistics = factory.getStatisticsImplementor();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.queryPlanCacheEviction( evicted.size() );
+			}
+		}
+
+		@Override
+		public void onEntryChosenForEviction(Object internalCacheEntry) {
+		}
+	}
+
 	/**
-	 * clean up QueryPlanCache when SessionFactory is closed
+	 * clean up QueryPlanCache when SessionFactory is closed, first saving the HQL queries of the cached plans to the
+	 * warm-up file if one is configured
 	 */
 	public void cleanup() {
+		if ( warmUpFile != null ) {
+			saveWarmUpFile();
+		}
 		LOG.trace( "Cleaning QueryPlan Cache" );
 		queryPlanCache.clear();
 		parameterMetadataCache.clear();
 	}
 
+	/**
+	 * Compiles in parallel the plans of the HQL queries saved to the warm-up file when a previous SessionFactory was
+	 * closed, so that the first executions of these queries do not pay for their translation.  Queries which no
+	 * longer compile are skipped.
+	 */
+	public void warmUp() {
+		if ( warmUpFile == null || !warmUpFile.isFile() ) {
+			return;
+		}
+		final List<HQLQueryPlanKey> keys;
+		try {
+			keys = readWarmUpFile();
+		}
+		catch (IOException e) {
+			LOG.unableToReadQueryPlanCacheWarmUpFile( warmUpFile.getPath(), e );
+			return;
+		}
+		if ( keys.isEmpty() ) {
+			return;
+		}
+
+		final long start = System.nanoTime();
+		final AtomicInteger compiledCount = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min( keys.size(), Runtime.getRuntime().availableProcessors() )
+		);
+		try {
+			for ( final HQLQueryPlanKey key : keys ) {
+				executor.execute(
+						new Runnable() {
+							@Override
+							public void run() {
+								try {
+									getHQLQueryPlan( key.query, key.shallow, Collections.<String,Filter>emptyMap() );
+									compiledCount.incrementAndGet();
+								}
+								catch (RuntimeException e) {
+									LOG.debugf( "Unable to warm up the query plan of [%s] : %s", key.query, e.getMessage() );
+								}
+							}
+						}
+				);
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		try {
+			while ( !executor.awaitTermination( 1, TimeUnit.MINUTES ) ) {
+				LOG.debug( "Waiting for query plan cache warm-up" );
+			}
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+
+		final long time = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start );
+		LOG.queryPlanCacheWarmedUp( compiledCount.get(), keys.size(), time );
+		final StatisticsImplementor statistics = factory.getStatisticsImplementor();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheWarmedUp( time );
+		}
+	}
+
+	private List<HQLQueryPlanKey> readWarmUpFile() throws IOException {
+		final DataInputStream in = new DataInputStream( new BufferedInputStream( new FileInputStream( warmUpFile ) ) );
+		try {
+			if ( in.readInt() != WARM_UP_FILE_VERSION ) {
+				throw new IOException( "Unknown warm-up file format" );
+			}
+			// header, then per query a boolean, a length and the UTF-8 bytes: sizes read from a corrupted file
+			// are checked against what is left of it before anything is allocated
+			long remaining = warmUpFile.length() - 8;
+			final int count = in.readInt();
+			if ( count < 0 || count > remaining / 5 ) {
+				throw new IOException( "Corrupted warm-up file: invalid query count " + count );
+			}
+			final List<HQLQueryPlanKey> keys = new ArrayList<HQLQueryPlanKey>( count );
+			for ( int i = 0; i < count; i++ ) {
+				final boolean shallow = in.readBoolean();
+				final int length = in.readInt();
+				remaining -= 5;
+				if ( length < 0 || length > remaining ) {
+					throw new IOException( "Corrupted warm-up file: invalid query length " + length );
+				}
+				remaining -= length;
+				final byte[] query = new byte[length];
+				in.readFully( query );
+				keys.add( new HQLQueryPlanKey( new String( query, "UTF-8" ), shallow, null ) );
+			}
+			return keys;
+		}
+		finally {
+			in.close();
+		}
+	}
+
+	private void saveWarmUpFile() {
+		// plans depending on enabled filters cannot be compiled again without the values of the filter parameters
+		final List<HQLQueryPlanKey> keys = new ArrayList<HQLQueryPlanKey>();
+		for ( Object key : queryPlanCache.keySet() ) {
+			if ( key instanceof HQLQueryPlanKey && ( (HQLQueryPlanKey) key ).filterKeys.isEmpty() ) {
+				keys.add( (HQLQueryPlanKey) key );
+			}
+		}
+
+		// written aside first, so that a failure never leaves a truncated warm-up file
+		final File tmpFile = new File( warmUpFile.getPath() + ".tmp" );
+		try {
+			final DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream( new FileOutputStream( tmpFile ) )
+			);
+			try {
+				out.writeInt( WARM_UP_FILE_VERSION );
+				out.writeInt( keys.size() );
+				for ( HQLQueryPlanKey key : keys ) {
+					out.writeBoolean( key.shallow );
+					final byte[] query = key.query.getBytes( "UTF-8" );
+					out.writeInt( query.length );
+					out.write( query );
+				}
+			}
+			finally {
+				out.close();
+			}
+			if ( !tmpFile.renameTo( warmUpFile ) ) {
+				// not atomic on every platform, so the previous file may have to go first
+				if ( !warmUpFile.delete() || !tmpFile.renameTo( warmUpFile ) ) {
+					throw new IOException( "Unable to rename " + tmpFile.getPath() );
+				}
+			}
+			LOG.debugf( "Saved %s HQL queries to the query plan cache warm-up file", keys.size() );
+		}
+		catch (IOException e) {
+			LOG.unableToWriteQueryPlanCacheWarmUpFile( warmUpFile.getPath(), e );
+		}
+	}
+
 	private static class HQLQueryPlanKey implements Serializable {
 		private final String query;
 		private final boolean shallow;
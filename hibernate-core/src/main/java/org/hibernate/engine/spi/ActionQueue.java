@@ -10,10 +10,13 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +32,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
 import org.hibernate.action.internal.EntityInsertAction;
@@ -40,11 +44,15 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.QuerySpacePartition;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
+import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.CompositeType;
 import org.hibernate.type.Type;
 
 /**
@@ -101,9 +109,9 @@ public class ActionQueue {
 
 		unresolvedInsertions = new UnresolvedEntityInsertActions();
 
-		insertions = new ExecutableList<AbstractEntityInsertAction>( new InsertActionSorter() );
+		insertions = new ExecutableList<AbstractEntityInsertAction>( new InsertActionSorter( session ) );
 		deletions = new ExecutableList<EntityDeleteAction>();
-		updates = new ExecutableList<EntityUpdateAction>();
+		updates = new ExecutableList<EntityUpdateAction>( new UpdateActionSorter( session ) );
 
 		collectionCreations = new ExecutableList<CollectionRecreateAction>();
 		collectionRemovals = new ExecutableList<CollectionRemoveAction>();
@@ -273,7 +281,14 @@ public class ActionQueue {
 	private void registerCleanupActions(Executable executable) {
 		beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( executable.getPropertySpaces() );
+			if ( session.getFactory().getSessionFactoryOptions().isQueryCachePartitioningEnabled() ) {
+				final Set<Serializable> querySpaces = new HashSet<Serializable>();
+				addQuerySpaces( executable, querySpaces );
+				invalidateSpaces( querySpaces.toArray( new Serializable[querySpaces.size()] ) );
+			}
+			else {
+				invalidateSpaces( executable.getPropertySpaces() );
+			}
 		}
 		afterTransactionProcesses.register( executable.getAfterTransactionCompletionProcess() );
 	}
@@ -442,13 +457,34 @@ public class ActionQueue {
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
-			for ( E e : list ) {
-				try {
-					e.execute();
+			int index = 0;
+			while ( index < list.size() ) {
+				final int batchEnd = identityInsertBatchEnd( list, index );
+				if ( batchEnd > index + 1 ) {
+					final List<EntityIdentityInsertAction> batch = new ArrayList<EntityIdentityInsertAction>( batchEnd - index );
+					for ( int i = index; i < batchEnd; i++ ) {
+						batch.add( (EntityIdentityInsertAction) list.get( i ) );
+					}
+					try {
+						EntityIdentityInsertAction.executeBatch( batch );
+					}
+					finally {
+						for ( EntityIdentityInsertAction e : batch ) {
+							beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+							afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+						}
+					}
+					index = batchEnd;
 				}
-				finally {
-					beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
-					afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+				else {
+					final E e = list.get( index++ );
+					try {
+						e.execute();
+					}
+					finally {
+						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+					}
 				}
 			}
 		}
@@ -457,7 +493,16 @@ public class ActionQueue {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				Set<Serializable> propertySpaces = list.getQuerySpaces();
+				final Set<Serializable> propertySpaces;
+				if ( session.getFactory().getSessionFactoryOptions().isQueryCachePartitioningEnabled() ) {
+					propertySpaces = new HashSet<Serializable>();
+					for ( int i = 0; i < list.size(); i++ ) {
+						addQuerySpaces( list.get( i ), propertySpaces );
+					}
+				}
+				else {
+					propertySpaces = list.getQuerySpaces();
+				}
 				invalidateSpaces( propertySpaces.toArray( new Serializable[propertySpaces.size()] ) );
 			}
 		}
@@ -466,6 +511,79 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	/**
+	 * Determines the delayed identity insertions which can be executed as a single JDBC batch, starting at the given
+	 * position: consecutive insertions of entities of the same type, whose state does not reference any of the
+	 * entities of the batch, up to the JDBC batch size.
+	 *
+	 * @return The position following the batch, which is the next position if there is nothing to batch.
+	 */
+	private int identityInsertBatchEnd(ExecutableList<?> list, int start) {
+		final EntityIdentityInsertAction first = batchableIdentityInsert( list.get( start ), null );
+		final int maxEnd = Math.min( list.size(), start + session.getFactory().getSessionFactoryOptions().getJdbcBatchSize() );
+		if ( first == null || maxEnd - start < 2 ) {
+			return start + 1;
+		}
+		final Set<Object> instances = Collections.newSetFromMap( new IdentityHashMap<Object, Boolean>() );
+		instances.add( first.getInstance() );
+		if ( referencesAny( first.getState(), first.getPersister().getPropertyTypes(), instances ) ) {
+			return start + 1;
+		}
+		int end = start + 1;
+		while ( end < maxEnd ) {
+			final EntityIdentityInsertAction action = batchableIdentityInsert( list.get( end ), first.getPersister() );
+			if ( action == null ) {
+				break;
+			}
+			instances.add( action.getInstance() );
+			if ( referencesAny( action.getState(), action.getPersister().getPropertyTypes(), instances ) ) {
+				break;
+			}
+			end++;
+		}
+		return end;
+	}
+
+	private static EntityIdentityInsertAction batchableIdentityInsert(Object executable, EntityPersister persister) {
+		if ( !( executable instanceof EntityIdentityInsertAction ) ) {
+			return null;
+		}
+		final EntityIdentityInsertAction action = (EntityIdentityInsertAction) executable;
+		if ( action.isEarlyInsert() ) {
+			return null;
+		}
+		if ( persister == null ) {
+			if ( action.getPersister() instanceof PostInsertIdentityPersister
+					&& ( (PostInsertIdentityPersister) action.getPersister() ).isIdentityInsertBatchable() ) {
+				return action;
+			}
+			return null;
+		}
+		return action.getPersister() == persister ? action : null;
+	}
+
+	private boolean referencesAny(Object[] values, Type[] types, Set<Object> instances) {
+		for ( int i = 0; i < types.length; i++ ) {
+			final Object value = values[i];
+			if ( value == null ) {
+				continue;
+			}
+			final Type type = types[i];
+			if ( type.isEntityType() ) {
+				if ( instances.contains( value ) ) {
+					return true;
+				}
+			}
+			else if ( type.isComponentType() ) {
+				final CompositeType componentType = (CompositeType) type;
+				if ( referencesAny( componentType.getPropertyValues( value, session ), componentType.getSubtypes(), instances ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
@@ -478,6 +596,39 @@ public class ActionQueue {
 		}
 	}
 
+	/**
+	 * Collects the query spaces changed by the given action, when the query cache is partitioned: the partitions of
+	 * its property spaces changed by the action, and any partition of them, or the property spaces themselves if the
+	 * partitions changed by the action are unknown.
+	 *
+	 * @param executable The action
+	 * @param querySpaces The changed query spaces
+	 */
+	private static void addQuerySpaces(Executable executable, Set<Serializable> querySpaces) {
+		final Serializable[] partitions;
+		if ( executable instanceof EntityAction ) {
+			partitions = ( (EntityAction) executable ).getQueryCachePartitions();
+		}
+		else if ( executable instanceof BulkOperationCleanupAction ) {
+			partitions = ( (BulkOperationCleanupAction) executable ).getQueryCachePartitions();
+		}
+		else {
+			partitions = null;
+		}
+
+		if ( partitions == null ) {
+			Collections.addAll( querySpaces, executable.getPropertySpaces() );
+		}
+		else {
+			for ( Serializable space : executable.getPropertySpaces() ) {
+				querySpaces.add( QuerySpacePartition.anyPartition( space ) );
+				for ( Serializable partition : partitions ) {
+					querySpaces.add( new QuerySpacePartition( space, partition ) );
+				}
+			}
+		}
+	}
+
 	/**
 	 * This method is now called once per execution of an ExecutableList or once for execution of an Execution.
 	 * 
@@ -486,7 +637,7 @@ public class ActionQueue {
 	private void invalidateSpaces(Serializable... spaces) {
 		if ( spaces != null && spaces.length > 0 ) {
 			for ( Serializable s : spaces ) {
-				afterTransactionProcesses.addSpaceToInvalidate( (String) s );
+				afterTransactionProcesses.addSpaceToInvalidate( s );
 			}
 			// Performance win: If we are processing an ExecutableList, this will only be called once
 			session.getFactory().getUpdateTimestampsCache().preInvalidate( spaces, session );
@@ -566,7 +717,7 @@ public class ActionQueue {
 
 	public void sortActions() {
 		if ( session.getFactory().getSessionFactoryOptions().isOrderUpdatesEnabled() ) {
-			// sort the updates by pk
+			// sort the updates by fk dependency, then pk
 			updates.sort();
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isOrderInsertsEnabled() ) {
@@ -719,13 +870,13 @@ public class ActionQueue {
 	 * Encapsulates behavior needed for after transaction processing
 	 */
 	private static class AfterTransactionCompletionProcessQueue extends AbstractTransactionCompletionProcessQueue<AfterTransactionCompletionProcess> {
-		private Set<String> querySpacesToInvalidate = new HashSet<String>();
+		private Set<Serializable> querySpacesToInvalidate = new HashSet<Serializable>();
 
 		private AfterTransactionCompletionProcessQueue(SessionImplementor session) {
 			super( session );
 		}
 
-		public void addSpaceToInvalidate(String space) {
+		public void addSpaceToInvalidate(Serializable space) {
 			querySpacesToInvalidate.add( space );
 		}
 
@@ -745,7 +896,7 @@ public class ActionQueue {
 
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 				session.getFactory().getUpdateTimestampsCache().invalidate(
-						querySpacesToInvalidate.toArray( new String[querySpacesToInvalidate.size()] ),
+						querySpacesToInvalidate.toArray( new Serializable[querySpacesToInvalidate.size()] ),
 						session
 				);
 			}
@@ -774,124 +925,196 @@ public class ActionQueue {
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * Sorts the insert actions using more hashes.
+	 * The insertions are topologically sorted according to the references between the inserted entities, as found
+	 * in their state.  Among the insertions which can be performed next, all those against the same entity are
+	 * taken together, and entities come in the {@link EntityDependencyOrder} of the factory, so that the entities
+	 * referenced by another entity are all inserted before that entity, in as few JDBC batches as possible.
 	 * </p>
 	 * NOTE: this class is not thread-safe.
 	 * 
 	 * @author Jay Erb
 	 */
 	private static class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
-		/**
-		 * Singleton access
-		 */
-		public static final InsertActionSorter INSTANCE = new InsertActionSorter();
-
-		// the mapping of entity names to their latest batch numbers.
-		private Map<String, Integer> latestBatches;
-		private Map<Object, Integer> entityBatchNumber;
+		private final SessionImplementor session;
 
-		// the map of batch numbers to EntityInsertAction lists
-		private Map<Integer, List<AbstractEntityInsertAction>> actionBatches;
-
-		public InsertActionSorter() {
+		public InsertActionSorter(SessionImplementor session) {
+			this.session = session;
 		}
 
 		/**
 		 * Sort the insert actions.
 		 */
+		@SuppressWarnings("unchecked")
 		public void sort(List<AbstractEntityInsertAction> insertions) {
-			// optimize the hash size to eliminate a rehash.
-			this.latestBatches = new HashMap<String, Integer>();
-			this.entityBatchNumber = new HashMap<Object, Integer>( insertions.size() + 1, 1.0f );
-			this.actionBatches = new HashMap<Integer, List<AbstractEntityInsertAction>>();
-
-			// the list of entity names that indicate the batch number
-			for ( AbstractEntityInsertAction action : insertions ) {
-				// remove the current element from insertions. It will be added back later.
-				String entityName = action.getEntityName();
-
-				// the entity associated with the current action.
-				Object currentEntity = action.getInstance();
-
-				Integer batchNumber;
-				if ( latestBatches.containsKey( entityName ) ) {
-					// There is already an existing batch for this type of entity.
-					// Check to see if the latest batch is acceptable.
-					batchNumber = findBatchNumber( action, entityName );
-				}
-				else {
-					// add an entry for this type of entity.
-					// we can be assured that all referenced entities have already
-					// been processed,
-					// so specify that this entity is with the latest batch.
-					// doing the batch number before adding the name to the list is
-					// a faster way to get an accurate number.
-
-					batchNumber = actionBatches.size();
-					latestBatches.put( entityName, batchNumber );
+			final int size = insertions.size();
+			if ( size < 2 ) {
+				return;
+			}
+			final AbstractEntityInsertAction[] actions = insertions.toArray( new AbstractEntityInsertAction[size] );
+			final Map<Object, Integer> actionIndexes = new IdentityHashMap<Object, Integer>( size );
+			for ( int i = 0; i < size; i++ ) {
+				actionIndexes.put( actions[i].getInstance(), i );
+			}
+
+			// for each action, the actions which have to wait for it and the number of actions it waits for
+			final List<Integer>[] dependents = new List[size];
+			final int[] pendingCounts = new int[size];
+			for ( int i = 0; i < size; i++ ) {
+				addDependencies(
+						i,
+						actions[i].getState(),
+						actions[i].getPersister().getPropertyTypes(),
+						actionIndexes,
+						dependents,
+						pendingCounts
+				);
+			}
+
+			final EntityDependencyOrder dependencyOrder = session.getFactory().getEntityDependencyOrder();
+			final Map<String, Queue<Integer>> readyActions = new HashMap<String, Queue<Integer>>();
+			final boolean[] ready = new boolean[size];
+			for ( int i = 0; i < size; i++ ) {
+				if ( pendingCounts[i] == 0 ) {
+					markReady( i, actions, ready, readyActions );
 				}
-				entityBatchNumber.put( currentEntity, batchNumber );
-				addToBatch( batchNumber, action );
 			}
+
 			insertions.clear();
+			int nextUnready = 0;
+			Queue<Integer> current = null;
+			while ( insertions.size() < size ) {
+				if ( current == null || current.isEmpty() ) {
+					current = selectNextEntity( readyActions, actions, dependencyOrder );
+					if ( current == null ) {
+						// the remaining entities reference each other, fall back to the original order for the
+						// first one (the transient references get nullified at insertion)
+						while ( ready[nextUnready] ) {
+							nextUnready++;
+						}
+						markReady( nextUnready, actions, ready, readyActions );
+						continue;
+					}
+				}
+				final int index = current.poll();
+				insertions.add( actions[index] );
+				if ( dependents[index] != null ) {
+					for ( int dependent : dependents[index] ) {
+						if ( --pendingCounts[dependent] == 0 && !ready[dependent] ) {
+							markReady( dependent, actions, ready, readyActions );
+						}
+					}
+				}
+			}
+		}
 
-			// now rebuild the insertions list. There is a batch for each entry in the name list.
-			for ( int i = 0; i < actionBatches.size(); i++ ) {
-				List<AbstractEntityInsertAction> batch = actionBatches.get( i );
-				insertions.addAll( batch );
+		private void addDependencies(
+				int index,
+				Object[] values,
+				Type[] types,
+				Map<Object, Integer> actionIndexes,
+				List<Integer>[] dependents,
+				int[] pendingCounts) {
+			for ( int i = 0; i < types.length; i++ ) {
+				final Object value = values[i];
+				if ( value == null ) {
+					continue;
+				}
+				final Type type = types[i];
+				if ( type.isEntityType() ) {
+					final Integer dependency = actionIndexes.get( value );
+					if ( dependency != null && dependency != index ) {
+						if ( dependents[dependency] == null ) {
+							dependents[dependency] = new ArrayList<Integer>();
+						}
+						dependents[dependency].add( index );
+						pendingCounts[index]++;
+					}
+				}
+				else if ( type.isComponentType() ) {
+					final CompositeType componentType = (CompositeType) type;
+					addDependencies(
+							index,
+							componentType.getPropertyValues( value, session ),
+							componentType.getSubtypes(),
+							actionIndexes,
+							dependents,
+							pendingCounts
+					);
+				}
 			}
 		}
 
+		private static void markReady(
+				int index,
+				AbstractEntityInsertAction[] actions,
+				boolean[] ready,
+				Map<String, Queue<Integer>> readyActions) {
+			ready[index] = true;
+			final String entityName = actions[index].getEntityName();
+			Queue<Integer> queue = readyActions.get( entityName );
+			if ( queue == null ) {
+				queue = new LinkedList<Integer>();
+				readyActions.put( entityName, queue );
+			}
+			queue.add( index );
+		}
+
 		/**
-		 * Finds an acceptable batch for this entity to be a member as part of the {@link InsertActionSorter}
-		 * 
-		 * @param action The action being sorted
-		 * @param entityName The name of the entity affected by the action
-		 * @return An appropriate batch number; todo document this process better
+		 * Selects the entity whose insertions should be performed next: the first one in the dependency order, then
+		 * the one whose first insertion comes first in the original order.
 		 */
-		private Integer findBatchNumber(AbstractEntityInsertAction action, String entityName) {
-			// loop through all the associated entities and make sure they have been
-			// processed before the latest
-			// batch associated with this entity type.
-
-			// the current batch number is the latest batch for this entity type.
-			Integer latestBatchNumberForType = latestBatches.get( entityName );
-
-			// loop through all the associations of the current entity and make sure that they are processed
-			// before the current batch number
-			Object[] propertyValues = action.getState();
-			Type[] propertyTypes = action.getPersister().getClassMetadata().getPropertyTypes();
-
-			for ( int i = 0; i < propertyValues.length; i++ ) {
-				Object value = propertyValues[i];
-				Type type = propertyTypes[i];
-				if ( type.isEntityType() && value != null ) {
-					// find the batch number associated with the current association, if any.
-					Integer associationBatchNumber = entityBatchNumber.get( value );
-					if ( associationBatchNumber != null && associationBatchNumber.compareTo( latestBatchNumberForType ) > 0 ) {
-						// create a new batch for this type. The batch number is the number of current batches.
-						latestBatchNumberForType = actionBatches.size();
-						latestBatches.put( entityName, latestBatchNumberForType );
-						// since this entity will now be processed in the latest possible batch,
-						// we can be assured that it will come after all other associations,
-						// there's not need to continue checking.
-						break;
-					}
+		private static Queue<Integer> selectNextEntity(
+				Map<String, Queue<Integer>> readyActions,
+				AbstractEntityInsertAction[] actions,
+				EntityDependencyOrder dependencyOrder) {
+			Queue<Integer> selected = null;
+			int selectedPosition = 0;
+			for ( Queue<Integer> queue : readyActions.values() ) {
+				if ( queue.isEmpty() ) {
+					continue;
+				}
+				final int position = dependencyOrder.getPosition( actions[queue.peek()].getEntityName() );
+				if ( selected == null
+						|| position < selectedPosition
+						|| ( position == selectedPosition && queue.peek() < selected.peek() ) ) {
+					selected = queue;
+					selectedPosition = position;
 				}
 			}
-			return latestBatchNumberForType;
+			return selected;
 		}
+	}
 
-		private void addToBatch(Integer batchNumber, AbstractEntityInsertAction action) {
-			List<AbstractEntityInsertAction> actions = actionBatches.get( batchNumber );
+	/**
+	 * Order the {@link #updates} queue such that we group updates against the same entity together, the entities
+	 * coming in the {@link EntityDependencyOrder} of the factory, and the updates against the same entity in
+	 * primary key order.
+	 */
+	private static class UpdateActionSorter implements ExecutableList.Sorter<EntityUpdateAction> {
+		private final SessionImplementor session;
 
-			if ( actions == null ) {
-				actions = new LinkedList<AbstractEntityInsertAction>();
-				actionBatches.put( batchNumber, actions );
-			}
-			actions.add( action );
+		public UpdateActionSorter(SessionImplementor session) {
+			this.session = session;
 		}
 
+		@Override
+		public void sort(List<EntityUpdateAction> updates) {
+			final EntityDependencyOrder dependencyOrder = session.getFactory().getEntityDependencyOrder();
+			Collections.sort(
+					updates,
+					new Comparator<EntityUpdateAction>() {
+						@Override
+						public int compare(EntityUpdateAction update, EntityUpdateAction other) {
+							final int position = dependencyOrder.getPosition( update.getEntityName() );
+							final int otherPosition = dependencyOrder.getPosition( other.getEntityName() );
+							if ( position != otherPosition ) {
+								return position < otherPosition ? -1 : 1;
+							}
+							return update.compareTo( other );
+						}
+					}
+			);
+		}
 	}
 
 }
@@ -0,0 +1,177 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
+
+/**
+ * Orders the entity types of a {@link SessionFactoryImplementor} by foreign-key dependency, as derived from the
+ * mapping: an entity type which holds a foreign key to another entity type (through a many-to-one or a
+ * constrained one-to-one association) comes after it.  Entity types which depend on each other, directly or not,
+ * (including self-referencing types) share the same position.
+ * <p/>
+ * Used by the {@link ActionQueue} to group the insertions and updates of each entity type together, and thus
+ * maximize JDBC batching, when ordering of inserts or updates is enabled, and by
+ * {@link org.hibernate.BulkWriter bulk writes} to decide which insertions may be written in parallel.
+ */
+public final class EntityDependencyOrder {
+	private final Map<String, Integer> positions;
+	private final Set<String> cyclicEntityNames;
+
+	private EntityDependencyOrder(Map<String, Integer> positions, Set<String> cyclicEntityNames) {
+		this.positions = positions;
+		this.cyclicEntityNames = cyclicEntityNames;
+	}
+
+	/**
+	 * Get the position of an entity type in the dependency order.
+	 *
+	 * @param entityName The entity name
+	 *
+	 * @return The position; entity types come after the types they reference, unknown entity names come last
+	 */
+	public int getPosition(String entityName) {
+		final Integer position = positions.get( entityName );
+		return position == null ? Integer.MAX_VALUE : position;
+	}
+
+	/**
+	 * Does an entity type depend on itself, directly or through the other entity types sharing its position?
+	 *
+	 * @param entityName The entity name
+	 *
+	 * @return {@code true} if the instances of the entity type may reference each other, or instances of the other
+	 * entity types sharing its position which reference them
+	 */
+	public boolean isCyclic(String entityName) {
+		return cyclicEntityNames.contains( entityName );
+	}
+
+	/**
+	 * Builds the dependency order of the given entity persisters.
+	 *
+	 * @param entityPersisters The entity persisters, by entity name
+	 *
+	 * @return The dependency order
+	 */
+	public static EntityDependencyOrder build(Map<String, EntityPersister> entityPersisters) {
+		// sorted so that the resulting order is reproducible
+		final Map<String, Set<String>> dependencies = new TreeMap<String, Set<String>>();
+		for ( EntityPersister persister : entityPersisters.values() ) {
+			final Set<String> referenced = new LinkedHashSet<String>();
+			collectReferencedEntityNames( persister.getPropertyTypes(), referenced );
+			final Set<String> dependsOn = new LinkedHashSet<String>();
+			for ( String entityName : referenced ) {
+				final EntityPersister referencedPersister = entityPersisters.get( entityName );
+				if ( referencedPersister == null ) {
+					continue;
+				}
+				// the instances of any subclass may be referenced
+				dependsOn.add( entityName );
+				if ( referencedPersister.getEntityMetamodel() != null ) {
+					for ( Object subclassEntityName : referencedPersister.getEntityMetamodel().getSubclassEntityNames() ) {
+						dependsOn.add( (String) subclassEntityName );
+					}
+				}
+			}
+			dependencies.put( persister.getEntityName(), dependsOn );
+		}
+		final Tarjan tarjan = new Tarjan( dependencies );
+		final Map<String, Integer> positions = tarjan.positions();
+		return new EntityDependencyOrder( positions, Collections.unmodifiableSet( tarjan.cyclicEntityNames ) );
+	}
+
+	private static void collectReferencedEntityNames(Type[] types, Set<String> entityNames) {
+		for ( Type type : types ) {
+			if ( type.isEntityType() ) {
+				final EntityType entityType = (EntityType) type;
+				if ( entityType.getForeignKeyDirection() == ForeignKeyDirection.FROM_PARENT ) {
+					entityNames.add( entityType.getAssociatedEntityName() );
+				}
+			}
+			else if ( type.isComponentType() ) {
+				collectReferencedEntityNames( ( (CompositeType) type ).getSubtypes(), entityNames );
+			}
+		}
+	}
+
+	/**
+	 * Tarjan's strongly connected components algorithm, which completes each component after all the components
+	 * it depends on: the order in which the components are completed is the dependency order.
+	 */
+	private static final class Tarjan {
+		private final Map<String, Set<String>> dependencies;
+		private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+		private final Map<String, Integer> lowLinks = new HashMap<String, Integer>();
+		private final List<String> stack = new ArrayList<String>();
+		private final Set<String> onStack = new HashSet<String>();
+		private final Map<String, Integer> positions = new HashMap<String, Integer>();
+		private final Set<String> cyclicEntityNames = new HashSet<String>();
+		private int index;
+		private int componentCount;
+
+		private Tarjan(Map<String, Set<String>> dependencies) {
+			this.dependencies = dependencies;
+		}
+
+		private Map<String, Integer> positions() {
+			for ( String entityName : dependencies.keySet() ) {
+				if ( !indexes.containsKey( entityName ) ) {
+					visit( entityName );
+				}
+			}
+			return Collections.unmodifiableMap( positions );
+		}
+
+		private void visit(String entityName) {
+			indexes.put( entityName, index );
+			lowLinks.put( entityName, index );
+			index++;
+			stack.add( entityName );
+			onStack.add( entityName );
+
+			for ( String dependency : dependencies.get( entityName ) ) {
+				if ( !indexes.containsKey( dependency ) ) {
+					visit( dependency );
+					lowLinks.put( entityName, Math.min( lowLinks.get( entityName ), lowLinks.get( dependency ) ) );
+				}
+				else if ( onStack.contains( dependency ) ) {
+					lowLinks.put( entityName, Math.min( lowLinks.get( entityName ), indexes.get( dependency ) ) );
+				}
+			}
+
+			if ( lowLinks.get( entityName ).equals( indexes.get( entityName ) ) ) {
+				final boolean cyclic = !stack.get( stack.size() - 1 ).equals( entityName )
+						|| dependencies.get( entityName ).contains( entityName );
+				String member;
+				do {
+					member = stack.remove( stack.size() - 1 );
+					onStack.remove( member );
+					positions.put( member, componentCount );
+					if ( cyclic ) {
+						cyclicEntityNames.add( member );
+					}
+				} while ( !member.equals( entityName ) );
+				componentCount++;
+			}
+		}
+	}
+}
@@ -117,6 +117,15 @@ public interface EntityEntry {
 
 	void forceLocked(Object entity, Object nextVersion);
 
+	/**
+	 * Callback from the enhanced setters of a {@link ModificationReportingEntity}, whenever one of its attributes
+	 * is changed.  A no-op unless modified entities are tracked
+	 * (see {@link PersistenceContext#registerModifiedEntity}).
+	 *
+	 * @param entity The modified entity
+	 */
+	void entityModified(Object entity);
+
 	boolean isReadOnly();
 
 	void setReadOnly(boolean readOnly, Object entity);
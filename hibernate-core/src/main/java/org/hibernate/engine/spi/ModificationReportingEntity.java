@@ -0,0 +1,17 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+/**
+ * Marker for a {@link SelfDirtinessTracker} entity whose setters also report every change to the
+ * {@link EntityEntry} of the entity (see {@link EntityEntry#entityModified}).  Introduced into the entity by
+ * bytecode enhancement; entities enhanced before the report was added, as well as entities implementing
+ * {@link SelfDirtinessTracker} themselves, do not implement it and so are never assumed to be clean when
+ * {@link org.hibernate.cfg.AvailableSettings#TRACK_MODIFIED_ENTITIES modified entities are tracked}.
+ */
+public interface ModificationReportingEntity extends SelfDirtinessTracker {
+}
@@ -489,6 +489,25 @@ public interface PersistenceContext {
 	 */
 	public Map.Entry<Object,EntityEntry>[] reentrantSafeEntityEntries();
 
+	/**
+	 * Provides access to the entity/EntityEntry combos which flushing needs to visit, in a manner that is safe
+	 * from reentrant access.  Unless modified entities are tracked (see
+	 * {@link org.hibernate.cfg.AvailableSettings#TRACK_MODIFIED_ENTITIES}), these are all the combos; otherwise
+	 * the bytecode enhanced entities known to be clean are left out.
+	 *
+	 * @return The entity/EntityEntry combos to flush
+	 */
+	public Map.Entry<Object,EntityEntry>[] reentrantSafeFlushableEntityEntries();
+
+	/**
+	 * Register an entity, which tracks its own changes, as modified since the last flush.  Called from the
+	 * enhanced setters (through {@link EntityEntry#entityModified}) and from field interceptors; a no-op unless
+	 * modified entities are tracked.
+	 *
+	 * @param entity The modified entity
+	 */
+	public void registerModifiedEntity(Object entity);
+
 	/**
 	 * Get the mapping from entity instance to entity entry
 	 *
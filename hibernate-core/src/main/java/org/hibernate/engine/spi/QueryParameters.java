@@ -43,6 +43,7 @@ public final class QueryParameters {
 	private RowSelection rowSelection;
 	private boolean cacheable;
 	private String cacheRegion;
+	private Serializable cachePartition;
 	private String comment;
 	private List<String> queryHints;
 	private ScrollMode scrollMode;
@@ -298,6 +299,14 @@ public final class QueryParameters {
 		this.cacheRegion = cacheRegion;
 	}
 
+	public Serializable getCachePartition() {
+		return cachePartition;
+	}
+
+	public void setCachePartition(Serializable cachePartition) {
+		this.cachePartition = cachePartition;
+	}
+
 	public void validateParameters() throws QueryException {
 		final int types = positionalParameterTypes == null ? 0 : positionalParameterTypes.length;
 		final int values = positionalParameterValues == null ? 0 : positionalParameterValues.length;
@@ -567,6 +576,7 @@ public final class QueryParameters {
 				this.optionalId,
 				this.resultTransformer
 		);
+		copy.cachePartition = this.cachePartition;
 		copy.processedSQL = this.processedSQL;
 		copy.processedPositionalParameterTypes = this.processedPositionalParameterTypes;
 		copy.processedPositionalParameterValues = this.processedPositionalParameterValues;
@@ -21,6 +21,8 @@ import org.hibernate.Interceptor;
 import org.hibernate.LobHelper;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.MultiNaturalIdLoadAccess;
 import org.hibernate.NaturalIdLoadAccess;
 import org.hibernate.Query;
 import org.hibernate.ReplicationMode;
@@ -667,6 +669,26 @@ public class SessionDelegatorBaseImpl implements SessionImplementor, Session {
 		return session.byId( entityClass );
 	}
 
+	@Override
+	public <T> MultiIdentifierLoadAccess<T> byMultipleIds(Class<T> entityClass) {
+		return session.byMultipleIds( entityClass );
+	}
+
+	@Override
+	public MultiIdentifierLoadAccess byMultipleIds(String entityName) {
+		return session.byMultipleIds( entityName );
+	}
+
+	@Override
+	public <T> MultiNaturalIdLoadAccess<T> byMultipleNaturalIds(Class<T> entityClass) {
+		return session.byMultipleNaturalIds( entityClass );
+	}
+
+	@Override
+	public MultiNaturalIdLoadAccess byMultipleNaturalIds(String entityName) {
+		return session.byMultipleNaturalIds( entityName );
+	}
+
 	@Override
 	public NaturalIdLoadAccess byNaturalId(String entityName) {
 		return session.byNaturalId( entityName );
@@ -8,6 +8,7 @@ package org.hibernate.engine.spi;
 
 import javax.naming.NamingException;
 import javax.naming.Reference;
+import java.io.Serializable;
 import java.sql.Connection;
 import java.util.Map;
 import java.util.Properties;
@@ -207,6 +208,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getQueryPlanCache();
 	}
 
+	@Override
+	public EntityDependencyOrder getEntityDependencyOrder() {
+		return delegate.getEntityDependencyOrder();
+	}
+
 	@Override
 	public Type[] getReturnTypes(String queryString) throws HibernateException {
 		return delegate.getReturnTypes( queryString );
@@ -327,6 +333,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getCollectionRolesByEntityParticipant( entityName );
 	}
 
+	@Override
+	public Type getQueryCachePartitionType(Serializable querySpace) {
+		return delegate.getQueryCachePartitionType( querySpace );
+	}
+
 	@Override
 	public EntityNotFoundDelegate getEntityNotFoundDelegate() {
 		return delegate.getEntityNotFoundDelegate();
@@ -130,6 +130,13 @@ public interface SessionFactoryImplementor extends Mapping, SessionFactory {
 
 	QueryPlanCache getQueryPlanCache();
 
+	/**
+	 * Get the order of the entity types by foreign-key dependency, as derived from the mapping.
+	 *
+	 * @return The entity dependency order
+	 */
+	EntityDependencyOrder getEntityDependencyOrder();
+
 	/**
 	 * Get the return types of a query
 	 */
@@ -266,6 +273,17 @@ public interface SessionFactoryImplementor extends Mapping, SessionFactory {
 	 */
 	Set<String> getCollectionRolesByEntityParticipant(String entityName);
 
+	/**
+	 * Retrieves the type of the query cache partitions of the given query space, that is the type of the
+	 * partition property of the entities stored in it (or of the identifier of the entity it associates).
+	 *
+	 * @param querySpace The query space
+	 * @return The partition type, or {@code null} if the query space is not partitioned.
+	 *
+	 * @see org.hibernate.cache.spi.QuerySpacePartition
+	 */
+	Type getQueryCachePartitionType(Serializable querySpace);
+
 	EntityNotFoundDelegate getEntityNotFoundDelegate();
 
 	SQLFunctionRegistry getSqlFunctionRegistry();
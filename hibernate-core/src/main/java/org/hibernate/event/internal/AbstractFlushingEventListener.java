@@ -8,6 +8,7 @@ package org.hibernate.event.internal;
 
 import java.io.Serializable;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.HibernateException;
 import org.hibernate.action.internal.CollectionRecreateAction;
@@ -63,6 +64,27 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 	 * @throws HibernateException Error flushing caches to execution queues.
 	 */
 	protected void flushEverythingToExecutions(FlushEvent event) throws HibernateException {
+		flushToExecutions( event, null );
+	}
+
+	/**
+	 * Like {@link #flushEverythingToExecutions}, except that only the entities which map to any of the given
+	 * query spaces, and the collections they own, are dirty checked.  Flush-time cascades are still processed
+	 * for all the entities.
+	 * <p/>
+	 * Collections which are not processed are left untouched, so {@link #postFlush(SessionImplementor, boolean)}
+	 * must be told that the flush was partial.
+	 *
+	 * @param event The flush event.
+	 * @param querySpaces The query spaces whose pending changes are to be flushed
+	 * @throws HibernateException Error flushing caches to execution queues.
+	 */
+	protected void flushQuerySpacesToExecutions(FlushEvent event, Set<? extends Serializable> querySpaces)
+			throws HibernateException {
+		flushToExecutions( event, new QuerySpaceFilter( event.getSession().getFactory(), querySpaces ) );
+	}
+
+	private void flushToExecutions(FlushEvent event, QuerySpaceFilter filter) throws HibernateException {
 
 		LOG.trace( "Flushing session" );
 
@@ -82,8 +104,8 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 
 		persistenceContext.setFlushing( true );
 		try {
-			int entityCount = flushEntities( event, persistenceContext );
-			int collectionCount = flushCollections( session, persistenceContext );
+			int entityCount = flushEntities( event, persistenceContext, filter );
+			int collectionCount = flushCollections( session, persistenceContext, filter );
 
 			event.setNumberOfEntitiesProcessed( entityCount );
 			event.setNumberOfCollectionsProcessed( collectionCount );
@@ -133,7 +155,7 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 
 		final Object anything = getAnything();
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
-		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeFlushableEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			EntityEntry entry = (EntityEntry) me.getValue();
 			Status status = entry.getStatus();
@@ -184,7 +206,10 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 	 * 2. schedule any entity updates
 	 * 3. search out any reachable collections
 	 */
-	private int flushEntities(final FlushEvent event, final PersistenceContext persistenceContext) throws HibernateException {
+	private int flushEntities(
+			final FlushEvent event,
+			final PersistenceContext persistenceContext,
+			final QuerySpaceFilter filter) throws HibernateException {
 
 		LOG.trace( "Flushing entities and processing referenced collections" );
 
@@ -200,8 +225,8 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 
 		// So this needs to be safe from concurrent modification problems.
 
-		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
-		final int count = entityEntries.length;
+		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeFlushableEntityEntries();
+		int count = 0;
 
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
 
@@ -210,6 +235,11 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
 
+			if ( filter != null && !filter.includes( entry ) ) {
+				continue;
+			}
+			count++;
+
 			if ( status != Status.LOADING && status != Status.GONE ) {
 				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
 				for ( FlushEntityEventListener listener : flushListeners ) {
@@ -228,17 +258,24 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 	 * scheduling creates/removes/updates
 	 */
 	@SuppressWarnings("unchecked")
-	private int flushCollections(final EventSource session, final PersistenceContext persistenceContext) throws HibernateException {
+	private int flushCollections(
+			final EventSource session,
+			final PersistenceContext persistenceContext,
+			final QuerySpaceFilter filter) throws HibernateException {
 		LOG.trace( "Processing unreferenced collections" );
 
 		final Map.Entry<PersistentCollection,CollectionEntry>[] entries = IdentityMap.concurrentEntries(
 				(Map<PersistentCollection,CollectionEntry>) persistenceContext.getCollectionEntries()
 		);
 
-		final int count = entries.length;
+		int count = 0;
 
 		for ( Map.Entry<PersistentCollection,CollectionEntry> me : entries ) {
 			CollectionEntry ce = me.getValue();
+			if ( filter != null && !filter.includes( me.getKey(), ce, persistenceContext ) ) {
+				continue;
+			}
+			count++;
 			if ( !ce.isReached() && !ce.isIgnore() ) {
 				Collections.processUnreachableCollection( me.getKey(), session );
 			}
@@ -254,6 +291,10 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 			PersistentCollection coll = me.getKey();
 			CollectionEntry ce = me.getValue();
 
+			if ( filter != null && !filter.includes( coll, ce, persistenceContext ) ) {
+				continue;
+			}
+
 			if ( ce.isDorecreate() ) {
 				session.getInterceptor().onCollectionRecreate( coll, ce.getCurrentKey() );
 				actionQueue.addAction(
@@ -351,6 +392,17 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 	 * 3. call Interceptor.postFlush()
 	 */
 	protected void postFlush(SessionImplementor session) throws HibernateException {
+		postFlush( session, false );
+	}
+
+	/**
+	 * Like {@link #postFlush(SessionImplementor)}, but following a flush which may have been restricted to some
+	 * query spaces, in which case the collections that were not processed are kept as they are.
+	 *
+	 * @param session The session which was flushed
+	 * @param partial Whether the flush was restricted to some query spaces
+	 */
+	protected void postFlush(SessionImplementor session, boolean partial) throws HibernateException {
 
 		LOG.trace( "Post flush" );
 
@@ -364,6 +416,17 @@ public abstract class AbstractFlushingEventListener implements Serializable {
 		for ( Map.Entry<PersistentCollection, CollectionEntry> me : IdentityMap.concurrentEntries( persistenceContext.getCollectionEntries() ) ) {
 			CollectionEntry collectionEntry = me.getValue();
 			PersistentCollection persistentCollection = me.getKey();
+			if ( partial && !collectionEntry.isProcessed() && !collectionEntry.isIgnore() ) {
+				// left out of the flush, just recreate the mapping between the collection and its key
+				if ( collectionEntry.getLoadedPersister() != null ) {
+					CollectionKey collectionKey = new CollectionKey(
+							collectionEntry.getLoadedPersister(),
+							collectionEntry.getLoadedKey()
+					);
+					persistenceContext.getCollectionsByKey().put( collectionKey, persistentCollection );
+				}
+				continue;
+			}
 			collectionEntry.postFlush(persistentCollection);
 			if ( collectionEntry.getLoadedPersister() == null ) {
 				//if the collection is dereferenced, unset its session reference and remove from the session cache
@@ -24,11 +24,13 @@ import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityEntryExtraState;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.persister.entity.EntityPersister;
@@ -199,6 +201,15 @@ public abstract class AbstractSaveEventListener extends AbstractReassociateEvent
 		return false;
 	}
 
+	/**
+	 * Identity inserts of entities whose persister batches them are delayed until flush time, even within a
+	 * transaction, so that they may be batched.
+	 */
+	private static boolean isIdentityInsertBatchable(EntityPersister persister) {
+		return persister instanceof PostInsertIdentityPersister
+				&& ( (PostInsertIdentityPersister) persister ).isIdentityInsertBatchable();
+	}
+
 	/**
 	 * Performs all the actual work needed to save an entity (well to get the save moved to
 	 * the execution queue).
@@ -227,7 +238,8 @@ public abstract class AbstractSaveEventListener extends AbstractReassociateEvent
 		Serializable id = key == null ? null : key.getIdentifier();
 
 		boolean inTxn = source.isTransactionInProgress();
-		boolean shouldDelayIdentityInserts = !inTxn && !requiresImmediateIdAccess;
+		boolean shouldDelayIdentityInserts = !requiresImmediateIdAccess
+				&& ( !inTxn || isIdentityInsertBatchable( persister ) );
 
 		// Put a placeholder in entries, so we don't recurse back and try to save() the
 		// same object again. QUESTION: should this be done before onSave() is called?
@@ -269,6 +281,11 @@ public abstract class AbstractSaveEventListener extends AbstractReassociateEvent
 				source
 		);
 
+		if ( entity instanceof SelfDirtinessTracker ) {
+			// the state to insert was just captured, only later changes make the entity dirty
+			( (SelfDirtinessTracker) entity ).$$_hibernate_clearDirtyAttributes();
+		}
+
 		AbstractEntityInsertAction insert = addInsertAction(
 				values, id, entity, persister, useIdentityColumn, source, shouldDelayIdentityInserts
 		);
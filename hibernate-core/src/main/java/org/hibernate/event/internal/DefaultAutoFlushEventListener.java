@@ -41,14 +41,20 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 				// Need to get the number of collection removals before flushing to executions
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final int oldSize = source.getActionQueue().numberOfCollectionRemovals();
-				flushEverythingToExecutions(event);
+				final boolean partial = isPartialFlushPossible( source );
+				if ( partial ) {
+					flushQuerySpacesToExecutions( event, event.getQuerySpaces() );
+				}
+				else {
+					flushEverythingToExecutions( event );
+				}
 				if ( flushIsReallyNeeded(event, source) ) {
 					LOG.trace( "Need to execute flush" );
 
 					// note: performExecutions() clears all collectionXxxxtion
 					// collections (the collection actions) in the session
 					performExecutions(source);
-					postFlush(source);
+					postFlush( source, partial );
 
 					postPostFlush( source );
 
@@ -78,6 +84,15 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 						source.getFlushMode()==FlushMode.ALWAYS;
 	}
 
+	/**
+	 * Only the entities which map to the query spaces need to be dirty checked, unless every change has to be
+	 * flushed anyway.
+	 */
+	private boolean isPartialFlushPossible(final EventSource source) {
+		return source.getFactory().getSessionFactoryOptions().isPartialAutoFlushEnabled()
+				&& source.getFlushMode() != FlushMode.ALWAYS;
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		return !source.getFlushMode().lessThan(FlushMode.AUTO) &&
 				source.getDontFlushFromFind() == 0 &&
@@ -330,9 +330,14 @@ public class DefaultFlushEntityEventListener implements FlushEntityEventListener
 			if ( event.hasDatabaseSnapshot() ) {
 				dirtyProperties = persister.findModified( event.getDatabaseSnapshot(), values, entity, session );
 			}
-			else {
+			else if ( entry.getLoadedState() != null ) {
 				dirtyProperties = persister.findDirty( values, entry.getLoadedState(), entity, session );
 			}
+			else {
+				// the entity tracks its own changes and no snapshot was kept: the interceptor changes are unknown
+				dirtyProperties = null;
+				event.setDirtyCheckPossible( false );
+			}
 			event.setDirtyProperties( dirtyProperties );
 		}
 
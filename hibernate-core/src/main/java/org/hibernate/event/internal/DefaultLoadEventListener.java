@@ -450,6 +450,9 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 						MessageHelper.infoString( persister, event.getEntityId(), event.getSession().getFactory() )
 				);
 			}
+			if ( !options.isLoadFromDatasource() ) {
+				return null;
+			}
 			entity = loadFromDatasource( event, persister, keyToLoad, options );
 		}
 
@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.internal;
+
+import java.io.Serializable;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.Type;
+
+/**
+ * Decides which entities and collections a partial flush has to process, given the query spaces (tables) whose
+ * pending changes must reach the database.
+ * <p/>
+ * An entity is processed when its persister writes to any of the query spaces, or when any of the collections it
+ * owns does.  A collection is processed when it was reached from a processed entity, or when its owner is of a
+ * processed type (so that a collection which is no longer referenced is still detected as such).
+ * <p/>
+ * Deletions are always executed by a flush, whatever the tables involved, so deleted entities and the
+ * collections they owned are always processed: the collection removals must precede the deletion of their owner.
+ * <p/>
+ * Meant to be used for the duration of a single flush.
+ */
+final class QuerySpaceFilter {
+	private final SessionFactoryImplementor factory;
+	private final Set<? extends Serializable> querySpaces;
+
+	private final Map<EntityPersister, Boolean> includedEntityPersisters = new IdentityHashMap<EntityPersister, Boolean>();
+
+	QuerySpaceFilter(SessionFactoryImplementor factory, Set<? extends Serializable> querySpaces) {
+		this.factory = factory;
+		this.querySpaces = querySpaces;
+	}
+
+	/**
+	 * Does the entity of the given entry have to be flushed?
+	 *
+	 * @param entry The entity entry
+	 *
+	 * @return {@code true} if the entity was deleted or maps to any of the query spaces
+	 */
+	boolean includes(EntityEntry entry) {
+		return entry.getStatus() == Status.DELETED || includes( entry.getPersister() );
+	}
+
+	/**
+	 * Do the entities of the given persister have to be dirty checked?
+	 *
+	 * @param persister The entity persister
+	 *
+	 * @return {@code true} if the entities map to any of the query spaces
+	 */
+	boolean includes(EntityPersister persister) {
+		Boolean included = includedEntityPersisters.get( persister );
+		if ( included == null ) {
+			included = intersects( persister.getPropertySpaces() )
+					|| ( persister.hasCollections() && ownsIncludedCollection( persister.getPropertyTypes() ) );
+			includedEntityPersisters.put( persister, included );
+		}
+		return included;
+	}
+
+	/**
+	 * Does the given collection have to be processed?
+	 *
+	 * @param collection The collection
+	 * @param entry The collection entry
+	 * @param persistenceContext The persistence context being flushed
+	 *
+	 * @return {@code true} if the collection was reached by the flush, is owned by an entity which is
+	 * dirty checked, or its owner is deleted
+	 */
+	boolean includes(PersistentCollection collection, CollectionEntry entry, PersistenceContext persistenceContext) {
+		if ( entry.isReached() ) {
+			return true;
+		}
+		final CollectionPersister loadedPersister = entry.getLoadedPersister();
+		if ( loadedPersister == null ) {
+			return false;
+		}
+		if ( includes( loadedPersister.getOwnerEntityPersister() ) ) {
+			return true;
+		}
+		final Object owner = collection.getOwner();
+		final EntityEntry ownerEntry = owner == null ? null : persistenceContext.getEntry( owner );
+		return ownerEntry == null || ownerEntry.getStatus() == Status.DELETED || ownerEntry.getStatus() == Status.GONE;
+	}
+
+	private boolean ownsIncludedCollection(Type[] types) {
+		for ( Type type : types ) {
+			if ( type.isCollectionType() ) {
+				final String role = ( (CollectionType) type ).getRole();
+				if ( intersects( factory.getCollectionPersister( role ).getCollectionSpaces() ) ) {
+					return true;
+				}
+			}
+			else if ( type.isComponentType() ) {
+				if ( ownsIncludedCollection( ( (CompositeType) type ).getSubtypes() ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean intersects(Serializable[] spaces) {
+		for ( Serializable space : spaces ) {
+			if ( querySpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
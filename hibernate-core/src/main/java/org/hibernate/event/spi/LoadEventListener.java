@@ -38,6 +38,17 @@ public interface LoadEventListener extends Serializable {
 			.setCheckDeleted( true )
 			.setNakedEntityReturned( false );
 
+	/**
+	 * Like {@link #GET}, but only resolves the entity from the persistence context or the second-level cache: the
+	 * result is {@code null} rather than read from the database when neither holds it.
+	 */
+	public static final LoadType GET_FROM_CACHE = new LoadType( "GET_FROM_CACHE" )
+			.setAllowNulls( true )
+			.setAllowProxyCreation( false )
+			.setCheckDeleted( true )
+			.setNakedEntityReturned( false )
+			.setLoadFromDatasource( false );
+
 	public static final LoadType LOAD = new LoadType( "LOAD" )
 			.setAllowNulls( false )
 			.setAllowProxyCreation( true )
@@ -75,6 +86,7 @@ public interface LoadEventListener extends Serializable {
 		private boolean allowNulls;
 		private boolean checkDeleted;
 		private boolean allowProxyCreation;
+		private boolean loadFromDatasource = true;
 
 		private LoadType(String name) {
 			this.name = name;
@@ -116,6 +128,15 @@ public interface LoadEventListener extends Serializable {
 			return this;
 		}
 
+		public boolean isLoadFromDatasource() {
+			return loadFromDatasource;
+		}
+
+		private LoadType setLoadFromDatasource(boolean loadFromDatasource) {
+			this.loadFromDatasource = loadFromDatasource;
+			return this;
+		}
+
 		public String getName() {
 			return name;
 		}
@@ -9,6 +9,7 @@ package org.hibernate.hql.internal.ast;
 import org.hibernate.hql.internal.ast.tree.Node;
 
 import antlr.ASTFactory;
+import antlr.collections.AST;
 
 /**
  * User: Joshua Davis<br>
@@ -26,4 +27,10 @@ public class HqlASTFactory extends ASTFactory {
 	public Class getASTNodeType(int tokenType) {
 		return Node.class;
 	}
+
+	@Override
+	protected AST create(Class c) {
+		// avoids the reflective instantiation for the only node type used
+		return c == Node.class ? new Node() : super.create( c );
+	}
 }
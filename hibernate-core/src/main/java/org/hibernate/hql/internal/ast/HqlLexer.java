@@ -24,6 +24,10 @@ class HqlLexer extends HqlBaseLexer {
 		super( in );
 	}
 
+	public HqlLexer(String hql) {
+		super( new QueryStringReader( hql ) );
+	}
+
 	@Override
 	public void setTokenObjectClass(String cl) {
 		this.tokenObjectClass = HqlToken.class;
@@ -36,7 +40,11 @@ class HqlLexer extends HqlBaseLexer {
 
 	@Override
 	protected Token makeToken(int i) {
-		HqlToken token = (HqlToken) super.makeToken( i );
+		// instantiated directly rather than reflectively through the token object class
+		HqlToken token = new HqlToken();
+		token.setType( i );
+		token.setColumn( inputState.getTokenStartColumn() );
+		token.setLine( inputState.getTokenStartLine() );
 		token.setPossibleID( possibleID );
 		possibleID = false;
 		return token;
@@ -53,4 +61,37 @@ class HqlLexer extends HqlBaseLexer {
 		//overriden to avoid System.exit
 		throw new QueryException( s );
 	}
+
+	/**
+	 * A reader of the query string which, unlike {@link java.io.StringReader}, does not synchronize each of the
+	 * single character reads {@link antlr.CharBuffer} does.
+	 */
+	private static class QueryStringReader extends Reader {
+		private final String query;
+		private int position;
+
+		private QueryStringReader(String query) {
+			this.query = query;
+		}
+
+		@Override
+		public int read() {
+			return position < query.length() ? query.charAt( position++ ) : -1;
+		}
+
+		@Override
+		public int read(char[] buffer, int offset, int length) {
+			if ( position >= query.length() ) {
+				return -1;
+			}
+			final int count = Math.min( length, query.length() - position );
+			query.getChars( position, position + count, buffer, offset );
+			position += count;
+			return count;
+		}
+
+		@Override
+		public void close() {
+		}
+	}
 }
@@ -8,7 +8,6 @@ package org.hibernate.hql.internal.ast;
 
 import java.io.PrintStream;
 import java.io.PrintWriter;
-import java.io.StringReader;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -40,12 +39,9 @@ import antlr.collections.AST;
 public final class HqlParser extends HqlBaseParser {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( HqlParser.class );
 
-	private final ParseErrorHandler parseErrorHandler;
-	private final ASTPrinter printer = getASTPrinter();
+	private static final ASTPrinter HQL_TOKEN_PRINTER = new ASTPrinter( org.hibernate.hql.internal.antlr.HqlTokenTypes.class );
 
-	private static ASTPrinter getASTPrinter() {
-		return new ASTPrinter( org.hibernate.hql.internal.antlr.HqlTokenTypes.class );
-	}
+	private final ParseErrorHandler parseErrorHandler;
 
 	/**
 	 * Get a HqlParser instance for the given HQL string.
@@ -60,7 +56,7 @@ public final class HqlParser extends HqlBaseParser {
 
 	private HqlParser(String hql) {
 		// The fix for HHH-558...
-		super( new HqlLexer( new StringReader( hql ) ) );
+		super( new HqlLexer( hql ) );
 		parseErrorHandler = new ErrorCounter( hql );
 		// Create nodes that track line and column number.
 		setASTFactory( new HqlASTFactory() );
@@ -362,7 +358,7 @@ public final class HqlParser extends HqlBaseParser {
 	}
 
 	private void showAst(AST ast, PrintWriter pw) {
-		printer.showAst( ast, pw );
+		HQL_TOKEN_PRINTER.showAst( ast, pw );
 	}
 
 	@Override
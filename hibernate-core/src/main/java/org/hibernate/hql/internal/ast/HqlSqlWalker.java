@@ -102,6 +102,8 @@ import antlr.collections.AST;
 public class HqlSqlWalker extends HqlSqlBaseWalker implements ErrorReporter, ParameterBinder.NamedParameterSource {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( HqlSqlWalker.class );
 
+	private static final ASTPrinter SQL_TOKEN_PRINTER = new ASTPrinter( SqlTokenTypes.class );
+
 	private final QueryTranslatorImpl queryTranslatorImpl;
 	private final HqlParser hqlParser;
 	private final SessionFactoryHelper sessionFactoryHelper;
@@ -109,7 +111,6 @@ public class HqlSqlWalker extends HqlSqlBaseWalker implements ErrorReporter, Par
 	private final AliasGenerator aliasGenerator = new AliasGenerator();
 	private final LiteralProcessor literalProcessor;
 	private final ParseErrorHandler parseErrorHandler;
-	private final ASTPrinter printer;
 	private final String collectionFilterRole;
 
 	private FromClause currentFromClause;
@@ -161,7 +162,6 @@ public class HqlSqlWalker extends HqlSqlBaseWalker implements ErrorReporter, Par
 		this.tokenReplacements = tokenReplacements;
 		this.collectionFilterRole = collectionRole;
 		this.hqlParser = parser;
-		this.printer = new ASTPrinter( SqlTokenTypes.class );
 	}
 
 	// handle trace logging ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -184,7 +184,7 @@ public class HqlSqlWalker extends HqlSqlBaseWalker implements ErrorReporter, Par
 	private String buildTraceNodeName(AST tree) {
 		return tree == null
 				? "???"
-				: tree.getText() + " [" + printer.getTokenTypeName( tree.getType() ) + "]";
+				: tree.getText() + " [" + SQL_TOKEN_PRINTER.getTokenTypeName( tree.getType() ) + "]";
 	}
 
 	@Override
@@ -1182,7 +1182,7 @@ public class HqlSqlWalker extends HqlSqlBaseWalker implements ErrorReporter, Par
 	}
 
 	public ASTPrinter getASTPrinter() {
-		return printer;
+		return SQL_TOKEN_PRINTER;
 	}
 
 	public ArrayList<ParameterSpecification> getParameters() {
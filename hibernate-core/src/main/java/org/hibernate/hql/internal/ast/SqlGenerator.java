@@ -43,6 +43,8 @@ import antlr.collections.AST;
 public class SqlGenerator extends SqlGeneratorBase implements ErrorReporter {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( SqlGenerator.class );
 
+	private static final ASTPrinter SQL_TOKEN_PRINTER = new ASTPrinter( SqlTokenTypes.class );
+
 	public static boolean REGRESSION_STYLE_CROSS_JOINS;
 
 	/**
@@ -57,7 +59,6 @@ public class SqlGenerator extends SqlGeneratorBase implements ErrorReporter {
 	private ParseErrorHandler parseErrorHandler;
 	private SessionFactoryImplementor sessionFactory;
 	private LinkedList<SqlWriter> outputStack = new LinkedList<SqlWriter>();
-	private final ASTPrinter printer = new ASTPrinter( SqlTokenTypes.class );
 	private List<ParameterSpecification> collectedParameters = new ArrayList<ParameterSpecification>();
 
 
@@ -81,7 +82,7 @@ public class SqlGenerator extends SqlGeneratorBase implements ErrorReporter {
 	private String buildTraceNodeName(AST tree) {
 		return tree == null
 				? "???"
-				: tree.getText() + " [" + printer.getTokenTypeName( tree.getType() ) + "]";
+				: tree.getText() + " [" + SQL_TOKEN_PRINTER.getTokenTypeName( tree.getType() ) + "]";
 	}
 
 	@Override
@@ -62,7 +62,11 @@ public class BasicExecutor implements StatementExecutor {
 	
 	protected int doExecute(QueryParameters parameters, SessionImplementor session, String sql,
 			List parameterSpecifications) throws HibernateException {
-		BulkOperationCleanupAction action = new BulkOperationCleanupAction( session, persister );
+		BulkOperationCleanupAction action = new BulkOperationCleanupAction(
+				session,
+				new Queryable[] { persister },
+				parameters.getCachePartition()
+		);
 		if ( session.isEventSource() ) {
 			( (EventSource) session ).getActionQueue().addAction( action );
 		}
@@ -13,6 +13,7 @@ import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.hql.internal.ast.HqlSqlWalker;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
+import org.hibernate.persister.entity.Queryable;
 
 /**
  * Implementation of MultiTableUpdateExecutor.
@@ -35,7 +36,11 @@ public class MultiTableUpdateExecutor implements StatementExecutor {
 	}
 
 	public int execute(QueryParameters parameters, SessionImplementor session) throws HibernateException {
-		BulkOperationCleanupAction action = new BulkOperationCleanupAction( session, updateHandler.getTargetedQueryable() );
+		BulkOperationCleanupAction action = new BulkOperationCleanupAction(
+				session,
+				new Queryable[] { updateHandler.getTargetedQueryable() },
+				parameters.getCachePartition()
+		);
 
 		if ( session.isEventSource() ) {
 			( (EventSource) session ).getActionQueue().addAction( action );
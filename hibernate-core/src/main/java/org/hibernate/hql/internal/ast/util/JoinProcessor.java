@@ -196,9 +196,9 @@ public class JoinProcessor implements SqlTokenTypes {
 			final String sqlFragment,
 			final ParameterContainer container,
 			final HqlSqlWalker walker) {
-		if ( walker.getEnabledFilters().isEmpty()
-				&& ( !hasDynamicFilterParam( sqlFragment ) )
-				&& ( !( hasCollectionFilterParam( sqlFragment ) ) ) ) {
+		// only the parameters of the enabled filters are expanded
+		if ( walker.getEnabledFilters().isEmpty() || !hasDynamicFilterParam( sqlFragment ) ) {
+			container.setText( sqlFragment );
 			return;
 		}
 
@@ -244,10 +244,6 @@ public class JoinProcessor implements SqlTokenTypes {
 	}
 
 	private static boolean hasDynamicFilterParam(String sqlFragment) {
-		return !sqlFragment.contains( ParserHelper.HQL_VARIABLE_PREFIX );
-	}
-
-	private static boolean hasCollectionFilterParam(String sqlFragment) {
-		return !sqlFragment.contains( "?" );
+		return sqlFragment.contains( ParserHelper.HQL_VARIABLE_PREFIX );
 	}
 }
@@ -10,16 +10,20 @@ import java.io.Serializable;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.id.insert.AbstractReturningDelegate;
 import org.hibernate.id.insert.AbstractSelectingDelegate;
+import org.hibernate.id.insert.Binder;
 import org.hibernate.id.insert.IdentifierGeneratingInsert;
 import org.hibernate.id.insert.InsertGeneratedIdentifierDelegate;
 import org.hibernate.id.insert.InsertSelectIdentityInsert;
+import org.hibernate.pretty.MessageHelper;
 
 /**
  * A generator for use with ANSI-SQL IDENTITY columns used as the primary key.
@@ -97,6 +101,77 @@ public class IdentityGenerator extends AbstractPostInsertGenerator {
 				}
 			}
 		}
+
+		/**
+		 * Perform the given inserts as a single JDBC batch, reading the generated identity values back from
+		 * {@link PreparedStatement#getGeneratedKeys()} once the batch is executed.  Requires a JDBC driver which
+		 * returns the keys generated by every statement of the batch, see
+		 * {@link Dialect#supportsGetGeneratedKeysForBatch()}.
+		 *
+		 * @param insertSQL The insert SQL
+		 * @param session The session
+		 * @param binders The binders of the values to insert, one per row
+		 *
+		 * @return The generated identity values, in the order of the binders
+		 */
+		public Serializable[] performBatchInsert(String insertSQL, SessionImplementor session, List<Binder> binders) {
+			final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+			try {
+				final PreparedStatement insert = prepare( insertSQL, session );
+				try {
+					for ( Binder binder : binders ) {
+						binder.bindValues( insert );
+						insert.addBatch();
+					}
+					try {
+						jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchStart();
+						insert.executeBatch();
+					}
+					finally {
+						jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteBatchEnd();
+					}
+					if ( session.getFactory().getStatistics().isStatisticsEnabled() ) {
+						session.getFactory().getStatisticsImplementor().executeBatch( binders.size() );
+					}
+					return extractGeneratedIdentities( insert, binders.size(), session );
+				}
+				finally {
+					releaseStatement( insert, session );
+				}
+			}
+			catch (SQLException sqle) {
+				throw session.getFactory().getSQLExceptionHelper().convert(
+						sqle,
+						"could not insert: " + MessageHelper.infoString( persister ),
+						insertSQL
+				);
+			}
+		}
+
+		private Serializable[] extractGeneratedIdentities(PreparedStatement insert, int rowCount, SessionImplementor session)
+				throws SQLException {
+			final ResultSet rs = insert.getGeneratedKeys();
+			try {
+				final Serializable[] ids = new Serializable[rowCount];
+				for ( int i = 0; i < rowCount; i++ ) {
+					if ( !rs.next() ) {
+						throw new HibernateException(
+								"The database returned " + i + " natively generated identity values for a batch of "
+										+ rowCount + " inserts"
+						);
+					}
+					ids[i] = IdentifierGeneratorHelper.get(
+							rs,
+							persister.getRootTableKeyColumnNames()[0],
+							persister.getIdentifierType()
+					);
+				}
+				return ids;
+			}
+			finally {
+				session.getJdbcCoordinator().getResourceRegistry().release( rs, insert );
+			}
+		}
 	}
 
 	/**
@@ -5,6 +5,9 @@
  * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
  */
 package org.hibernate.id;
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 
 /**
@@ -40,4 +43,25 @@ public interface PostInsertIdentityPersister extends EntityPersister {
 	 * @return The primary key column names.
 	 */
 	public String[] getRootTableKeyColumnNames();
+
+	/**
+	 * Can the inserts of entities of this type be executed as JDBC batches, the generated identity values being
+	 * read back once the batch is executed?
+	 *
+	 * @return {@code true} if {@link #insert(Object[][], Object[], SessionImplementor)} may be used.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_IDENTITY_INSERTS
+	 */
+	public boolean isIdentityInsertBatchable();
+
+	/**
+	 * Insert the given entities, using a single JDBC batch.
+	 *
+	 * @param fields The state to insert, per entity
+	 * @param objects The entities
+	 * @param session The session
+	 *
+	 * @return The generated identifiers, in the order of the entities
+	 */
+	public Serializable[] insert(Object[][] fields, Object[] objects, SessionImplementor session);
 }
@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.Future;
+
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.service.Service;
+
+/**
+ * SessionFactory-scoped service used by optimizers which obtain blocks of values in the background,
+ * such as {@link PooledLoPrefetchOptimizer}.  Background work is executed on threads owned by the
+ * service, which are released when the SessionFactory is closed.
+ */
+public interface IdentifierPrefetchService extends Service {
+	/**
+	 * Build an isolation delegate which obtains its connections from the SessionFactory's connection
+	 * provider, rather than through a session.
+	 *
+	 * @param tenantIdentifier The tenant for which connections are needed, or {@code null}
+	 *
+	 * @return The isolation delegate
+	 */
+	public IsolationDelegate buildIsolationDelegate(String tenantIdentifier);
+
+	/**
+	 * Request the next value from the given callback in the background.
+	 *
+	 * @param isolatedCallback A callback which does not reference any session
+	 *
+	 * @return The pending value, or {@code null} if background work is not possible anymore (because
+	 * the SessionFactory is being closed)
+	 */
+	public Future<IntegralDataTypeHolder> prefetch(AccessCallback isolatedCallback);
+}
@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.env.internal.JdbcEnvironmentInitiator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Standard implementation of {@link IdentifierPrefetchService}.  The executor is only created once a
+ * prefetch is first requested, and is shut down when the SessionFactory service registry is destroyed.
+ */
+public class IdentifierPrefetchServiceImpl implements IdentifierPrefetchService, Stoppable {
+	private final ServiceRegistryImplementor serviceRegistry;
+	private final boolean multiTenant;
+
+	private ExecutorService executor;
+	private boolean stopped;
+
+	public IdentifierPrefetchServiceImpl(ServiceRegistryImplementor serviceRegistry, boolean multiTenant) {
+		this.serviceRegistry = serviceRegistry;
+		this.multiTenant = multiTenant;
+	}
+
+	@Override
+	public IsolationDelegate buildIsolationDelegate(String tenantIdentifier) {
+		final JdbcConnectionAccess connectionAccess;
+		if ( !multiTenant ) {
+			connectionAccess = new JdbcEnvironmentInitiator.ConnectionProviderJdbcConnectionAccess(
+					serviceRegistry.getService( ConnectionProvider.class )
+			);
+		}
+		else {
+			if ( tenantIdentifier == null ) {
+				throw new HibernateException( "Tenant identifier required!" );
+			}
+			connectionAccess = new TenantJdbcConnectionAccess(
+					serviceRegistry.getService( MultiTenantConnectionProvider.class ),
+					tenantIdentifier
+			);
+		}
+		return new JdbcIsolationDelegate(
+				connectionAccess,
+				serviceRegistry.getService( JdbcServices.class ).getSqlExceptionHelper()
+		);
+	}
+
+	@Override
+	public synchronized Future<IntegralDataTypeHolder> prefetch(final AccessCallback isolatedCallback) {
+		if ( stopped ) {
+			return null;
+		}
+		if ( executor == null ) {
+			executor = Executors.newCachedThreadPool( new PrefetchThreadFactory() );
+		}
+		try {
+			return executor.submit(
+					new Callable<IntegralDataTypeHolder>() {
+						@Override
+						public IntegralDataTypeHolder call() throws Exception {
+							return isolatedCallback.getNextValue();
+						}
+					}
+			);
+		}
+		catch (RejectedExecutionException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+		stopped = true;
+		if ( executor != null ) {
+			executor.shutdown();
+			executor = null;
+		}
+	}
+
+	private static class PrefetchThreadFactory implements ThreadFactory {
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable, "hibernate-id-prefetch-" + counter.incrementAndGet() );
+			thread.setDaemon( true );
+			return thread;
+		}
+	}
+
+	private static class TenantJdbcConnectionAccess implements JdbcConnectionAccess {
+		private final MultiTenantConnectionProvider connectionProvider;
+		private final String tenantIdentifier;
+
+		private TenantJdbcConnectionAccess(MultiTenantConnectionProvider connectionProvider, String tenantIdentifier) {
+			this.connectionProvider = connectionProvider;
+			this.tenantIdentifier = tenantIdentifier;
+		}
+
+		@Override
+		public Connection obtainConnection() throws SQLException {
+			return connectionProvider.getConnection( tenantIdentifier );
+		}
+
+		@Override
+		public void releaseConnection(Connection connection) throws SQLException {
+			connectionProvider.releaseConnection( tenantIdentifier, connection );
+		}
+
+		@Override
+		public boolean supportsAggressiveRelease() {
+			return connectionProvider.supportsAggressiveRelease();
+		}
+	}
+}
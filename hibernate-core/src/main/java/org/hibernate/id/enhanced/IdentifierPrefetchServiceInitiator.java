@@ -0,0 +1,38 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+
+/**
+ * Initiator for the {@link IdentifierPrefetchService}
+ */
+public class IdentifierPrefetchServiceInitiator implements SessionFactoryServiceInitiator<IdentifierPrefetchService> {
+	/**
+	 * Singleton access
+	 */
+	public static final IdentifierPrefetchServiceInitiator INSTANCE = new IdentifierPrefetchServiceInitiator();
+
+	@Override
+	public IdentifierPrefetchService initiateService(
+			SessionFactoryImplementor sessionFactory,
+			SessionFactoryOptions sessionFactoryOptions,
+			ServiceRegistryImplementor registry) {
+		return new IdentifierPrefetchServiceImpl(
+				registry,
+				sessionFactoryOptions.getMultiTenancyStrategy().requiresMultiTenantConnectionProvider()
+		);
+	}
+
+	@Override
+	public Class<IdentifierPrefetchService> getServiceInitiated() {
+		return IdentifierPrefetchService.class;
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+/**
+ * Optional contract for an {@link AccessCallback} which is also able to reach the underlying value
+ * source outside of the session it was built for.  Used by optimizers which obtain values in the
+ * background, such as {@link PooledLoPrefetchOptimizer}.
+ */
+public interface IsolatableAccessCallback extends AccessCallback {
+	/**
+	 * Access to the SessionFactory-scoped service executing the background work.
+	 *
+	 * @return The prefetch service
+	 */
+	public IdentifierPrefetchService getPrefetchService();
+
+	/**
+	 * Build a callback which obtains values through a connection and transaction isolated from those of
+	 * the originating session.  This method is called from the thread owning the session; the returned
+	 * callback is built from SessionFactory-level services only (see
+	 * {@link IdentifierPrefetchService#buildIsolationDelegate}), so it does not reference the session,
+	 * nor report to its listeners, and may be used from any thread.
+	 *
+	 * @return The isolated callback
+	 */
+	public AccessCallback buildIsolatedCallback();
+}
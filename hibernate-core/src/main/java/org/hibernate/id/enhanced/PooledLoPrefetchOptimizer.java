@@ -0,0 +1,185 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which reserves the next block of values in the background.
+ * <p/>
+ * Once the {@link #injectPrefetchThreshold prefetch threshold} fraction of the current block has been
+ * handed out, the next block is requested on a separate thread through a connection and transaction
+ * isolated from the session (see {@link IsolatableAccessCallback}), using the threads of the
+ * SessionFactory's {@link IdentifierPrefetchService}.  When the current block is exhausted
+ * the prefetched block is simply switched in, so that in steady state generating a value does not
+ * access the database on the inserting thread.
+ * <p/>
+ * If the callback does not support isolated access, or if prefetching fails, the next block is obtained
+ * synchronously just like {@link PooledLoOptimizer} does.
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoPrefetchOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoPrefetchOptimizer.class.getName()
+	);
+
+	/**
+	 * The default fraction of a block to consume before the next block is prefetched.
+	 */
+	public static final double DEFAULT_PREFETCH_THRESHOLD = 0.5;
+
+	private static class GenerationState {
+		// last value read from db source
+		private IntegralDataTypeHolder lastSourceValue;
+		// the current generator value
+		private IntegralDataTypeHolder value;
+		// the value at which we'll hit the db again
+		private IntegralDataTypeHolder upperLimitValue;
+		// the value at which we'll start fetching the next block
+		private IntegralDataTypeHolder prefetchValue;
+		// the next block, if already requested
+		private Future<IntegralDataTypeHolder> nextBlock;
+	}
+
+	private double prefetchThreshold = DEFAULT_PREFETCH_THRESHOLD;
+
+	/**
+	 * Constructs a PooledLoPrefetchOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoPrefetchOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	/**
+	 * Defines the fraction of each block which is consumed before the next block is requested.
+	 *
+	 * @param prefetchThreshold The fraction, at least 0 and less than 1.
+	 */
+	public synchronized void injectPrefetchThreshold(double prefetchThreshold) {
+		if ( Double.isNaN( prefetchThreshold ) || prefetchThreshold < 0 || prefetchThreshold >= 1 ) {
+			throw new HibernateException( "prefetch threshold must be at least 0 and less than 1 : " + prefetchThreshold );
+		}
+		this.prefetchThreshold = prefetchThreshold;
+	}
+
+	public double getPrefetchThreshold() {
+		return prefetchThreshold;
+	}
+
+	@Override
+	public synchronized Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+
+		if ( generationState.lastSourceValue == null
+				|| ! generationState.value.lt( generationState.upperLimitValue ) ) {
+			generationState.lastSourceValue = obtainNextBlock( generationState, callback );
+			generationState.upperLimitValue = generationState.lastSourceValue.copy().add( incrementSize );
+			generationState.value = generationState.lastSourceValue.copy();
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			while ( generationState.value.lt( 1 ) ) {
+				generationState.value.increment();
+			}
+			generationState.prefetchValue = generationState.value.copy().add( prefetchOffset() );
+		}
+
+		if ( generationState.nextBlock == null
+				&& ! generationState.value.lt( generationState.prefetchValue )
+				&& callback instanceof IsolatableAccessCallback ) {
+			final IsolatableAccessCallback isolatableCallback = (IsolatableAccessCallback) callback;
+			generationState.nextBlock = isolatableCallback.getPrefetchService().prefetch(
+					isolatableCallback.buildIsolatedCallback()
+			);
+		}
+
+		return generationState.value.makeValueThenIncrement();
+	}
+
+	private int prefetchOffset() {
+		return (int) Math.ceil( incrementSize * prefetchThreshold );
+	}
+
+	private IntegralDataTypeHolder obtainNextBlock(GenerationState generationState, AccessCallback callback) {
+		final Future<IntegralDataTypeHolder> nextBlock = generationState.nextBlock;
+		generationState.nextBlock = null;
+		if ( nextBlock != null ) {
+			try {
+				return nextBlock.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				LOG.debug( "Interrupted waiting for prefetched block of values; obtaining it synchronously" );
+			}
+			catch (ExecutionException e) {
+				LOG.debug( "Unable to prefetch block of values; obtaining it synchronously", e.getCause() );
+			}
+		}
+		return callback.getNextValue();
+	}
+
+	private GenerationState noTenantState;
+	private Map<String,GenerationState> tenantSpecificState;
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			if ( noTenantState == null ) {
+				noTenantState = new GenerationState();
+			}
+			return noTenantState;
+		}
+		else {
+			GenerationState state;
+			if ( tenantSpecificState == null ) {
+				tenantSpecificState = new ConcurrentHashMap<String, GenerationState>();
+				state = new GenerationState();
+				tenantSpecificState.put( tenantIdentifier, state );
+			}
+			else {
+				state = tenantSpecificState.get( tenantIdentifier );
+				if ( state == null ) {
+					state = new GenerationState();
+					tenantSpecificState.put( tenantIdentifier, state );
+				}
+			}
+			return state;
+		}
+	}
+
+	private GenerationState noTenantGenerationState() {
+		if ( noTenantState == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return noTenantState;
+	}
+
+	@Override
+	public synchronized IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantGenerationState().lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+import org.jboss.logging.Logger;
+
+/**
+ * Variation of {@link PooledLoOptimizer} which hands out each block of values to a single thread.
+ * <p/>
+ * Every thread keeps its own in-memory range, so generating a value from that range needs no
+ * synchronization at all.  The optimizer only locks when a thread has exhausted its range and must
+ * call {@link AccessCallback#getNextValue()} to reserve a new block from the database.
+ * <p/>
+ * Note that, since blocks are not shared between threads, the generated values are not monotonically
+ * increasing across threads and a block may be left partially unused when a thread dies.
+ *
+ * @see PooledLoOptimizer
+ */
+public class PooledLoThreadLocalOptimizer extends AbstractOptimizer {
+	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledLoThreadLocalOptimizer.class.getName()
+	);
+
+	private static class GenerationState {
+		// last value read from db source
+		private IntegralDataTypeHolder lastSourceValue;
+		// the current generator value
+		private IntegralDataTypeHolder value;
+		// the value at which we'll hit the db again
+		private IntegralDataTypeHolder upperLimitValue;
+
+		private boolean isExhausted() {
+			return lastSourceValue == null || !value.lt( upperLimitValue );
+		}
+	}
+
+	private final ThreadLocal<GenerationState> noTenantState = new ThreadLocal<GenerationState>() {
+		@Override
+		protected GenerationState initialValue() {
+			return new GenerationState();
+		}
+	};
+
+	private final ThreadLocal<Map<String, GenerationState>> tenantSpecificState
+			= new ThreadLocal<Map<String, GenerationState>>() {
+		@Override
+		protected Map<String, GenerationState> initialValue() {
+			return new HashMap<String, GenerationState>();
+		}
+	};
+
+	private volatile IntegralDataTypeHolder lastSourceValue;
+
+	/**
+	 * Constructs a PooledLoThreadLocalOptimizer.
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledLoThreadLocalOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		LOG.creatingPooledLoOptimizer( incrementSize, returnClass.getName() );
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+
+		if ( generationState.isExhausted() ) {
+			// only reserving a new block needs to be serialized; the state itself is confined to this thread
+			final IntegralDataTypeHolder sourceValue;
+			synchronized ( this ) {
+				sourceValue = callback.getNextValue();
+				lastSourceValue = sourceValue;
+			}
+			generationState.lastSourceValue = sourceValue;
+			generationState.upperLimitValue = sourceValue.copy().add( incrementSize );
+			generationState.value = sourceValue.copy();
+			// handle cases where initial-value is less that one (hsqldb for instance).
+			while ( generationState.value.lt( 1 ) ) {
+				generationState.value.increment();
+			}
+		}
+		return generationState.value.makeValueThenIncrement();
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState.get();
+		}
+		else {
+			final Map<String, GenerationState> states = tenantSpecificState.get();
+			GenerationState state = states.get( tenantIdentifier );
+			if ( state == null ) {
+				state = new GenerationState();
+				states.put( tenantIdentifier, state );
+			}
+			return state;
+		}
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		if ( lastSourceValue == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+}
@@ -6,9 +6,11 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.HibernateException;
 import org.hibernate.boot.model.relational.Database;
@@ -17,10 +19,15 @@ import org.hibernate.boot.model.relational.Schema;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.AbstractReturningWork;
 
 import org.jboss.logging.Logger;
 
@@ -42,7 +49,7 @@ public class SequenceStructure implements DatabaseStructure {
 	private final Class numberType;
 	private final String sql;
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 
 	public SequenceStructure(
 			JdbcEnvironment jdbcEnvironment,
@@ -73,7 +80,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -83,10 +90,10 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public AccessCallback buildCallback(final SessionImplementor session) {
-		return new AccessCallback() {
+		return new IsolatableAccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
+				accessCounter.incrementAndGet();
 				try {
 					final PreparedStatement st = session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
 					try {
@@ -128,6 +135,59 @@ public class SequenceStructure implements DatabaseStructure {
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public IdentifierPrefetchService getPrefetchService() {
+				return session.getFactory().getServiceRegistry().getService( IdentifierPrefetchService.class );
+			}
+
+			@Override
+			public AccessCallback buildIsolatedCallback() {
+				final String tenantIdentifier = session.getTenantIdentifier();
+				final IsolationDelegate isolationDelegate = getPrefetchService().buildIsolationDelegate( tenantIdentifier );
+				final SqlStatementLogger statementLogger = session.getFactory().getServiceRegistry()
+						.getService( JdbcServices.class )
+						.getSqlStatementLogger();
+				return new AccessCallback() {
+					@Override
+					public IntegralDataTypeHolder getNextValue() {
+						return isolationDelegate.delegateWork(
+								new AbstractReturningWork<IntegralDataTypeHolder>() {
+									@Override
+									public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+										statementLogger.logStatement( sql, FormatStyle.BASIC.getFormatter() );
+										final PreparedStatement st = connection.prepareStatement( sql );
+										try {
+											final ResultSet rs = st.executeQuery();
+											try {
+												rs.next();
+												final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+												value.initialize( rs, 1 );
+												if ( LOG.isDebugEnabled() ) {
+													LOG.debugf( "Sequence value obtained (isolated): %s", value.makeValue() );
+												}
+												accessCounter.incrementAndGet();
+												return value;
+											}
+											finally {
+												rs.close();
+											}
+										}
+										finally {
+											st.close();
+										}
+									}
+								},
+								true
+						);
+					}
+
+					@Override
+					public String getTenantIdentifier() {
+						return tenantIdentifier;
+					}
+				};
+			}
 		};
 	}
 
@@ -158,6 +158,13 @@ public class SequenceStyleGenerator
 	 */
 	public static final String OPT_PARAM = "optimizer";
 
+	/**
+	 * Indicates the fraction of a block consumed before the next block is prefetched, when using
+	 * {@link StandardOptimizerDescriptor#POOLED_LO_PREFETCH}.  The default value is
+	 * {@link PooledLoPrefetchOptimizer#DEFAULT_PREFETCH_THRESHOLD}
+	 */
+	public static final String PREFETCH_THRESHOLD_PARAM = "prefetch_threshold";
+
 	/**
 	 * A flag to force using a table as the underlying structure rather than a sequence.
 	 */
@@ -251,6 +258,22 @@ public class SequenceStyleGenerator
 				incrementSize,
 				ConfigurationHelper.getInt( INITIAL_PARAM, params, -1 )
 		);
+		if ( optimizer instanceof PooledLoPrefetchOptimizer ) {
+			final String prefetchThreshold = ConfigurationHelper.getString( PREFETCH_THRESHOLD_PARAM, params );
+			if ( prefetchThreshold != null ) {
+				final double threshold;
+				try {
+					threshold = Double.parseDouble( prefetchThreshold.trim() );
+				}
+				catch (NumberFormatException e) {
+					throw new MappingException(
+							"Unable to parse " + PREFETCH_THRESHOLD_PARAM + " [" + prefetchThreshold + "] as a number",
+							e
+					);
+				}
+				( (PooledLoPrefetchOptimizer) optimizer ).injectPrefetchThreshold( threshold );
+			}
+		}
 		this.databaseStructure.prepare( optimizer );
 	}
 
@@ -38,7 +38,19 @@ public enum StandardOptimizerDescriptor {
 	 * Describes the optimizer for use with tables/sequences that store the chunk information.  Here, specifically the
 	 * lo value is stored in the database.
 	 */
-	POOLED_LO( "pooled-lo", PooledLoOptimizer.class, true );
+	POOLED_LO( "pooled-lo", PooledLoOptimizer.class, true ),
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.  Here, specifically the
+	 * lo value is stored in the database and each thread is handed its own chunk, so that generating values from
+	 * an already reserved chunk does not need to lock.
+	 */
+	POOLED_LOTL( "pooled-lotl", PooledLoThreadLocalOptimizer.class, true ),
+	/**
+	 * Describes the optimizer for use with tables/sequences that store the chunk information.  Here, specifically the
+	 * lo value is stored in the database and the next chunk is reserved in the background before the current one
+	 * is exhausted.
+	 */
+	POOLED_LO_PREFETCH( "pooled-lo-prefetch", PooledLoPrefetchOptimizer.class, true );
 
 	private static final Logger log = Logger.getLogger( StandardOptimizerDescriptor.class );
 
@@ -96,6 +108,12 @@ public enum StandardOptimizerDescriptor {
 		else if ( POOLED_LO.externalName.equals( externalName ) ) {
 			return POOLED_LO;
 		}
+		else if ( POOLED_LOTL.externalName.equals( externalName ) ) {
+			return POOLED_LOTL;
+		}
+		else if ( POOLED_LO_PREFETCH.externalName.equals( externalName ) ) {
+			return POOLED_LO_PREFETCH;
+		}
 		else {
 			log.debugf( "Unknown optimizer key [%s]; returning null assuming Optimizer impl class name", externalName );
 			return null;
@@ -15,6 +15,7 @@ import java.sql.Types;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -27,12 +28,14 @@ import org.hibernate.boot.model.relational.QualifiedNameParser;
 import org.hibernate.boot.model.relational.Schema;
 import org.hibernate.cfg.Environment;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
 import org.hibernate.id.Configurable;
 import org.hibernate.id.ExportableColumn;
 import org.hibernate.id.IdentifierGeneratorHelper;
@@ -121,6 +124,11 @@ import org.jboss.logging.Logger;
  *     <td><i>depends on defined increment size</i></td>
  *     <td>Allows explicit definition of which optimization strategy to use</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@link #PREFETCH_THRESHOLD_PARAM}</td>
+ *     <td>{@link PooledLoPrefetchOptimizer#DEFAULT_PREFETCH_THRESHOLD}</td>
+ *     <td>The fraction of a block consumed before the next one is prefetched; only used by {@link PooledLoPrefetchOptimizer}</td>
+ *   </tr>
  * </table>
  *
  * @author Steve Ebersole
@@ -217,6 +225,13 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 	 */
 	public static final String OPT_PARAM = "optimizer";
 
+	/**
+	 * Indicates the fraction of a block consumed before the next block is prefetched, when using
+	 * {@link StandardOptimizerDescriptor#POOLED_LO_PREFETCH}.  The default value is
+	 * {@link PooledLoPrefetchOptimizer#DEFAULT_PREFETCH_THRESHOLD}
+	 */
+	public static final String PREFETCH_THRESHOLD_PARAM = "prefetch_threshold";
+
 
 	private Type identifierType;
 
@@ -236,7 +251,7 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 	private String updateQuery;
 
 	private Optimizer optimizer;
-	private long accessCount;
+	private final AtomicLong accessCount = new AtomicLong();
 
 	@Override
 	public Object generatorKey() {
@@ -341,7 +356,7 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 	 * @return Value for property 'tableAccessCount'.
 	 */
 	public final long getTableAccessCount() {
-		return accessCount;
+		return accessCount.get();
 	}
 
 	@Override
@@ -381,6 +396,22 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 				incrementSize,
 				ConfigurationHelper.getInt( INITIAL_PARAM, params, -1 )
 		);
+		if ( optimizer instanceof PooledLoPrefetchOptimizer ) {
+			final String prefetchThreshold = ConfigurationHelper.getString( PREFETCH_THRESHOLD_PARAM, params );
+			if ( prefetchThreshold != null ) {
+				final double threshold;
+				try {
+					threshold = Double.parseDouble( prefetchThreshold.trim() );
+				}
+				catch (NumberFormatException e) {
+					throw new MappingException(
+							"Unable to parse " + PREFETCH_THRESHOLD_PARAM + " [" + prefetchThreshold + "] as a number",
+							e
+					);
+				}
+				( (PooledLoPrefetchOptimizer) optimizer ).injectPrefetchThreshold( threshold );
+			}
+		}
 	}
 
 	/**
@@ -525,77 +556,11 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 		final SessionEventListenerManager statsCollector = session.getEventListenerManager();
 
 		return optimizer.generate(
-				new AccessCallback() {
+				new IsolatableAccessCallback() {
 					@Override
 					public IntegralDataTypeHolder getNextValue() {
 						return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
-								new AbstractReturningWork<IntegralDataTypeHolder>() {
-									@Override
-									public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-										final IntegralDataTypeHolder value = makeValue();
-										int rows;
-										do {
-											final PreparedStatement selectPS = prepareStatement( connection, selectQuery, statementLogger, statsCollector );
-
-											try {
-												selectPS.setString( 1, segmentValue );
-												final ResultSet selectRS = executeQuery( selectPS, statsCollector );
-												if ( !selectRS.next() ) {
-													value.initialize( initialValue );
-
-													final PreparedStatement insertPS = prepareStatement( connection, insertQuery, statementLogger, statsCollector );
-													try {
-														insertPS.setString( 1, segmentValue );
-														value.bind( insertPS, 2 );
-														executeUpdate( insertPS, statsCollector );
-													}
-													finally {
-														insertPS.close();
-													}
-												}
-												else {
-													value.initialize( selectRS, 1 );
-												}
-												selectRS.close();
-											}
-											catch (SQLException e) {
-												LOG.unableToReadOrInitHiValue( e );
-												throw e;
-											}
-											finally {
-												selectPS.close();
-											}
-
-
-											final PreparedStatement updatePS = prepareStatement( connection, updateQuery, statementLogger, statsCollector );
-											try {
-												final IntegralDataTypeHolder updateValue = value.copy();
-												if ( optimizer.applyIncrementSizeToSourceValues() ) {
-													updateValue.add( incrementSize );
-												}
-												else {
-													updateValue.increment();
-												}
-												updateValue.bind( updatePS, 1 );
-												value.bind( updatePS, 2 );
-												updatePS.setString( 3, segmentValue );
-												rows = executeUpdate( updatePS, statsCollector );
-											}
-											catch (SQLException e) {
-												LOG.unableToUpdateQueryHiValue( renderedTableName, e );
-												throw e;
-											}
-											finally {
-												updatePS.close();
-											}
-										}
-										while ( rows == 0 );
-
-										accessCount++;
-
-										return value;
-									}
-								},
+								buildNextValueWork( statementLogger, statsCollector ),
 								true
 						);
 					}
@@ -604,10 +569,108 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 					public String getTenantIdentifier() {
 						return session.getTenantIdentifier();
 					}
+
+					@Override
+					public IdentifierPrefetchService getPrefetchService() {
+						return session.getFactory().getServiceRegistry().getService( IdentifierPrefetchService.class );
+					}
+
+					@Override
+					public AccessCallback buildIsolatedCallback() {
+						final String tenantIdentifier = session.getTenantIdentifier();
+						final IsolationDelegate isolationDelegate = getPrefetchService().buildIsolationDelegate( tenantIdentifier );
+						return new AccessCallback() {
+							@Override
+							public IntegralDataTypeHolder getNextValue() {
+								// connections come from the SessionFactory, so there are no session listeners to report to
+								return isolationDelegate.delegateWork(
+										buildNextValueWork( statementLogger, new SessionEventListenerManagerImpl() ),
+										true
+								);
+							}
+
+							@Override
+							public String getTenantIdentifier() {
+								return tenantIdentifier;
+							}
+						};
+					}
 				}
 		);
 	}
 
+	private AbstractReturningWork<IntegralDataTypeHolder> buildNextValueWork(
+			final SqlStatementLogger statementLogger,
+			final SessionEventListenerManager statsCollector) {
+		return new AbstractReturningWork<IntegralDataTypeHolder>() {
+			@Override
+			public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+				final IntegralDataTypeHolder value = makeValue();
+				int rows;
+				do {
+					final PreparedStatement selectPS = prepareStatement( connection, selectQuery, statementLogger, statsCollector );
+
+					try {
+						selectPS.setString( 1, segmentValue );
+						final ResultSet selectRS = executeQuery( selectPS, statsCollector );
+						if ( !selectRS.next() ) {
+							value.initialize( initialValue );
+
+							final PreparedStatement insertPS = prepareStatement( connection, insertQuery, statementLogger, statsCollector );
+							try {
+								insertPS.setString( 1, segmentValue );
+								value.bind( insertPS, 2 );
+								executeUpdate( insertPS, statsCollector );
+							}
+							finally {
+								insertPS.close();
+							}
+						}
+						else {
+							value.initialize( selectRS, 1 );
+						}
+						selectRS.close();
+					}
+					catch (SQLException e) {
+						LOG.unableToReadOrInitHiValue( e );
+						throw e;
+					}
+					finally {
+						selectPS.close();
+					}
+
+
+					final PreparedStatement updatePS = prepareStatement( connection, updateQuery, statementLogger, statsCollector );
+					try {
+						final IntegralDataTypeHolder updateValue = value.copy();
+						if ( optimizer.applyIncrementSizeToSourceValues() ) {
+							updateValue.add( incrementSize );
+						}
+						else {
+							updateValue.increment();
+						}
+						updateValue.bind( updatePS, 1 );
+						value.bind( updatePS, 2 );
+						updatePS.setString( 3, segmentValue );
+						rows = executeUpdate( updatePS, statsCollector );
+					}
+					catch (SQLException e) {
+						LOG.unableToUpdateQueryHiValue( renderedTableName, e );
+						throw e;
+					}
+					finally {
+						updatePS.close();
+					}
+				}
+				while ( rows == 0 );
+
+				accessCount.incrementAndGet();
+
+				return value;
+			}
+		};
+	}
+
 	private PreparedStatement prepareStatement(
 			Connection connection,
 			String sql,
@@ -11,6 +11,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -20,12 +21,14 @@ import org.hibernate.boot.model.relational.InitCommand;
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Schema;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
 import org.hibernate.id.ExportableColumn;
 import org.hibernate.id.IdentifierGenerationException;
 import org.hibernate.id.IdentifierGeneratorHelper;
@@ -60,7 +63,7 @@ public class TableStructure implements DatabaseStructure {
 	private final String updateQuery;
 
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 
 	public TableStructure(
 			JdbcEnvironment jdbcEnvironment,
@@ -109,7 +112,7 @@ public class TableStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -128,58 +131,11 @@ public class TableStructure implements DatabaseStructure {
 				.getSqlStatementLogger();
 		final SessionEventListenerManager statsCollector = session.getEventListenerManager();
 
-		return new AccessCallback() {
+		return new IsolatableAccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
 				return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
-						new AbstractReturningWork<IntegralDataTypeHolder>() {
-							@Override
-							public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-								final IntegralDataTypeHolder value = makeValue();
-								int rows;
-								do {
-									final PreparedStatement selectStatement = prepareStatement( connection, selectQuery, statementLogger, statsCollector );
-									try {
-										final ResultSet selectRS = executeQuery( selectStatement, statsCollector );
-										if ( !selectRS.next() ) {
-											final String err = "could not read a hi value - you need to populate the table: " + tableNameText;
-											LOG.error( err );
-											throw new IdentifierGenerationException( err );
-										}
-										value.initialize( selectRS, 1 );
-										selectRS.close();
-									}
-									catch (SQLException sqle) {
-										LOG.error( "could not read a hi value", sqle );
-										throw sqle;
-									}
-									finally {
-										selectStatement.close();
-									}
-
-
-									final PreparedStatement updatePS = prepareStatement( connection, updateQuery, statementLogger, statsCollector );
-									try {
-										final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
-										final IntegralDataTypeHolder updateValue = value.copy().add( increment );
-										updateValue.bind( updatePS, 1 );
-										value.bind( updatePS, 2 );
-										rows = executeUpdate( updatePS, statsCollector );
-									}
-									catch (SQLException e) {
-										LOG.unableToUpdateQueryHiValue( tableNameText, e );
-										throw e;
-									}
-									finally {
-										updatePS.close();
-									}
-								} while ( rows == 0 );
-
-								accessCounter++;
-
-								return value;
-							}
-						},
+						buildNextValueWork( statementLogger, statsCollector ),
 						true
 				);
 			}
@@ -188,6 +144,85 @@ public class TableStructure implements DatabaseStructure {
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public IdentifierPrefetchService getPrefetchService() {
+				return session.getFactory().getServiceRegistry().getService( IdentifierPrefetchService.class );
+			}
+
+			@Override
+			public AccessCallback buildIsolatedCallback() {
+				final String tenantIdentifier = session.getTenantIdentifier();
+				final IsolationDelegate isolationDelegate = getPrefetchService().buildIsolationDelegate( tenantIdentifier );
+				return new AccessCallback() {
+					@Override
+					public IntegralDataTypeHolder getNextValue() {
+						// connections come from the SessionFactory, so there are no session listeners to report to
+						return isolationDelegate.delegateWork(
+								buildNextValueWork( statementLogger, new SessionEventListenerManagerImpl() ),
+								true
+						);
+					}
+
+					@Override
+					public String getTenantIdentifier() {
+						return tenantIdentifier;
+					}
+				};
+			}
+		};
+	}
+
+	private AbstractReturningWork<IntegralDataTypeHolder> buildNextValueWork(
+			final SqlStatementLogger statementLogger,
+			final SessionEventListenerManager statsCollector) {
+		return new AbstractReturningWork<IntegralDataTypeHolder>() {
+			@Override
+			public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+				final IntegralDataTypeHolder value = makeValue();
+				int rows;
+				do {
+					final PreparedStatement selectStatement = prepareStatement( connection, selectQuery, statementLogger, statsCollector );
+					try {
+						final ResultSet selectRS = executeQuery( selectStatement, statsCollector );
+						if ( !selectRS.next() ) {
+							final String err = "could not read a hi value - you need to populate the table: " + tableNameText;
+							LOG.error( err );
+							throw new IdentifierGenerationException( err );
+						}
+						value.initialize( selectRS, 1 );
+						selectRS.close();
+					}
+					catch (SQLException sqle) {
+						LOG.error( "could not read a hi value", sqle );
+						throw sqle;
+					}
+					finally {
+						selectStatement.close();
+					}
+
+
+					final PreparedStatement updatePS = prepareStatement( connection, updateQuery, statementLogger, statsCollector );
+					try {
+						final int increment = applyIncrementSizeToSourceValues ? incrementSize : 1;
+						final IntegralDataTypeHolder updateValue = value.copy().add( increment );
+						updateValue.bind( updatePS, 1 );
+						value.bind( updatePS, 2 );
+						rows = executeUpdate( updatePS, statsCollector );
+					}
+					catch (SQLException e) {
+						LOG.unableToUpdateQueryHiValue( tableNameText, e );
+						throw e;
+					}
+					finally {
+						updatePS.close();
+					}
+				} while ( rows == 0 );
+
+				accessCounter.incrementAndGet();
+
+				return value;
+			}
 		};
 	}
 
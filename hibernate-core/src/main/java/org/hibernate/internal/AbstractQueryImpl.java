@@ -86,6 +86,7 @@ public abstract class AbstractQueryImpl implements Query {
 	private RowSelection selection;
 	private boolean cacheable;
 	private String cacheRegion;
+	private Serializable cachePartition;
 	private String comment;
 	private final List<String> queryHints = new ArrayList<String>();
 	private FlushMode flushMode;
@@ -149,6 +150,17 @@ public abstract class AbstractQueryImpl implements Query {
 		return this;
 	}
 
+	@Override
+	public Serializable getCachePartition() {
+		return cachePartition;
+	}
+
+	@Override
+	public Query setCachePartition(Serializable cachePartition) {
+		this.cachePartition = cachePartition;
+		return this;
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return flushMode;
@@ -1001,6 +1013,7 @@ public abstract class AbstractQueryImpl implements Query {
 				resultTransformer
 		);
 		queryParameters.setQueryPlan( queryPlan );
+		queryParameters.setCachePartition( cachePartition );
 		return queryParameters;
 	}
 
@@ -0,0 +1,377 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.BulkWriter;
+import org.hibernate.HibernateException;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.EntityDependencyOrder;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Standard implementation of {@link BulkWriter}: the entities are buffered by entity type, and each full buffer is
+ * queued as a chunk for the workers, which write it in a transaction of their own stateless session.
+ */
+public class BulkWriterImpl implements BulkWriter {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BulkWriterImpl.class );
+
+	private static final int DEFAULT_PARALLELISM = 4;
+	private static final int DEFAULT_COMMIT_INTERVAL = 10000;
+
+	private final StatelessSessionImpl session;
+	private int parallelism = DEFAULT_PARALLELISM;
+	private int commitInterval = DEFAULT_COMMIT_INTERVAL;
+
+	BulkWriterImpl(StatelessSessionImpl session) {
+		this.session = session;
+	}
+
+	@Override
+	public BulkWriter parallelism(int parallelism) {
+		if ( parallelism < 1 ) {
+			throw new IllegalArgumentException( "The parallelism of a bulk write has to be positive: " + parallelism );
+		}
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	@Override
+	public BulkWriter commitInterval(int commitInterval) {
+		if ( commitInterval < 1 ) {
+			throw new IllegalArgumentException( "The commit interval of a bulk write has to be positive: " + commitInterval );
+		}
+		this.commitInterval = commitInterval;
+		return this;
+	}
+
+	@Override
+	public long insert(Iterable<?> entities) {
+		return write( entities, true );
+	}
+
+	@Override
+	public long update(Iterable<?> entities) {
+		return write( entities, false );
+	}
+
+	private long write(Iterable<?> entities, boolean insert) {
+		session.errorIfClosed();
+		final long start = System.currentTimeMillis();
+		final Run run = new Run( insert );
+		boolean completed = false;
+		try {
+			for ( Object entity : entities ) {
+				run.add( session.getEntityPersister( null, entity ).getEntityName(), entity );
+			}
+			run.submitAll();
+			completed = true;
+		}
+		finally {
+			run.close( completed );
+		}
+		run.checkFailure();
+
+		final long time = System.currentTimeMillis() - start;
+		final SessionFactoryImplementor factory = session.getFactory();
+		if ( factory.getStatistics().isStatisticsEnabled() ) {
+			factory.getStatisticsImplementor().bulkWriteCompleted( time );
+		}
+		final long rowCount = run.rowCount.get();
+		LOG.debugf( "Bulk write of %s entities completed in %s ms", rowCount, time );
+		return rowCount;
+	}
+
+	private static final class Chunk {
+		private final String entityName;
+		private final List<Object> entities;
+
+		private Chunk(String entityName, List<Object> entities) {
+			this.entityName = entityName;
+			this.entities = entities;
+		}
+	}
+
+	/**
+	 * Marks the end of the chunks, for a worker.
+	 */
+	private static final Chunk END = new Chunk( null, null );
+
+	/**
+	 * A bulk write in progress.
+	 */
+	private class Run {
+		private final boolean insert;
+		private final EntityDependencyOrder dependencyOrder;
+
+		private final Map<String, List<Object>> buffers = new HashMap<String, List<Object>>();
+		// the number of chunks queued but not written yet, by entity name; guarded by itself
+		private final Map<String, Integer> pendingChunks = new HashMap<String, Integer>();
+
+		private final BlockingQueue<Chunk> queue;
+		private final ExecutorService executor;
+		private final AtomicLong rowCount = new AtomicLong();
+		private final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		private volatile boolean aborted;
+
+		private Run(boolean insert) {
+			this.insert = insert;
+			this.dependencyOrder = session.getFactory().getEntityDependencyOrder();
+			this.queue = new ArrayBlockingQueue<Chunk>( parallelism );
+			this.executor = Executors.newFixedThreadPool( parallelism );
+			for ( int i = 0; i < parallelism; i++ ) {
+				executor.execute( new Worker() );
+			}
+		}
+
+		private void add(String entityName, Object entity) {
+			List<Object> buffer = buffers.get( entityName );
+			if ( buffer == null ) {
+				buffer = new ArrayList<Object>();
+				buffers.put( entityName, buffer );
+			}
+			buffer.add( entity );
+			if ( buffer.size() >= commitInterval ) {
+				submit( entityName );
+			}
+		}
+
+		/**
+		 * Submits the remaining buffers, in dependency order so that none of them waits needlessly.
+		 */
+		private void submitAll() {
+			final List<String> entityNames = new ArrayList<String>( buffers.keySet() );
+			Collections.sort(
+					entityNames,
+					new Comparator<String>() {
+						@Override
+						public int compare(String entityName1, String entityName2) {
+							final int position1 = dependencyOrder.getPosition( entityName1 );
+							final int position2 = dependencyOrder.getPosition( entityName2 );
+							return position1 < position2 ? -1 : ( position1 == position2 ? 0 : 1 );
+						}
+					}
+			);
+			for ( String entityName : entityNames ) {
+				if ( buffers.containsKey( entityName ) ) {
+					submit( entityName );
+				}
+			}
+		}
+
+		private void submit(String entityName) {
+			final List<Object> entities = buffers.remove( entityName );
+			if ( insert ) {
+				// the entities which may be referenced have to be committed first
+				final int position = dependencyOrder.getPosition( entityName );
+				final boolean cyclic = dependencyOrder.isCyclic( entityName );
+				for ( String bufferedEntityName : new ArrayList<String>( buffers.keySet() ) ) {
+					if ( buffers.containsKey( bufferedEntityName )
+							&& mustPrecede( bufferedEntityName, position, cyclic ) ) {
+						submit( bufferedEntityName );
+					}
+				}
+				awaitPrecedingChunks( position, cyclic );
+			}
+			checkFailure();
+
+			synchronized ( pendingChunks ) {
+				final Integer count = pendingChunks.get( entityName );
+				pendingChunks.put( entityName, count == null ? 1 : count + 1 );
+			}
+			try {
+				queue.put( new Chunk( entityName, entities ) );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while queueing entities for bulk write", e );
+			}
+		}
+
+		private boolean mustPrecede(String entityName, int position, boolean cyclic) {
+			final int entityPosition = dependencyOrder.getPosition( entityName );
+			return entityPosition < position || ( cyclic && entityPosition == position );
+		}
+
+		private void awaitPrecedingChunks(int position, boolean cyclic) {
+			synchronized ( pendingChunks ) {
+				while ( hasPrecedingChunks( position, cyclic ) ) {
+					try {
+						pendingChunks.wait();
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new HibernateException( "Interrupted while waiting for bulk write of referenced entities", e );
+					}
+				}
+			}
+		}
+
+		private boolean hasPrecedingChunks(int position, boolean cyclic) {
+			for ( String entityName : pendingChunks.keySet() ) {
+				if ( mustPrecede( entityName, position, cyclic ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void chunkDone(Chunk chunk) {
+			synchronized ( pendingChunks ) {
+				final int count = pendingChunks.get( chunk.entityName ) - 1;
+				if ( count == 0 ) {
+					pendingChunks.remove( chunk.entityName );
+				}
+				else {
+					pendingChunks.put( chunk.entityName, count );
+				}
+				pendingChunks.notifyAll();
+			}
+		}
+
+		private void checkFailure() {
+			final Throwable t = failure.get();
+			if ( t instanceof RuntimeException ) {
+				throw (RuntimeException) t;
+			}
+			if ( t instanceof Error ) {
+				throw (Error) t;
+			}
+			if ( t != null ) {
+				throw new HibernateException( "Bulk write failed", t );
+			}
+		}
+
+		/**
+		 * Waits for the workers to write the queued chunks, or to skip them if the bulk write did not complete.
+		 */
+		private void close(boolean completed) {
+			aborted = !completed;
+			try {
+				for ( int i = 0; i < parallelism; i++ ) {
+					queue.put( END );
+				}
+				executor.shutdown();
+				while ( !executor.awaitTermination( 1, TimeUnit.MINUTES ) ) {
+					LOG.debugf( "Waiting for bulk write of %s remaining chunks", pendingChunkCount() );
+				}
+			}
+			catch (InterruptedException e) {
+				executor.shutdownNow();
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for bulk write completion", e );
+			}
+		}
+
+		private int pendingChunkCount() {
+			int count = 0;
+			synchronized ( pendingChunks ) {
+				for ( int chunkCount : pendingChunks.values() ) {
+					count += chunkCount;
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * Writes chunks through a stateless session of its own, until the end of the chunks.  Once a chunk failed,
+		 * the remaining chunks are skipped.
+		 */
+		private class Worker implements Runnable {
+			private StatelessSession workerSession;
+
+			@Override
+			public void run() {
+				try {
+					while ( true ) {
+						final Chunk chunk;
+						try {
+							chunk = queue.take();
+						}
+						catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							return;
+						}
+						if ( chunk == END ) {
+							return;
+						}
+						try {
+							if ( !aborted && failure.get() == null ) {
+								write( chunk );
+							}
+						}
+						catch (Throwable t) {
+							failure.compareAndSet( null, t );
+						}
+						finally {
+							chunkDone( chunk );
+						}
+					}
+				}
+				finally {
+					if ( workerSession != null ) {
+						workerSession.close();
+					}
+				}
+			}
+
+			private void write(Chunk chunk) {
+				if ( workerSession == null ) {
+					workerSession = session.getFactory()
+							.withStatelessOptions()
+							.tenantIdentifier( session.getTenantIdentifier() )
+							.openStatelessSession();
+				}
+				final Transaction transaction = workerSession.beginTransaction();
+				boolean committed = false;
+				try {
+					for ( Object entity : chunk.entities ) {
+						if ( insert ) {
+							workerSession.insert( chunk.entityName, entity );
+						}
+						else {
+							workerSession.update( chunk.entityName, entity );
+						}
+					}
+					transaction.commit();
+					committed = true;
+				}
+				finally {
+					if ( !committed ) {
+						try {
+							transaction.rollback();
+						}
+						catch (RuntimeException e) {
+							LOG.debug( "Unable to roll back failed bulk write transaction", e );
+						}
+					}
+				}
+
+				final int size = chunk.entities.size();
+				rowCount.addAndGet( size );
+				final SessionFactoryImplementor factory = session.getFactory();
+				if ( factory.getStatistics().isStatisticsEnabled() ) {
+					factory.getStatisticsImplementor().bulkWriteCommitted( size );
+				}
+			}
+		}
+	}
+}
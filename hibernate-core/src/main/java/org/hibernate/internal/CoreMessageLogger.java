@@ -1742,4 +1742,44 @@ public interface CoreMessageLogger extends BasicLogger {
 	@LogMessage(level = WARN)
 	@Message(value = "Cannot unset session in a collection because an unexpected session is defined. A persistent collection may only be associated with one session at a time. %s", id = 471 )
 	void logCannotUnsetUnexpectedSessionInCollection(String msg);
+
+	@LogMessage(level = INFO)
+	@Message(value = "JDBC batches executed: %s", id = 472)
+	void batchesExecuted(long batchExecutionCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Statements executed in JDBC batches: %s", id = 473)
+	void statementsBatched(long batchedStatementCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Entity rows written by bulk writes: %s", id = 474)
+	void bulkWriteRows(long bulkWriteRowCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Transactions committed by bulk writes: %s", id = 475)
+	void bulkWriteCommits(long bulkWriteCommitCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache hits: %s", id = 476)
+	void queryPlanCacheHits(long queryPlanCacheHitCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache misses: %s", id = 477)
+	void queryPlanCacheMisses(long queryPlanCacheMissCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache evictions: %s", id = 478)
+	void queryPlanCacheEvictions(long queryPlanCacheEvictionCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache warmed up with %s of %s saved queries in %s ms", id = 479)
+	void queryPlanCacheWarmedUp(int compiledCount, int savedCount, long time);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Unable to read query plan cache warm-up file : %s", id = 480)
+	void unableToReadQueryPlanCacheWarmUpFile(String path, @Cause IOException e);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Unable to write query plan cache warm-up file : %s", id = 481)
+	void unableToWriteQueryPlanCacheWarmUpFile(String path, @Cause IOException e);
 }
@@ -9,6 +9,12 @@ package org.hibernate.internal;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
@@ -143,58 +149,156 @@ public class NamedQueryRepository {
 	}
 
 	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache) {
-		Map<String,HibernateException> errors = new HashMap<String,HibernateException>();
-
-		// Check named HQL queries
-		log.debugf( "Checking %s named HQL queries", namedQueryDefinitionMap.size() );
-		for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
-			try {
-				log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
-				//TODO: BUG! this currently fails for named queries for non-POJO entities
-				queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
+		return checkNamedQueries( queryPlanCache, 1 );
+	}
+
+	/**
+	 * Compiles the named HQL and native SQL queries, to check them.
+	 *
+	 * @param queryPlanCache The cache of the compiled plans
+	 * @param parallelism The number of threads compiling the queries; the queries are compiled by the calling thread
+	 * when this is 1
+	 *
+	 * @return The compilation errors, by query name
+	 */
+	public Map<String,HibernateException> checkNamedQueries(final QueryPlanCache queryPlanCache, int parallelism) {
+		final int queryCount = namedQueryDefinitionMap.size() + namedSqlQueryDefinitionMap.size();
+		log.debugf(
+				"Checking %s named HQL queries and %s named SQL queries",
+				namedQueryDefinitionMap.size(),
+				namedSqlQueryDefinitionMap.size()
+		);
+
+		final Map<String,HibernateException> errors = new HashMap<String,HibernateException>();
+		if ( parallelism <= 1 || queryCount <= 1 ) {
+			for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
+				final HibernateException error = checkNamedQuery( namedQueryDefinition, queryPlanCache );
+				if ( error != null ) {
+					errors.put( namedQueryDefinition.getName(), error );
+				}
 			}
-			catch ( HibernateException e ) {
-				errors.put( namedQueryDefinition.getName(), e );
+			for ( NamedSQLQueryDefinition namedSQLQueryDefinition : namedSqlQueryDefinitionMap.values() ) {
+				final HibernateException error = checkNamedSQLQuery( namedSQLQueryDefinition, queryPlanCache );
+				if ( error != null ) {
+					errors.put( namedSQLQueryDefinition.getName(), error );
+				}
 			}
+			return errors;
+		}
 
+		// the translations are independent of each other once the persisters are built
+		final ExecutorService executor = Executors.newFixedThreadPool( Math.min( parallelism, queryCount ) );
+		try {
+			final Map<String,Future<HibernateException>> results = new HashMap<String,Future<HibernateException>>();
+			for ( final NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
+				results.put(
+						namedQueryDefinition.getName(),
+						executor.submit(
+								new Callable<HibernateException>() {
+									@Override
+									public HibernateException call() {
+										return checkNamedQuery( namedQueryDefinition, queryPlanCache );
+									}
+								}
+						)
+				);
+			}
+			for ( final NamedSQLQueryDefinition namedSQLQueryDefinition : namedSqlQueryDefinitionMap.values() ) {
+				results.put(
+						namedSQLQueryDefinition.getName(),
+						executor.submit(
+								new Callable<HibernateException>() {
+									@Override
+									public HibernateException call() {
+										return checkNamedSQLQuery( namedSQLQueryDefinition, queryPlanCache );
+									}
+								}
+						)
+				);
+			}
 
+			for ( Map.Entry<String,Future<HibernateException>> entry : results.entrySet() ) {
+				final HibernateException error = entry.getValue().get();
+				if ( error != null ) {
+					errors.put( entry.getKey(), error );
+				}
+			}
+			return errors;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while checking named queries", e );
+		}
+		catch (ExecutionException e) {
+			final Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			throw new HibernateException( "Unable to check named queries", cause );
 		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
 
-		// Check native-sql queries
-		log.debugf( "Checking %s named SQL queries", namedSqlQueryDefinitionMap.size() );
-		for ( NamedSQLQueryDefinition namedSQLQueryDefinition : namedSqlQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
-			try {
-				log.debugf( "Checking named SQL query: %s", namedSQLQueryDefinition.getName() );
-				// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
-				// currently not doable though because of the resultset-ref stuff...
-				NativeSQLQuerySpecification spec;
-				if ( namedSQLQueryDefinition.getResultSetRef() != null ) {
-					ResultSetMappingDefinition definition = getResultSetMappingDefinition( namedSQLQueryDefinition.getResultSetRef() );
-					if ( definition == null ) {
-						throw new MappingException( "Unable to find resultset-ref definition: " + namedSQLQueryDefinition.getResultSetRef() );
-					}
-					spec = new NativeSQLQuerySpecification(
-							namedSQLQueryDefinition.getQueryString(),
-							definition.getQueryReturns(),
-							namedSQLQueryDefinition.getQuerySpaces()
-					);
-				}
-				else {
-					spec =  new NativeSQLQuerySpecification(
-							namedSQLQueryDefinition.getQueryString(),
-							namedSQLQueryDefinition.getQueryReturns(),
-							namedSQLQueryDefinition.getQuerySpaces()
-					);
+	private HibernateException checkNamedQuery(NamedQueryDefinition namedQueryDefinition, QueryPlanCache queryPlanCache) {
+		// this will throw an error if there's something wrong.
+		try {
+			final long start = System.nanoTime();
+			//TODO: BUG! this currently fails for named queries for non-POJO entities
+			queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
+			log.debugf(
+					"Checked named query %s in %s ms",
+					namedQueryDefinition.getName(),
+					TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start )
+			);
+			return null;
+		}
+		catch ( HibernateException e ) {
+			return e;
+		}
+	}
+
+	private HibernateException checkNamedSQLQuery(
+			NamedSQLQueryDefinition namedSQLQueryDefinition,
+			QueryPlanCache queryPlanCache) {
+		// this will throw an error if there's something wrong.
+		try {
+			final long start = System.nanoTime();
+			// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
+			// currently not doable though because of the resultset-ref stuff...
+			NativeSQLQuerySpecification spec;
+			if ( namedSQLQueryDefinition.getResultSetRef() != null ) {
+				ResultSetMappingDefinition definition = getResultSetMappingDefinition( namedSQLQueryDefinition.getResultSetRef() );
+				if ( definition == null ) {
+					throw new MappingException( "Unable to find resultset-ref definition: " + namedSQLQueryDefinition.getResultSetRef() );
 				}
-				queryPlanCache.getNativeSQLQueryPlan( spec );
+				spec = new NativeSQLQuerySpecification(
+						namedSQLQueryDefinition.getQueryString(),
+						definition.getQueryReturns(),
+						namedSQLQueryDefinition.getQuerySpaces()
+				);
 			}
-			catch ( HibernateException e ) {
-				errors.put( namedSQLQueryDefinition.getName(), e );
+			else {
+				spec =  new NativeSQLQuerySpecification(
+						namedSQLQueryDefinition.getQueryString(),
+						namedSQLQueryDefinition.getQueryReturns(),
+						namedSQLQueryDefinition.getQuerySpaces()
+				);
 			}
+			queryPlanCache.getNativeSQLQueryPlan( spec );
+			log.debugf(
+					"Checked named SQL query %s in %s ms",
+					namedSQLQueryDefinition.getName(),
+					TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start )
+			);
+			return null;
+		}
+		catch ( HibernateException e ) {
+			return e;
 		}
-
-		return errors;
 	}
 }
@@ -62,6 +62,7 @@ import org.hibernate.cache.spi.CollectionRegion;
 import org.hibernate.cache.spi.EntityRegion;
 import org.hibernate.cache.spi.NaturalIdRegion;
 import org.hibernate.cache.spi.QueryCache;
+import org.hibernate.cache.spi.QuerySpacePartition;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.UpdateTimestampsCache;
@@ -94,6 +95,7 @@ import org.hibernate.engine.query.spi.QueryPlanCache;
 import org.hibernate.engine.query.spi.ReturnMetadata;
 import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.CacheImplementor;
+import org.hibernate.engine.spi.EntityDependencyOrder;
 import org.hibernate.engine.spi.FilterDefinition;
 import org.hibernate.engine.spi.NamedQueryDefinition;
 import org.hibernate.engine.spi.NamedSQLQueryDefinition;
@@ -112,6 +114,7 @@ import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.integrator.spi.IntegratorService;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.config.ConfigurationException;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.mapping.Collection;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.mapping.RootClass;
@@ -181,6 +184,7 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 	private final transient Map<String,CollectionPersister> collectionPersisters;
 	private final transient Map<String,CollectionMetadata> collectionMetadata;
 	private final transient Map<String,Set<String>> collectionRolesByEntityParticipant;
+	private final transient Map<Serializable,Type> queryCachePartitionTypes;
 	private final transient Map<String,IdentifierGenerator> identifierGenerators;
 	private final transient NamedQueryRepository namedQueryRepository;
 	private final transient Map<String, FilterDefinition> filters;
@@ -197,6 +201,7 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 	private final transient SessionFactoryObserverChain observer = new SessionFactoryObserverChain();
 	private final transient ConcurrentMap<EntityNameResolver,Object> entityNameResolvers = new ConcurrentHashMap<EntityNameResolver, Object>();
 	private final transient QueryPlanCache queryPlanCache;
+	private final transient EntityDependencyOrder entityDependencyOrder;
 	private final transient CacheImplementor cacheAccess;
 	private transient boolean isClosed;
 	private final transient TypeResolver typeResolver;
@@ -457,6 +462,11 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 			persister.postInstantiate();
 		}
 
+		this.entityDependencyOrder = EntityDependencyOrder.build( entityPersisters );
+		this.queryCachePartitionTypes = sessionFactoryOptions.isQueryCachePartitioningEnabled()
+				? QuerySpacePartition.buildPartitionTypes( entityPersisters.values(), this )
+				: Collections.<Serializable,Type>emptyMap();
+
 		LOG.debug( "Instantiated session factory" );
 
 		settings.getMultiTableBulkIdStrategy().prepare(
@@ -533,6 +543,8 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 			fetchProfiles.put( fetchProfile.getName(), fetchProfile );
 		}
 
+		queryPlanCache.warmUp();
+
 		this.observer.sessionFactoryCreated( this );
 
 		SessionFactoryRegistry.INSTANCE.addSessionFactory(
@@ -755,8 +767,18 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		return queryPlanCache;
 	}
 
+	@Override
+	public EntityDependencyOrder getEntityDependencyOrder() {
+		return entityDependencyOrder;
+	}
+
 	private Map<String,HibernateException> checkNamedQueries() throws HibernateException {
-		return namedQueryRepository.checkNamedQueries( queryPlanCache );
+		final int parallelism = ConfigurationHelper.getInt(
+				Environment.QUERY_STARTUP_CHECKING_PARALLELISM,
+				properties,
+				1
+		);
+		return namedQueryRepository.checkNamedQueries( queryPlanCache, parallelism );
 	}
 
 	@Override
@@ -859,6 +881,11 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		return collectionRolesByEntityParticipant.get( entityName );
 	}
 
+	@Override
+	public Type getQueryCachePartitionType(Serializable querySpace) {
+		return queryCachePartitionTypes.get( querySpace );
+	}
+
 	@Override
 	public Reference getReference() {
 		// from javax.naming.Referenceable
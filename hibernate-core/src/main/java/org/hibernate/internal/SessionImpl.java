@@ -17,14 +17,17 @@ import java.sql.Clob;
 import java.sql.Connection;
 import java.sql.NClob;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import javax.persistence.EntityNotFoundException;
 import javax.transaction.SystemException;
 
@@ -42,6 +45,8 @@ import org.hibernate.LobHelper;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.MappingException;
+import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.MultiNaturalIdLoadAccess;
 import org.hibernate.NaturalIdLoadAccess;
 import org.hibernate.ObjectDeletedException;
 import org.hibernate.ObjectNotFoundException;
@@ -62,6 +67,7 @@ import org.hibernate.TransientObjectException;
 import org.hibernate.TypeHelper;
 import org.hibernate.UnknownProfileException;
 import org.hibernate.UnresolvableObjectException;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.criterion.NaturalIdentifier;
 import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
@@ -131,6 +137,7 @@ import org.hibernate.loader.custom.CustomLoader;
 import org.hibernate.loader.custom.CustomQuery;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.procedure.ProcedureCall;
@@ -1044,6 +1051,26 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		return new IdentifierLoadAccessImpl<T>( entityClass );
 	}
 
+	@Override
+	public <T> MultiIdentifierLoadAccess<T> byMultipleIds(Class<T> entityClass) {
+		return new MultiIdentifierLoadAccessImpl<T>( locateEntityPersister( entityClass ) );
+	}
+
+	@Override
+	public MultiIdentifierLoadAccess byMultipleIds(String entityName) {
+		return new MultiIdentifierLoadAccessImpl( locateEntityPersister( entityName ) );
+	}
+
+	@Override
+	public <T> MultiNaturalIdLoadAccess<T> byMultipleNaturalIds(Class<T> entityClass) {
+		return new MultiNaturalIdLoadAccessImpl<T>( locateEntityPersister( entityClass ) );
+	}
+
+	@Override
+	public MultiNaturalIdLoadAccess byMultipleNaturalIds(String entityName) {
+		return new MultiNaturalIdLoadAccessImpl( locateEntityPersister( entityName ) );
+	}
+
 	@Override
 	public NaturalIdLoadAccess byNaturalId(String entityName) {
 		return new NaturalIdLoadAccessImpl( entityName );
@@ -2633,6 +2660,192 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		}
 	}
 
+	private class MultiIdentifierLoadAccessImpl<T> implements MultiIdentifierLoadAccess<T>, MultiLoadOptions {
+		private final EntityPersister entityPersister;
+		private LockOptions lockOptions;
+		private Integer batchSize;
+		private boolean sessionCheckingEnabled = true;
+		private boolean secondLevelCacheCheckingEnabled = true;
+		private boolean returnOfDeletedEntitiesEnabled;
+		private boolean orderedReturnEnabled = true;
+
+		private MultiIdentifierLoadAccessImpl(EntityPersister entityPersister) {
+			this.entityPersister = entityPersister;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return lockOptions;
+		}
+
+		@Override
+		public final MultiIdentifierLoadAccess<T> with(LockOptions lockOptions) {
+			this.lockOptions = lockOptions;
+			return this;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return batchSize;
+		}
+
+		@Override
+		public MultiIdentifierLoadAccess<T> withBatchSize(int batchSize) {
+			if ( batchSize < 1 ) {
+				this.batchSize = null;
+			}
+			else {
+				this.batchSize = batchSize;
+			}
+			return this;
+		}
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return sessionCheckingEnabled;
+		}
+
+		@Override
+		public MultiIdentifierLoadAccess<T> enableSessionCheck(boolean enabled) {
+			this.sessionCheckingEnabled = enabled;
+			return this;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return secondLevelCacheCheckingEnabled;
+		}
+
+		@Override
+		public MultiIdentifierLoadAccess<T> enableSecondLevelCacheCheck(boolean enabled) {
+			this.secondLevelCacheCheckingEnabled = enabled;
+			return this;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return returnOfDeletedEntitiesEnabled;
+		}
+
+		@Override
+		public MultiIdentifierLoadAccess<T> enableReturnOfDeletedEntities(boolean enabled) {
+			this.returnOfDeletedEntitiesEnabled = enabled;
+			return this;
+		}
+
+		@Override
+		public boolean isOrderedReturnEnabled() {
+			return orderedReturnEnabled;
+		}
+
+		@Override
+		public MultiIdentifierLoadAccess<T> enableOrderedReturn(boolean enabled) {
+			this.orderedReturnEnabled = enabled;
+			return this;
+		}
+
+		@Override
+		public <K extends Serializable> List<T> multiLoad(K... ids) {
+			return multiLoad( Arrays.asList( ids ) );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <K extends Serializable> List<T> multiLoad(List<K> ids) {
+			errorIfClosed();
+			checkTransactionSynchStatus();
+
+			final Object[] results = new Object[ids.size()];
+			final EntityKey[] entityKeys = new EntityKey[ids.size()];
+			final Set<EntityKey> keysToLoad = new HashSet<EntityKey>();
+			final List<Serializable> idsToLoad = new ArrayList<Serializable>();
+
+			boolean success = false;
+			try {
+				// first resolve whatever we can from the persistence context and the second-level cache...
+				for ( int i = 0; i < ids.size(); i++ ) {
+					final Serializable id = ids.get( i );
+					final EntityKey entityKey = generateEntityKey( id, entityPersister );
+					entityKeys[i] = entityKey;
+
+					if ( sessionCheckingEnabled ) {
+						final Object managed = persistenceContext.getEntity( entityKey );
+						if ( managed != null ) {
+							final Status status = persistenceContext.getEntry( managed ).getStatus();
+							if ( status == Status.DELETED || status == Status.GONE ) {
+								results[i] = returnOfDeletedEntitiesEnabled ? managed : null;
+							}
+							else {
+								results[i] = load( id, LoadEventListener.GET );
+							}
+							continue;
+						}
+					}
+
+					if ( secondLevelCacheCheckingEnabled && isSecondLevelCacheReadable() ) {
+						// only the misses are left for the database
+						results[i] = load( id, LoadEventListener.GET_FROM_CACHE );
+						if ( results[i] != null ) {
+							continue;
+						}
+					}
+
+					if ( keysToLoad.add( entityKey ) ) {
+						idsToLoad.add( id );
+					}
+				}
+
+				// ...then read the rest from the database
+				if ( !idsToLoad.isEmpty() ) {
+					final List loaded = entityPersister.multiLoad(
+							idsToLoad.toArray( new Serializable[idsToLoad.size()] ),
+							SessionImpl.this,
+							this
+					);
+					final Map<EntityKey, Object> loadedByKey = new HashMap<EntityKey, Object>();
+					for ( Object entity : loaded ) {
+						final EntityKey entityKey = generateEntityKey(
+								entityPersister.getIdentifier( entity, SessionImpl.this ),
+								entityPersister
+						);
+						loadedByKey.put( entityKey, persistenceContext.proxyFor( entity ) );
+					}
+					for ( int i = 0; i < results.length; i++ ) {
+						if ( keysToLoad.contains( entityKeys[i] ) ) {
+							results[i] = loadedByKey.get( entityKeys[i] );
+						}
+					}
+				}
+				success = true;
+			}
+			finally {
+				afterOperation( success );
+			}
+
+			final List<T> list = new ArrayList<T>( results.length );
+			for ( Object result : results ) {
+				if ( result != null || orderedReturnEnabled ) {
+					list.add( (T) result );
+				}
+			}
+			return list;
+		}
+
+		private boolean isSecondLevelCacheReadable() {
+			return entityPersister.hasCache()
+					&& getCacheMode().isGetEnabled()
+					&& ( lockOptions == null || lockOptions.getLockMode().lessThan( LockMode.READ ) );
+		}
+
+		private Object load(Serializable id, LoadType loadType) {
+			final LoadEvent event = lockOptions == null
+					? new LoadEvent( id, entityPersister.getEntityName(), false, SessionImpl.this )
+					: new LoadEvent( id, entityPersister.getEntityName(), lockOptions, SessionImpl.this );
+			fireLoad( event, loadType );
+			return event.getResult();
+		}
+	}
+
 	private EntityPersister locateEntityPersister(Class entityClass) {
 		return factory.locateEntityPersister( entityClass );
 	}
@@ -2876,6 +3089,168 @@ public final class SessionImpl extends AbstractSessionImpl implements EventSourc
 		}
 	}
 
+	private class MultiNaturalIdLoadAccessImpl<T> extends BaseNaturalIdLoadAccessImpl<T>
+			implements MultiNaturalIdLoadAccess<T> {
+		private final MultiIdentifierLoadAccessImpl<T> identifierLoadAccess;
+
+		private MultiNaturalIdLoadAccessImpl(EntityPersister entityPersister) {
+			super( entityPersister );
+			this.identifierLoadAccess = new MultiIdentifierLoadAccessImpl<T>( entityPersister );
+		}
+
+		@Override
+		public final MultiNaturalIdLoadAccessImpl<T> with(LockOptions lockOptions) {
+			super.with( lockOptions );
+			identifierLoadAccess.with( lockOptions );
+			return this;
+		}
+
+		@Override
+		public MultiNaturalIdLoadAccessImpl<T> withBatchSize(int batchSize) {
+			identifierLoadAccess.withBatchSize( batchSize );
+			return this;
+		}
+
+		@Override
+		public MultiNaturalIdLoadAccessImpl<T> setSynchronizationEnabled(boolean synchronizationEnabled) {
+			super.synchronizationEnabled( synchronizationEnabled );
+			return this;
+		}
+
+		@Override
+		public List<T> multiLoad(Object... naturalIds) {
+			return multiLoad( Arrays.asList( naturalIds ) );
+		}
+
+		@Override
+		public List<T> multiLoad(List<?> naturalIds) {
+			errorIfClosed();
+			checkTransactionSynchStatus();
+
+			final Serializable[] ids = resolveNaturalIds( naturalIds );
+
+			final List<Serializable> idsToLoad = new ArrayList<Serializable>( ids.length );
+			for ( Serializable id : ids ) {
+				if ( id != null ) {
+					idsToLoad.add( id );
+				}
+			}
+			final List<T> entities = identifierLoadAccess.enableOrderedReturn( true ).multiLoad( idsToLoad );
+
+			final List<T> result = new ArrayList<T>( ids.length );
+			int position = 0;
+			for ( Serializable id : ids ) {
+				result.add( id == null ? null : entities.get( position++ ) );
+			}
+			return result;
+		}
+
+		private Serializable[] resolveNaturalIds(List<?> naturalIds) {
+			performAnyNeededCrossReferenceSynchronizations();
+
+			final EntityPersister persister = entityPersister();
+			final PersistenceContext.NaturalIdHelper naturalIdHelper = getPersistenceContext().getNaturalIdHelper();
+			final Serializable[] ids = new Serializable[naturalIds.size()];
+			final List<Object[]> naturalIdsToLoad = new ArrayList<Object[]>();
+			final List<Integer> positionsToLoad = new ArrayList<Integer>();
+
+			boolean success = false;
+			try {
+				// first resolve whatever we can from the persistence context and the second-level cache...
+				for ( int i = 0; i < ids.length; i++ ) {
+					final Object[] orderedValues = toOrderedNaturalIdValues( naturalIds.get( i ) );
+					final Serializable id = naturalIdHelper.findCachedNaturalIdResolution( persister, orderedValues );
+					if ( id == null ) {
+						naturalIdsToLoad.add( orderedValues );
+						positionsToLoad.add( i );
+					}
+					else if ( id != PersistenceContext.NaturalIdHelper.INVALID_NATURAL_ID_REFERENCE ) {
+						ids[i] = id;
+					}
+				}
+
+				// ...then resolve the rest from the database
+				if ( !naturalIdsToLoad.isEmpty() ) {
+					final boolean stats = factory.getStatistics().isStatisticsEnabled();
+					final long startTime = stats ? System.nanoTime() : 0;
+
+					final Object[][] naturalIdValues = naturalIdsToLoad.toArray( new Object[naturalIdsToLoad.size()][] );
+					final Serializable[] loadedIds = persister.loadEntityIdsByNaturalIds(
+							naturalIdValues,
+							SessionImpl.this,
+							identifierLoadAccess
+					);
+
+					if ( stats ) {
+						final NaturalIdRegionAccessStrategy naturalIdCacheAccessStrategy = persister.getNaturalIdCacheAccessStrategy();
+						final String regionName = naturalIdCacheAccessStrategy == null
+								? null
+								: naturalIdCacheAccessStrategy.getRegion().getName();
+						factory.getStatisticsImplementor().naturalIdQueryExecuted(
+								regionName,
+								TimeUnit.MILLISECONDS.convert( System.nanoTime() - startTime, TimeUnit.NANOSECONDS )
+						);
+					}
+
+					for ( int i = 0; i < loadedIds.length; i++ ) {
+						if ( loadedIds[i] != null ) {
+							ids[positionsToLoad.get( i )] = loadedIds[i];
+							naturalIdHelper.cacheNaturalIdCrossReferenceFromLoad( persister, loadedIds[i], naturalIdValues[i] );
+						}
+					}
+				}
+				success = true;
+			}
+			finally {
+				afterOperation( success );
+			}
+			return ids;
+		}
+
+		private Object[] toOrderedNaturalIdValues(Object naturalId) {
+			final EntityPersister persister = entityPersister();
+			final int[] naturalIdPropertyPositions = persister.getNaturalIdentifierProperties();
+			if ( !( naturalId instanceof Map ) ) {
+				if ( naturalIdPropertyPositions.length != 1 ) {
+					throw new HibernateException(
+							String.format(
+									"Entity [%s] did not define a simple natural id; natural id values must be passed as a Map",
+									persister.getEntityName()
+							)
+					);
+				}
+				return new Object[] { naturalId };
+			}
+
+			final Map naturalIdValues = (Map) naturalId;
+			if ( naturalIdPropertyPositions.length != naturalIdValues.size() ) {
+				throw new HibernateException(
+						String.format(
+								"Entity [%s] defines its natural-id with %d properties but only %d were specified",
+								persister.getEntityName(),
+								naturalIdPropertyPositions.length,
+								naturalIdValues.size()
+						)
+				);
+			}
+			final Object[] orderedValues = new Object[naturalIdPropertyPositions.length];
+			for ( int i = 0; i < naturalIdPropertyPositions.length; i++ ) {
+				final String propertyName = persister.getPropertyNames()[naturalIdPropertyPositions[i]];
+				if ( !naturalIdValues.containsKey( propertyName ) ) {
+					throw new HibernateException(
+							String.format(
+									"No value specified for natural-id property %s#%s",
+									persister.getEntityName(),
+									propertyName
+							)
+					);
+				}
+				orderedValues[i] = naturalIdValues.get( propertyName );
+			}
+			return orderedValues;
+		}
+	}
+
 	@Override
 	public void afterTransactionBegin() {
 		errorIfClosed();
@@ -13,6 +13,7 @@ import java.util.Iterator;
 import java.util.List;
 import javax.transaction.SystemException;
 
+import org.hibernate.BulkWriter;
 import org.hibernate.CacheMode;
 import org.hibernate.Criteria;
 import org.hibernate.EmptyInterceptor;
@@ -209,6 +210,15 @@ public class StatelessSessionImpl extends AbstractSessionImpl implements Statele
 	}
 
 
+	// bulk writes ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public BulkWriter bulkWriter() {
+		errorIfClosed();
+		return new BulkWriterImpl( this );
+	}
+
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
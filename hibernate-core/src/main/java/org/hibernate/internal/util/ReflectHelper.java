@@ -19,6 +19,7 @@ import org.hibernate.MappingException;
 import org.hibernate.PropertyNotFoundException;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.property.access.internal.PropertyAccessStrategyMixedImpl;
 import org.hibernate.property.access.spi.Getter;
 import org.hibernate.type.PrimitiveType;
@@ -229,6 +230,31 @@ public final class ReflectHelper {
 		return PropertyAccessStrategyMixedImpl.INSTANCE.buildPropertyAccess( clazz, name ).getGetter();
 	}
 
+	/**
+	 * Resolve the value of a Java constant, unless the factory is configured to resolve
+	 * {@link org.hibernate.cfg.AvailableSettings#CONVENTIONAL_JAVA_CONSTANTS conventional names only} and the given
+	 * name does not look like {@code com.acme.Type.CONSTANT}.
+	 *
+	 * @param name The qualified name of the constant.
+	 * @param factory The session factory
+	 * @return The value of the constant, or {@code null} if it could not be resolved.
+	 */
+	public static Object getConstantValue(String name, SessionFactoryImplementor factory) {
+		if ( factory.getSessionFactoryOptions().isConventionalJavaConstants() && !isConventionalJavaConstant( name ) ) {
+			return null;
+		}
+		return getConstantValue( name, factory.getServiceRegistry().getService( ClassLoaderService.class ) );
+	}
+
+	private static boolean isConventionalJavaConstant(String name) {
+		// a package starting with a lower case letter, then a class name starting with an upper case letter
+		final int fieldSeparator = name.lastIndexOf( '.' );
+		final int classSeparator = fieldSeparator < 1 ? -1 : name.lastIndexOf( '.', fieldSeparator - 1 );
+		return classSeparator > 0
+				&& Character.isLowerCase( name.charAt( 0 ) )
+				&& Character.isUpperCase( name.charAt( classSeparator + 1 ) );
+	}
+
 	public static Object getConstantValue(String name, ClassLoaderService classLoaderService) {
 		Class clazz;
 		try {
@@ -35,6 +35,7 @@ import org.hibernate.WrongClassException;
 import org.hibernate.cache.spi.FilterKey;
 import org.hibernate.cache.spi.QueryCache;
 import org.hibernate.cache.spi.QueryKey;
+import org.hibernate.cache.spi.QuerySpacePartition;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
@@ -2431,6 +2432,11 @@ public abstract class Loader {
 
 		QueryCache queryCache = factory.getQueryCache( queryParameters.getCacheRegion() );
 
+		if ( queryParameters.getCachePartition() != null ) {
+			queryParameters.setCachePartition(
+					QuerySpacePartition.normalize( queryParameters.getCachePartition(), querySpaces, factory )
+			);
+		}
 		QueryKey key = generateQueryKey( session, queryParameters );
 
 		if ( querySpaces == null || querySpaces.size() == 0 ) {
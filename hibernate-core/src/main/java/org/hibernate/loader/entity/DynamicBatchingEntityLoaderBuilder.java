@@ -11,6 +11,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.hibernate.LockMode;
@@ -25,8 +27,10 @@ import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.spi.AfterLoadAction;
+import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
@@ -61,6 +65,81 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		return new DynamicBatchingEntityLoader( persister, batchSize, lockOptions, factory, influencers );
 	}
 
+	/**
+	 * Load the entities matching the given identifiers from the database, using IN-list restricted queries of at
+	 * most the requested batch size (or the Dialect's IN-list limit, if no batch size was requested).
+	 *
+	 * @param persister The persister of the entities to load
+	 * @param ids The identifiers to load
+	 * @param session The originating session
+	 * @param loadOptions The options for the load
+	 *
+	 * @return The loaded entities, in no particular order
+	 */
+	public List multiLoad(
+			OuterJoinLoadable persister,
+			Serializable[] ids,
+			SessionImplementor session,
+			MultiLoadOptions loadOptions) {
+		if ( ids.length == 0 ) {
+			return Collections.emptyList();
+		}
+
+		final LockOptions lockOptions = loadOptions.getLockOptions() == null
+				? new LockOptions( LockMode.NONE )
+				: loadOptions.getLockOptions();
+		final int maxBatchSize = determineMultiLoadBatchSize( ids.length, session, loadOptions );
+
+		if ( log.isDebugEnabled() ) {
+			log.debugf(
+					"Multi-loading entities of type [%s] in batches of %s : %s",
+					persister.getEntityName(),
+					maxBatchSize,
+					MessageHelper.infoString( persister, ids, session.getFactory() )
+			);
+		}
+
+		final DynamicEntityLoader loader = new DynamicEntityLoader(
+				persister,
+				maxBatchSize,
+				lockOptions,
+				session.getFactory(),
+				session.getLoadQueryInfluencers()
+		);
+
+		final List result = new ArrayList( ids.length );
+		for ( int position = 0; position < ids.length; position += maxBatchSize ) {
+			final int numberOfIds = Math.min( maxBatchSize, ids.length - position );
+			final Serializable[] idsToLoad = new Serializable[numberOfIds];
+			System.arraycopy( ids, position, idsToLoad, 0, numberOfIds );
+
+			final Type[] types = new Type[numberOfIds];
+			Arrays.fill( types, persister.getIdentifierType() );
+
+			final QueryParameters qp = new QueryParameters();
+			qp.setPositionalParameterTypes( types );
+			qp.setPositionalParameterValues( idsToLoad );
+			qp.setLockOptions( lockOptions );
+
+			result.addAll( loader.doEntityBatchFetch( session, qp, idsToLoad ) );
+		}
+		return result;
+	}
+
+	private static int determineMultiLoadBatchSize(
+			int numberOfIds,
+			SessionImplementor session,
+			MultiLoadOptions loadOptions) {
+		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
+			return loadOptions.getBatchSize();
+		}
+		final int inExpressionCountLimit = session.getFactory().getDialect().getInExpressionCountLimit();
+		if ( inExpressionCountLimit > 0 ) {
+			return Math.min( numberOfIds, inExpressionCountLimit );
+		}
+		return numberOfIds;
+	}
+
 	public static class DynamicBatchingEntityLoader extends BatchingEntityLoader {
 		private final int maxBatchSize;
 		private final UniqueEntityLoader singleKeyLoader;
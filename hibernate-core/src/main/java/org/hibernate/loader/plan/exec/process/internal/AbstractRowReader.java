@@ -45,6 +45,7 @@ public abstract class AbstractRowReader implements RowReader {
 	private final List<EntityReferenceInitializer> entityReferenceInitializers;
 	private final List<CollectionReferenceInitializer> arrayReferenceInitializers;
 	private final List<CollectionReferenceInitializer> collectionReferenceInitializers;
+	private final Map<EntityReference,EntityReferenceInitializer> initializerByEntityReference;
 
 	public AbstractRowReader(ReaderCollector readerCollector) {
 		this.entityReferenceInitializers = readerCollector.getEntityReferenceInitializers() != null
@@ -56,6 +57,11 @@ public abstract class AbstractRowReader implements RowReader {
 		this.collectionReferenceInitializers = readerCollector.getNonArrayCollectionReferenceInitializers() != null
 				? new ArrayList<CollectionReferenceInitializer>( readerCollector.getNonArrayCollectionReferenceInitializers() )
 				: Collections.<CollectionReferenceInitializer>emptyList();
+		this.initializerByEntityReference =
+				new HashMap<EntityReference, EntityReferenceInitializer>( entityReferenceInitializers.size() );
+		for ( EntityReferenceInitializer entityReferenceInitializer : entityReferenceInitializers ) {
+			initializerByEntityReference.put( entityReferenceInitializer.getEntityReference(), entityReferenceInitializer );
+		}
 	}
 
 	protected abstract Object readLogicalRow(ResultSet resultSet, ResultSetProcessingContextImpl context)
@@ -71,11 +77,6 @@ public abstract class AbstractRowReader implements RowReader {
 			for ( EntityReferenceInitializer entityReferenceInitializer : entityReferenceInitializers ) {
 				entityReferenceInitializer.hydrateIdentifier( resultSet, context );
 			}
-			final Map<EntityReference,EntityReferenceInitializer> initializerByEntityReference =
-					new HashMap<EntityReference, EntityReferenceInitializer>( entityReferenceInitializers.size() );
-			for ( EntityReferenceInitializer entityReferenceInitializerFromMap : entityReferenceInitializers ) {
-				initializerByEntityReference.put( entityReferenceInitializerFromMap.getEntityReference(), entityReferenceInitializerFromMap );
-			}
 			for ( EntityReferenceInitializer entityReferenceInitializer : entityReferenceInitializers ) {
 				resolveEntityKey(
 						resultSet,
@@ -183,16 +184,8 @@ public abstract class AbstractRowReader implements RowReader {
 
 
 		// IMPORTANT: reuse the same event instances for performance!
-		final PreLoadEvent preLoadEvent;
-		final PostLoadEvent postLoadEvent;
-		if ( context.getSession().isEventSource() ) {
-			preLoadEvent = new PreLoadEvent( (EventSource) context.getSession() );
-			postLoadEvent = new PostLoadEvent( (EventSource) context.getSession() );
-		}
-		else {
-			preLoadEvent = null;
-			postLoadEvent = null;
-		}
+		final PreLoadEvent preLoadEvent = buildPreLoadEvent( context );
+		final PostLoadEvent postLoadEvent = buildPostLoadEvent( context );
 
 		// now finish loading the entities (2-phase load)
 		performTwoPhaseLoad( preLoadEvent, context, hydratedEntityRegistrations );
@@ -204,6 +197,38 @@ public abstract class AbstractRowReader implements RowReader {
 		postLoad( postLoadEvent, context, hydratedEntityRegistrations, afterLoadActionList );
 	}
 
+	@Override
+	public boolean supportsChunkedInitialization() {
+		return arrayReferenceInitializers.isEmpty() && collectionReferenceInitializers.isEmpty();
+	}
+
+	@Override
+	public void finishUpChunk(ResultSetProcessingContextImpl context, List<AfterLoadAction> afterLoadActionList) {
+		final List<HydratedEntityRegistration> hydratedEntityRegistrations = context.getHydratedEntityRegistrationList();
+		if ( hydratedEntityRegistrations == null || hydratedEntityRegistrations.isEmpty() ) {
+			return;
+		}
+
+		// there are no collections to finish loading in between
+		performTwoPhaseLoad( buildPreLoadEvent( context ), context, hydratedEntityRegistrations );
+		postLoad( buildPostLoadEvent( context ), context, hydratedEntityRegistrations, afterLoadActionList );
+
+		// the initialized entities are no longer needed by the context
+		context.clearHydratedEntityRegistrations();
+	}
+
+	private static PreLoadEvent buildPreLoadEvent(ResultSetProcessingContextImpl context) {
+		return context.getSession().isEventSource()
+				? new PreLoadEvent( (EventSource) context.getSession() )
+				: null;
+	}
+
+	private static PostLoadEvent buildPostLoadEvent(ResultSetProcessingContextImpl context) {
+		return context.getSession().isEventSource()
+				? new PostLoadEvent( (EventSource) context.getSession() )
+				: null;
+	}
+
 	private void finishLoadingArrays(ResultSetProcessingContextImpl context) {
 		for ( CollectionReferenceInitializer arrayReferenceInitializer : arrayReferenceInitializers ) {
 			arrayReferenceInitializer.endLoading( context );
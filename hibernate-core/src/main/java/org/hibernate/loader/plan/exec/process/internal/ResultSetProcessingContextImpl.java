@@ -127,86 +127,114 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 		return LockMode.READ;
 	}
 
-	private Map<EntityReference,EntityReferenceProcessingState> identifierResolutionContextMap;
+	// the processing states are kept across rows and reset after each of them, rather than rebuilt for every row
+	private Map<EntityReference,EntityReferenceProcessingStateImpl> identifierResolutionContextMap;
+	private List<EntityReferenceProcessingStateImpl> processingStates;
 
 	@Override
 	public EntityReferenceProcessingState getProcessingState(final EntityReference entityReference) {
 		if ( identifierResolutionContextMap == null ) {
-			identifierResolutionContextMap = new IdentityHashMap<EntityReference, EntityReferenceProcessingState>();
+			identifierResolutionContextMap = new IdentityHashMap<EntityReference, EntityReferenceProcessingStateImpl>();
+			processingStates = new ArrayList<EntityReferenceProcessingStateImpl>();
 		}
 
-		EntityReferenceProcessingState context = identifierResolutionContextMap.get( entityReference );
+		EntityReferenceProcessingStateImpl context = identifierResolutionContextMap.get( entityReference );
 		if ( context == null ) {
-			context = new EntityReferenceProcessingState() {
-				private boolean wasMissingIdentifier;
-				private Object identifierHydratedForm;
-				private EntityKey entityKey;
-				private Object[] hydratedState;
-				private Object entityInstance;
-
-				@Override
-				public EntityReference getEntityReference() {
-					return entityReference;
-				}
+			context = new EntityReferenceProcessingStateImpl( entityReference );
+			identifierResolutionContextMap.put( entityReference, context );
+			processingStates.add( context );
+		}
 
-				@Override
-				public void registerMissingIdentifier() {
-					if ( !EntityFetch.class.isInstance( entityReference ) ) {
-						throw new IllegalStateException( "Missing return row identifier" );
-					}
-					ResultSetProcessingContextImpl.this.registerNonExists( (EntityFetch) entityReference );
-					wasMissingIdentifier = true;
-				}
+		return context;
+	}
 
-				@Override
-				public boolean isMissingIdentifier() {
-					return wasMissingIdentifier;
-				}
+	private void resetProcessingStates() {
+		if ( processingStates != null ) {
+			for ( int i = 0; i < processingStates.size(); i++ ) {
+				processingStates.get( i ).reset();
+			}
+		}
+	}
 
-				@Override
-				public void registerIdentifierHydratedForm(Object identifierHydratedForm) {
-					this.identifierHydratedForm = identifierHydratedForm;
-				}
+	private class EntityReferenceProcessingStateImpl implements EntityReferenceProcessingState {
+		private final EntityReference entityReference;
 
-				@Override
-				public Object getIdentifierHydratedForm() {
-					return identifierHydratedForm;
-				}
+		private boolean wasMissingIdentifier;
+		private Object identifierHydratedForm;
+		private EntityKey entityKey;
+		private Object[] hydratedState;
+		private Object entityInstance;
 
-				@Override
-				public void registerEntityKey(EntityKey entityKey) {
-					this.entityKey = entityKey;
-				}
+		private EntityReferenceProcessingStateImpl(EntityReference entityReference) {
+			this.entityReference = entityReference;
+		}
 
-				@Override
-				public EntityKey getEntityKey() {
-					return entityKey;
-				}
+		private void reset() {
+			wasMissingIdentifier = false;
+			identifierHydratedForm = null;
+			entityKey = null;
+			hydratedState = null;
+			entityInstance = null;
+		}
 
-				@Override
-				public void registerHydratedState(Object[] hydratedState) {
-					this.hydratedState = hydratedState;
-				}
+		@Override
+		public EntityReference getEntityReference() {
+			return entityReference;
+		}
 
-				@Override
-				public Object[] getHydratedState() {
-					return hydratedState;
-				}
+		@Override
+		public void registerMissingIdentifier() {
+			if ( !EntityFetch.class.isInstance( entityReference ) ) {
+				throw new IllegalStateException( "Missing return row identifier" );
+			}
+			ResultSetProcessingContextImpl.this.registerNonExists( (EntityFetch) entityReference );
+			wasMissingIdentifier = true;
+		}
 
-				@Override
-				public void registerEntityInstance(Object entityInstance) {
-					this.entityInstance = entityInstance;
-				}
+		@Override
+		public boolean isMissingIdentifier() {
+			return wasMissingIdentifier;
+		}
 
-				@Override
-				public Object getEntityInstance() {
-					return entityInstance;
-				}
-			};
-			identifierResolutionContextMap.put( entityReference, context );
+		@Override
+		public void registerIdentifierHydratedForm(Object identifierHydratedForm) {
+			this.identifierHydratedForm = identifierHydratedForm;
 		}
 
-		return context;
+		@Override
+		public Object getIdentifierHydratedForm() {
+			return identifierHydratedForm;
+		}
+
+		@Override
+		public void registerEntityKey(EntityKey entityKey) {
+			this.entityKey = entityKey;
+		}
+
+		@Override
+		public EntityKey getEntityKey() {
+			return entityKey;
+		}
+
+		@Override
+		public void registerHydratedState(Object[] hydratedState) {
+			this.hydratedState = hydratedState;
+		}
+
+		@Override
+		public Object[] getHydratedState() {
+			return hydratedState;
+		}
+
+		@Override
+		public void registerEntityInstance(Object entityInstance) {
+			this.entityInstance = entityInstance;
+		}
+
+		@Override
+		public Object getEntityInstance() {
+			return entityInstance;
+		}
 	}
 
 	private void registerNonExists(EntityFetch fetch) {
@@ -254,10 +282,9 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 	 * Package-protected
 	 */
 	void finishUpRow() {
-		if ( currentRowHydratedEntityRegistrationList == null ) {
-			if ( identifierResolutionContextMap != null ) {
-				identifierResolutionContextMap.clear();
-			}
+		resetProcessingStates();
+		if ( currentRowHydratedEntityRegistrationList == null || currentRowHydratedEntityRegistrationList.isEmpty() ) {
+			// only already managed entities in this row
 			return;
 		}
 
@@ -288,14 +315,21 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 
 		// release the currentRowHydratedEntityRegistrationList entries
 		currentRowHydratedEntityRegistrationList.clear();
-
-		identifierResolutionContextMap.clear();
 	}
 
 	public List<HydratedEntityRegistration> getHydratedEntityRegistrationList() {
 		return hydratedEntityRegistrationList;
 	}
 
+	/**
+	 * Package-protected
+	 */
+	void clearHydratedEntityRegistrations() {
+		if ( hydratedEntityRegistrationList != null ) {
+			hydratedEntityRegistrationList.clear();
+		}
+	}
+
 	/**
 	 * Package-protected
 	 */
@@ -104,6 +104,11 @@ public class ResultSetProcessorImpl implements ResultSetProcessor {
 
 		final List loadResults = new ArrayList();
 
+		// the entities may be initialized in chunks, unless collections have to be completely loaded first
+		final int chunkSize = hadSubselectFetches || !rowReader.supportsChunkedInitialization()
+				? 0
+				: session.getFactory().getSessionFactoryOptions().getEntityInitializationChunkSize();
+
 		LOG.trace( "Processing result set" );
 		int count;
 		for ( count = 0; count < maxRows && resultSet.next(); count++ ) {
@@ -116,6 +121,11 @@ public class ResultSetProcessorImpl implements ResultSetProcessor {
 			loadResults.add( logicalRow );
 
 			context.finishUpRow();
+
+			if ( chunkSize > 0 && ( count + 1 ) % chunkSize == 0 ) {
+				LOG.tracef( "Initializing entities read up to ResultSet row #%s", count );
+				rowReader.finishUpChunk( context, afterLoadActionList );
+			}
 		}
 
 		LOG.tracev( "Done processing result set ({0} rows)", count );
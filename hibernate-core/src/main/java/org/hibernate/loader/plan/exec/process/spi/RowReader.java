@@ -21,4 +21,20 @@ public interface RowReader {
 	Object readRow(ResultSet resultSet, ResultSetProcessingContextImpl context) throws SQLException;
 
 	void finishUp(ResultSetProcessingContextImpl context, List<AfterLoadAction> afterLoadActionList);
+
+	/**
+	 * Can the entities read so far be initialized before all the rows have been read?  Not when collections are
+	 * read, as their loading has to complete first.
+	 *
+	 * @return {@code true} if {@link #finishUpChunk} may be called between rows
+	 */
+	boolean supportsChunkedInitialization();
+
+	/**
+	 * Initialize the entities read since the previous chunk, before reading further rows.
+	 *
+	 * @param context The processing context
+	 * @param afterLoadActionList The actions to perform for each loaded entity
+	 */
+	void finishUpChunk(ResultSetProcessingContextImpl context, List<AfterLoadAction> afterLoadActionList);
 }
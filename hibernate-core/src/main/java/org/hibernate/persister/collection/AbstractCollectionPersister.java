@@ -31,6 +31,7 @@ import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.InsertBatchKey;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.ExecuteUpdateResultCheckStyle;
@@ -76,6 +77,7 @@ import org.hibernate.persister.walking.spi.CompositionDefinition;
 import org.hibernate.persister.walking.spi.EntityDefinition;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.sql.Alias;
+import org.hibernate.sql.Insert;
 import org.hibernate.sql.SelectFragment;
 import org.hibernate.sql.SimpleSelect;
 import org.hibernate.sql.Template;
@@ -114,6 +116,7 @@ public abstract class AbstractCollectionPersister
 	// SQL statements
 	private final String sqlDeleteString;
 	private final String sqlInsertRowString;
+	private final Insert sqlInsertRow;
 	private final String sqlUpdateRowString;
 	private final String sqlDeleteRowString;
 	private final String sqlSelectSizeString;
@@ -461,11 +464,13 @@ public abstract class AbstractCollectionPersister
 
 		if ( collectionBinding.getCustomSQLInsert() == null ) {
 			sqlInsertRowString = generateInsertRowString();
+			sqlInsertRow = generateInsertRow();
 			insertCallable = false;
 			insertCheckStyle = ExecuteUpdateResultCheckStyle.COUNT;
 		}
 		else {
 			sqlInsertRowString = collectionBinding.getCustomSQLInsert();
+			sqlInsertRow = null;
 			insertCallable = collectionBinding.isCustomInsertCallable();
 			insertCheckStyle = collectionBinding.getCustomSQLInsertCheckStyle() == null
 					? ExecuteUpdateResultCheckStyle.determineDefault( collectionBinding.getCustomSQLInsert(), insertCallable )
@@ -1277,9 +1282,11 @@ public abstract class AbstractCollectionPersister
 
 						if ( useBatch ) {
 							if ( recreateBatchKey == null ) {
-								recreateBatchKey = new BasicBatchKey(
+								recreateBatchKey = new InsertBatchKey(
 										getRole() + "#RECREATE",
-										expectation
+										expectation,
+										sql,
+										sqlInsertRow
 								);
 							}
 							st = session
@@ -1514,10 +1521,12 @@ public abstract class AbstractCollectionPersister
 
 					if ( useBatch ) {
 						if ( insertBatchKey == null ) {
-							insertBatchKey = new BasicBatchKey(
+							insertBatchKey = new InsertBatchKey(
 									getRole() + "#INSERT",
-									expectation
-									);
+									expectation,
+									sql,
+									sqlInsertRow
+							);
 						}
 						if ( st == null ) {
 							st = session
@@ -1698,6 +1707,16 @@ public abstract class AbstractCollectionPersister
 
 	protected abstract String generateInsertRowString();
 
+	/**
+	 * Generate the builder of the SQL INSERT that creates a new row, if the row is created by an INSERT
+	 * rendered by such a builder; used to execute batched row inserts as multi-row inserts.
+	 *
+	 * @return The builder of the {@link #generateInsertRowString() row insert}, or {@code null}
+	 */
+	protected Insert generateInsertRow() {
+		return null;
+	}
+
 	@Override
 	public void updateRows(PersistentCollection collection, Serializable id, SessionImplementor session)
 			throws HibernateException {
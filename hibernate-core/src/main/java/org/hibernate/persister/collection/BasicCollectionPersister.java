@@ -82,6 +82,11 @@ public class BasicCollectionPersister extends AbstractCollectionPersister {
 	 */
 	@Override
 	protected String generateInsertRowString() {
+		return generateInsertRow().toStatementString();
+	}
+
+	@Override
+	protected Insert generateInsertRow() {
 		final Insert insert = new Insert( getDialect() )
 				.setTableName( qualifiedTableName )
 				.addColumns( keyColumnNames );
@@ -102,7 +107,7 @@ public class BasicCollectionPersister extends AbstractCollectionPersister {
 		insert.addColumns( elementColumnNames, elementColumnIsSettable, elementColumnWriters );
 		//}
 
-		return insert.toStatementString();
+		return insert;
 	}
 
 	/**
@@ -40,6 +40,7 @@ import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -52,6 +53,7 @@ import org.hibernate.engine.internal.MutableEntityEntryFactory;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.Versioning;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.InsertBatchKey;
 import org.hibernate.engine.spi.CachedNaturalIdValueSource;
 import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.CascadingActions;
@@ -66,6 +68,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.ValueInclusion;
 import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.IdentityGenerator;
 import org.hibernate.id.PostInsertIdentifierGenerator;
 import org.hibernate.id.PostInsertIdentityPersister;
 import org.hibernate.id.insert.Binder;
@@ -80,6 +83,7 @@ import org.hibernate.jdbc.Expectations;
 import org.hibernate.jdbc.TooManyRowsAffectedException;
 import org.hibernate.loader.entity.BatchingEntityLoaderBuilder;
 import org.hibernate.loader.entity.CascadeEntityLoader;
+import org.hibernate.loader.entity.DynamicBatchingEntityLoaderBuilder;
 import org.hibernate.loader.entity.EntityLoader;
 import org.hibernate.loader.entity.UniqueEntityLoader;
 import org.hibernate.mapping.Column;
@@ -229,6 +233,7 @@ public abstract class AbstractEntityPersister
 
 	private String[] sqlDeleteStrings;
 	private String[] sqlInsertStrings;
+	private Insert sqlRootInsert;
 	private String[] sqlUpdateStrings;
 	private String[] sqlLazyUpdateStrings;
 
@@ -247,6 +252,7 @@ public abstract class AbstractEntityPersister
 	protected ExecuteUpdateResultCheckStyle[] deleteResultCheckStyles;
 
 	private InsertGeneratedIdentifierDelegate identityDelegate;
+	private boolean identityInsertBatchable;
 
 	private boolean[] tableHasColumns;
 
@@ -823,6 +829,10 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
+		if ( factory.getSessionFactoryOptions().isCompactCacheEntriesEnabled() ) {
+			return new CompactCacheEntryHelper( this );
+		}
+
 		return factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled()
 				? new StructuredCacheEntryHelper( this )
 				: new StandardCacheEntryHelper( this );
@@ -2349,6 +2359,20 @@ public abstract class AbstractEntityPersister
 	 * Generate the SQL that inserts a row
 	 */
 	protected String generateInsertString(boolean identityInsert, boolean[] includeProperty, int j) {
+		String result = generateInsert( identityInsert, includeProperty, j ).toStatementString();
+
+		// append the SQL to return the generated identifier
+		if ( j == 0 && identityInsert && useInsertSelectIdentity() ) { //TODO: suck into Insert
+			result = getFactory().getDialect().appendIdentitySelectToInsert( result );
+		}
+
+		return result;
+	}
+
+	/**
+	 * Generate the builder of the SQL that inserts a row
+	 */
+	protected Insert generateInsert(boolean identityInsert, boolean[] includeProperty, int j) {
 
 		// todo : remove the identityInsert param and variations;
 		//   identity-insert strings are now generated from generateIdentityInsertString()
@@ -2427,14 +2451,7 @@ public abstract class AbstractEntityPersister
 			}
 		}
 
-		String result = insert.toStatementString();
-
-		// append the SQL to return the generated identifier
-		if ( j == 0 && identityInsert && useInsertSelectIdentity() ) { //TODO: suck into Insert
-			result = getFactory().getDialect().appendIdentitySelectToInsert( result );
-		}
-
-		return result;
+		return insert;
 	}
 
 	/**
@@ -2727,6 +2744,56 @@ public abstract class AbstractEntityPersister
 		return identityDelegate.performInsert( sql, session, binder );
 	}
 
+	@Override
+	public boolean isIdentityInsertBatchable() {
+		return identityInsertBatchable;
+	}
+
+	@Override
+	public Serializable[] insert(final Object[][] fields, final Object[] objects, final SessionImplementor session)
+			throws HibernateException {
+		if ( !identityInsertBatchable ) {
+			throw new AssertionFailure( "identity inserts of " + getEntityName() + " cannot be batched" );
+		}
+
+		final List<Binder> binders = new ArrayList<Binder>( objects.length );
+		for ( int i = 0; i < objects.length; i++ ) {
+			final Object[] rowFields = fields[i];
+			final Object object = objects[i];
+			// apply any pre-insert in-memory value generation
+			preInsertInMemoryValueGeneration( rowFields, object, session );
+			if ( LOG.isTraceEnabled() ) {
+				LOG.tracev( "Inserting entity: {0} (native id, batched)", getEntityName() );
+				if ( isVersioned() ) {
+					LOG.tracev( "Version: {0}", Versioning.getVersion( rowFields, this ) );
+				}
+			}
+			binders.add(
+					new Binder() {
+						public void bindValues(PreparedStatement ps) throws SQLException {
+							dehydrate( null, rowFields, getPropertyInsertability(), propertyColumnInsertable, 0, ps, session, false );
+						}
+
+						public Object getEntity() {
+							return object;
+						}
+					}
+			);
+		}
+
+		final Serializable[] ids = ( (IdentityGenerator.GetGeneratedKeysDelegate) identityDelegate ).performBatchInsert(
+				getSQLIdentityInsertString(),
+				session,
+				binders
+		);
+		for ( int i = 0; i < objects.length; i++ ) {
+			for ( int j = 1; j < getTableSpan(); j++ ) {
+				insert( ids[i], fields[i], getPropertyInsertability(), j, getSQLInsertStrings()[j], objects[i], session );
+			}
+		}
+		return ids;
+	}
+
 	public String getIdentitySelectString() {
 		//TODO: cache this in an instvar
 		return getFactory().getDialect().getIdentitySelectString(
@@ -2744,7 +2811,7 @@ public abstract class AbstractEntityPersister
 				.toStatementString();
 	}
 
-	private BasicBatchKey inserBatchKey;
+	private InsertBatchKey inserBatchKey;
 
 	/**
 	 * Perform an SQL INSERT.
@@ -2784,9 +2851,11 @@ public abstract class AbstractEntityPersister
 		// nor can we batch statements where the expectation is based on an output param
 		final boolean useBatch = j == 0 && expectation.canBeBatched();
 		if ( useBatch && inserBatchKey == null ) {
-			inserBatchKey = new BasicBatchKey(
+			inserBatchKey = new InsertBatchKey(
 					getEntityName() + "#INSERT",
-					expectation
+					expectation,
+					getSQLInsertStrings()[0],
+					sqlRootInsert
 			);
 		}
 		final boolean callable = isInsertCallable( j );
@@ -3731,6 +3800,11 @@ public abstract class AbstractEntityPersister
 				null :
 				generateUpdateString( getNonLazyPropertyUpdateability(), 0, true );
 
+		// the builder of the root table insert, for rendering multi-row inserts from batches
+		sqlRootInsert = customSQLInsert[0] == null
+				? generateInsert( false, getPropertyInsertability(), 0 )
+				: null;
+
 		for ( int j = 0; j < joinSpan; j++ ) {
 			sqlInsertStrings[j] = customSQLInsert[j] == null ?
 					generateInsertString( getPropertyInsertability(), j ) :
@@ -3767,6 +3841,12 @@ public abstract class AbstractEntityPersister
 			sqlIdentityInsertString = customSQLInsert[0] == null
 					? generateIdentityInsertString( getPropertyInsertability() )
 					: customSQLInsert[0];
+			identityInsertBatchable = getFactory().getSessionFactoryOptions().isJdbcBatchIdentityInserts()
+					&& getFactory().getSessionFactoryOptions().getJdbcBatchSize() > 1
+					&& getFactory().getDialect().supportsGetGeneratedKeysForBatch()
+					&& identityDelegate instanceof IdentityGenerator.GetGeneratedKeysDelegate
+					&& customSQLInsert[0] == null
+					&& !entityMetamodel.isDynamicInsert();
 		}
 		else {
 			sqlIdentityInsertString = null;
@@ -3890,6 +3970,11 @@ public abstract class AbstractEntityPersister
 		return loader.load( id, optionalObject, session, lockOptions );
 	}
 
+	@Override
+	public List multiLoad(Serializable[] ids, SessionImplementor session, MultiLoadOptions loadOptions) {
+		return DynamicBatchingEntityLoaderBuilder.INSTANCE.multiLoad( this, ids, session, loadOptions );
+	}
+
 	public void registerAffectingFetchProfile(String fetchProfileName) {
 		affectingFetchProfileNames.add( fetchProfileName );
 	}
@@ -4894,6 +4979,259 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	@Override
+	public Serializable[] loadEntityIdsByNaturalIds(
+			Object[][] naturalIdValues,
+			SessionImplementor session,
+			MultiLoadOptions loadOptions) {
+		final EntityPersister rootPersister = getFactory().getEntityPersister( getRootEntityName() );
+		if ( rootPersister != this && rootPersister instanceof AbstractEntityPersister ) {
+			return rootPersister.loadEntityIdsByNaturalIds( naturalIdValues, session, loadOptions );
+		}
+
+		final Serializable[] ids = new Serializable[naturalIdValues.length];
+		final LockOptions lockOptions = loadOptions.getLockOptions() == null
+				? LockOptions.NONE
+				: loadOptions.getLockOptions();
+
+		// natural ids with null values cannot be part of an IN list, resolve those one at a time
+		final List<Integer> batchablePositions = new ArrayList<Integer>( naturalIdValues.length );
+		for ( int i = 0; i < naturalIdValues.length; i++ ) {
+			if ( ArrayHelper.isAllFalse( determineValueNullness( naturalIdValues[i] ) ) ) {
+				batchablePositions.add( i );
+			}
+			else {
+				ids[i] = loadEntityIdByNaturalId( naturalIdValues[i], lockOptions, session );
+			}
+		}
+		if ( batchablePositions.isEmpty() ) {
+			return ids;
+		}
+
+		final int maxBatchSize = determineNaturalIdBatchSize( batchablePositions.size(), loadOptions );
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debugf(
+					"Resolving natural-ids of type [%s] in batches of %s : %s natural-ids",
+					getEntityName(),
+					maxBatchSize,
+					batchablePositions.size()
+			);
+		}
+
+		for ( int start = 0; start < batchablePositions.size(); start += maxBatchSize ) {
+			final List<Integer> positions = batchablePositions.subList(
+					start,
+					Math.min( start + maxBatchSize, batchablePositions.size() )
+			);
+			loadEntityIdsByNaturalIds( naturalIdValues, positions, ids, lockOptions, session );
+		}
+		return ids;
+	}
+
+	private int determineNaturalIdBatchSize(int numberOfNaturalIds, MultiLoadOptions loadOptions) {
+		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
+			return loadOptions.getBatchSize();
+		}
+		final int inExpressionCountLimit = getFactory().getDialect().getInExpressionCountLimit();
+		if ( inExpressionCountLimit > 0 ) {
+			return Math.min( numberOfNaturalIds, inExpressionCountLimit );
+		}
+		return numberOfNaturalIds;
+	}
+
+	private void loadEntityIdsByNaturalIds(
+			Object[][] naturalIdValues,
+			List<Integer> positions,
+			Serializable[] ids,
+			LockOptions lockOptions,
+			SessionImplementor session) {
+		final String sql = generateEntityIdsByNaturalIdsSql( positions.size(), lockOptions );
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+		final Type[] propertyTypes = getPropertyTypes();
+
+		try {
+			PreparedStatement ps = session
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql );
+			try {
+				int index = 1;
+				for ( int position : positions ) {
+					for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+						final Type type = propertyTypes[naturalIdPropertyIndexes[i]];
+						type.nullSafeSet( ps, naturalIdValues[position][i], index, session );
+						index += type.getColumnSpan( getFactory() );
+					}
+				}
+
+				final Map<NaturalIdValues, Serializable> resolved = new HashMap<NaturalIdValues, Serializable>();
+				ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
+				try {
+					while ( rs.next() ) {
+						final Object hydratedId = getIdentifierType().hydrate( rs, getIdentifierAliases(), session, null );
+						final Serializable id = (Serializable) getIdentifierType().resolve( hydratedId, session, null );
+
+						final Object[] values = new Object[naturalIdPropertyIndexes.length];
+						for ( int i = 0; i < naturalIdPropertyIndexes.length; i++ ) {
+							final int propertyIndex = naturalIdPropertyIndexes[i];
+							values[i] = propertyTypes[propertyIndex].nullSafeGet(
+									rs,
+									getPropertyAliases( "", propertyIndex ),
+									session,
+									null
+							);
+						}
+						resolved.put( new NaturalIdValues( values ), id );
+					}
+				}
+				finally {
+					session.getJdbcCoordinator().getResourceRegistry().release( rs, ps );
+				}
+
+				final Set<NaturalIdValues> matched = new HashSet<NaturalIdValues>();
+				for ( int position : positions ) {
+					final NaturalIdValues key = new NaturalIdValues( naturalIdValues[position] );
+					ids[position] = resolved.get( key );
+					if ( ids[position] != null ) {
+						matched.add( key );
+					}
+				}
+				if ( matched.size() == resolved.size() ) {
+					// every row was matched to a requested natural id: the others are really missing
+					return;
+				}
+			}
+			finally {
+				session.getJdbcCoordinator().getResourceRegistry().release( ps );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+		catch (SQLException e) {
+			throw getFactory().getSQLExceptionHelper().convert(
+					e,
+					String.format(
+							"could not resolve natural-ids to ids : %s",
+							MessageHelper.infoString( this )
+					),
+					sql
+			);
+		}
+
+		// The rows are matched to the requested natural ids in memory, which can miss rows the database
+		// did match (case insensitive collations, padded CHAR columns, column types differing from the bound
+		// value...).  Some row matched none of them, so resolve the natural ids without a match one at a time,
+		// just like a single load does.
+		for ( int position : positions ) {
+			if ( ids[position] == null ) {
+				ids[position] = loadEntityIdByNaturalId( naturalIdValues[position], lockOptions, session );
+			}
+		}
+	}
+
+	/**
+	 * Generates the SQL resolving a given number of (non-null) natural ids to entity ids in one statement.
+	 * The natural id columns are selected as well, so that every row can be matched to its natural id.
+	 */
+	private String generateEntityIdsByNaturalIdsSql(int batchSize, LockOptions lockOptions) {
+		Select select = new Select( getFactory().getDialect() );
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			select.setComment( "get current natural-id->entity-id state (batched) " + getEntityName() );
+		}
+
+		final String rootAlias = getRootAlias();
+		final int[] propertyTableNumbers = getPropertyTableNumbers();
+		final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+
+		final SelectFragment selectFragment = new SelectFragment()
+				.addColumns( rootAlias, getIdentifierColumnNames(), getIdentifierAliases() );
+		final List<String> naturalIdColumns = new ArrayList<String>();
+		for ( int naturalIdIdx : naturalIdPropertyIndexes ) {
+			final String tableAlias = generateTableAlias( rootAlias, propertyTableNumbers[naturalIdIdx] );
+			final String[] propertyColumnNames = getPropertyColumnNames( naturalIdIdx );
+			selectFragment.addColumns( tableAlias, propertyColumnNames, getPropertyAliases( "", naturalIdIdx ) );
+			naturalIdColumns.addAll( Arrays.asList( StringHelper.qualify( tableAlias, propertyColumnNames ) ) );
+		}
+
+		select.setSelectClause( selectFragment.toFragmentString().substring( 2 ) );
+		select.setFromClause(
+				getFactory().getDialect().appendLockHint( lockOptions, fromTableFragment( rootAlias ) )
+						+ fromJoinFragment( rootAlias, true, false )
+		);
+		select.setLockOptions( lockOptions );
+
+		final StringBuilder whereClause = new StringBuilder( "(" );
+		final String[] columns = naturalIdColumns.toArray( new String[naturalIdColumns.size()] );
+		if ( columns.length == 1 ) {
+			// a.col in (?,?,...)
+			whereClause.append( columns[0] ).append( " in (" )
+					.append( StringHelper.repeat( "?", batchSize, "," ) )
+					.append( ')' );
+		}
+		else if ( getFactory().getDialect().supportsRowValueConstructorSyntaxInInList() ) {
+			// (a.col1,a.col2) in ((?,?),(?,?),...)
+			final String tuple = '(' + StringHelper.repeat( "?", columns.length, "," ) + ')';
+			whereClause.append( '(' ).append( StringHelper.join( ",", columns ) ).append( ") in (" )
+					.append( StringHelper.repeat( tuple, batchSize, "," ) )
+					.append( ')' );
+		}
+		else {
+			// (a.col1=? and a.col2=?) or (a.col1=? and a.col2=?) or ...
+			final String restriction = '(' + StringHelper.join( "=? and ", columns ) + "=?)";
+			whereClause.append( StringHelper.repeat( restriction, batchSize, " or " ) );
+		}
+		whereClause.append( ')' );
+
+		whereClause.append( whereJoinFragment( rootAlias, true, false ) );
+
+		return select.setOuterJoins( "", "" ).setWhereClause( whereClause.toString() ).toStatementString();
+	}
+
+	/**
+	 * Wraps the values of a natural id so that they can be used as map key, using the natural id property
+	 * types to compute equality and hash code.  Should a returned row match no requested natural id, the natural
+	 * ids left without a match are resolved one at a time, see
+	 * {@link #loadEntityIdsByNaturalIds(Object[][], List, Serializable[], LockOptions, SessionImplementor)}.
+	 */
+	private final class NaturalIdValues {
+		private final Object[] values;
+		private final int hashCode;
+
+		private NaturalIdValues(Object[] values) {
+			this.values = values;
+			final Type[] propertyTypes = getPropertyTypes();
+			final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+			int result = 1;
+			for ( int i = 0; i < values.length; i++ ) {
+				result = 31 * result + propertyTypes[naturalIdPropertyIndexes[i]].getHashCode( values[i], getFactory() );
+			}
+			this.hashCode = result;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if ( this == other ) {
+				return true;
+			}
+			if ( !( other instanceof NaturalIdValues ) ) {
+				return false;
+			}
+			final Object[] otherValues = ( (NaturalIdValues) other ).values;
+			final Type[] propertyTypes = getPropertyTypes();
+			final int[] naturalIdPropertyIndexes = getNaturalIdentifierProperties();
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( !propertyTypes[naturalIdPropertyIndexes[i]].isEqual( values[i], otherValues[i], getFactory() ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 	private boolean[] determineValueNullness(Object[] naturalIdValues) {
 		boolean[] nullness = new boolean[naturalIdValues.length];
 		for ( int i = 0; i < naturalIdValues.length; i++ ) {
@@ -5126,6 +5464,33 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class CompactCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final CompactCacheEntry structure;
+
+		private CompactCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new CompactCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SessionImplementor session) {
+			return new StandardCacheEntryImpl(
+					state,
+					persister,
+					persister.hasUninitializedLazyProperties( entity ),
+					version,
+					session,
+					entity
+			);
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
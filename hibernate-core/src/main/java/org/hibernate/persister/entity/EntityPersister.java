@@ -7,6 +7,7 @@
 package org.hibernate.persister.entity;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.EntityMode;
@@ -351,6 +352,22 @@ public interface EntityPersister extends OptimisticCacheSource, EntityDefinition
 	public Serializable loadEntityIdByNaturalId(Object[] naturalIdValues, LockOptions lockOptions,
 			SessionImplementor session);
 
+	/**
+	 * Load the ids for the entities based on the given natural ids, reading them from the database in as few
+	 * SQL queries as the batch size allows.  The persistence context and the second-level cache are not
+	 * consulted.
+	 *
+	 * @param naturalIdValues The natural id values, one array of (ordered) values per natural id
+	 * @param session The originating session
+	 * @param loadOptions The options for the load
+	 *
+	 * @return The ids, in the order of the given natural ids; {@code null} for natural ids not matching any entity
+	 */
+	public Serializable[] loadEntityIdsByNaturalIds(
+			Object[][] naturalIdValues,
+			SessionImplementor session,
+			MultiLoadOptions loadOptions);
+
 	/**
 	 * Load an instance of the persistent class.
 	 */
@@ -363,6 +380,19 @@ public interface EntityPersister extends OptimisticCacheSource, EntityDefinition
 	public Object load(Serializable id, Object optionalObject, LockOptions lockOptions, SessionImplementor session)
 	throws HibernateException;
 
+	/**
+	 * Load the instances of the persistent class matching the given identifiers, reading them from the
+	 * database in as few SQL queries as the batch size allows.  The persistence context and the second-level
+	 * cache are not consulted.
+	 *
+	 * @param ids The identifiers to load
+	 * @param session The originating session
+	 * @param loadOptions The options for the load
+	 *
+	 * @return The loaded entities, in no particular order
+	 */
+	public List multiLoad(Serializable[] ids, SessionImplementor session, MultiLoadOptions loadOptions);
+
 	/**
 	 * Do a version check (optional operation)
 	 */
@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.entity;
+
+import org.hibernate.LockOptions;
+
+/**
+ * Encapsulation of the options for performing a load by multiple identifiers.
+ *
+ * @see org.hibernate.MultiIdentifierLoadAccess
+ * @see EntityPersister#multiLoad
+ */
+public interface MultiLoadOptions {
+	/**
+	 * The lock options to apply to the loaded entities.
+	 *
+	 * @return The lock options; may be {@code null}
+	 */
+	public LockOptions getLockOptions();
+
+	/**
+	 * The number of identifiers to fetch per SQL query.
+	 *
+	 * @return The batch size, or {@code null} if not explicitly specified
+	 */
+	public Integer getBatchSize();
+}
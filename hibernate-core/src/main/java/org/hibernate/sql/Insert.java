@@ -88,7 +88,62 @@ public class Insert {
 	}
 
 	public String toStatementString() {
-		StringBuilder buf = new StringBuilder( columns.size()*15 + tableName.length() + 10 );
+		return toStatementString( 1 );
+	}
+
+	/**
+	 * Can the statement insert several rows at once, see {@link #toMultiRowStatementString}?  That is not the case
+	 * when no column is inserted.
+	 *
+	 * @return {@code true} if several rows can be inserted at once
+	 */
+	public boolean isMultiRowCapable() {
+		return columns.size() > 0;
+	}
+
+	/**
+	 * The number of JDBC parameters bound for each inserted row.
+	 *
+	 * @return The number of parameters of the values group
+	 */
+	public int getParameterCount() {
+		int count = 0;
+		Iterator iter = columns.values().iterator();
+		while ( iter.hasNext() ) {
+			final String valueExpression = (String) iter.next();
+			boolean quoted = false;
+			for ( int i = 0; i < valueExpression.length(); i++ ) {
+				final char c = valueExpression.charAt( i );
+				if ( c == '\'' ) {
+					quoted = !quoted;
+				}
+				else if ( c == '?' && !quoted ) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Renders the statement inserting several rows at once, the values group being repeated for each row:
+	 * {@code insert into table (columns) values (values), (values), ...}.  The parameters of the n-th row follow
+	 * those of the previous rows.  Requires a dialect which
+	 * {@link Dialect#supportsValuesListForInsert() supports} values lists.
+	 *
+	 * @param rowCount The number of rows
+	 *
+	 * @return The SQL statement
+	 */
+	public String toMultiRowStatementString(int rowCount) {
+		if ( rowCount < 1 || ( rowCount > 1 && !isMultiRowCapable() ) ) {
+			throw new IllegalStateException( "Unable to render an insert statement for " + rowCount + " rows" );
+		}
+		return toStatementString( rowCount );
+	}
+
+	private String toStatementString(int rowCount) {
+		StringBuilder buf = new StringBuilder( columns.size()*15*rowCount + tableName.length() + 10 );
 		if ( comment != null ) {
 			buf.append( "/* " ).append( comment ).append( " */ " );
 		}
@@ -106,15 +161,21 @@ public class Insert {
 					buf.append( ", " );
 				}
 			}
-			buf.append(") values (");
-			iter = columns.values().iterator();
-			while ( iter.hasNext() ) {
-				buf.append( iter.next() );
-				if ( iter.hasNext() ) {
+			buf.append(") values ");
+			for ( int row = 0; row < rowCount; row++ ) {
+				if ( row > 0 ) {
 					buf.append( ", " );
 				}
+				buf.append( '(' );
+				iter = columns.values().iterator();
+				while ( iter.hasNext() ) {
+					buf.append( iter.next() );
+					if ( iter.hasNext() ) {
+						buf.append( ", " );
+					}
+				}
+				buf.append( ')' );
 			}
-			buf.append(')');
 		}
 		return buf.toString();
 	}
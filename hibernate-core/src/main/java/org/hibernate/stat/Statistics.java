@@ -114,6 +114,26 @@ public interface Statistics {
      * Get the global number of cacheable queries put in cache
      */
 	public long getQueryCachePutCount();
+	/**
+	 * Get the global number of query plans found in the query plan cache
+	 */
+	public long getQueryPlanCacheHitCount();
+	/**
+	 * Get the global number of query plans *not* found in the query plan cache, and so compiled
+	 */
+	public long getQueryPlanCacheMissCount();
+	/**
+	 * Get the global number of query plans evicted from the query plan cache
+	 */
+	public long getQueryPlanCacheEvictionCount();
+	/**
+	 * Get the global time, in milliseconds, spent compiling the query plans missing from the query plan cache
+	 */
+	public long getQueryPlanCompileTime();
+	/**
+	 * Get the time, in milliseconds, spent warming up the query plan cache when the SessionFactory was built
+	 */
+	public long getQueryPlanCacheWarmUpTime();
 	/**
 	 * Get the global number of naturalId queries executed against the database
 	 */
@@ -250,6 +270,34 @@ public interface Statistics {
 	 * The number of prepared statements that were released
 	 */
 	public long getCloseStatementCount();
+	/**
+	 * The number of JDBC batches that were executed
+	 */
+	public long getBatchExecutionCount();
+	/**
+	 * The number of statements that were executed as part of JDBC batches
+	 */
+	public long getBatchedStatementCount();
+	/**
+	 * The average number of statements per executed JDBC batch
+	 */
+	public double getAverageBatchSize();
+	/**
+	 * The number of entity rows written by {@link org.hibernate.BulkWriter bulk writes}
+	 */
+	public long getBulkWriteRowCount();
+	/**
+	 * The number of transactions committed by bulk writes
+	 */
+	public long getBulkWriteCommitCount();
+	/**
+	 * The elapsed time, in milliseconds, of bulk writes
+	 */
+	public long getBulkWriteTime();
+	/**
+	 * The number of entity rows written per second by bulk writes, over their elapsed time
+	 */
+	public double getBulkWriteThroughput();
 	/**
 	 * The number of <tt>StaleObjectStateException</tt>s 
 	 * that occurred
@@ -8,8 +8,12 @@ package org.hibernate.stat.internal;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import javax.management.NotCompliantMBeanException;
+import javax.management.StandardMBean;
 
+import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
@@ -19,11 +23,13 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.service.Service;
+import org.hibernate.service.spi.Manageable;
 import org.hibernate.stat.CollectionStatistics;
 import org.hibernate.stat.EntityStatistics;
 import org.hibernate.stat.NaturalIdCacheStatistics;
 import org.hibernate.stat.QueryStatistics;
 import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import static org.hibernate.internal.CoreLogging.messageLogger;
@@ -34,7 +40,7 @@ import static org.hibernate.internal.CoreLogging.messageLogger;
  * @author Alex Snaps
  */
 @SuppressWarnings({ "unchecked" })
-public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service {
+public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service, Manageable {
 	private static final CoreMessageLogger LOG = messageLogger( ConcurrentStatisticsImpl.class );
 
 	private SessionFactoryImplementor sessionFactory;
@@ -48,6 +54,11 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 
 	private AtomicLong prepareStatementCount = new AtomicLong();
 	private AtomicLong closeStatementCount = new AtomicLong();
+	private AtomicLong batchExecutionCount = new AtomicLong();
+	private AtomicLong batchedStatementCount = new AtomicLong();
+	private AtomicLong bulkWriteRowCount = new AtomicLong();
+	private AtomicLong bulkWriteCommitCount = new AtomicLong();
+	private AtomicLong bulkWriteTime = new AtomicLong();
 
 	private AtomicLong entityLoadCount = new AtomicLong();
 	private AtomicLong entityUpdateCount = new AtomicLong();
@@ -77,6 +88,11 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 	private AtomicLong queryCacheHitCount = new AtomicLong();
 	private AtomicLong queryCacheMissCount = new AtomicLong();
 	private AtomicLong queryCachePutCount = new AtomicLong();
+	private AtomicLong queryPlanCacheHitCount = new AtomicLong();
+	private AtomicLong queryPlanCacheMissCount = new AtomicLong();
+	private AtomicLong queryPlanCacheEvictionCount = new AtomicLong();
+	private AtomicLong queryPlanCompileTime = new AtomicLong();
+	private AtomicLong queryPlanCacheWarmUpTime = new AtomicLong();
 
 	private AtomicLong updateTimestampsCacheHitCount = new AtomicLong();
 	private AtomicLong updateTimestampsCacheMissCount = new AtomicLong();
@@ -140,6 +156,11 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 
 		prepareStatementCount.set( 0 );
 		closeStatementCount.set( 0 );
+		batchExecutionCount.set( 0 );
+		batchedStatementCount.set( 0 );
+		bulkWriteRowCount.set( 0 );
+		bulkWriteCommitCount.set( 0 );
+		bulkWriteTime.set( 0 );
 
 		entityDeleteCount.set( 0 );
 		entityInsertCount.set( 0 );
@@ -159,6 +180,11 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		queryExecutionMaxTimeQueryString = null;
 		queryCacheMissCount.set( 0 );
 		queryCachePutCount.set( 0 );
+		queryPlanCacheHitCount.set( 0 );
+		queryPlanCacheMissCount.set( 0 );
+		queryPlanCacheEvictionCount.set( 0 );
+		queryPlanCompileTime.set( 0 );
+		queryPlanCacheWarmUpTime.set( 0 );
 
 		updateTimestampsCacheMissCount.set( 0 );
 		updateTimestampsCacheHitCount.set( 0 );
@@ -539,6 +565,23 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return entityUpdateCount.get();
 	}
 	@Override
+	public void queryPlanCacheHit() {
+		queryPlanCacheHitCount.getAndIncrement();
+	}
+	@Override
+	public void queryPlanCacheMiss(long compileTime) {
+		queryPlanCacheMissCount.getAndIncrement();
+		queryPlanCompileTime.getAndAdd( compileTime );
+	}
+	@Override
+	public void queryPlanCacheEviction(int count) {
+		queryPlanCacheEvictionCount.getAndAdd( count );
+	}
+	@Override
+	public void queryPlanCacheWarmedUp(long time) {
+		queryPlanCacheWarmUpTime.getAndAdd( time );
+	}
+	@Override
 	public long getQueryExecutionCount() {
 		return queryExecutionCount.get();
 	}
@@ -555,6 +598,26 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return queryCachePutCount.get();
 	}
 	@Override
+	public long getQueryPlanCacheHitCount() {
+		return queryPlanCacheHitCount.get();
+	}
+	@Override
+	public long getQueryPlanCacheMissCount() {
+		return queryPlanCacheMissCount.get();
+	}
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.get();
+	}
+	@Override
+	public long getQueryPlanCompileTime() {
+		return TimeUnit.NANOSECONDS.toMillis( queryPlanCompileTime.get() );
+	}
+	@Override
+	public long getQueryPlanCacheWarmUpTime() {
+		return queryPlanCacheWarmUpTime.get();
+	}
+	@Override
 	public long getUpdateTimestampsCacheHitCount() {
 		return updateTimestampsCacheHitCount.get();
 	}
@@ -718,6 +781,10 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		LOG.connectionsObtained( connectCount.get() );
 		LOG.statementsPrepared( prepareStatementCount.get() );
 		LOG.statementsClosed( closeStatementCount.get() );
+		LOG.batchesExecuted( batchExecutionCount.get() );
+		LOG.statementsBatched( batchedStatementCount.get() );
+		LOG.bulkWriteRows( bulkWriteRowCount.get() );
+		LOG.bulkWriteCommits( bulkWriteCommitCount.get() );
 		LOG.secondLevelCachePuts( secondLevelCachePutCount.get() );
 		LOG.secondLevelCacheHits( secondLevelCacheHitCount.get() );
 		LOG.secondLevelCacheMisses( secondLevelCacheMissCount.get() );
@@ -743,6 +810,9 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		LOG.timestampCacheMisses( updateTimestampsCacheMissCount.get() );
 		LOG.queryCacheHits( queryCacheHitCount.get() );
 		LOG.queryCacheMisses( queryCacheMissCount.get() );
+		LOG.queryPlanCacheHits( queryPlanCacheHitCount.get() );
+		LOG.queryPlanCacheMisses( queryPlanCacheMissCount.get() );
+		LOG.queryPlanCacheEvictions( queryPlanCacheEvictionCount.get() );
 		LOG.maxQueryTime( queryExecutionMaxTime.get() );
 	}
 
@@ -849,6 +919,50 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return prepareStatementCount.get();
 	}
 	@Override
+	public void executeBatch(int batchSize) {
+		batchExecutionCount.getAndIncrement();
+		batchedStatementCount.getAndAdd( batchSize );
+	}
+	@Override
+	public long getBatchExecutionCount() {
+		return batchExecutionCount.get();
+	}
+	@Override
+	public long getBatchedStatementCount() {
+		return batchedStatementCount.get();
+	}
+	@Override
+	public double getAverageBatchSize() {
+		final long batches = batchExecutionCount.get();
+		return batches == 0 ? 0 : (double) batchedStatementCount.get() / batches;
+	}
+	@Override
+	public void bulkWriteCommitted(int rowCount) {
+		bulkWriteCommitCount.getAndIncrement();
+		bulkWriteRowCount.getAndAdd( rowCount );
+	}
+	@Override
+	public void bulkWriteCompleted(long time) {
+		bulkWriteTime.getAndAdd( time );
+	}
+	@Override
+	public long getBulkWriteRowCount() {
+		return bulkWriteRowCount.get();
+	}
+	@Override
+	public long getBulkWriteCommitCount() {
+		return bulkWriteCommitCount.get();
+	}
+	@Override
+	public long getBulkWriteTime() {
+		return bulkWriteTime.get();
+	}
+	@Override
+	public double getBulkWriteThroughput() {
+		final long time = bulkWriteTime.get();
+		return time == 0 ? 0 : bulkWriteRowCount.get() * 1000d / time;
+	}
+	@Override
 	public void optimisticFailure(String entityName) {
 		optimisticFailureCount.getAndIncrement();
 		( (ConcurrentEntityStatisticsImpl) getEntityStatistics( entityName ) ).incrementOptimisticFailureCount();
@@ -858,6 +972,28 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return optimisticFailureCount.get();
 	}
 
+	@Override
+	public String getManagementDomain() {
+		// use Hibernate default domain
+		return null;
+	}
+
+	@Override
+	public String getManagementServiceType() {
+		// use Hibernate default scheme
+		return null;
+	}
+
+	@Override
+	public Object getManagementBean() {
+		try {
+			return new StandardMBean( this, Statistics.class );
+		}
+		catch (NotCompliantMBeanException e) {
+			throw new HibernateException( "Unable to expose statistics as a management bean", e );
+		}
+	}
+
 	@Override
 	public String toString() {
 		return new StringBuilder()
@@ -872,6 +1008,10 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 				.append( ",connections obtained=" ).append( connectCount )
 				.append( ",statements prepared=" ).append( prepareStatementCount )
 				.append( ",statements closed=" ).append( closeStatementCount )
+				.append( ",batches executed=" ).append( batchExecutionCount )
+				.append( ",statements batched=" ).append( batchedStatementCount )
+				.append( ",bulk write rows=" ).append( bulkWriteRowCount )
+				.append( ",bulk write commits=" ).append( bulkWriteCommitCount )
 				.append( ",second level cache puts=" ).append( secondLevelCachePutCount )
 				.append( ",second level cache hits=" ).append( secondLevelCacheHitCount )
 				.append( ",second level cache misses=" ).append( secondLevelCacheMissCount )
@@ -894,6 +1034,9 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 				.append( ",query cache puts=" ).append( queryCachePutCount )
 				.append( ",query cache hits=" ).append( queryCacheHitCount )
 				.append( ",query cache misses=" ).append( queryCacheMissCount )
+				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
+				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
+				.append( ",query plan cache evictions=" ).append( queryPlanCacheEvictionCount )
 				.append(",update timestamps cache puts=").append(updateTimestampsCachePutCount)
 				.append(",update timestamps cache hits=").append(updateTimestampsCacheHitCount)
 				.append(",update timestamps cache misses=").append(updateTimestampsCacheMissCount)
@@ -46,6 +46,27 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	public void closeStatement();
 
+	/**
+	 * Callback about a JDBC batch being executed.
+	 *
+	 * @param batchSize The number of statements executed as part of the batch.
+	 */
+	public void executeBatch(int batchSize);
+
+	/**
+	 * Callback about the transaction of a bulk write committing.
+	 *
+	 * @param rowCount The number of entity rows written in the transaction.
+	 */
+	public void bulkWriteCommitted(int rowCount);
+
+	/**
+	 * Callback about a bulk write completing.
+	 *
+	 * @param time The elapsed time of the bulk write, in milliseconds.
+	 */
+	public void bulkWriteCompleted(long time);
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -208,6 +229,32 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	public void queryCacheMiss(String hql, String regionName);
 
+	/**
+	 * Callback indicating a query plan was found in the query plan cache.
+	 */
+	public void queryPlanCacheHit();
+
+	/**
+	 * Callback indicating a query plan was not found in the query plan cache, and was compiled.
+	 *
+	 * @param compileTime The time spent compiling the plan, in nanoseconds
+	 */
+	public void queryPlanCacheMiss(long compileTime);
+
+	/**
+	 * Callback indicating query plans were evicted from the query plan cache.
+	 *
+	 * @param count The number of evicted plans
+	 */
+	public void queryPlanCacheEviction(int count);
+
+	/**
+	 * Callback indicating the query plan cache was warmed up.
+	 *
+	 * @param time The time spent warming up the cache, in milliseconds
+	 */
+	public void queryPlanCacheWarmedUp(long time);
+
 	/**
 	 * Callback indicating execution of a sql/hql query
 	 *
@@ -58,6 +58,7 @@ public class EntityMetamodel implements Serializable {
 	private static final CoreMessageLogger LOG = messageLogger( EntityMetamodel.class );
 
 	private static final int NO_VERSION_INDX = -66;
+	public static final int NO_QUERY_CACHE_PARTITION_INDX = -1;
 
 	private final SessionFactoryImplementor sessionFactory;
 	private final AbstractEntityPersister persister;
@@ -102,6 +103,7 @@ public class EntityMetamodel implements Serializable {
 	private final boolean hasNonIdentifierPropertyNamedId;
 
 	private final int[] naturalIdPropertyNumbers;
+	private final int queryCachePartitionPropertyIndex;
 	private final boolean hasImmutableNaturalId;
 	private final boolean hasCacheableNaturalId;
 
@@ -190,6 +192,7 @@ public class EntityMetamodel implements Serializable {
 		boolean foundInsertGeneratedValue = false;
 		boolean foundUpdateGeneratedValue = false;
 		boolean foundUpdateableNaturalIdProperty = false;
+		int tempQueryCachePartitionProperty = NO_QUERY_CACHE_PARTITION_INDX;
 
 		while ( iter.hasNext() ) {
 			Property prop = ( Property ) iter.next();
@@ -221,6 +224,15 @@ public class EntityMetamodel implements Serializable {
 				}
 			}
 
+			if ( prop.isQueryCachePartition() ) {
+				if ( tempQueryCachePartitionProperty != NO_QUERY_CACHE_PARTITION_INDX ) {
+					throw new MappingException(
+							"Entity " + persistentClass.getEntityName() + " declares more than one query cache partition property"
+					);
+				}
+				tempQueryCachePartitionProperty = i;
+			}
+
 			if ( "id".equals( prop.getName() ) ) {
 				foundNonIdentifierPropertyNamedId = true;
 			}
@@ -298,6 +310,8 @@ public class EntityMetamodel implements Serializable {
 			i++;
 		}
 
+		queryCachePartitionPropertyIndex = tempQueryCachePartitionProperty;
+
 		if (naturalIdNumbers.size()==0) {
 			naturalIdPropertyNumbers = null;
 			hasImmutableNaturalId = false;
@@ -848,6 +862,17 @@ public class EntityMetamodel implements Serializable {
 		return naturalIdPropertyNumbers;
 	}
 
+	/**
+	 * The index of the property partitioning the rows of this entity for the invalidation of the query cache.
+	 *
+	 * @return The property index, or {@link #NO_QUERY_CACHE_PARTITION_INDX} if the entity declares none
+	 *
+	 * @see org.hibernate.annotations.QueryCachePartition
+	 */
+	public int getQueryCachePartitionPropertyIndex() {
+		return queryCachePartitionPropertyIndex;
+	}
+
 	public boolean hasNaturalIdentifier() {
 		return naturalIdPropertyNumbers!=null;
 	}
@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.EntityMode;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.IntegerType;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EntityKeyIndexTest extends BaseUnitTestCase {
+	private final EntityPersister persister = buildPersister();
+
+	@Test
+	public void testEntitiesAndSnapshotsShareKeys() {
+		final EntityKeyIndex index = new EntityKeyIndex( 8 );
+		final Object entity = new Object();
+		final Object snapshot = new Object[0];
+
+		index.putEntity( key( 1 ), entity );
+		index.putSnapshot( key( 2 ), snapshot );
+		assertSame( entity, index.getEntity( key( 1 ) ) );
+		assertNull( index.getSnapshot( key( 1 ) ) );
+		assertNull( index.getEntity( key( 2 ) ) );
+		assertSame( snapshot, index.getSnapshot( key( 2 ) ) );
+		assertTrue( index.containsEntity( key( 1 ) ) );
+		assertFalse( index.containsEntity( key( 2 ) ) );
+		assertEquals( 1, index.getEntitiesByKey().size() );
+		assertEquals( 1, index.getSnapshotsByKey().size() );
+
+		index.putSnapshot( key( 1 ), snapshot );
+		assertSame( entity, index.removeEntity( key( 1 ) ) );
+		assertSame( snapshot, index.getSnapshot( key( 1 ) ) );
+		assertEquals( 0, index.getEntitiesByKey().size() );
+
+		index.putEntity( key( 2 ), entity );
+		assertSame( entity, index.remove( key( 2 ) ) );
+		assertNull( index.getSnapshot( key( 2 ) ) );
+		assertEquals( 1, index.getSnapshotsByKey().size() );
+
+		index.clear();
+		assertTrue( index.getEntitiesByKey().isEmpty() );
+		assertTrue( index.getSnapshotsByKey().isEmpty() );
+	}
+
+	@Test
+	public void testAgainstHashMaps() {
+		final EntityKeyIndex index = new EntityKeyIndex( 8 );
+		final Map<EntityKey, Object> entities = new HashMap<EntityKey, Object>();
+		final Map<EntityKey, Object> snapshots = new HashMap<EntityKey, Object>();
+		final Random random = new Random( 42 );
+
+		for ( int i = 0; i < 50000; i++ ) {
+			final EntityKey key = key( random.nextInt( 2000 ) );
+			final Object value = new Object();
+			switch ( random.nextInt( 5 ) ) {
+				case 0:
+					assertSame( entities.put( key, value ), index.putEntity( key, value ) );
+					break;
+				case 1:
+					snapshots.put( key, value );
+					index.putSnapshot( key, value );
+					break;
+				case 2:
+					assertSame( entities.remove( key ), index.removeEntity( key ) );
+					break;
+				case 3:
+					snapshots.remove( key );
+					assertSame( entities.remove( key ), index.remove( key ) );
+					break;
+				default:
+					assertSame( entities.get( key ), index.getEntity( key ) );
+					assertSame( snapshots.get( key ), index.getSnapshot( key ) );
+			}
+		}
+
+		assertEquals( entities, index.getEntitiesByKey() );
+		assertEquals( snapshots, index.getSnapshotsByKey() );
+		for ( int id = 0; id < 2000; id++ ) {
+			assertSame( entities.get( key( id ) ), index.getEntity( key( id ) ) );
+			assertSame( snapshots.get( key( id ) ), index.getSnapshot( key( id ) ) );
+		}
+	}
+
+	private EntityKey key(int id) {
+		return new EntityKey( id, persister );
+	}
+
+	private static EntityPersister buildPersister() {
+		final EntityPersister persister = mock( EntityPersister.class );
+		when( persister.getIdentifierType() ).thenReturn( IntegerType.INSTANCE );
+		when( persister.getRootEntityName() ).thenReturn( "Entity" );
+		when( persister.getEntityMode() ).thenReturn( EntityMode.POJO );
+		return persister;
+	}
+}
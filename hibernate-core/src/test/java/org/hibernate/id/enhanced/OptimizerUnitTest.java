@@ -6,6 +6,11 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
 import org.junit.Test;
 
 import org.hibernate.id.IdentifierGeneratorHelper;
@@ -13,6 +18,7 @@ import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -237,6 +243,138 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		assertEquals( 4, sequence.getCurrentValue() );
 	}
 
+	@Test
+	public void testBasicPooledLoThreadLocalOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Optimizer optimizer = buildPooledLoThreadLocalOptimizer( 1, 3 );
+
+		assertEquals( 0, sequence.getTimesCalled() );
+		assertEquals( -1, sequence.getCurrentValue() );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 3, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+
+		// force a "clock over"
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( (1+3), sequence.getCurrentValue() );
+		assertEquals( (1+3), optimizer.getLastSourceValue().makeValue().intValue() );
+	}
+
+	@Test
+	public void testPooledLoThreadLocalOptimizerConcurrentUsage() throws Exception {
+		final int threadCount = 8;
+		final int valuesPerThread = 1000;
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledLoThreadLocalOptimizer( 1, 10 );
+
+		final Set<Long> generated = Collections.synchronizedSet( new HashSet<Long>() );
+		final CountDownLatch start = new CountDownLatch( 1 );
+		final Thread[] threads = new Thread[threadCount];
+		for ( int i = 0; i < threadCount; i++ ) {
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+					}
+					catch (InterruptedException e) {
+						return;
+					}
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						generated.add( (Long) optimizer.generate( sequence ) );
+					}
+				}
+			};
+			threads[i].start();
+		}
+		start.countDown();
+		for ( Thread thread : threads ) {
+			thread.join();
+		}
+
+		// every value handed out must be unique, and each thread reserves its own blocks
+		assertEquals( threadCount * valuesPerThread, generated.size() );
+		assertEquals( threadCount * valuesPerThread / 10, sequence.getTimesCalled() );
+		for ( Long value : generated ) {
+			assertTrue( value >= 1 && value <= threadCount * valuesPerThread );
+		}
+	}
+
+	@Test
+	public void testPooledLoPrefetchOptimizerUsage() {
+		final IsolatableSourceMock sequence = new IsolatableSourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledLoPrefetchOptimizer( 1, 10 );
+
+		try {
+			for ( int i = 1; i <= 10; i++ ) {
+				final Long next = ( Long ) optimizer.generate( sequence );
+				assertEquals( i, next.intValue() );
+			}
+			assertEquals( 1, optimizer.getLastSourceValue().makeValue().intValue() );
+
+			// the next block was prefetched halfway through the first one; switching to it must not hit the source again
+			Long next = ( Long ) optimizer.generate( sequence );
+			assertEquals( 11, next.intValue() );
+			assertEquals( 2, sequence.getTimesCalled() );
+			assertEquals( 11, optimizer.getLastSourceValue().makeValue().intValue() );
+
+			for ( int i = 12; i <= 30; i++ ) {
+				next = ( Long ) optimizer.generate( sequence );
+				assertEquals( i, next.intValue() );
+			}
+			assertEquals( 21, optimizer.getLastSourceValue().makeValue().intValue() );
+		}
+		finally {
+			sequence.getPrefetchService().stop();
+		}
+	}
+
+	@Test
+	public void testPooledLoPrefetchOptimizerWithoutIsolatedAccess() {
+		// callbacks not supporting isolated access fall back to plain pooled-lo behavior
+		final SourceMock sequence = new SourceMock( 1, 3 );
+		final Optimizer optimizer = buildPooledLoPrefetchOptimizer( 1, 3 );
+
+		for ( int i = 1; i <= 3; i++ ) {
+			final Long next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+			assertEquals( 1, sequence.getTimesCalled() );
+		}
+		final Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 4, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testPooledLoPrefetchOptimizerAfterPrefetchServiceStopped() {
+		// once the SessionFactory is closed no background work is started anymore
+		final IsolatableSourceMock sequence = new IsolatableSourceMock( 1, 3 );
+		sequence.getPrefetchService().stop();
+		final Optimizer optimizer = buildPooledLoPrefetchOptimizer( 1, 3 );
+
+		for ( int i = 1; i <= 3; i++ ) {
+			final Long next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+			assertEquals( 1, sequence.getTimesCalled() );
+		}
+		final Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 4, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -253,6 +391,14 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO, initial, increment );
 	}
 
+	private static Optimizer buildPooledLoThreadLocalOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
+	}
+
+	private static Optimizer buildPooledLoPrefetchOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LO_PREFETCH, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
@@ -320,4 +466,31 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		}
 	}
 
+	private static class IsolatableSourceMock extends SourceMock implements IsolatableAccessCallback {
+		private final IdentifierPrefetchServiceImpl prefetchService = new IdentifierPrefetchServiceImpl( null, false );
+
+		public IsolatableSourceMock(long initialValue, int increment) {
+			super( initialValue, increment );
+		}
+
+		@Override
+		public synchronized IntegralDataTypeHolder getNextValue() {
+			return super.getNextValue();
+		}
+
+		@Override
+		public synchronized int getTimesCalled() {
+			return super.getTimesCalled();
+		}
+
+		@Override
+		public IdentifierPrefetchServiceImpl getPrefetchService() {
+			return prefetchService;
+		}
+
+		@Override
+		public AccessCallback buildIsolatedCallback() {
+			return this;
+		}
+	}
 }
@@ -8,6 +8,7 @@ package org.hibernate.id.enhanced;
 
 import java.util.Properties;
 
+import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
@@ -23,6 +24,8 @@ import org.junit.Test;
 
 import static org.hibernate.testing.junit4.ExtraAssertions.assertClassAssignability;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Tests that SequenceStyleGenerator configures itself as expected in various scenarios
@@ -257,6 +260,44 @@ public class SequenceStyleConfigUnitTest extends BaseUnitTestCase {
 		}
 	}
 
+	@Test
+	public void testInvalidPrefetchThresholdRejected() {
+		StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, SequenceDialect.class.getName() )
+				.build();
+
+		try {
+			Properties props = buildGeneratorPropertiesBase( serviceRegistry );
+			props.setProperty(
+					SequenceStyleGenerator.OPT_PARAM,
+					StandardOptimizerDescriptor.POOLED_LO_PREFETCH.getExternalName()
+			);
+			props.setProperty( SequenceStyleGenerator.INCREMENT_PARAM, "20" );
+			props.setProperty( SequenceStyleGenerator.PREFETCH_THRESHOLD_PARAM, "half" );
+			try {
+				new SequenceStyleGenerator().configure( StandardBasicTypes.LONG, props, serviceRegistry );
+				fail( "unparseable prefetch threshold should have been rejected" );
+			}
+			catch (MappingException expected) {
+				assertTrue(
+						expected.getMessage(),
+						expected.getMessage().contains( SequenceStyleGenerator.PREFETCH_THRESHOLD_PARAM )
+				);
+			}
+
+			props.setProperty( SequenceStyleGenerator.PREFETCH_THRESHOLD_PARAM, "NaN" );
+			try {
+				new SequenceStyleGenerator().configure( StandardBasicTypes.LONG, props, serviceRegistry );
+				fail( "NaN prefetch threshold should have been rejected" );
+			}
+			catch (HibernateException expected) {
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
 	public static class TableDialect extends Dialect {
 		public boolean supportsSequences() {
 			return false;
@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.sql;
+
+import org.junit.Test;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class InsertTest extends BaseUnitTestCase {
+	@Test
+	public void testMultiRowStatementString() {
+		final Insert insert = new Insert( new H2Dialect() )
+				.setTableName( "\"values\"" )
+				.setComment( "insert values (?)" )
+				.addColumn( "id" )
+				.addColumn( "kind", "'?'" )
+				.addColumn( "name", "upper(?)" );
+
+		assertEquals( 2, insert.getParameterCount() );
+		assertEquals(
+				"/* insert values (?) */ insert into \"values\" (id, kind, name) values (?, '?', upper(?))",
+				insert.toStatementString()
+		);
+		assertEquals( insert.toStatementString(), insert.toMultiRowStatementString( 1 ) );
+		assertEquals(
+				"/* insert values (?) */ insert into \"values\" (id, kind, name) values "
+						+ "(?, '?', upper(?)), (?, '?', upper(?)), (?, '?', upper(?))",
+				insert.toMultiRowStatementString( 3 )
+		);
+	}
+
+	@Test
+	public void testNoColumns() {
+		final Insert insert = new Insert( new H2Dialect() ).setTableName( "t" );
+		assertFalse( insert.isMultiRowCapable() );
+		assertEquals( 0, insert.getParameterCount() );
+		assertTrue( insert.toMultiRowStatementString( 1 ).startsWith( "insert into t " ) );
+		try {
+			insert.toMultiRowStatementString( 2 );
+			fail( "Expecting failure rendering several rows without columns" );
+		}
+		catch (IllegalStateException expected) {
+		}
+	}
+}
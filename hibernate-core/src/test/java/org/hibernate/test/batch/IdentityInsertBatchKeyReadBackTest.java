@@ -0,0 +1,295 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.id.PostInsertIdentityPersister;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Exercises the batched identity insert path, and the read back of the generated keys once the batch is
+ * executed, against H2.  H2 only returns the key of the last statement of a batch, so the connections are
+ * wrapped to play a driver which returns the keys of every statement of the batch.
+ */
+@RequiresDialect(H2Dialect.class)
+public class IdentityInsertBatchKeyReadBackTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Item.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		cfg.setProperty( AvailableSettings.DIALECT, BatchGeneratedKeysH2Dialect.class.getName() );
+		cfg.setProperty( AvailableSettings.CONNECTION_PROVIDER, BatchGeneratedKeysConnectionProvider.class.getName() );
+		cfg.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		cfg.setProperty( AvailableSettings.BATCH_IDENTITY_INSERTS, "true" );
+	}
+
+	private BatchGeneratedKeysConnectionProvider connectionProvider() {
+		return (BatchGeneratedKeysConnectionProvider) serviceRegistry().getService( ConnectionProvider.class );
+	}
+
+	@Test
+	public void testGeneratedKeysAreAssignedInRowOrder() {
+		assertTrue(
+				( (PostInsertIdentityPersister) sessionFactory().getEntityPersister( Item.class.getName() ) )
+						.isIdentityInsertBatchable()
+		);
+		connectionProvider().clear();
+
+		final List<Item> items = new ArrayList<Item>();
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 15; i++ ) {
+			final Item item = new Item( "item " + i );
+			s.persist( item );
+			assertNull( item.id );
+			items.add( item );
+		}
+		s.flush();
+
+		// 10 + 5 rows, each batch reading back the keys of all its rows
+		assertEquals( Arrays.asList( 10, 5 ), connectionProvider().getBatchSizes() );
+		final List<Long> generatedKeys = connectionProvider().getGeneratedKeys();
+		assertEquals( 15, generatedKeys.size() );
+		for ( int i = 0; i < items.size(); i++ ) {
+			assertEquals( generatedKeys.get( i ), items.get( i ).id );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < items.size(); i++ ) {
+			assertEquals( "item " + i, ( (Item) s.get( Item.class, items.get( i ).id ) ).name );
+		}
+		s.createQuery( "delete Item" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	public static class BatchGeneratedKeysH2Dialect extends H2Dialect {
+		@Override
+		public boolean supportsGetGeneratedKeysForBatch() {
+			return true;
+		}
+	}
+
+	/**
+	 * Hands out connections whose {@link PreparedStatement#RETURN_GENERATED_KEYS} statements execute each batched
+	 * row as it is added, and return the keys of all the rows of the batch from
+	 * {@link PreparedStatement#getGeneratedKeys()} once the batch is executed.
+	 */
+	public static class BatchGeneratedKeysConnectionProvider extends DriverManagerConnectionProviderImpl {
+		private final List<Integer> batchSizes = Collections.synchronizedList( new ArrayList<Integer>() );
+		private final List<Long> generatedKeys = Collections.synchronizedList( new ArrayList<Long>() );
+
+		public List<Integer> getBatchSizes() {
+			return new ArrayList<Integer>( batchSizes );
+		}
+
+		public List<Long> getGeneratedKeys() {
+			return new ArrayList<Long>( generatedKeys );
+		}
+
+		public void clear() {
+			batchSizes.clear();
+			generatedKeys.clear();
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			return (Connection) Proxy.newProxyInstance(
+					getClass().getClassLoader(),
+					new Class[] { Connection.class },
+					new ConnectionHandler( super.getConnection() )
+			);
+		}
+
+		@Override
+		public void closeConnection(Connection conn) throws SQLException {
+			super.closeConnection( ( (ConnectionHandler) Proxy.getInvocationHandler( conn ) ).connection );
+		}
+
+		private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke( target, args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+
+		private class ConnectionHandler implements InvocationHandler {
+			private final Connection connection;
+
+			private ConnectionHandler(Connection connection) {
+				this.connection = connection;
+			}
+
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				final Object result = BatchGeneratedKeysConnectionProvider.invoke( connection, method, args );
+				if ( "prepareStatement".equals( method.getName() )
+						&& args.length == 2
+						&& Integer.valueOf( PreparedStatement.RETURN_GENERATED_KEYS ).equals( args[1] ) ) {
+					return Proxy.newProxyInstance(
+							getClass().getClassLoader(),
+							new Class[] { PreparedStatement.class },
+							new StatementHandler( (PreparedStatement) result )
+					);
+				}
+				return result;
+			}
+		}
+
+		private class StatementHandler implements InvocationHandler {
+			private final PreparedStatement statement;
+			private final List<Long> batchKeys = new ArrayList<Long>();
+			private List<Long> executedBatchKeys;
+
+			private StatementHandler(PreparedStatement statement) {
+				this.statement = statement;
+			}
+
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				final String name = method.getName();
+				if ( "addBatch".equals( name ) && args == null ) {
+					statement.executeUpdate();
+					final ResultSet rs = statement.getGeneratedKeys();
+					try {
+						rs.next();
+						batchKeys.add( rs.getLong( 1 ) );
+					}
+					finally {
+						rs.close();
+					}
+					return null;
+				}
+				if ( "clearBatch".equals( name ) ) {
+					batchKeys.clear();
+					return null;
+				}
+				if ( "executeBatch".equals( name ) ) {
+					executedBatchKeys = new ArrayList<Long>( batchKeys );
+					batchKeys.clear();
+					batchSizes.add( executedBatchKeys.size() );
+					generatedKeys.addAll( executedBatchKeys );
+					final int[] rowCounts = new int[executedBatchKeys.size()];
+					Arrays.fill( rowCounts, 1 );
+					return rowCounts;
+				}
+				if ( "getGeneratedKeys".equals( name ) && executedBatchKeys != null ) {
+					final List<Long> keys = executedBatchKeys;
+					executedBatchKeys = null;
+					return Proxy.newProxyInstance(
+							getClass().getClassLoader(),
+							new Class[] { ResultSet.class },
+							new KeysHandler( keys )
+					);
+				}
+				return BatchGeneratedKeysConnectionProvider.invoke( statement, method, args );
+			}
+		}
+	}
+
+	private static class KeysHandler implements InvocationHandler {
+		private final List<Long> keys;
+		private int row = -1;
+
+		private KeysHandler(List<Long> keys) {
+			this.keys = keys;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final String name = method.getName();
+			if ( "next".equals( name ) ) {
+				return ++row < keys.size();
+			}
+			if ( "getLong".equals( name ) ) {
+				return keys.get( row );
+			}
+			if ( "getMetaData".equals( name ) ) {
+				return Proxy.newProxyInstance(
+						getClass().getClassLoader(),
+						new Class[] { ResultSetMetaData.class },
+						new InvocationHandler() {
+							@Override
+							public Object invoke(Object proxy, Method method, Object[] args) {
+								if ( "getColumnCount".equals( method.getName() ) ) {
+									return 1;
+								}
+								throw new UnsupportedOperationException( "ResultSetMetaData." + method.getName() );
+							}
+						}
+				);
+			}
+			if ( "close".equals( name ) ) {
+				return null;
+			}
+			if ( "hashCode".equals( name ) ) {
+				return System.identityHashCode( proxy );
+			}
+			if ( "equals".equals( name ) ) {
+				return proxy == args[0];
+			}
+			if ( "toString".equals( name ) ) {
+				return "generated keys " + keys;
+			}
+			throw new UnsupportedOperationException( "ResultSet." + name );
+		}
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Version;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.id.PostInsertIdentityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RequiresDialectFeature(DialectChecks.SupportsIdentityColumns.class)
+public class IdentityInsertBatchingTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Item.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		cfg.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		cfg.setProperty( AvailableSettings.BATCH_IDENTITY_INSERTS, "true" );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	private boolean isIdentityInsertBatchable() {
+		return ( (PostInsertIdentityPersister) sessionFactory().getEntityPersister( Item.class.getName() ) )
+				.isIdentityInsertBatchable();
+	}
+
+	@Test
+	public void testPersistedEntitiesAreInsertedAtFlushWhenBatchable() {
+		final List<Item> items = new ArrayList<Item>();
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 15; i++ ) {
+			final Item item = new Item( "item " + i );
+			if ( i > 0 ) {
+				item.previous = items.get( i - 1 );
+			}
+			s.persist( item );
+			items.add( item );
+			if ( isIdentityInsertBatchable() ) {
+				assertNull( item.id );
+			}
+			else {
+				assertNotNull( item.id );
+			}
+		}
+		s.flush();
+		final Set<Long> ids = new HashSet<Long>();
+		for ( Item item : items ) {
+			assertNotNull( item.id );
+			ids.add( item.id );
+		}
+		assertEquals( 15, ids.size() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 15; i++ ) {
+			final Item item = (Item) s.get( Item.class, items.get( i ).id );
+			assertEquals( "item " + i, item.name );
+			if ( i > 0 ) {
+				assertSame( s.get( Item.class, items.get( i - 1 ).id ), item.previous );
+			}
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		cleanup();
+	}
+
+	@Test
+	@RequiresDialectFeature(DialectChecks.SupportsGetGeneratedKeysForBatch.class)
+	public void testIdentityInsertsAreBatched() {
+		assertTrue( isIdentityInsertBatchable() );
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		final List<Item> items = new ArrayList<Item>();
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 25; i++ ) {
+			final Item item = new Item( "item " + i );
+			s.persist( item );
+			items.add( item );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		final int batchSize = sessionFactory().getSessionFactoryOptions().getJdbcBatchSize();
+		assertEquals( ( 25 + batchSize - 1 ) / batchSize, statistics.getBatchExecutionCount() );
+		assertEquals( 25, statistics.getBatchedStatementCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		for ( Item item : items ) {
+			assertEquals( item.name, ( (Item) s.get( Item.class, item.id ) ).name );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		cleanup();
+	}
+
+	@Test
+	public void testVersionedUpdatesAreBatched() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 15; i++ ) {
+			s.persist( new Item( "item " + i ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		s = openSession();
+		s.beginTransaction();
+		for ( Object item : s.createQuery( "from Item" ).list() ) {
+			( (Item) item ).name = "updated";
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		if ( sessionFactory().getSessionFactoryOptions().isJdbcBatchVersionedData() ) {
+			// 10 + 5 rows
+			assertEquals( 2, statistics.getBatchExecutionCount() );
+			assertEquals( 15, statistics.getBatchedStatementCount() );
+		}
+
+		s = openSession();
+		s.beginTransaction();
+		for ( Object item : s.createQuery( "from Item" ).list() ) {
+			assertEquals( "updated", ( (Item) item ).name );
+			assertEquals( 1, ( (Item) item ).version );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		cleanup();
+	}
+
+	private void cleanup() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "update Item set previous = null" ).executeUpdate();
+		s.createQuery( "delete Item" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+
+		@Version
+		private int version;
+
+		private String name;
+
+		@ManyToOne
+		private Item previous;
+
+		public Item() {
+		}
+
+		public Item(String name) {
+			this.name = name;
+		}
+	}
+}
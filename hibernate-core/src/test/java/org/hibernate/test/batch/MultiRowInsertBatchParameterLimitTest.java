@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderInitiator;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatchBuilder;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that multi-row inserts do not bind more parameters than the dialect allows per statement.
+ */
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertBatchParameterLimitTest extends BaseCoreFunctionalTestCase {
+	private static final List<String> STATEMENTS = new ArrayList<String>();
+
+	@Override
+	public String[] getMappings() {
+		return new String[] { "batch/DataPoint.hbm.xml" };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		cfg.setProperty( AvailableSettings.DIALECT, LowParameterLimitH2Dialect.class.getName() );
+		cfg.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		cfg.setProperty( BatchBuilderInitiator.BUILDER, MultiRowInsertBatchBuilder.class.getName() );
+		cfg.getProperties().put( AvailableSettings.STATEMENT_INSPECTOR, new StatementInspector() {
+			@Override
+			public String inspect(String sql) {
+				STATEMENTS.add( sql );
+				return sql;
+			}
+		} );
+	}
+
+	@Test
+	public void testRowsBeyondTheParameterLimitAreSplitIntoFurtherStatements() {
+		STATEMENTS.clear();
+
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 10; i++ ) {
+			final DataPoint dataPoint = new DataPoint();
+			dataPoint.setX( new BigDecimal( i ) );
+			dataPoint.setY( new BigDecimal( i * 2 ) );
+			dataPoint.setDescription( "point " + i );
+			s.save( dataPoint );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		final List<Integer> rowsPerInsert = new ArrayList<Integer>();
+		for ( String sql : STATEMENTS ) {
+			if ( sql.contains( "insert into" ) ) {
+				rowsPerInsert.add( sql.split( "\\), \\(" ).length );
+			}
+		}
+		// 4 parameters per row and at most 12 per statement: 3 + 3 + 3 + 1 rows
+		assertEquals( 4, rowsPerInsert.size() );
+		assertEquals( Integer.valueOf( 3 ), rowsPerInsert.get( 0 ) );
+		assertEquals( Integer.valueOf( 3 ), rowsPerInsert.get( 1 ) );
+		assertEquals( Integer.valueOf( 3 ), rowsPerInsert.get( 2 ) );
+		assertEquals( Integer.valueOf( 1 ), rowsPerInsert.get( 3 ) );
+
+		s = openSession();
+		s.beginTransaction();
+		final List dataPoints = s.createQuery( "from DataPoint order by x" ).list();
+		assertEquals( 10, dataPoints.size() );
+		for ( int i = 0; i < 10; i++ ) {
+			final DataPoint dataPoint = (DataPoint) dataPoints.get( i );
+			assertEquals( i, dataPoint.getX().intValue() );
+			assertEquals( "point " + i, dataPoint.getDescription() );
+		}
+		s.createQuery( "delete DataPoint" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	public static class LowParameterLimitH2Dialect extends H2Dialect {
+		@Override
+		public int getBindParameterCountLimit() {
+			return 12;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderInitiator;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatchBuilder;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertBatchTest extends BaseCoreFunctionalTestCase {
+	private static final List<String> STATEMENTS = new ArrayList<String>();
+
+	@Override
+	public String[] getMappings() {
+		return new String[] { "batch/DataPoint.hbm.xml" };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		cfg.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		// the multi-row statement is rendered from the insert builder, comments included
+		cfg.setProperty( AvailableSettings.USE_SQL_COMMENTS, "true" );
+		cfg.setProperty( BatchBuilderInitiator.BUILDER, MultiRowInsertBatchBuilder.class.getName() );
+		cfg.getProperties().put( AvailableSettings.STATEMENT_INSPECTOR, new StatementInspector() {
+			@Override
+			public String inspect(String sql) {
+				STATEMENTS.add( sql );
+				return sql;
+			}
+		} );
+	}
+
+	@Test
+	public void testInsertsAreExecutedAsMultiRowInserts() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		STATEMENTS.clear();
+
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 25; i++ ) {
+			final DataPoint dataPoint = new DataPoint();
+			dataPoint.setX( new BigDecimal( i ) );
+			dataPoint.setY( new BigDecimal( i * 2 ) );
+			dataPoint.setDescription( i % 2 == 0 ? null : "point " + i );
+			s.save( dataPoint );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		int inserts = 0;
+		for ( String sql : STATEMENTS ) {
+			if ( sql.contains( "insert into" ) ) {
+				inserts++;
+				assertTrue( sql, sql.contains( "), (" ) );
+			}
+		}
+		// 10 + 10 + 5 rows
+		assertEquals( 3, inserts );
+		assertEquals( 3, statistics.getBatchExecutionCount() );
+		assertEquals( 25, statistics.getBatchedStatementCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		final List dataPoints = s.createQuery( "from DataPoint order by x" ).list();
+		assertEquals( 25, dataPoints.size() );
+		for ( int i = 0; i < 25; i++ ) {
+			final DataPoint dataPoint = (DataPoint) dataPoints.get( i );
+			assertEquals( i, dataPoint.getX().intValue() );
+			assertEquals( i * 2, dataPoint.getY().intValue() );
+			assertEquals( i % 2 == 0 ? null : "point " + i, dataPoint.getDescription() );
+		}
+		s.createQuery( "delete DataPoint" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testUpdatesAreBatchedAsUsual() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 5; i++ ) {
+			final DataPoint dataPoint = new DataPoint();
+			dataPoint.setX( new BigDecimal( i ) );
+			dataPoint.setY( new BigDecimal( i ) );
+			s.save( dataPoint );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		for ( Object dataPoint : s.createQuery( "from DataPoint" ).list() ) {
+			( (DataPoint) dataPoint ).setDescription( "updated" );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		assertEquals(
+				5L,
+				s.createQuery( "select count(*) from DataPoint where description = 'updated'" ).uniqueResult()
+		);
+		s.createQuery( "delete DataPoint" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+}
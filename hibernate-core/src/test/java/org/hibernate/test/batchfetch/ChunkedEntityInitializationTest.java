@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkedEntityInitializationTest extends BaseCoreFunctionalTestCase {
+	private static final List<Integer> MANAGED_ENTITY_COUNTS = new ArrayList<Integer>();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { BatchLoadableEntity.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.ENTITY_INITIALIZATION_CHUNK_SIZE, "5" );
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" );
+	}
+
+	@Override
+	protected void afterSessionFactoryBuilt() {
+		sessionFactory().getServiceRegistry().getService( EventListenerRegistry.class ).appendListeners(
+				EventType.POST_LOAD,
+				new PostLoadEventListener() {
+					@Override
+					public void onPostLoad(PostLoadEvent event) {
+						MANAGED_ENTITY_COUNTS.add(
+								( (SessionImplementor) event.getSession() ).getPersistenceContext().getNumberOfManagedEntities()
+						);
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testEntitiesAreInitializedInChunks() {
+		final int size = 32 + 14;
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < size; i++ ) {
+			s.save( new BatchLoadableEntity( i ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		MANAGED_ENTITY_COUNTS.clear();
+		s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < size; i++ ) {
+			assertFalse( Hibernate.isInitialized( s.load( BatchLoadableEntity.class, i ) ) );
+		}
+		// batch loads the first 32 entities
+		Hibernate.initialize( s.load( BatchLoadableEntity.class, 0 ) );
+		for ( int i = 0; i < size; i++ ) {
+			final BatchLoadableEntity entity = (BatchLoadableEntity) s.load( BatchLoadableEntity.class, i );
+			Hibernate.initialize( entity );
+			assertTrue( Hibernate.isInitialized( entity ) );
+			assertEquals( "Entity #" + i, entity.getName() );
+		}
+		assertEquals( size, ( (SessionImplementor) s ).getPersistenceContext().getNumberOfManagedEntities() );
+		s.getTransaction().commit();
+		s.close();
+
+		assertEquals( size, MANAGED_ENTITY_COUNTS.size() );
+		// the first entities were initialized before the remaining rows of the batch were read
+		assertEquals( 5, (int) MANAGED_ENTITY_COUNTS.get( 0 ) );
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete BatchLoadableEntity" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.ModificationReportingEntity;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.test.bytecode.enhancement.AbstractEnhancerTestTask;
+import org.junit.Assert;
+
+public class ModifiedEntityTrackingTestTask extends AbstractEnhancerTestTask {
+
+	private static final int ITEMS = 10;
+
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {Item.class, Shelf.class};
+	}
+
+	public void prepare() {
+		Configuration cfg = new Configuration();
+		cfg.setProperty( AvailableSettings.TRACK_MODIFIED_ENTITIES, "true" );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		cfg.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" );
+		super.prepare( cfg );
+
+		Session s = getFactory().openSession();
+		s.beginTransaction();
+		final List<Item> items = new ArrayList<Item>();
+		for ( int i = 1; i <= ITEMS; i++ ) {
+			final Item item = new Item( (long) i, "item" + i, i );
+			s.persist( item );
+			items.add( item );
+		}
+		final Shelf shelf = new Shelf();
+		shelf.setId( 1L );
+		shelf.setName( "shelf" );
+		shelf.setItems( items );
+		s.persist( shelf );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	public void execute() {
+		final Statistics statistics = getFactory().getStatistics();
+
+		// only the modified entity is visited by the flush, and no snapshot of the loaded state is kept
+		statistics.clear();
+		Session s = getFactory().openSession();
+		s.beginTransaction();
+		List<Item> items = s.createQuery( "from Item i order by i.id" ).list();
+		final PersistenceContext persistenceContext = ( (SessionImplementor) s ).getPersistenceContext();
+		for ( Item item : items ) {
+			Assert.assertTrue( item instanceof ModificationReportingEntity );
+			Assert.assertNull( persistenceContext.getEntry( item ).getLoadedState() );
+		}
+		Assert.assertEquals( 0, persistenceContext.reentrantSafeFlushableEntityEntries().length );
+		items.get( 2 ).setName( "renamed" );
+		Assert.assertEquals( 1, persistenceContext.reentrantSafeFlushableEntityEntries().length );
+		s.getTransaction().commit();
+		Assert.assertEquals( 1, statistics.getEntityUpdateCount() );
+		Assert.assertEquals( 0, persistenceContext.reentrantSafeFlushableEntityEntries().length );
+		s.close();
+
+		// the modifications are flushed before a query
+		statistics.clear();
+		s = getFactory().openSession();
+		s.beginTransaction();
+		items = s.createQuery( "from Item i order by i.id" ).list();
+		items.get( 3 ).setQuantity( 40 );
+		Assert.assertEquals( 40, s.createQuery( "select i.quantity from Item i where i.id = 4" ).uniqueResult() );
+		s.getTransaction().commit();
+		Assert.assertEquals( 1, statistics.getEntityUpdateCount() );
+		s.close();
+
+		// entities which cannot track their own changes are always visited
+		statistics.clear();
+		s = getFactory().openSession();
+		s.beginTransaction();
+		final Shelf shelf = s.get( Shelf.class, 1L );
+		items = s.createQuery( "from Item i order by i.id" ).list();
+		items.get( 4 ).setQuantity( 50 );
+		shelf.setName( "renamed" );
+		Assert.assertEquals(
+				2,
+				( (SessionImplementor) s ).getPersistenceContext().reentrantSafeFlushableEntityEntries().length
+		);
+		s.getTransaction().commit();
+		Assert.assertEquals( 2, statistics.getEntityUpdateCount() );
+		s.close();
+
+		// interceptors are given the previous state, so the loaded state is kept
+		statistics.clear();
+		s = getFactory().withOptions().interceptor( new EmptyInterceptor() { } ).openSession();
+		s.beginTransaction();
+		items = s.createQuery( "from Item i order by i.id" ).list();
+		for ( Item item : items ) {
+			Assert.assertNotNull( ( (SessionImplementor) s ).getPersistenceContext().getEntry( item ).getLoadedState() );
+		}
+		items.get( 5 ).setQuantity( 60 );
+		s.getTransaction().commit();
+		Assert.assertEquals( 1, statistics.getEntityUpdateCount() );
+		s.close();
+
+		s = getFactory().openSession();
+		s.beginTransaction();
+		Assert.assertEquals( "renamed", s.get( Item.class, 3L ).getName() );
+		Assert.assertEquals( 40, s.get( Item.class, 4L ).getQuantity() );
+		Assert.assertEquals( 50, s.get( Item.class, 5L ).getQuantity() );
+		Assert.assertEquals( 60, s.get( Item.class, 6L ).getQuantity() );
+		Assert.assertEquals( "renamed", s.get( Shelf.class, 1L ).getName() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	protected void cleanup() {
+	}
+
+}
@@ -0,0 +1,268 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+import javax.persistence.Cacheable;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import javax.persistence.Version;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompactCacheEntryTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Warehouse.class, Product.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		cfg.setProperty( AvailableSettings.USE_COMPACT_CACHE_ENTRIES, "true" );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testEntitiesAreLoadedFromCompactEntries() {
+		final Date added = new Date( 1234567890123L );
+		Session s = openSession();
+		s.beginTransaction();
+		final Warehouse warehouse = new Warehouse( 1L, "Rotterdam" );
+		s.persist( warehouse );
+		final Product product = new Product( 1L, "anvil", "anvil", -42, new BigDecimal( "-1234.5678" ), added );
+		product.status = Status.DISCONTINUED;
+		product.dimensions = new Dimensions( 1.5d, 2.25f );
+		product.warehouse = warehouse;
+		product.picture = new byte[] { 1, 2, 3 };
+		s.persist( product );
+		s.persist( new Product( 2L, "nothing", null, 0, null, null ) );
+		s.getTransaction().commit();
+		s.close();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		final SecondLevelCacheStatistics cacheStatistics = statistics.getSecondLevelCacheStatistics(
+				sessionFactory().getEntityPersister( Product.class.getName() ).getCacheAccessStrategy().getRegion().getName()
+		);
+		assertEquals( 2, cacheStatistics.getEntries().size() );
+		for ( Object cached : cacheStatistics.getEntries().values() ) {
+			assertTrue( cached instanceof byte[] );
+		}
+		statistics.clear();
+
+		s = openSession();
+		s.beginTransaction();
+		final Product loaded = (Product) s.get( Product.class, 1L );
+		assertEquals( "anvil", loaded.name );
+		assertEquals( "anvil", loaded.code );
+		assertEquals( -42, loaded.stock );
+		assertEquals( new BigDecimal( "-1234.5678" ), loaded.price );
+		assertEquals( added.getTime(), loaded.added.getTime() );
+		assertEquals( Status.DISCONTINUED, loaded.status );
+		assertEquals( 1.5d, loaded.dimensions.length, 0d );
+		assertEquals( 2.25f, loaded.dimensions.weight, 0f );
+		assertEquals( "Rotterdam", loaded.warehouse.name );
+		assertArrayEquals( new byte[] { 1, 2, 3 }, loaded.picture );
+		assertEquals( 0, loaded.version );
+
+		final Product empty = (Product) s.get( Product.class, 2L );
+		assertNull( empty.code );
+		assertNull( empty.price );
+		assertNull( empty.dimensions );
+		assertNull( empty.warehouse );
+		s.getTransaction().commit();
+		s.close();
+		// both products and the warehouse
+		assertEquals( 3, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 0, statistics.getSecondLevelCacheMissCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete Product" ).executeUpdate();
+		s.createQuery( "delete Warehouse" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testStructureRoundTrip() {
+		final EntityPersister persister = sessionFactory().getEntityPersister( Product.class.getName() );
+		final CacheEntryStructure structure = persister.getCacheEntryStructure();
+		assertTrue( structure instanceof CompactCacheEntry );
+
+		final Product product = new Product( 3L, "hammer", "hammer", Integer.MIN_VALUE, new BigDecimal( "0.01" ), new Date() );
+		product.status = Status.AVAILABLE;
+		product.dimensions = new Dimensions( -0.5d, Float.MAX_VALUE );
+		product.picture = new byte[0];
+
+		Session s = openSession();
+		s.beginTransaction();
+		final CacheEntry entry = persister.buildCacheEntry(
+				product,
+				persister.getPropertyValues( product ),
+				7,
+				(SessionImplementor) s
+		);
+		final Object structured = structure.structure( entry );
+		final CacheEntry destructured = (CacheEntry) structure.destructure(
+				SerializationHelper.clone( (Serializable) structured ),
+				sessionFactory()
+		);
+		assertEquals( entry.getSubclass(), destructured.getSubclass() );
+		assertEquals( 7, destructured.getVersion() );
+		assertEquals( entry.areLazyPropertiesUnfetched(), destructured.areLazyPropertiesUnfetched() );
+		final Serializable[] state = entry.getDisassembledState();
+		final Serializable[] decodedState = destructured.getDisassembledState();
+		assertEquals( state.length, decodedState.length );
+		for ( int i = 0; i < state.length; i++ ) {
+			if ( state[i] instanceof Object[] ) {
+				assertArrayEquals( (Object[]) state[i], (Object[]) decodedState[i] );
+			}
+			else if ( state[i] instanceof byte[] ) {
+				assertArrayEquals( (byte[]) state[i], (byte[]) decodedState[i] );
+			}
+			else {
+				assertEquals( state[i], decodedState[i] );
+			}
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		// the compact form is a fraction of the size of the serialized standard entry
+		final int compactSize = SerializationHelper.serialize( (Serializable) structured ).length;
+		final int standardSize = SerializationHelper.serialize( entry ).length;
+		assertTrue( compactSize * 3 < standardSize );
+		assertSame( Status.AVAILABLE, decodedState[indexOf( persister, "status" )] );
+	}
+
+	private static int indexOf(EntityPersister persister, String propertyName) {
+		final String[] names = persister.getPropertyNames();
+		for ( int i = 0; i < names.length; i++ ) {
+			if ( names[i].equals( propertyName ) ) {
+				return i;
+			}
+		}
+		throw new IllegalArgumentException( propertyName );
+	}
+
+	public enum Status {
+		AVAILABLE,
+		DISCONTINUED
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private Double length;
+
+		private Float weight;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(Double length, Float weight) {
+			this.length = length;
+			this.weight = weight;
+		}
+	}
+
+	@Entity(name = "Warehouse")
+	@Table(name = "CCE_WAREHOUSE")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Warehouse {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Warehouse() {
+		}
+
+		public Warehouse(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "CCE_PRODUCT")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class Product {
+		@Id
+		private Long id;
+
+		@Version
+		private int version;
+
+		private String name;
+
+		private String code;
+
+		private int stock;
+
+		private BigDecimal price;
+
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date added;
+
+		@Enumerated(EnumType.STRING)
+		private Status status;
+
+		@Embedded
+		private Dimensions dimensions;
+
+		@ManyToOne
+		private Warehouse warehouse;
+
+		private byte[] picture;
+
+		public Product() {
+		}
+
+		public Product(Long id, String name, String code, int stock, BigDecimal price, Date added) {
+			this.id = id;
+			this.name = name;
+			this.code = code;
+			this.stock = stock;
+			this.price = price;
+			this.added = added;
+		}
+	}
+}
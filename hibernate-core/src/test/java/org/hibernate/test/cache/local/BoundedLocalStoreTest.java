@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache.local;
+
+import org.hibernate.cache.internal.local.BoundedLocalStore;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BoundedLocalStoreTest extends BaseUnitTestCase {
+	@Test
+	public void testEntriesAreBoundedAndEvicted() {
+		final BoundedLocalStore store = new BoundedLocalStore( 8, 1, BoundedConcurrentHashMap.Eviction.LRU, 0 );
+		for ( int i = 0; i < 100; i++ ) {
+			store.put( i, "value " + i, true );
+		}
+		assertTrue( store.size() <= 8 );
+		assertEquals( 100 - store.size(), store.getEvictionCount() );
+		assertEquals( "value 99", store.get( 99 ) );
+		assertNull( store.get( 0 ) );
+	}
+
+	@Test
+	public void testUnboundedStoreNeverEvicts() {
+		final BoundedLocalStore store = new BoundedLocalStore( 0, 1, BoundedConcurrentHashMap.Eviction.NONE, 0 );
+		for ( int i = 0; i < 100; i++ ) {
+			store.put( i, "value " + i, true );
+		}
+		assertEquals( 100, store.size() );
+		assertEquals( 0, store.getEvictionCount() );
+	}
+
+	@Test
+	public void testEntriesExpire() throws Exception {
+		final BoundedLocalStore store = new BoundedLocalStore( 100, 1, BoundedConcurrentHashMap.Eviction.LIRS, 50 );
+		store.put( "expiring", "value", true );
+		store.put( "lasting", "value", false );
+		assertTrue( store.containsKey( "expiring" ) );
+		Thread.sleep( 100 );
+		assertFalse( store.containsKey( "expiring" ) );
+		assertEquals( "value", store.get( "lasting" ) );
+		assertEquals( 1, store.getExpirationCount() );
+		assertEquals( 1, store.size() );
+	}
+}
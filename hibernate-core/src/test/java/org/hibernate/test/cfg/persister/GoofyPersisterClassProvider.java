@@ -9,7 +9,9 @@ package org.hibernate.test.cfg.persister;
 import java.io.Serializable;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.EntityMode;
@@ -39,6 +41,7 @@ import org.hibernate.metadata.ClassMetadata;
 import org.hibernate.metadata.CollectionMetadata;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.spi.PersisterClassResolver;
 import org.hibernate.persister.spi.PersisterCreationContext;
 import org.hibernate.persister.walking.spi.AttributeDefinition;
@@ -246,6 +249,14 @@ public class GoofyPersisterClassProvider implements PersisterClassResolver {
 			return null;
 		}
 
+		@Override
+		public Serializable[] loadEntityIdsByNaturalIds(
+				Object[][] naturalIdValues,
+				SessionImplementor session,
+				MultiLoadOptions loadOptions) {
+			return new Serializable[naturalIdValues.length];
+		}
+
 		@Override
 		public IdentifierGenerator getIdentifierGenerator() {
 			return null;
@@ -266,6 +277,11 @@ public class GoofyPersisterClassProvider implements PersisterClassResolver {
 			return null;
 		}
 
+		@Override
+		public List multiLoad(Serializable[] ids, SessionImplementor session, MultiLoadOptions loadOptions) {
+			return Collections.emptyList();
+		}
+
 		@Override
 		public void lock(Serializable id, Object version, Object object, LockMode lockMode, SessionImplementor session) {
 		}
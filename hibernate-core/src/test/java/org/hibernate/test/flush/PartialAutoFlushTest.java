@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.flush;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PartialAutoFlushTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Author.class, Book.class, Publisher.class, UnrelatedEntity.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.PARTIAL_AUTO_FLUSH, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testOnlyQueriedEntitiesAreFlushed() {
+		Session s = openSession();
+		s.beginTransaction();
+		Publisher publisher = new Publisher();
+		publisher.setName( "publisher" );
+		s.save( publisher );
+		UnrelatedEntity unrelatedEntity = new UnrelatedEntity();
+		unrelatedEntity.setName( "unrelated" );
+		s.save( unrelatedEntity );
+		s.getTransaction().commit();
+		s.close();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		s = openSession();
+		s.beginTransaction();
+		publisher = (Publisher) s.get( Publisher.class, publisher.getId() );
+		unrelatedEntity = (UnrelatedEntity) s.get( UnrelatedEntity.class, unrelatedEntity.getId() );
+		publisher.setName( "changed" );
+		unrelatedEntity.setName( "changed" );
+
+		assertEquals(
+				1,
+				s.createQuery( "from UnrelatedEntity u where u.name = 'changed'" ).list().size()
+		);
+		// the publisher was not dirty checked
+		assertEquals( 1, statistics.getEntityUpdateCount() );
+
+		assertEquals( 1, s.createQuery( "from Publisher p where p.name = 'changed'" ).list().size() );
+		assertEquals( 2, statistics.getEntityUpdateCount() );
+
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 2, statistics.getEntityUpdateCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		s.delete( s.get( Publisher.class, publisher.getId() ) );
+		s.delete( s.get( UnrelatedEntity.class, unrelatedEntity.getId() ) );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testCollectionsOfEntitiesNotFlushedAreKept() {
+		Session s = openSession();
+		s.beginTransaction();
+		Publisher publisher = new Publisher();
+		publisher.setName( "publisher" );
+		Author author = new Author();
+		author.setName( "author" );
+		author.setPublisher( publisher );
+		publisher.getAuthors().add( author );
+		s.save( publisher );
+		UnrelatedEntity unrelatedEntity = new UnrelatedEntity();
+		s.save( unrelatedEntity );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		final PersistenceContext persistenceContext = ( (SessionImplementor) s ).getPersistenceContext();
+		publisher = (Publisher) s.get( Publisher.class, publisher.getId() );
+		unrelatedEntity = (UnrelatedEntity) s.get( UnrelatedEntity.class, unrelatedEntity.getId() );
+		final Set<Author> authors = publisher.getAuthors();
+		assertEquals( 1, authors.size() );
+
+		// replace the collection of the publisher and add a new author, then have the unrelated entity flushed
+		final Author newAuthor = new Author();
+		newAuthor.setName( "new author" );
+		newAuthor.setPublisher( publisher );
+		publisher.setAuthors( new HashSet<Author>() );
+		publisher.getAuthors().add( newAuthor );
+		unrelatedEntity.setName( "changed" );
+		assertEquals( 1, s.createQuery( "from UnrelatedEntity u where u.name = 'changed'" ).list().size() );
+
+		// the dereferenced collection was left alone
+		assertTrue( persistenceContext.getCollectionEntries().containsKey( authors ) );
+		assertTrue( persistenceContext.getCollectionsByKey().values().contains( authors ) );
+
+		// the new author is flushed when authors are queried
+		assertEquals( 2, s.createQuery( "from Author" ).list().size() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		publisher = (Publisher) s.get( Publisher.class, publisher.getId() );
+		assertEquals( 2, publisher.getAuthors().size() );
+		s.delete( publisher );
+		s.delete( s.get( UnrelatedEntity.class, unrelatedEntity.getId() ) );
+		s.getTransaction().commit();
+		s.close();
+	}
+}
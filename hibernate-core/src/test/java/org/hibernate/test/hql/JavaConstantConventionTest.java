@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.hql;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.boot.registry.BootstrapServiceRegistryBuilder;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class JavaConstantConventionTest extends BaseCoreFunctionalTestCase {
+	public static final String DEFAULT_CODE = "AB123";
+
+	private static final Set<String> REQUESTED_CLASS_NAMES = Collections.synchronizedSet( new HashSet<String>() );
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Flight.class };
+	}
+
+	@Override
+	protected void prepareBootstrapRegistryBuilder(BootstrapServiceRegistryBuilder builder) {
+		builder.applyClassLoader(
+				new ClassLoader( getClass().getClassLoader() ) {
+					@Override
+					protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+						REQUESTED_CLASS_NAMES.add( name );
+						return super.loadClass( name, resolve );
+					}
+				}
+		);
+	}
+
+	@Test
+	public void testConventionalConstantsAreResolved() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.persist( new Flight( 1L, DEFAULT_CODE ) );
+		s.persist( new Flight( 2L, "CD456" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		REQUESTED_CLASS_NAMES.clear();
+		s = openSession();
+		s.beginTransaction();
+		final List flights = s.createQuery(
+				"from Flight f where f.code = org.hibernate.test.hql.JavaConstantConventionTest.DEFAULT_CODE"
+		).list();
+		assertEquals( 1, flights.size() );
+		assertEquals( DEFAULT_CODE, ( (Flight) flights.get( 0 ) ).code );
+		// alias paths are not mistaken for constants
+		assertFalse( REQUESTED_CLASS_NAMES.contains( "f" ) );
+
+		s.createQuery( "delete Flight" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity(name = "Flight")
+	@Table(name = "JCC_FLIGHT")
+	public static class Flight {
+		@Id
+		private Long id;
+
+		private String code;
+
+		public Flight() {
+		}
+
+		public Flight(Long id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.insertordering;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.spi.EntityDependencyOrder;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InsertOrderingDependencyTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Customer.class, Product.class, OrderLine.class };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.ORDER_INSERTS, "true" );
+		cfg.setProperty( Environment.ORDER_UPDATES, "true" );
+		cfg.setProperty( Environment.STATEMENT_BATCH_SIZE, "50" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testDependencyOrder() {
+		final EntityDependencyOrder dependencyOrder = sessionFactory().getEntityDependencyOrder();
+		final int customer = dependencyOrder.getPosition( Customer.class.getName() );
+		final int product = dependencyOrder.getPosition( Product.class.getName() );
+		final int orderLine = dependencyOrder.getPosition( OrderLine.class.getName() );
+		assertTrue( customer < orderLine );
+		assertTrue( product < orderLine );
+	}
+
+	@Test
+	public void testInsertsAreGroupedByEntity() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < 10; i++ ) {
+			final Customer customer = new Customer( "customer-" + i );
+			s.save( customer );
+			// the first order line is saved before any product
+			Product product = null;
+			if ( i > 0 ) {
+				product = new Product( "product-" + i );
+				s.save( product );
+			}
+			s.save( new OrderLine( customer, product ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		// one batch per table
+		assertEquals( 3, statistics.getBatchExecutionCount() );
+		assertEquals( 29, statistics.getBatchedStatementCount() );
+		assertEquals( 29d / 3, statistics.getAverageBatchSize(), 0.001 );
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete OrderLine" ).executeUpdate();
+		s.createQuery( "delete Product" ).executeUpdate();
+		s.createQuery( "delete Customer" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity(name = "Customer")
+	@Table(name = "INS_ORD_CUST")
+	public static class Customer {
+		@Id
+		@GeneratedValue
+		private Long id;
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "INS_ORD_PROD")
+	public static class Product {
+		@Id
+		@GeneratedValue
+		private Long id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "OrderLine")
+	@Table(name = "INS_ORD_LINE")
+	public static class OrderLine {
+		@Id
+		@GeneratedValue
+		private Long id;
+		@ManyToOne
+		private Customer customer;
+		@ManyToOne
+		private Product product;
+
+		public OrderLine() {
+		}
+
+		public OrderLine(Customer customer, Product product) {
+			this.customer = customer;
+			this.product = product;
+		}
+	}
+}
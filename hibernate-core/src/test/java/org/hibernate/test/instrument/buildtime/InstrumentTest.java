@@ -19,6 +19,7 @@ import org.hibernate.test.instrument.cases.TestLazyExecutable;
 import org.hibernate.test.instrument.cases.TestLazyManyToOneExecutable;
 import org.hibernate.test.instrument.cases.TestLazyPropertyCustomTypeExecutable;
 import org.hibernate.test.instrument.cases.TestManyToOneProxyExecutable;
+import org.hibernate.test.instrument.cases.TestModifiedEntityTrackingExecutable;
 import org.hibernate.test.instrument.cases.TestSharedPKOneToOneExecutable;
 import org.hibernate.test.instrument.domain.Document;
 import org.hibernate.testing.Skip;
@@ -37,6 +38,11 @@ public class InstrumentTest extends BaseUnitTestCase {
 		execute( new TestDirtyCheckExecutable() );
 	}
 
+	@Test
+	public void testModifiedEntityTracking() throws Exception {
+		execute( new TestModifiedEntityTrackingExecutable() );
+	}
+
 	@Test
 	public void testFetchAll() throws Exception {
 		execute( new TestFetchAllExecutable() );
@@ -34,9 +34,10 @@ public abstract class AbstractExecutable implements Executable {
 		}
 		bsrb.applyClassLoader( classLoader );
 
-		serviceRegistry = new StandardServiceRegistryBuilder( bsrb.build() )
-				.applySetting( Environment.HBM2DDL_AUTO, "create-drop" )
-				.build();
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder( bsrb.build() )
+				.applySetting( Environment.HBM2DDL_AUTO, "create-drop" );
+		applySettings( registryBuilder );
+		serviceRegistry = registryBuilder.build();
 
 		MetadataSources metadataSources = new MetadataSources( serviceRegistry );
 		for ( String resource : getResources() ) {
@@ -61,6 +62,9 @@ public abstract class AbstractExecutable implements Executable {
 		return factory;
 	}
 
+	protected void applySettings(StandardServiceRegistryBuilder registryBuilder) {
+	}
+
 	protected void cleanup() {
 	}
 
@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.instrument.cases;
+
+import java.util.List;
+
+import junit.framework.Assert;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
+import org.hibernate.test.instrument.domain.Owner;
+
+public class TestModifiedEntityTrackingExecutable extends AbstractExecutable {
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder registryBuilder) {
+		registryBuilder.applySetting( Environment.TRACK_MODIFIED_ENTITIES, "true" );
+		registryBuilder.applySetting( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	public void execute() {
+		Session s = getFactory().openSession();
+		Transaction t = s.beginTransaction();
+		for ( int i = 1; i <= 5; i++ ) {
+			Owner owner = new Owner();
+			owner.setName( "owner" + i );
+			s.persist( owner );
+		}
+		t.commit();
+		s.close();
+
+		final Statistics statistics = getFactory().getStatistics();
+		statistics.clear();
+
+		s = getFactory().openSession();
+		t = s.beginTransaction();
+		List<Owner> owners = s.createQuery( "from Owner o order by o.id" ).list();
+		final PersistenceContext persistenceContext = ( (SessionImplementor) s ).getPersistenceContext();
+		Assert.assertEquals( 0, persistenceContext.reentrantSafeFlushableEntityEntries().length );
+
+		final Owner owner = owners.get( 1 );
+		owner.setName( "changed" );
+		Assert.assertEquals( 1, persistenceContext.reentrantSafeFlushableEntityEntries().length );
+
+		// the change is auto-flushed before the query
+		Object name = s.createQuery( "select o.name from Owner o where o.id = :id" )
+				.setParameter( "id", owner.getId() )
+				.uniqueResult();
+		Assert.assertEquals( "changed", name );
+		t.commit();
+		Assert.assertEquals( 1, statistics.getEntityUpdateCount() );
+		Assert.assertEquals( 0, persistenceContext.reentrantSafeFlushableEntityEntries().length );
+		s.close();
+
+		s = getFactory().openSession();
+		t = s.beginTransaction();
+		Assert.assertEquals( "changed", ( (Owner) s.get( Owner.class, owner.getId() ) ).getName() );
+		s.createQuery( "delete from Owner" ).executeUpdate();
+		t.commit();
+		s.close();
+	}
+}
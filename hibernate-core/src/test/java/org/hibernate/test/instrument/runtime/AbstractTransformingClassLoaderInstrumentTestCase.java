@@ -75,6 +75,11 @@ public abstract class AbstractTransformingClassLoaderInstrumentTestCase extends
 		executeExecutable( "org.hibernate.test.instrument.cases.TestDirtyCheckExecutable" );
 	}
 
+	@Test
+	public void testModifiedEntityTracking() {
+		executeExecutable( "org.hibernate.test.instrument.cases.TestModifiedEntityTrackingExecutable" );
+	}
+
 	@Test
 	@TestForIssue( jiraKey = "HHH-9476" )
 	public void testEagerFetchLazyToOne() {
@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc.internal;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.type.StandardBasicTypes;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ResultSetWrappingTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Part.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		cfg.setProperty( AvailableSettings.WRAP_RESULT_SETS, "true" );
+	}
+
+	@Test
+	public void testReadsThroughWrappedResultSets() {
+		Session s = openSession();
+		s.beginTransaction();
+		final Part assembly = new Part( 1L, "assembly", 3, 2.5d, true, null );
+		s.persist( assembly );
+		s.persist( new Part( 2L, "bolt", 12, 0.1d, false, assembly ) );
+		s.persist( new Part( 3L, "nut", 24, 0.05d, false, assembly ) );
+		s.getTransaction().commit();
+		s.close();
+
+		// executing the same loaders several times reuses their column name caches
+		for ( int i = 0; i < 3; i++ ) {
+			s = openSession();
+			s.beginTransaction();
+			final List parts = s.createQuery( "from Part p order by p.id" ).list();
+			assertEquals( 3, parts.size() );
+			final Part bolt = (Part) parts.get( 1 );
+			assertEquals( "bolt", bolt.name );
+			assertEquals( 12, bolt.quantity );
+			assertEquals( 0.1d, bolt.weight, 0d );
+			assertEquals( false, bolt.assembled );
+			assertSame( parts.get( 0 ), bolt.parent );
+
+			s.clear();
+			final Part nut = (Part) s.get( Part.class, 3L );
+			assertEquals( "nut", nut.name );
+			assertEquals( "assembly", nut.parent.name );
+
+			final Object[] row = (Object[]) s.createSQLQuery( "select name as partName, quantity as Qty from PARTS where id = 1" )
+					.addScalar( "PARTNAME", StandardBasicTypes.STRING )
+					.addScalar( "qty", StandardBasicTypes.INTEGER )
+					.uniqueResult();
+			assertEquals( "assembly", row[0] );
+			assertEquals( 3, row[1] );
+			s.getTransaction().commit();
+			s.close();
+		}
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "update Part set parent = null" ).executeUpdate();
+		s.createQuery( "delete Part" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity(name = "Part")
+	@Table(name = "PARTS")
+	public static class Part {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private int quantity;
+
+		private double weight;
+
+		private boolean assembled;
+
+		@ManyToOne
+		private Part parent;
+
+		public Part() {
+		}
+
+		public Part(Long id, String name, int quantity, double weight, boolean assembled, Part parent) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+			this.weight = weight;
+			this.assembled = assembled;
+			this.parent = parent;
+		}
+	}
+}
@@ -7,8 +7,10 @@
 package org.hibernate.test.legacy;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.EntityMode;
@@ -42,6 +44,7 @@ import org.hibernate.internal.util.compare.EqualsHelper;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metadata.ClassMetadata;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.spi.PersisterCreationContext;
 import org.hibernate.persister.walking.spi.AttributeDefinition;
 import org.hibernate.persister.walking.spi.EntityIdentifierDefinition;
@@ -303,6 +306,23 @@ public class CustomPersister implements EntityPersister {
 		return load(id, optionalObject, lockOptions.getLockMode(), session);
 	}
 
+	/**
+	 * @see EntityPersister#multiLoad(Serializable[], SessionImplementor, MultiLoadOptions)
+	 */
+	public List multiLoad(Serializable[] ids, SessionImplementor session, MultiLoadOptions loadOptions) {
+		final LockMode lockMode = loadOptions.getLockOptions() == null
+				? LockMode.NONE
+				: loadOptions.getLockOptions().getLockMode();
+		final List result = new ArrayList();
+		for ( Serializable id : ids ) {
+			final Object loaded = load( id, null, lockMode, session );
+			if ( loaded != null ) {
+				result.add( loaded );
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * @see EntityPersister#load(Serializable, Object, LockMode, SessionImplementor)
 	 */
@@ -662,6 +682,14 @@ public class CustomPersister implements EntityPersister {
 		return null;
 	}
 
+	@Override
+	public Serializable[] loadEntityIdsByNaturalIds(
+			Object[][] naturalIdValues,
+			SessionImplementor session,
+			MultiLoadOptions loadOptions) {
+		return new Serializable[naturalIdValues.length];
+	}
+
 	@Override
 	public Comparator getVersionComparator() {
 		return null;
@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.naturalid.multiload;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.NaturalId;
+
+/**
+ * Entity with a natural id compared case insensitively by the database (H2 specific column type).
+ */
+@Entity
+@Table( name = "airport" )
+public class Airport {
+	@Id
+	private Integer id;
+	@NaturalId
+	@Column( columnDefinition = "varchar_ignorecase(10)" )
+	private String code;
+
+	public Airport() {
+	}
+
+	public Airport(Integer id, String code) {
+		this.id = id;
+		this.code = code;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public String getCode() {
+		return code;
+	}
+}
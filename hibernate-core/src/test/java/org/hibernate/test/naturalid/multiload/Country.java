@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.naturalid.multiload;
+
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+/**
+ * Entity with a simple, cached natural id.
+ */
+@Entity
+@Table( name = "country" )
+@Cacheable
+@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+@NaturalIdCache
+public class Country {
+	@Id
+	private Integer id;
+	@NaturalId
+	private String isoCode;
+
+	public Country() {
+	}
+
+	public Country(Integer id, String isoCode) {
+		this.id = id;
+		this.isoCode = isoCode;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public String getIsoCode() {
+		return isoCode;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.naturalid.multiload;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.Session;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Natural ids matched by the database but not by the natural id property type must be resolved just like
+ * single natural id loads resolve them.
+ */
+@RequiresDialect( H2Dialect.class )
+public class MultiNaturalIdLoadCollationTest extends BaseNonConfigCoreFunctionalTestCase {
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Airport.class };
+	}
+
+	@Before
+	public void before() {
+		Session session = sessionFactory().openSession();
+		session.getTransaction().begin();
+		session.save( new Airport( 1, "AMS" ) );
+		session.save( new Airport( 2, "CDG" ) );
+		session.save( new Airport( 3, "LHR" ) );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@After
+	public void after() {
+		Session session = sessionFactory().openSession();
+		session.getTransaction().begin();
+		session.createQuery( "delete Airport" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testCaseInsensitiveNaturalIds() {
+		Session session = openSession();
+		session.getTransaction().begin();
+		assertEquals( 2, session.bySimpleNaturalId( Airport.class ).load( "cdg" ).getId().intValue() );
+		session.getTransaction().commit();
+		session.close();
+
+		session = openSession();
+		session.getTransaction().begin();
+		final List<Airport> airports = session.byMultipleNaturalIds( Airport.class )
+				.multiLoad( Arrays.<Object>asList( "AMS", "cdg", "Lhr", "JFK" ) );
+		assertEquals( 4, airports.size() );
+		assertEquals( 1, airports.get( 0 ).getId().intValue() );
+		assertEquals( 2, airports.get( 1 ).getId().intValue() );
+		assertEquals( 3, airports.get( 2 ).getId().intValue() );
+		assertNull( airports.get( 3 ) );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testLockOptions() {
+		Session session = openSession();
+		session.getTransaction().begin();
+		final List<Airport> airports = session.byMultipleNaturalIds( Airport.class )
+				.with( new LockOptions( LockMode.PESSIMISTIC_WRITE ) )
+				.multiLoad( "AMS", "CDG" );
+		assertEquals( 2, airports.size() );
+		assertEquals( "AMS", airports.get( 0 ).getCode() );
+		assertEquals( "CDG", airports.get( 1 ).getCode() );
+		session.getTransaction().commit();
+		session.close();
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.naturalid.multiload;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class MultiNaturalIdLoadTest extends BaseNonConfigCoreFunctionalTestCase {
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class, Country.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+	}
+
+	@Before
+	public void before() {
+		Session session = sessionFactory().openSession();
+		session.getTransaction().begin();
+		for ( int i = 1; i <= 30; i++ ) {
+			session.save( new Product( i, "vendor" + ( i % 3 ), "code" + i ) );
+			session.save( new Country( i, "C" + i ) );
+		}
+		session.getTransaction().commit();
+		session.close();
+		sessionFactory().getCache().evictAllRegions();
+	}
+
+	@After
+	public void after() {
+		Session session = sessionFactory().openSession();
+		session.getTransaction().begin();
+		session.createQuery( "delete Product" ).executeUpdate();
+		session.createQuery( "delete Country" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+		sessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testCompoundNaturalIds() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		final List<Map<String, Object>> naturalIds = new ArrayList<Map<String, Object>>();
+		for ( int i = 1; i <= 30; i++ ) {
+			naturalIds.add( productNaturalId( "vendor" + ( i % 3 ), "code" + i ) );
+		}
+		naturalIds.add( 5, productNaturalId( "vendor0", "code1" ) );
+
+		Session session = openSession();
+		session.getTransaction().begin();
+		final List<Product> products = session.byMultipleNaturalIds( Product.class ).multiLoad( naturalIds );
+		assertEquals( 31, products.size() );
+		for ( int i = 0; i < 5; i++ ) {
+			assertEquals( i + 1, products.get( i ).getId().intValue() );
+		}
+		assertNull( products.get( 5 ) );
+		assertEquals( 30, products.get( 30 ).getId().intValue() );
+		// one statement to resolve the natural ids, the missing one included, one to load the entities
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+
+		// the resolutions are now known to the session
+		assertSame(
+				products.get( 2 ),
+				session.byNaturalId( Product.class ).using( "vendor", "vendor0" ).using( "code", "code3" ).load()
+		);
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testBatchSize() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		Session session = openSession();
+		session.getTransaction().begin();
+		final List<Country> countries = session.byMultipleNaturalIds( Country.class )
+				.withBatchSize( 10 )
+				.multiLoad( isoCodes( 25 ) );
+		assertEquals( 25, countries.size() );
+		for ( int i = 0; i < 25; i++ ) {
+			assertEquals( "C" + ( i + 1 ), countries.get( i ).getIsoCode() );
+		}
+		// three statements to resolve the natural ids, three to load the entities
+		assertEquals( 6, statistics.getPrepareStatementCount() );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testSecondLevelCache() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		Session session = openSession();
+		session.getTransaction().begin();
+		session.byMultipleNaturalIds( Country.class ).multiLoad( isoCodes( 20 ) );
+		session.getTransaction().commit();
+		session.close();
+
+		statistics.clear();
+
+		session = openSession();
+		session.getTransaction().begin();
+		final List<Object> isoCodes = isoCodes( 20 );
+		isoCodes.add( "C25" );
+		isoCodes.add( "unknown" );
+		final List<Country> countries = session.byMultipleNaturalIds( Country.class ).multiLoad( isoCodes );
+		assertEquals( 22, countries.size() );
+		assertEquals( "C25", countries.get( 20 ).getIsoCode() );
+		assertNull( countries.get( 21 ) );
+		assertEquals( 20, statistics.getNaturalIdCacheHitCount() );
+		// only the cache misses are resolved, and only the entity not cached is loaded
+		assertEquals( 1, statistics.getNaturalIdQueryExecutionCount() );
+		assertEquals( 2, statistics.getPrepareStatementCount() );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testCompoundNaturalIdRequiresMap() {
+		Session session = openSession();
+		session.getTransaction().begin();
+		try {
+			session.byMultipleNaturalIds( Product.class ).multiLoad( "code1" );
+			fail( "Expecting failure for simple value passed as compound natural id" );
+		}
+		catch (HibernateException expected) {
+		}
+		finally {
+			session.getTransaction().rollback();
+			session.close();
+		}
+	}
+
+	private static Map<String, Object> productNaturalId(String vendor, String code) {
+		final Map<String, Object> naturalId = new HashMap<String, Object>();
+		naturalId.put( "vendor", vendor );
+		naturalId.put( "code", code );
+		return naturalId;
+	}
+
+	private static List<Object> isoCodes(int count) {
+		final List<Object> isoCodes = new ArrayList<Object>( count );
+		for ( int i = 1; i <= count; i++ ) {
+			isoCodes.add( "C" + i );
+		}
+		return isoCodes;
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.naturalid.multiload;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.NaturalId;
+
+/**
+ * Entity with a compound natural id.
+ */
+@Entity
+@Table( name = "product" )
+public class Product {
+	@Id
+	private Integer id;
+	@NaturalId
+	private String vendor;
+	@NaturalId
+	private String code;
+
+	public Product() {
+	}
+
+	public Product(Integer id, String vendor, String code) {
+		this.id = id;
+		this.vendor = vendor;
+		this.code = code;
+	}
+
+	public Integer getId() {
+		return id;
+	}
+
+	public String getVendor() {
+		return vendor;
+	}
+
+	public String getCode() {
+		return code;
+	}
+}
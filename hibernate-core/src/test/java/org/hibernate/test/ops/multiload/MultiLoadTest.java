@@ -0,0 +1,212 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.ops.multiload;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MultiLoadTest extends BaseNonConfigCoreFunctionalTestCase {
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { SimpleEntity.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+	}
+
+	@Before
+	public void before() {
+		Session session = sessionFactory().openSession();
+		session.getTransaction().begin();
+		session.setCacheMode( CacheMode.IGNORE );
+		for ( int i = 1; i <= 60; i++ ) {
+			session.save( new SimpleEntity( i, "Entity #" + i ) );
+		}
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@After
+	public void after() {
+		Session session = sessionFactory().openSession();
+		session.getTransaction().begin();
+		session.createQuery( "delete SimpleEntity" ).executeUpdate();
+		session.getTransaction().commit();
+		session.close();
+		sessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testBasicMultiLoad() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		Session session = openSession();
+		session.getTransaction().begin();
+		List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 56 ) );
+		assertEquals( 56, list.size() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testBatchSizeMultiLoad() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		Session session = openSession();
+		session.getTransaction().begin();
+		List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class ).withBatchSize( 15 ).multiLoad( ids( 56 ) );
+		assertEquals( 56, list.size() );
+		assertEquals( 4, statistics.getPrepareStatementCount() );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testOrderedReturn() {
+		Session session = openSession();
+		session.getTransaction().begin();
+		List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class ).multiLoad( 5, 100, 2, 5 );
+		assertEquals( 4, list.size() );
+		assertEquals( 5, list.get( 0 ).getId().intValue() );
+		assertNull( list.get( 1 ) );
+		assertEquals( 2, list.get( 2 ).getId().intValue() );
+		assertSame( list.get( 0 ), list.get( 3 ) );
+
+		list = session.byMultipleIds( SimpleEntity.class ).enableOrderedReturn( false ).multiLoad( 5, 100, 2 );
+		assertEquals( 2, list.size() );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testSessionCheck() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		Session session = openSession();
+		session.getTransaction().begin();
+		final SimpleEntity first = (SimpleEntity) session.get( SimpleEntity.class, 1 );
+		final SimpleEntity second = (SimpleEntity) session.get( SimpleEntity.class, 2 );
+		session.delete( second );
+		statistics.clear();
+
+		List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 3 ) );
+		assertEquals( 3, list.size() );
+		assertSame( first, list.get( 0 ) );
+		assertNull( list.get( 1 ) );
+		assertNotNull( list.get( 2 ) );
+		// only the entity not already in the persistence context is read
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+
+		list = session.byMultipleIds( SimpleEntity.class ).enableReturnOfDeletedEntities( true ).multiLoad( ids( 3 ) );
+		assertSame( second, list.get( 1 ) );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testSecondLevelCacheCheck() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		Session session = openSession();
+		session.getTransaction().begin();
+		// put the first two entities into the second-level cache
+		session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 2 ) );
+		session.getTransaction().commit();
+		session.close();
+
+		statistics.clear();
+		session = openSession();
+		session.getTransaction().begin();
+		List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 5 ) );
+		assertEquals( 5, list.size() );
+		assertEquals( 2, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		session.getTransaction().commit();
+		session.close();
+
+		statistics.clear();
+		session = openSession();
+		session.getTransaction().begin();
+		list = session.byMultipleIds( SimpleEntity.class ).enableSecondLevelCacheCheck( false ).multiLoad( ids( 5 ) );
+		assertEquals( 5, list.size() );
+		assertEquals( 0, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	private Integer[] ids(int count) {
+		Integer[] ids = new Integer[count];
+		for ( int i = 1; i <= count; i++ ) {
+			ids[i - 1] = i;
+		}
+		return ids;
+	}
+
+	@Entity( name = "SimpleEntity" )
+	@Table( name = "SimpleEntity" )
+	@Cacheable()
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class SimpleEntity {
+		Integer id;
+		String text;
+
+		public SimpleEntity() {
+		}
+
+		public SimpleEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		@Id
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+}
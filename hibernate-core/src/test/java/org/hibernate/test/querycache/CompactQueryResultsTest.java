@@ -0,0 +1,214 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompactQueryResultsTest extends BaseCoreFunctionalTestCase {
+	private static final int BOOKS = 100;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Author.class, Book.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.USE_QUERY_CACHE, "true" );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		final Author tolkien = new Author( 1L, "Tolkien" );
+		final Author pratchett = new Author( 2L, "Pratchett" );
+		s.persist( tolkien );
+		s.persist( pratchett );
+		for ( long i = 0; i < BOOKS; i++ ) {
+			s.persist( new Book( i, "book " + i, i % 2 == 0 ? tolkien : pratchett ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+		sessionFactory().getQueryCache().clear();
+	}
+
+	@Override
+	protected void cleanupTest() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete Book" ).executeUpdate();
+		s.createQuery( "delete Author" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testEntityIdentifiersAreCachedCompactly() {
+		final List<Book> books = listBooks();
+		assertEquals( BOOKS, books.size() );
+
+		final QueryResultsRegion region = sessionFactory().getQueryCache().getRegion();
+		assertEquals( 1, region.toMap().size() );
+		final Serializable cached = (Serializable) region.toMap().values().iterator().next();
+		assertFalse( cached instanceof List );
+
+		// the row by row form of former versions: the timestamp, then the identifiers
+		final List<Serializable> rows = new ArrayList<Serializable>();
+		rows.add( region.nextTimestamp() );
+		for ( Book book : books ) {
+			rows.add( book.id );
+		}
+		assertTrue(
+				SerializationHelper.serialize( cached ).length * 3 / 2
+						< SerializationHelper.serialize( (Serializable) rows ).length
+		);
+	}
+
+	@Test
+	public void testResultsCachedByFormerVersionsAreRead() {
+		listBooks();
+		final QueryResultsRegion region = sessionFactory().getQueryCache().getRegion();
+		final Object key = region.toMap().keySet().iterator().next();
+		final List<Serializable> rows = new ArrayList<Serializable>();
+		rows.add( region.nextTimestamp() );
+		rows.add( 7L );
+		rows.add( 3L );
+		region.put( key, rows );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		final List<Book> books = listBooks();
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( 2, books.size() );
+		assertEquals( "book 7", books.get( 0 ).title );
+		assertEquals( "book 3", books.get( 1 ).title );
+	}
+
+	@Test
+	public void testReferencedEntitiesAreResolvedTogether() {
+		final List<Object[]> uncached = listTitlesAndAuthors();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		Session s = openSession();
+		s.beginTransaction();
+		final List<Object[]> cached = s.createQuery( "select b.title, b.author from Book b order by b.id" )
+				.setCacheable( true )
+				.list();
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( BOOKS, cached.size() );
+		for ( int i = 0; i < BOOKS; i++ ) {
+			assertEquals( uncached.get( i )[0], cached.get( i )[0] );
+			assertEquals( ( (Author) uncached.get( i )[1] ).getName(), ( (Author) cached.get( i )[1] ).getName() );
+		}
+		assertSame( cached.get( 0 )[1], cached.get( 2 )[1] );
+		// both authors at once, through a single batch
+		assertEquals( 2, statistics.getEntityLoadCount() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Book> listBooks() {
+		Session s = openSession();
+		s.beginTransaction();
+		final List<Book> books = s.createQuery( "from Book b order by b.id" ).setCacheable( true ).list();
+		for ( Book book : books ) {
+			book.title.length();
+		}
+		s.getTransaction().commit();
+		s.close();
+		return books;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object[]> listTitlesAndAuthors() {
+		Session s = openSession();
+		s.beginTransaction();
+		final List<Object[]> rows = s.createQuery( "select b.title, b.author from Book b order by b.id" )
+				.setCacheable( true )
+				.list();
+		for ( Object[] row : rows ) {
+			( (Author) row[1] ).getName();
+		}
+		s.getTransaction().commit();
+		s.close();
+		return rows;
+	}
+
+	@Entity(name = "Author")
+	@Table(name = "CQR_AUTHOR")
+	@BatchSize(size = 10)
+	public static class Author {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "CQR_BOOK")
+	@BatchSize(size = 10)
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
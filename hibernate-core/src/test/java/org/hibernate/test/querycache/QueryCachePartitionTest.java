@@ -0,0 +1,285 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.io.Serializable;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.Query;
+import org.hibernate.QueryException;
+import org.hibernate.Session;
+import org.hibernate.annotations.QueryCachePartition;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class QueryCachePartitionTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Folder.class, Note.class, Account.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.USE_QUERY_CACHE, "true" );
+		cfg.setProperty( AvailableSettings.QUERY_CACHE_PARTITIONING, "true" );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		final Folder first = new Folder( 1L );
+		final Folder second = new Folder( 2L );
+		s.persist( first );
+		s.persist( second );
+		s.persist( new Note( 1L, "first", first ) );
+		s.persist( new Note( 2L, "second", second ) );
+		s.persist( new Account( 1L, 1L ) );
+		s.persist( new Account( 2L, 2L ) );
+		s.persist( new Account( 3L, 3L ) );
+		s.getTransaction().commit();
+		s.close();
+		sessionFactory().getQueryCache().clear();
+	}
+
+	@Override
+	protected void cleanupTest() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete Note" ).executeUpdate();
+		s.createQuery( "delete Folder" ).executeUpdate();
+		s.createQuery( "delete Account" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testInsertOnlyInvalidatesItsPartition() {
+		assertFalse( isNotesQueryCached( 1L ) );
+		assertFalse( isNotesQueryCached( null ) );
+		assertTrue( isNotesQueryCached( 1L ) );
+		assertTrue( isNotesQueryCached( null ) );
+
+		Session s = openSession();
+		s.beginTransaction();
+		s.persist( new Note( 3L, "third", s.load( Folder.class, 2L ) ) );
+		s.getTransaction().commit();
+		s.close();
+
+		assertTrue( isNotesQueryCached( 1L ) );
+		// the results of the queries declaring no partition depend on all of them
+		assertFalse( isNotesQueryCached( null ) );
+
+		s = openSession();
+		s.beginTransaction();
+		s.persist( new Note( 4L, "fourth", s.load( Folder.class, 1L ) ) );
+		s.getTransaction().commit();
+		s.close();
+
+		assertFalse( isNotesQueryCached( 1L ) );
+	}
+
+	@Test
+	public void testDeleteOnlyInvalidatesItsPartition() {
+		isNotesQueryCached( 1L );
+		isNotesQueryCached( 2L );
+
+		Session s = openSession();
+		s.beginTransaction();
+		s.delete( s.get( Note.class, 2L ) );
+		s.getTransaction().commit();
+		s.close();
+
+		assertTrue( isNotesQueryCached( 1L ) );
+		assertFalse( isNotesQueryCached( 2L ) );
+	}
+
+	@Test
+	public void testUpdateInvalidatesPreviousAndNewPartitions() {
+		isAccountsQueryCached( 1L );
+		isAccountsQueryCached( 2L );
+		isAccountsQueryCached( 3L );
+
+		Session s = openSession();
+		s.beginTransaction();
+		s.get( Account.class, 1L ).tenantId = 2L;
+		s.getTransaction().commit();
+		s.close();
+
+		assertFalse( isAccountsQueryCached( 1L ) );
+		assertFalse( isAccountsQueryCached( 2L ) );
+		assertTrue( isAccountsQueryCached( 3L ) );
+	}
+
+	@Test
+	public void testBulkUpdateInvalidatesItsDeclaredPartition() {
+		isNotesQueryCached( 1L );
+		isNotesQueryCached( 2L );
+
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "update Note set text = 'updated' where folder.id = :folder" )
+				.setParameter( "folder", 2L )
+				.setCachePartition( 2L )
+				.executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+
+		assertTrue( isNotesQueryCached( 1L ) );
+		assertFalse( isNotesQueryCached( 2L ) );
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "update Note set text = 'updated'" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+
+		assertFalse( isNotesQueryCached( 1L ) );
+	}
+
+	@Test
+	public void testDeclaredPartitionIsConvertedToThePartitionType() {
+		// declared as Integer, partition values of the changed entities are Long
+		isAccountsQueryCached( 3L, 3 );
+		assertTrue( isAccountsQueryCached( 3L, 3 ) );
+		isNotesQueryCached( 1L );
+
+		Session s = openSession();
+		s.beginTransaction();
+		s.persist( new Account( 4L, 3L ) );
+		s.createQuery( "update Note set text = 'updated' where folder.id = :folder" )
+				.setParameter( "folder", 1L )
+				.setCachePartition( 1 )
+				.executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+
+		assertFalse( isAccountsQueryCached( 3L, 3 ) );
+		assertFalse( isNotesQueryCached( 1L ) );
+	}
+
+	@Test
+	public void testDeclaredPartitionOfMismatchedTypeIsRejected() {
+		try {
+			isAccountsQueryCached( 1L, "first" );
+			fail( "Expecting a QueryException" );
+		}
+		catch (QueryException expected) {
+		}
+	}
+
+	private boolean isNotesQueryCached(Long folderId) {
+		Session s = openSession();
+		s.beginTransaction();
+		final Query query;
+		if ( folderId == null ) {
+			query = s.createQuery( "from Note" );
+		}
+		else {
+			query = s.createQuery( "from Note n where n.folder.id = :folder" )
+					.setParameter( "folder", folderId )
+					.setCachePartition( folderId );
+		}
+		final boolean cached = isCached( query );
+		s.getTransaction().commit();
+		s.close();
+		return cached;
+	}
+
+	private boolean isAccountsQueryCached(Long tenantId) {
+		return isAccountsQueryCached( tenantId, tenantId );
+	}
+
+	private boolean isAccountsQueryCached(Long tenantId, Serializable partition) {
+		Session s = openSession();
+		s.beginTransaction();
+		try {
+			return isCached(
+					s.createQuery( "from Account a where a.tenantId = :tenant" )
+							.setParameter( "tenant", tenantId )
+							.setCachePartition( partition )
+			);
+		}
+		finally {
+			s.getTransaction().commit();
+			s.close();
+		}
+	}
+
+	private boolean isCached(Query query) {
+		final long hits = sessionFactory().getStatistics().getQueryCacheHitCount();
+		query.setCacheable( true ).list();
+		return sessionFactory().getStatistics().getQueryCacheHitCount() > hits;
+	}
+
+	@Entity(name = "Folder")
+	@Table(name = "QCP_FOLDER")
+	public static class Folder {
+		@Id
+		private Long id;
+
+		public Folder() {
+		}
+
+		public Folder(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Note")
+	@Table(name = "QCP_NOTE")
+	public static class Note {
+		@Id
+		private Long id;
+
+		private String text;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@QueryCachePartition
+		private Folder folder;
+
+		public Note() {
+		}
+
+		public Note(Long id, String text, Folder folder) {
+			this.id = id;
+			this.text = text;
+			this.folder = folder;
+		}
+	}
+
+	@Entity(name = "Account")
+	@Table(name = "QCP_ACCOUNT")
+	public static class Account {
+		@Id
+		private Long id;
+
+		@QueryCachePartition
+		private Long tenantId;
+
+		public Account() {
+		}
+
+		public Account(Long id, Long tenantId) {
+			this.id = id;
+			this.tenantId = tenantId;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.queryplan;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedNativeQueries;
+import javax.persistence.NamedNativeQuery;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParallelNamedQueryCheckTest extends BaseUnitTestCase {
+	@Test
+	public void testNamedQueriesAreCheckedInParallel() {
+		final StandardServiceRegistry serviceRegistry = buildServiceRegistry();
+		try {
+			final SessionFactory sessionFactory = new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Account.class )
+					.buildMetadata()
+					.buildSessionFactory();
+			try {
+				// the plans compiled by the check are cached
+				final Statistics statistics = sessionFactory.getStatistics();
+				statistics.clear();
+				final Session s = sessionFactory.openSession();
+				s.getNamedQuery( "Account.byNumber" ).setString( "number", "1" ).list();
+				s.getNamedQuery( "Account.count" ).list();
+				s.close();
+				assertEquals( 0, statistics.getQueryPlanCacheMissCount() );
+			}
+			finally {
+				sessionFactory.close();
+			}
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	@Test
+	public void testErrorsAreReportedForEachQuery() {
+		final StandardServiceRegistry serviceRegistry = buildServiceRegistry();
+		try {
+			new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Account.class )
+					.addAnnotatedClass( BrokenAccount.class )
+					.buildMetadata()
+					.buildSessionFactory();
+			fail( "Expected the named query check to fail" );
+		}
+		catch (HibernateException expected) {
+			final String message = expected.getMessage();
+			assertTrue( message.contains( "BrokenAccount.unknownProperty" ) );
+			assertTrue( message.contains( "BrokenAccount.unknownEntity" ) );
+			assertFalse( message.contains( "Account.byNumber" ) );
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	private StandardServiceRegistry buildServiceRegistry() {
+		return new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_STARTUP_CHECKING_PARALLELISM, "4" )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, "true" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.build();
+	}
+
+	@Entity(name = "Account")
+	@Table(name = "PNQ_ACCOUNT")
+	@NamedQueries({
+			@NamedQuery(name = "Account.byNumber", query = "from Account a where a.number = :number"),
+			@NamedQuery(name = "Account.count", query = "select count(a) from Account a")
+	})
+	@NamedNativeQueries({
+			@NamedNativeQuery(name = "Account.native", query = "select * from PNQ_ACCOUNT", resultClass = Account.class)
+	})
+	public static class Account {
+		@Id
+		private Long id;
+
+		private String number;
+	}
+
+	@Entity(name = "BrokenAccount")
+	@Table(name = "PNQ_BROKEN_ACCOUNT")
+	@NamedQueries({
+			@NamedQuery(name = "BrokenAccount.unknownProperty", query = "from BrokenAccount a where a.balance > 0"),
+			@NamedQuery(name = "BrokenAccount.unknownEntity", query = "from Ledger l")
+	})
+	public static class BrokenAccount {
+		@Id
+		private Long id;
+	}
+}
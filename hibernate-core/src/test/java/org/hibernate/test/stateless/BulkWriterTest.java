@@ -0,0 +1,207 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BulkWriterTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Region.class, Town.class, Employee.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		cfg.setProperty( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@After
+	public void cleanup() {
+		StatelessSession ss = sessionFactory().openStatelessSession();
+		Transaction tx = ss.beginTransaction();
+		ss.createQuery( "delete Town" ).executeUpdate();
+		ss.createQuery( "delete Region" ).executeUpdate();
+		ss.createQuery( "update Employee set manager = null" ).executeUpdate();
+		ss.createQuery( "delete Employee" ).executeUpdate();
+		tx.commit();
+		ss.close();
+	}
+
+	@Test
+	public void testInsertWritesReferencedEntitiesFirst() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		// each region followed by its towns
+		final List<Object> entities = new ArrayList<Object>();
+		for ( long i = 0; i < 50; i++ ) {
+			final Region region = new Region( i, "region " + i );
+			entities.add( region );
+			for ( long j = 0; j < 10; j++ ) {
+				entities.add( new Town( i * 10 + j, "town " + j, region ) );
+			}
+		}
+
+		StatelessSession ss = sessionFactory().openStatelessSession();
+		final long count = ss.bulkWriter().parallelism( 3 ).commitInterval( 20 ).insert( entities );
+		ss.close();
+
+		assertEquals( 550, count );
+		assertEquals( 550, statistics.getBulkWriteRowCount() );
+		assertTrue( statistics.getBulkWriteCommitCount() >= 550 / 20 );
+		assertTrue( statistics.getBulkWriteTime() >= 0 );
+
+		ss = sessionFactory().openStatelessSession();
+		assertEquals( 50L, ss.createQuery( "select count(*) from Region" ).uniqueResult() );
+		assertEquals(
+				500L,
+				ss.createQuery( "select count(*) from Town t where t.name like 'town %' and t.region is not null" )
+						.uniqueResult()
+		);
+		ss.close();
+	}
+
+	@Test
+	public void testInsertWritesSelfReferencingEntitiesInOrder() {
+		final List<Employee> employees = new ArrayList<Employee>();
+		for ( long i = 0; i < 200; i++ ) {
+			employees.add( new Employee( i, i == 0 ? null : employees.get( (int) ( i - 1 ) / 2 ) ) );
+		}
+
+		StatelessSession ss = sessionFactory().openStatelessSession();
+		assertEquals( 200, ss.bulkWriter().parallelism( 4 ).commitInterval( 15 ).insert( employees ) );
+		ss.close();
+
+		ss = sessionFactory().openStatelessSession();
+		assertEquals( 199L, ss.createQuery( "select count(*) from Employee where manager is not null" ).uniqueResult() );
+		ss.close();
+	}
+
+	@Test
+	public void testUpdate() {
+		final List<Object> regions = new ArrayList<Object>();
+		for ( long i = 0; i < 100; i++ ) {
+			regions.add( new Region( i, "region " + i ) );
+		}
+		StatelessSession ss = sessionFactory().openStatelessSession();
+		ss.bulkWriter().insert( regions );
+		ss.close();
+
+		for ( Object region : regions ) {
+			( (Region) region ).name = "updated";
+		}
+		ss = sessionFactory().openStatelessSession();
+		assertEquals( 100, ss.bulkWriter().parallelism( 2 ).commitInterval( 30 ).update( regions ) );
+		ss.close();
+
+		ss = sessionFactory().openStatelessSession();
+		assertEquals( 100L, ss.createQuery( "select count(*) from Region where name = 'updated'" ).uniqueResult() );
+		ss.close();
+	}
+
+	@Test
+	public void testFailureIsPropagated() {
+		final List<Object> regions = new ArrayList<Object>();
+		for ( long i = 0; i < 100; i++ ) {
+			regions.add( new Region( i, "region " + i ) );
+		}
+		regions.add( new Region( 5L, "duplicate" ) );
+
+		StatelessSession ss = sessionFactory().openStatelessSession();
+		try {
+			ss.bulkWriter().parallelism( 2 ).commitInterval( 10 ).insert( regions );
+			fail( "Expecting the duplicate to fail the bulk write" );
+		}
+		catch (HibernateException expected) {
+		}
+		finally {
+			ss.close();
+		}
+
+		// the chunks are committed independently
+		ss = sessionFactory().openStatelessSession();
+		assertEquals( 100L, ss.createQuery( "select count(*) from Region" ).uniqueResult() );
+		ss.close();
+	}
+
+	@Entity(name = "Region")
+	@Table(name = "BW_REGION")
+	public static class Region {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Region() {
+		}
+
+		public Region(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Town")
+	@Table(name = "BW_TOWN")
+	public static class Town {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@ManyToOne
+		private Region region;
+
+		public Town() {
+		}
+
+		public Town(Long id, String name, Region region) {
+			this.id = id;
+			this.name = name;
+			this.region = region;
+		}
+	}
+
+	@Entity(name = "Employee")
+	@Table(name = "BW_EMPLOYEE")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Employee manager;
+
+		public Employee() {
+		}
+
+		public Employee(Long id, Employee manager) {
+			this.id = id;
+			this.manager = manager;
+		}
+	}
+}
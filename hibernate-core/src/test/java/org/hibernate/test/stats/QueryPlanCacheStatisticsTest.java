@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.stat.Statistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QueryPlanCacheStatisticsTest extends BaseCoreFunctionalTestCase {
+	private static final String SESSION_FACTORY_NAME = "QueryPlanCacheStatisticsTest";
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Employee.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		cfg.setProperty( AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, "4" );
+		cfg.setProperty( AvailableSettings.QUERY_PLAN_CACHE_ADAPTIVE_MAX_SIZE, "128" );
+		cfg.setProperty( AvailableSettings.JMX_ENABLED, "true" );
+		cfg.setProperty( AvailableSettings.JMX_PLATFORM_SERVER, "true" );
+		cfg.setProperty( AvailableSettings.JMX_SF_NAME, SESSION_FACTORY_NAME );
+	}
+
+	@Test
+	public void testHitsAndMisses() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		Session s = openSession();
+		s.createQuery( "from Employee e where e.name = 'hits and misses'" ).list();
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+		final long hits = statistics.getQueryPlanCacheHitCount();
+		s.createQuery( "from Employee e where e.name = 'hits and misses'" ).list();
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+		assertTrue( statistics.getQueryPlanCacheHitCount() > hits );
+		assertTrue( statistics.getQueryPlanCompileTime() >= 0 );
+		s.close();
+	}
+
+	@Test
+	public void testAdaptiveSizing() {
+		final QueryPlanCache queryPlanCache = sessionFactory().getQueryPlanCache();
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		// a working set of 40 queries, far above the initial 4 plans
+		Session s = openSession();
+		for ( int round = 0; round < 10; round++ ) {
+			for ( int i = 0; i < 40; i++ ) {
+				s.createQuery( "from Employee e where e.id = " + i );
+			}
+		}
+		assertTrue( statistics.getQueryPlanCacheEvictionCount() > 0 );
+		assertTrue( queryPlanCache.getQueryPlanCacheMaxSize() >= 40 );
+		assertTrue( queryPlanCache.getQueryPlanCacheMaxSize() <= 128 );
+
+		// the whole working set is now cached
+		final long misses = statistics.getQueryPlanCacheMissCount();
+		for ( int i = 0; i < 40; i++ ) {
+			s.createQuery( "from Employee e where e.id = " + i );
+		}
+		assertEquals( misses, statistics.getQueryPlanCacheMissCount() );
+		s.close();
+	}
+
+	@Test
+	public void testStatisticsAreExposedThroughJmx() throws Exception {
+		final Statistics statistics = sessionFactory().getStatistics();
+		Session s = openSession();
+		s.createQuery( "from Employee e where e.name = 'jmx'" ).list();
+		s.close();
+
+		final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		final Set<ObjectName> names = mBeanServer.queryNames(
+				new ObjectName(
+						"*:sessionFactory=" + SESSION_FACTORY_NAME
+								+ ",serviceRole=" + StatisticsImplementor.class.getName() + ",*"
+				),
+				null
+		);
+		assertEquals( 1, names.size() );
+		final ObjectName name = names.iterator().next();
+		assertEquals( statistics.getQueryPlanCacheMissCount(), mBeanServer.getAttribute( name, "QueryPlanCacheMissCount" ) );
+		assertEquals( Boolean.TRUE, mBeanServer.getAttribute( name, "StatisticsEnabled" ) );
+	}
+
+	@Entity(name = "Employee")
+	@Table(name = "QPC_EMPLOYEE")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		private String name;
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stats;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QueryPlanCacheWarmUpTest extends BaseCoreFunctionalTestCase {
+	private static File warmUpFile;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Employee.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		if ( warmUpFile == null ) {
+			try {
+				warmUpFile = File.createTempFile( "query-plans", ".bin" );
+			}
+			catch (IOException e) {
+				throw new RuntimeException( e );
+			}
+			warmUpFile.delete();
+			// written again when the last SessionFactory is closed
+			warmUpFile.deleteOnExit();
+		}
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		cfg.setProperty( AvailableSettings.QUERY_PLAN_CACHE_WARM_UP_FILE, warmUpFile.getPath() );
+	}
+
+	@Test
+	public void testPlansAreCompiledAtStartup() {
+		Session s = openSession();
+		s.createQuery( "from Employee e where e.name = 'warm'" ).list();
+		s.createQuery( "select e.name from Employee e where e.id > :id" ).setLong( "id", 1L ).list();
+		s.createQuery( "from Employee e" ).iterate();
+		s.close();
+
+		rebuildSessionFactory();
+		assertTrue( warmUpFile.isFile() );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertTrue( statistics.getQueryPlanCacheWarmUpTime() >= 0 );
+		final long misses = statistics.getQueryPlanCacheMissCount();
+		s = openSession();
+		s.createQuery( "from Employee e where e.name = 'warm'" ).list();
+		s.createQuery( "select e.name from Employee e where e.id > :id" ).setLong( "id", 1L ).list();
+		s.createQuery( "from Employee e" ).iterate();
+		s.close();
+		assertEquals( misses, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	@Test
+	public void testCorruptedWarmUpFileIsSkipped() throws IOException {
+		// a query count, then a query length, far beyond what the file holds
+		for ( int[] sizes : new int[][] { { Integer.MAX_VALUE }, { 1, Integer.MAX_VALUE } } ) {
+			final File corruptedFile = File.createTempFile( "query-plans", ".bin" );
+			corruptedFile.deleteOnExit();
+			final DataOutputStream out = new DataOutputStream( new FileOutputStream( corruptedFile ) );
+			try {
+				out.writeInt( 1 );
+				out.writeInt( sizes[0] );
+				if ( sizes.length > 1 ) {
+					out.writeBoolean( false );
+					out.writeInt( sizes[1] );
+				}
+			}
+			finally {
+				out.close();
+			}
+			warmUpFile = corruptedFile;
+
+			rebuildSessionFactory();
+			Session s = openSession();
+			s.createQuery( "from Employee e" ).list();
+			s.close();
+		}
+	}
+
+	@Entity(name = "Employee")
+	@Table(name = "QPW_EMPLOYEE")
+	public static class Employee {
+		@Id
+		private Long id;
+
+		private String name;
+	}
+}
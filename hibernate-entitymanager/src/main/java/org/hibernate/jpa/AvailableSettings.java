@@ -428,6 +428,15 @@ public interface AvailableSettings {
 	 */
 	String DISCARD_PC_ON_CLOSE = "hibernate.ejb.discard_pc_on_close";
 
+	/**
+	 * How the literals of criteria queries are rendered in the JPA-QL they are compiled to: {@code auto} (the default)
+	 * renders numeric literals inline, {@code bind} binds them as parameters so that criteria queries which only
+	 * differ by their literal values share their query plan.
+	 *
+	 * @see CriteriaLiteralHandlingMode
+	 */
+	String CRITERIA_LITERAL_HANDLING_MODE = "hibernate.criteria.literal_handling_mode";
+
 	/**
 	 * Consider this as experimental
 	 * It is not recommended to set up this property, the configuration is stored
@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jpa;
+
+import org.hibernate.internal.util.StringHelper;
+
+/**
+ * Describes the allowable values of the {@value AvailableSettings#CRITERIA_LITERAL_HANDLING_MODE} setting.
+ *
+ * @see AvailableSettings#CRITERIA_LITERAL_HANDLING_MODE
+ */
+public enum CriteriaLiteralHandlingMode {
+	/**
+	 * "auto" - Numeric literals are rendered inline in the JPA-QL, any other literal is bound as a parameter.
+	 */
+	AUTO( "auto" ),
+	/**
+	 * "bind" - All the literals are bound as parameters, except the ones directly selected, so that criteria queries
+	 * of the same shape render the same JPA-QL, and so share a single query plan, whatever their literal values.
+	 */
+	BIND( "bind" );
+
+	private final String externalName;
+
+	private CriteriaLiteralHandlingMode(String externalName) {
+		this.externalName = externalName;
+	}
+
+	/**
+	 * Used when processing JPA configuration to interpret the user config value
+	 *
+	 * @param value The encountered user config value
+	 *
+	 * @return The matching enum value.  An empty value will return {@link #AUTO}.
+	 *
+	 * @throws IllegalArgumentException If the incoming value is unrecognized
+	 */
+	public static CriteriaLiteralHandlingMode interpret(Object value) {
+		if ( value == null ) {
+			return AUTO;
+		}
+
+		if ( CriteriaLiteralHandlingMode.class.isInstance( value ) ) {
+			return (CriteriaLiteralHandlingMode) value;
+		}
+
+		final String name = value.toString().trim();
+		if ( StringHelper.isEmpty( name ) ) {
+			return AUTO;
+		}
+
+		for ( CriteriaLiteralHandlingMode mode : values() ) {
+			if ( mode.externalName.equalsIgnoreCase( name ) ) {
+				return mode;
+			}
+		}
+
+		throw new IllegalArgumentException( "Unrecognized criteria literal handling mode value : " + value );
+	}
+}
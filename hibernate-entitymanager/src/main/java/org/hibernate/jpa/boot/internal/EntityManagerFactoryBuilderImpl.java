@@ -54,6 +54,7 @@ import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.internal.log.DeprecationLogger;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.jpa.AvailableSettings;
+import org.hibernate.jpa.CriteriaLiteralHandlingMode;
 import org.hibernate.jpa.boot.spi.EntityManagerFactoryBuilder;
 import org.hibernate.jpa.boot.spi.IntegratorProvider;
 import org.hibernate.jpa.boot.spi.PersistenceUnitDescriptor;
@@ -82,6 +83,7 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.jpa.AvailableSettings.CFG_FILE;
 import static org.hibernate.jpa.AvailableSettings.CLASS_CACHE_PREFIX;
 import static org.hibernate.jpa.AvailableSettings.COLLECTION_CACHE_PREFIX;
+import static org.hibernate.jpa.AvailableSettings.CRITERIA_LITERAL_HANDLING_MODE;
 import static org.hibernate.jpa.AvailableSettings.DISCARD_PC_ON_CLOSE;
 import static org.hibernate.jpa.AvailableSettings.PERSISTENCE_UNIT_NAME;
 import static org.hibernate.jpa.AvailableSettings.SHARED_CACHE_MODE;
@@ -490,6 +492,10 @@ public class EntityManagerFactoryBuilderImpl implements EntityManagerFactoryBuil
 			settings.setReleaseResourcesOnCloseEnabled( "true".equals( value ) );
 		}
 
+		settings.setCriteriaLiteralHandlingMode(
+				CriteriaLiteralHandlingMode.interpret( configurationValues.get( CRITERIA_LITERAL_HANDLING_MODE ) )
+		);
+
 		final StrategySelector strategySelector = ssrBuilder.getBootstrapServiceRegistry().getService( StrategySelector.class );
 		final Object interceptorSetting = configurationValues.remove( AvailableSettings.SESSION_INTERCEPTOR );
 		if ( interceptorSetting != null ) {
@@ -9,6 +9,7 @@ package org.hibernate.jpa.boot.internal;
 import javax.persistence.spi.PersistenceUnitTransactionType;
 
 import org.hibernate.Interceptor;
+import org.hibernate.jpa.CriteriaLiteralHandlingMode;
 import org.hibernate.jpa.boot.spi.Settings;
 
 /**
@@ -18,6 +19,7 @@ public class SettingsImpl implements Settings {
 	private PersistenceUnitTransactionType transactionType;
 	private boolean releaseResourcesOnCloseEnabled;
 	private Class<? extends Interceptor> sessionInterceptorClass;
+	private CriteriaLiteralHandlingMode criteriaLiteralHandlingMode = CriteriaLiteralHandlingMode.AUTO;
 
 	@Override
 	public PersistenceUnitTransactionType getTransactionType() {
@@ -48,4 +50,14 @@ public class SettingsImpl implements Settings {
 		this.sessionInterceptorClass = sessionInterceptorClass;
 		return this;
 	}
+
+	@Override
+	public CriteriaLiteralHandlingMode getCriteriaLiteralHandlingMode() {
+		return criteriaLiteralHandlingMode;
+	}
+
+	public SettingsImpl setCriteriaLiteralHandlingMode(CriteriaLiteralHandlingMode criteriaLiteralHandlingMode) {
+		this.criteriaLiteralHandlingMode = criteriaLiteralHandlingMode;
+		return this;
+	}
 }
@@ -9,6 +9,7 @@ package org.hibernate.jpa.boot.spi;
 import javax.persistence.spi.PersistenceUnitTransactionType;
 
 import org.hibernate.Interceptor;
+import org.hibernate.jpa.CriteriaLiteralHandlingMode;
 
 /**
  * @author Steve Ebersole
@@ -27,4 +28,11 @@ public interface Settings {
 
 	public Class<? extends Interceptor> getSessionInterceptorClass();
 
+	/**
+	 * How are the literals of criteria queries rendered?
+	 *
+	 * @return The criteria literal handling mode
+	 */
+	public CriteriaLiteralHandlingMode getCriteriaLiteralHandlingMode();
+
 }
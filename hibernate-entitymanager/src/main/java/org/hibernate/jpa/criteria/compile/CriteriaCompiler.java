@@ -17,6 +17,8 @@ import javax.persistence.criteria.ParameterExpression;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.jpa.CriteriaLiteralHandlingMode;
+import org.hibernate.jpa.criteria.CriteriaBuilderImpl;
 import org.hibernate.jpa.spi.HibernateEntityManagerImplementor;
 import org.hibernate.type.Type;
 
@@ -31,9 +33,13 @@ import org.hibernate.type.Type;
  */
 public class CriteriaCompiler implements Serializable {
 	private final HibernateEntityManagerImplementor entityManager;
+	private final CriteriaLiteralHandlingMode criteriaLiteralHandlingMode;
 
 	public CriteriaCompiler(HibernateEntityManagerImplementor entityManager) {
 		this.entityManager = entityManager;
+		this.criteriaLiteralHandlingMode = ( (CriteriaBuilderImpl) entityManager.getCriteriaBuilder() )
+				.getEntityManagerFactory()
+				.getCriteriaLiteralHandlingMode();
 	}
 
 	public Query compile(CompilableCriteria criteria) {
@@ -114,6 +120,11 @@ public class CriteriaCompiler implements Serializable {
 				return parameterName;
 			}
 
+			@Override
+			public CriteriaLiteralHandlingMode getCriteriaLiteralHandlingMode() {
+				return criteriaLiteralHandlingMode;
+			}
+
 			public String getCastType(Class javaType) {
 				SessionFactoryImplementor factory =
 						( SessionFactoryImplementor ) entityManager.getFactory().getSessionFactory();
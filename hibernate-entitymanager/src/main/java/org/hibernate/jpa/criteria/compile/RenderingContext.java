@@ -8,6 +8,8 @@ package org.hibernate.jpa.criteria.compile;
 
 import javax.persistence.criteria.ParameterExpression;
 
+import org.hibernate.jpa.CriteriaLiteralHandlingMode;
+
 /**
  * Used to provide a context and services to the rendering.
  *
@@ -40,6 +42,13 @@ public interface RenderingContext {
 	 */
 	public String registerLiteralParameterBinding(Object literal, Class javaType);
 
+	/**
+	 * How should literals be rendered?
+	 *
+	 * @return The criteria literal handling mode
+	 */
+	public CriteriaLiteralHandlingMode getCriteriaLiteralHandlingMode();
+
 	/**
 	 * Given a java type, determine the proper cast type name.
 	 *
@@ -8,6 +8,7 @@ package org.hibernate.jpa.criteria.expression;
 
 import java.io.Serializable;
 
+import org.hibernate.jpa.CriteriaLiteralHandlingMode;
 import org.hibernate.jpa.criteria.CriteriaBuilderImpl;
 import org.hibernate.jpa.criteria.ParameterRegistry;
 import org.hibernate.jpa.criteria.ValueHandlerFactory;
@@ -46,7 +47,8 @@ public class LiteralExpression<T> extends ExpressionImpl<T> implements Serializa
 
 	@SuppressWarnings({ "unchecked" })
 	public String render(RenderingContext renderingContext) {
-		if ( ValueHandlerFactory.isNumeric( literal ) ) {
+		if ( ValueHandlerFactory.isNumeric( literal )
+				&& renderingContext.getCriteriaLiteralHandlingMode() != CriteriaLiteralHandlingMode.BIND ) {
 			return ValueHandlerFactory.determineAppropriateHandler( (Class) literal.getClass() ).render( literal );
 		}
 
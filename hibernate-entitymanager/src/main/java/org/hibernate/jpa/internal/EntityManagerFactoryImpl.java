@@ -53,6 +53,7 @@ import org.hibernate.internal.SessionFactoryImpl;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.jpa.AvailableSettings;
+import org.hibernate.jpa.CriteriaLiteralHandlingMode;
 import org.hibernate.jpa.HibernateQuery;
 import org.hibernate.jpa.boot.internal.SettingsImpl;
 import org.hibernate.jpa.criteria.CriteriaBuilderImpl;
@@ -85,6 +86,7 @@ public class EntityManagerFactoryImpl implements HibernateEntityManagerFactory {
 	private final transient PersistenceUnitTransactionType transactionType;
 	private final transient boolean discardOnClose;
 	private final transient Class sessionInterceptorClass;
+	private final transient CriteriaLiteralHandlingMode criteriaLiteralHandlingMode;
 	private final transient CriteriaBuilderImpl criteriaBuilder;
 	private final transient MetamodelImpl metamodel;
 	private final transient HibernatePersistenceUnitUtil util;
@@ -104,6 +106,7 @@ public class EntityManagerFactoryImpl implements HibernateEntityManagerFactory {
 		this.transactionType = settings.getTransactionType();
 		this.discardOnClose = settings.isReleaseResourcesOnCloseEnabled();
 		this.sessionInterceptorClass = settings.getSessionInterceptorClass();
+		this.criteriaLiteralHandlingMode = settings.getCriteriaLiteralHandlingMode();
 
 		final JpaMetaModelPopulationSetting jpaMetaModelPopulationSetting = determineJpaMetaModelPopulationSetting( configurationValues );
 		if ( JpaMetaModelPopulationSetting.DISABLED == jpaMetaModelPopulationSetting ) {
@@ -325,6 +328,15 @@ public class EntityManagerFactoryImpl implements HibernateEntityManagerFactory {
 		return criteriaBuilder;
 	}
 
+	/**
+	 * Access to the way the literals of criteria queries are rendered.
+	 *
+	 * @return The criteria literal handling mode
+	 */
+	public CriteriaLiteralHandlingMode getCriteriaLiteralHandlingMode() {
+		return criteriaLiteralHandlingMode;
+	}
+
 	@Override
 	public Metamodel getMetamodel() {
 		validateNotClosed();
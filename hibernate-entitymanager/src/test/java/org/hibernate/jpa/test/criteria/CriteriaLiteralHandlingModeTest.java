@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jpa.test.criteria;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.Query;
+import org.hibernate.jpa.AvailableSettings;
+import org.hibernate.jpa.test.BaseEntityManagerFunctionalTestCase;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class CriteriaLiteralHandlingModeTest extends BaseEntityManagerFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Stock.class };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected void addConfigOptions(Map options) {
+		options.put( AvailableSettings.CRITERIA_LITERAL_HANDLING_MODE, "bind" );
+	}
+
+	@Test
+	public void testNumericLiteralsAreBound() {
+		EntityManager em = getOrCreateEntityManager();
+		em.getTransaction().begin();
+		for ( int i = 1; i <= 5; i++ ) {
+			em.persist( new Stock( i, i * 10 ) );
+		}
+		em.getTransaction().commit();
+		em.close();
+
+		em = getOrCreateEntityManager();
+		em.getTransaction().begin();
+		final TypedQuery<Stock> moreThan20 = createQuantityQuery( em, 20 );
+		final TypedQuery<Stock> moreThan40 = createQuantityQuery( em, 40 );
+		final String queryString = moreThan20.unwrap( Query.class ).getQueryString();
+		assertFalse( queryString.contains( "20" ) );
+		// the same shape renders the same JPA-QL, and so hits the same query plan
+		assertEquals( queryString, moreThan40.unwrap( Query.class ).getQueryString() );
+		assertEquals( 3, moreThan20.getResultList().size() );
+		assertEquals( 1, moreThan40.getResultList().size() );
+
+		// arithmetic with literals in the select clause
+		final CriteriaBuilder cb = em.getCriteriaBuilder();
+		final CriteriaQuery<Integer> criteria = cb.createQuery( Integer.class );
+		final Root<Stock> root = criteria.from( Stock.class );
+		criteria.select( cb.sum( root.<Integer>get( "quantity" ), 1 ) );
+		criteria.where( cb.equal( root.get( "id" ), 2 ) );
+		final List<Integer> results = em.createQuery( criteria ).getResultList();
+		assertEquals( 21, results.get( 0 ).intValue() );
+
+		em.createQuery( "delete Stock" ).executeUpdate();
+		em.getTransaction().commit();
+		em.close();
+	}
+
+	private TypedQuery<Stock> createQuantityQuery(EntityManager em, int quantity) {
+		final CriteriaBuilder cb = em.getCriteriaBuilder();
+		final CriteriaQuery<Stock> criteria = cb.createQuery( Stock.class );
+		final Root<Stock> root = criteria.from( Stock.class );
+		criteria.where( cb.gt( root.<Integer>get( "quantity" ), quantity ) );
+		return em.createQuery( criteria );
+	}
+
+	@Entity(name = "Stock")
+	@Table(name = "LHM_STOCK")
+	public static class Stock {
+		@Id
+		private Integer id;
+
+		private int quantity;
+
+		public Stock() {
+		}
+
+		public Stock(Integer id, int quantity) {
+			this.id = id;
+			this.quantity = quantity;
+		}
+	}
+}
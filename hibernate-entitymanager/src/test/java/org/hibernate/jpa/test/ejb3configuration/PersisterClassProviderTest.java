@@ -8,7 +8,9 @@ package org.hibernate.jpa.test.ejb3configuration;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.PersistenceException;
@@ -40,6 +42,7 @@ import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metadata.ClassMetadata;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.internal.PersisterClassResolverInitiator;
 import org.hibernate.persister.spi.PersisterClassResolver;
 import org.hibernate.persister.spi.PersisterCreationContext;
@@ -272,6 +275,14 @@ public class PersisterClassProviderTest {
 				SessionImplementor session) {
 			return null;
 		}
+
+		@Override
+		public Serializable[] loadEntityIdsByNaturalIds(
+				Object[][] naturalIdValues,
+				SessionImplementor session,
+				MultiLoadOptions loadOptions) {
+			return new Serializable[naturalIdValues.length];
+		}
 		
 		@Override
         public boolean hasNaturalIdCache() {
@@ -303,6 +314,11 @@ public class PersisterClassProviderTest {
 			return null;
 		}
 
+		@Override
+		public List multiLoad(Serializable[] ids, SessionImplementor session, MultiLoadOptions loadOptions) {
+			return Collections.emptyList();
+		}
+
 		@Override
 		public void lock(Serializable id, Object version, Object object, LockMode lockMode, SessionImplementor session) {
 		}
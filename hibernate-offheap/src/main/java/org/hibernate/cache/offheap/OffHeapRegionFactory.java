@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap;
+
+import java.util.Properties;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.offheap.internal.OffHeapStore;
+import org.hibernate.cache.spi.local.AbstractLocalRegionFactory;
+import org.hibernate.cache.spi.local.LocalStore;
+import org.hibernate.cache.spi.local.Timestamper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * A local second-level cache keeping the cached data out of the Java heap, so that large caches do not lengthen
+ * garbage collection pauses.  Each region serializes its values into direct memory of its own, bounded by
+ * {@link #MAX_SIZE}, and evicts its least recently used entries when full.  The read-only, nonstrict-read-write and
+ * read-write access types are supported.
+ * <p/>
+ * The regions and access strategies are those of the {@link AbstractLocalRegionFactory}, over an
+ * {@link OffHeapStore}.  The
+ * timestamps region, small and never to be evicted, stays on the heap.  The off-heap memory of all the regions
+ * counts against the {@code -XX:MaxDirectMemorySize} of the JVM.
+ */
+public class OffHeapRegionFactory extends AbstractLocalRegionFactory {
+	/**
+	 * The maximum number of bytes of off-heap memory of each region; {@code 33554432} (32 MB) by default.  The
+	 * maximum size of a specific region is set by appending its name to the setting name, as in
+	 * {@code hibernate.cache.offheap.max_size.org.hibernate.test.Item}.
+	 */
+	public static final String MAX_SIZE = "hibernate.cache.offheap.max_size";
+
+	/**
+	 * The number of independently locked segments of each region; {@code 16} by default.
+	 */
+	public static final String SEGMENTS = "hibernate.cache.offheap.segments";
+
+	/**
+	 * The number of bytes of the blocks the off-heap memory of a region is allocated by; {@code 128} by default.
+	 */
+	public static final String BLOCK_SIZE = "hibernate.cache.offheap.block_size";
+
+	/**
+	 * The timeout of the soft locks of the read-write access type, in milliseconds; {@code 60000} by default.
+	 */
+	public static final String LOCK_TIMEOUT = "hibernate.cache.offheap.lock_timeout";
+
+	private static final int DEFAULT_MAX_SIZE = 32 * 1024 * 1024;
+	private static final int DEFAULT_SEGMENTS = 16;
+	private static final int DEFAULT_BLOCK_SIZE = 128;
+	private static final int DEFAULT_LOCK_TIMEOUT = 60000;
+
+	@Override
+	public boolean isMinimalPutsEnabledByDefault() {
+		return true;
+	}
+
+	@Override
+	protected LocalStore buildStore(String regionName, Properties properties) throws CacheException {
+		try {
+			return new OffHeapStore(
+					getRegionSetting( MAX_SIZE, regionName, properties, DEFAULT_MAX_SIZE ),
+					ConfigurationHelper.getInt( SEGMENTS, properties, DEFAULT_SEGMENTS ),
+					ConfigurationHelper.getInt( BLOCK_SIZE, properties, DEFAULT_BLOCK_SIZE )
+			);
+		}
+		catch (IllegalArgumentException e) {
+			throw new CacheException( "Invalid off-heap cache settings for region [" + regionName + "]", e );
+		}
+	}
+
+	@Override
+	protected int getTimeout(Properties properties) {
+		return Timestamper.ONE_MS * ConfigurationHelper.getInt( LOCK_TIMEOUT, properties, DEFAULT_LOCK_TIMEOUT );
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap;
+
+import java.util.Collections;
+
+import org.hibernate.boot.registry.selector.SimpleStrategyRegistrationImpl;
+import org.hibernate.boot.registry.selector.StrategyRegistration;
+import org.hibernate.boot.registry.selector.StrategyRegistrationProvider;
+import org.hibernate.cache.spi.RegionFactory;
+
+/**
+ * Makes the {@link OffHeapRegionFactory} available to the Hibernate
+ * {@link org.hibernate.boot.registry.selector.spi.StrategySelector} service, by the short name {@code offheap}.
+ */
+public class StrategyRegistrationProviderImpl implements StrategyRegistrationProvider {
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterable<StrategyRegistration> getStrategyRegistrations() {
+		return Collections.<StrategyRegistration>singletonList(
+				new SimpleStrategyRegistrationImpl(
+						RegionFactory.class,
+						OffHeapRegionFactory.class,
+						"offheap",
+						OffHeapRegionFactory.class.getName(),
+						OffHeapRegionFactory.class.getSimpleName()
+				)
+		);
+	}
+}
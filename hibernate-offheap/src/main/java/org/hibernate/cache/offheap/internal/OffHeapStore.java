@@ -0,0 +1,312 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.local.LocalStore;
+import org.hibernate.internal.util.SerializationHelper;
+
+/**
+ * A size-bounded store which serializes its values into direct (off-heap) memory.  Only the keys and a small index
+ * entry per mapping stay on the heap.  Values are copied in and out, and never expire.
+ * <p/>
+ * The store is split in segments, each guarded by its own lock and owning a direct buffer of
+ * {@code maxSize / segmentCount} bytes, carved into blocks of {@code blockSize} bytes.  A value occupies as many
+ * blocks as it needs, in any order, so the buffer never fragments; when a segment runs out of free blocks, its least
+ * recently used mappings are evicted.  The buffer of a segment is only allocated once a value is put in it.
+ */
+public class OffHeapStore implements LocalStore {
+	private final Segment[] segments;
+	private final int segmentMask;
+	private final int blockSize;
+
+	/**
+	 * Constructs an OffHeapStore
+	 *
+	 * @param maxSize The maximum number of bytes of direct memory used for the values
+	 * @param segmentCount The number of segments; rounded up to a power of two
+	 * @param blockSize The allocation unit within a segment
+	 */
+	public OffHeapStore(long maxSize, int segmentCount, int blockSize) {
+		if ( maxSize <= 0 ) {
+			throw new IllegalArgumentException( "The maximum size of an off-heap store has to be positive: " + maxSize );
+		}
+		if ( blockSize <= 0 ) {
+			throw new IllegalArgumentException( "The block size of an off-heap store has to be positive: " + blockSize );
+		}
+		int count = 1;
+		while ( count < segmentCount ) {
+			count <<= 1;
+		}
+		final long segmentBlocks = maxSize / count / blockSize;
+		if ( segmentBlocks < 1 ) {
+			throw new IllegalArgumentException(
+					"The maximum size of an off-heap store has to allow one block per segment: " + maxSize
+			);
+		}
+		if ( segmentBlocks * blockSize > Integer.MAX_VALUE ) {
+			throw new IllegalArgumentException(
+					"The segments of an off-heap store are limited to 2 GB, use more segments: " + maxSize
+			);
+		}
+		this.blockSize = blockSize;
+		this.segmentMask = count - 1;
+		this.segments = new Segment[count];
+		for ( int i = 0; i < count; i++ ) {
+			segments[i] = new Segment( (int) segmentBlocks );
+		}
+	}
+
+	private Segment segmentFor(Object key) {
+		int hash = key.hashCode();
+		// spread the higher bits, as the segment is picked by the lower ones
+		hash ^= ( hash >>> 20 ) ^ ( hash >>> 12 );
+		hash ^= ( hash >>> 7 ) ^ ( hash >>> 4 );
+		return segments[hash & segmentMask];
+	}
+
+	@Override
+	public Object get(Object key) throws CacheException {
+		final byte[] bytes = getBytes( key );
+		if ( bytes == null ) {
+			return null;
+		}
+		try {
+			return SerializationHelper.deserialize( bytes, OffHeapStore.class.getClassLoader() );
+		}
+		catch (RuntimeException e) {
+			throw new CacheException( "Unable to deserialize the value of key [" + key + "]", e );
+		}
+	}
+
+	/**
+	 * Get a copy of the serialized value mapped to the given key.
+	 *
+	 * @param key The key
+	 *
+	 * @return The value, or {@code null} if there is no mapping for the key
+	 */
+	public byte[] getBytes(Object key) {
+		return segmentFor( key ).get( key );
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return segmentFor( key ).containsKey( key );
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p/>
+	 * The least recently used mappings are evicted if needed, and the mapping never expires.
+	 */
+	@Override
+	public boolean put(Object key, Object value, boolean expires) throws CacheException {
+		final byte[] bytes;
+		try {
+			bytes = SerializationHelper.serialize( (Serializable) value );
+		}
+		catch (RuntimeException e) {
+			throw new CacheException( "Unable to serialize the value of key [" + key + "]", e );
+		}
+		return putBytes( key, bytes );
+	}
+
+	/**
+	 * Map a copy of the given serialized value to the given key, evicting the least recently used mappings if needed.
+	 *
+	 * @param key The key
+	 * @param value The value
+	 *
+	 * @return {@code false} if the value is larger than a segment, and so could not be stored
+	 */
+	public boolean putBytes(Object key, byte[] value) {
+		return segmentFor( key ).put( key, value );
+	}
+
+	@Override
+	public void remove(Object key) {
+		segmentFor( key ).remove( key );
+	}
+
+	@Override
+	public void clear() {
+		for ( Segment segment : segments ) {
+			segment.clear();
+		}
+	}
+
+	@Override
+	public List<Object> keys() {
+		final List<Object> keys = new ArrayList<Object>();
+		for ( Segment segment : segments ) {
+			segment.addKeys( keys );
+		}
+		return keys;
+	}
+
+	@Override
+	public long size() {
+		long size = 0;
+		for ( Segment segment : segments ) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p/>
+	 * The number of bytes of direct memory, including the unused part of the last block of each value.
+	 */
+	@Override
+	public long getSizeInMemory() {
+		long blocks = 0;
+		for ( Segment segment : segments ) {
+			blocks += segment.usedBlocks();
+		}
+		return blocks * blockSize;
+	}
+
+	@Override
+	public long getEvictionCount() {
+		long evictions = 0;
+		for ( Segment segment : segments ) {
+			evictions += segment.evictionCount();
+		}
+		return evictions;
+	}
+
+	@Override
+	public long getExpirationCount() {
+		return 0;
+	}
+
+	/**
+	 * The index entry of a value: the blocks it occupies, in order.
+	 */
+	private static final class Slot {
+		private final int[] blocks;
+		private final int length;
+
+		private Slot(int[] blocks, int length) {
+			this.blocks = blocks;
+			this.length = length;
+		}
+	}
+
+	private final class Segment {
+		private final int blockCount;
+		private final int[] freeBlocks;
+		private int freeCount;
+		private ByteBuffer memory;
+		private long evictionCount;
+
+		// in access order, so that the eldest entry is the least recently used one
+		private final LinkedHashMap<Object, Slot> slots = new LinkedHashMap<Object, Slot>( 16, 0.75f, true );
+
+		private Segment(int blockCount) {
+			this.blockCount = blockCount;
+			this.freeBlocks = new int[blockCount];
+			for ( int i = 0; i < blockCount; i++ ) {
+				freeBlocks[i] = blockCount - 1 - i;
+			}
+			this.freeCount = blockCount;
+		}
+
+		private synchronized byte[] get(Object key) {
+			final Slot slot = slots.get( key );
+			if ( slot == null ) {
+				return null;
+			}
+			final byte[] value = new byte[slot.length];
+			int offset = 0;
+			for ( int block : slot.blocks ) {
+				final int length = Math.min( blockSize, slot.length - offset );
+				memory.position( block * blockSize );
+				memory.get( value, offset, length );
+				offset += length;
+			}
+			return value;
+		}
+
+		private synchronized boolean containsKey(Object key) {
+			return slots.containsKey( key );
+		}
+
+		private synchronized boolean put(Object key, byte[] value) {
+			release( slots.remove( key ) );
+			final int needed = Math.max( 1, ( value.length + blockSize - 1 ) / blockSize );
+			if ( needed > blockCount ) {
+				return false;
+			}
+			if ( memory == null ) {
+				memory = ByteBuffer.allocateDirect( blockCount * blockSize );
+			}
+			final Iterator<Map.Entry<Object, Slot>> eldest = slots.entrySet().iterator();
+			while ( freeCount < needed ) {
+				release( eldest.next().getValue() );
+				eldest.remove();
+				evictionCount++;
+			}
+			final int[] blocks = new int[needed];
+			int offset = 0;
+			for ( int i = 0; i < needed; i++ ) {
+				blocks[i] = freeBlocks[--freeCount];
+				final int length = Math.min( blockSize, value.length - offset );
+				memory.position( blocks[i] * blockSize );
+				memory.put( value, offset, length );
+				offset += length;
+			}
+			slots.put( key, new Slot( blocks, value.length ) );
+			return true;
+		}
+
+		private synchronized void remove(Object key) {
+			release( slots.remove( key ) );
+		}
+
+		private void release(Slot slot) {
+			if ( slot != null ) {
+				for ( int block : slot.blocks ) {
+					freeBlocks[freeCount++] = block;
+				}
+			}
+		}
+
+		private synchronized void clear() {
+			for ( Slot slot : slots.values() ) {
+				release( slot );
+			}
+			slots.clear();
+		}
+
+		private synchronized void addKeys(List<Object> keys) {
+			keys.addAll( slots.keySet() );
+		}
+
+		private synchronized int size() {
+			return slots.size();
+		}
+
+		private synchronized int usedBlocks() {
+			return blockCount - freeCount;
+		}
+
+		private synchronized long evictionCount() {
+			return evictionCount;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.offheap.internal;
+
+import java.util.Arrays;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class OffHeapStoreTest extends BaseUnitTestCase {
+	@Test
+	public void testValuesSpanningSeveralBlocks() {
+		final OffHeapStore store = new OffHeapStore( 64 * 1024, 4, 16 );
+		final byte[] large = value( 1000, (byte) 7 );
+		final byte[] empty = new byte[0];
+		assertTrue( store.putBytes( "large", large ) );
+		assertTrue( store.putBytes( "empty", empty ) );
+		assertArrayEquals( large, store.getBytes( "large" ) );
+		assertArrayEquals( empty, store.getBytes( "empty" ) );
+		assertNull( store.getBytes( "missing" ) );
+		assertEquals( 2, store.size() );
+		assertEquals( ( 63 + 1 ) * 16, store.getSizeInMemory() );
+
+		// replacing a value releases its blocks
+		assertTrue( store.putBytes( "large", value( 10, (byte) 3 ) ) );
+		assertArrayEquals( value( 10, (byte) 3 ), store.getBytes( "large" ) );
+		assertEquals( 2 * 16, store.getSizeInMemory() );
+
+		store.remove( "large" );
+		assertFalse( store.containsKey( "large" ) );
+		store.clear();
+		assertEquals( 0, store.size() );
+		assertEquals( 0, store.getSizeInMemory() );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedValuesAreEvicted() {
+		// a single segment of 8 blocks
+		final OffHeapStore store = new OffHeapStore( 8 * 32, 1, 32 );
+		for ( int i = 0; i < 4; i++ ) {
+			assertTrue( store.putBytes( i, value( 64, (byte) i ) ) );
+		}
+		// 0 becomes the most recently used
+		store.getBytes( 0 );
+		assertTrue( store.putBytes( 4, value( 64, (byte) 4 ) ) );
+		assertEquals( 1, store.getEvictionCount() );
+		assertFalse( store.containsKey( 1 ) );
+		assertArrayEquals( value( 64, (byte) 0 ), store.getBytes( 0 ) );
+		assertArrayEquals( value( 64, (byte) 4 ), store.getBytes( 4 ) );
+
+		// a value larger than the segment is not stored, and evicts nothing
+		assertFalse( store.putBytes( 5, value( 8 * 32 + 1, (byte) 5 ) ) );
+		assertEquals( 4, store.size() );
+
+		// a value filling the whole segment evicts everything else
+		assertTrue( store.putBytes( 6, value( 8 * 32, (byte) 6 ) ) );
+		assertEquals( 1, store.size() );
+		assertEquals( 5, store.getEvictionCount() );
+	}
+
+	@Test
+	public void testValuesAreSerializedCopies() {
+		final OffHeapStore store = new OffHeapStore( 64 * 1024, 4, 16 );
+		final String[] value = new String[] { "first", "second" };
+		assertTrue( store.put( "key", value, true ) );
+		value[0] = "changed";
+		assertArrayEquals( new String[] { "first", "second" }, (String[]) store.get( "key" ) );
+		assertTrue( store.getSizeInMemory() > 0 );
+		assertEquals( 0, store.getExpirationCount() );
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSegmentsNeedOneBlock() {
+		new OffHeapStore( 1024, 16, 128 );
+	}
+
+	private static byte[] value(int length, byte b) {
+		final byte[] value = new byte[length];
+		Arrays.fill( value, b );
+		return value;
+	}
+}
@@ -0,0 +1,309 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache.offheap;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.persistence.Cacheable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.cache.offheap.OffHeapRegionFactory;
+import org.hibernate.cache.spi.Region;
+import org.hibernate.cache.spi.local.regions.LocalDataRegion;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OffHeapRegionFactoryTest extends BaseCoreFunctionalTestCase {
+	private static final String REGION_PREFIX = "hibernate.test.";
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Item.class, Country.class, Note.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.CACHE_REGION_FACTORY, "offheap" );
+		cfg.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		cfg.setProperty( AvailableSettings.USE_QUERY_CACHE, "true" );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		cfg.setProperty( OffHeapRegionFactory.MAX_SIZE + '.' + REGION_PREFIX + Note.class.getName(), "65536" );
+	}
+
+	@Override
+	protected void cleanupTestData() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( Object item : s.createQuery( "from Item" ).list() ) {
+			s.delete( item );
+		}
+		s.createQuery( "delete Country" ).executeUpdate();
+		s.createQuery( "delete Note" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testReadWriteEntitiesAndCollections() {
+		Session s = openSession();
+		s.beginTransaction();
+		final Item item = new Item( 1L, "HAMMER", "hammer" );
+		item.tags.add( "tools" );
+		item.tags.add( "heavy" );
+		s.persist( item );
+		s.getTransaction().commit();
+		s.close();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		s = openSession();
+		s.beginTransaction();
+		Item loaded = (Item) s.get( Item.class, 1L );
+		assertEquals( "hammer", loaded.name );
+		assertEquals( 2, loaded.tags.size() );
+		loaded.name = "sledgehammer";
+		s.getTransaction().commit();
+		s.close();
+		// the entity, then the collection, which is put in the cache on the first load
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 1, statistics.getSecondLevelCacheMissCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		loaded = (Item) s.get( Item.class, 1L );
+		assertEquals( "sledgehammer", loaded.name );
+		assertEquals( 1, loaded.version );
+		assertEquals( 2, loaded.tags.size() );
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 3, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 1, statistics.getSecondLevelCacheMissCount() );
+
+		final Region region = sessionFactory().getSecondLevelCacheRegion( REGION_PREFIX + Item.class.getName() );
+		assertTrue( region instanceof LocalDataRegion );
+		assertTrue( region.getElementCountInMemory() > 0 );
+		assertTrue( region.getSizeInMemory() > 0 );
+	}
+
+	@Test
+	public void testNaturalIdsAndQueries() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.persist( new Item( 2L, "ANVIL", "anvil" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		for ( int i = 0; i < 2; i++ ) {
+			s = openSession();
+			s.beginTransaction();
+			final Item item = (Item) s.bySimpleNaturalId( Item.class ).load( "ANVIL" );
+			assertEquals( "anvil", item.name );
+			final List results = s.createQuery( "select i.name from Item i where i.code = :code" )
+					.setParameter( "code", "ANVIL" )
+					.setCacheable( true )
+					.list();
+			assertEquals( 1, results.size() );
+			s.getTransaction().commit();
+			s.close();
+		}
+		// the natural id resolution is cached on insert already
+		assertEquals( 2, statistics.getNaturalIdCacheHitCount() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( 1, statistics.getQueryCachePutCount() );
+
+		// an update of the table invalidates the cached query results
+		s = openSession();
+		s.beginTransaction();
+		( (Item) s.get( Item.class, 2L ) ).name = "big anvil";
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		final List results = s.createQuery( "select i.name from Item i where i.code = :code" )
+				.setParameter( "code", "ANVIL" )
+				.setCacheable( true )
+				.list();
+		assertEquals( "big anvil", results.get( 0 ) );
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( 2, statistics.getQueryCachePutCount() );
+	}
+
+	@Test
+	public void testReadOnlyAndNonStrictReadWriteEntities() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.persist( new Country( "NL", "Netherlands" ) );
+		s.persist( new Note( 1L, "remember" ) );
+		s.getTransaction().commit();
+		s.close();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( "Netherlands", ( (Country) s.get( Country.class, "NL" ) ).name );
+		final Note note = (Note) s.get( Note.class, 1L );
+		assertEquals( "remember", note.text );
+		note.text = "forget";
+		s.getTransaction().commit();
+		s.close();
+		// nonstrict-read-write only caches an entity once it is loaded
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 1, statistics.getSecondLevelCacheMissCount() );
+
+		// and evicts it on update, so that it is loaded from the database again
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( "forget", ( (Note) s.get( Note.class, 1L ) ).text );
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 2, statistics.getSecondLevelCacheMissCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( "forget", ( (Note) s.get( Note.class, 1L ) ).text );
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 2, statistics.getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntriesAreEvicted() {
+		final StringBuilder text = new StringBuilder();
+		for ( int i = 0; i < 1000; i++ ) {
+			text.append( 'x' );
+		}
+		Session s = openSession();
+		s.beginTransaction();
+		for ( long i = 0; i < 200; i++ ) {
+			s.persist( new Note( i, text.toString() ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		// the notes are cached as they are loaded, and do not all fit in their region
+		s = openSession();
+		s.beginTransaction();
+		for ( long i = 0; i < 200; i++ ) {
+			assertEquals( 1000, ( (Note) s.get( Note.class, i ) ).text.length() );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		final LocalDataRegion region = (LocalDataRegion) sessionFactory().getSecondLevelCacheRegion(
+				REGION_PREFIX + Note.class.getName()
+		);
+		assertTrue( region.getEvictionCount() > 0 );
+		assertTrue( region.getElementCountInMemory() < 200 );
+		assertTrue( region.getSizeInMemory() <= 65536 );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "OH_ITEM")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@NaturalIdCache
+	public static class Item {
+		@Id
+		private Long id;
+
+		@Version
+		private int version;
+
+		@NaturalId
+		private String code;
+
+		private String name;
+
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private Set<String> tags = new HashSet<String>();
+
+		public Item() {
+		}
+
+		public Item(Long id, String code, String name) {
+			this.id = id;
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Country")
+	@Table(name = "OH_COUNTRY")
+	@Immutable
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class Country {
+		@Id
+		private String code;
+
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Note")
+	@Table(name = "OH_NOTE")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	public static class Note {
+		@Id
+		private Long id;
+
+		@Lob
+		private String text;
+
+		public Note() {
+		}
+
+		public Note(Long id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
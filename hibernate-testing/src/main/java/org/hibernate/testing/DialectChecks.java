@@ -39,6 +39,12 @@ abstract public class DialectChecks {
 		}
 	}
 
+	public static class SupportsGetGeneratedKeysForBatch implements DialectCheck {
+		public boolean isMatch(Dialect dialect) {
+			return dialect.supportsIdentityColumns() && dialect.supportsGetGeneratedKeysForBatch();
+		}
+	}
+
 	public static class SupportsColumnCheck implements DialectCheck {
 		public boolean isMatch(Dialect dialect) {
 			return dialect.supportsColumnCheck();